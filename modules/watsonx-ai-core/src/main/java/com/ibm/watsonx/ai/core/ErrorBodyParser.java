@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.core;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import com.ibm.watsonx.ai.core.exception.JsonException;
+import com.ibm.watsonx.ai.core.exception.model.WatsonxError;
+import com.ibm.watsonx.ai.core.exception.model.WatsonxError.Code;
+import com.ibm.watsonx.ai.core.exception.model.WatsonxError.Error;
+import com.ibm.watsonx.ai.core.spi.json.JsonProvider;
+
+/**
+ * Single-pass parser of the JSON error bodies returned by the watsonx.ai APIs.
+ * <p>
+ * The body is deserialized once by the {@link JsonProvider} in use, as a generic map, and the fields of every known error format are collected in a
+ * single pass over its entries; the format is then detected from the fields that are present:
+ * <ul>
+ * <li>standard: {@code "status_code"}, {@code "trace"} and an {@code "errors"} array</li>
+ * <li>IAM Authentication API: {@code "errorCode"}, {@code "errorMessage"} and {@code "errorDetails"}</li>
+ * <li>Agent Tool APIs: a numeric {@code "code"}, {@code "message"} and {@code "description"}</li>
+ * <li>Model Gateway: a single {@code "error"} object with {@code "code"}, {@code "message"} and {@code "request_id"}</li>
+ * <li>Create Schema API: a single {@code "error"} string</li>
+ * <li>File Service APIs: {@code "status"}, {@code "trace"} and an {@code "error"} object</li>
+ * </ul>
+ */
+final class ErrorBodyParser {
+
+    private Integer statusCode;
+    private String trace;
+    private List<Error> errors;
+    private int fieldCount;
+
+    // IAM Authentication API.
+    private boolean hasErrorCode;
+    private String errorCode;
+    private String errorMessage;
+    private String errorDetails;
+
+    // Agent Tool APIs.
+    private boolean hasCode;
+    private Integer code;
+    private String message;
+    private String description;
+
+    // Model Gateway, Create Schema and File Service APIs.
+    private boolean hasError;
+    private Error error;
+    private String errorRequestId;
+    private String errorString;
+    private Integer status;
+
+    private ErrorBodyParser() {}
+
+    /**
+     * Parses a JSON error body.
+     *
+     * @param httpStatusCode the status code of the HTTP response
+     * @param body the JSON error body
+     * @return the {@link WatsonxError} in the standard format
+     * @throws JsonException if the body is not a valid JSON object
+     */
+    static WatsonxError parse(int httpStatusCode, String body) {
+        Map<?, ?> json = Json.fromJson(body, Map.class);
+        if (isNull(json))
+            throw new JsonException("Failed to deserialize JSON: '" + body + "'");
+
+        var errorBody = new ErrorBodyParser();
+        errorBody.read(json);
+        return errorBody.toWatsonxError(httpStatusCode);
+    }
+
+    private void read(Map<?, ?> json) {
+        for (var entry : json.entrySet()) {
+            var value = entry.getValue();
+            fieldCount++;
+            switch(String.valueOf(entry.getKey())) {
+                case "status_code" -> statusCode = intValue(value);
+                case "trace" -> trace = textValue(value);
+                case "errors" -> errors = readErrors(value);
+                case "errorCode" -> {
+                    hasErrorCode = true;
+                    errorCode = textValue(value);
+                }
+                case "errorMessage" -> errorMessage = textValue(value);
+                case "errorDetails" -> errorDetails = textValue(value);
+                case "code" -> {
+                    hasCode = true;
+                    code = intValue(value);
+                }
+                case "message" -> message = textValue(value);
+                case "description" -> description = textValue(value);
+                case "status" -> status = intValue(value);
+                case "error" -> {
+                    hasError = true;
+                    if (value instanceof Map<?, ?> object)
+                        readError(object);
+                    else
+                        errorString = textValue(value);
+                }
+                default -> {}
+            }
+        }
+    }
+
+    private WatsonxError toWatsonxError(int httpStatusCode) {
+        if (isNull(trace)) {
+            if (hasErrorCode)
+                return new WatsonxError(httpStatusCode, "", List.of(new Error(errorCode, errorMessage, errorDetails)));
+
+            if (hasCode) {
+                // TODO: verify if this behavior persists once the Agent Tool APIs are no longer in beta.
+                var errorCode = nonNull(description) && description.contains("jwt expired")
+                    ? Code.AUTHENTICATION_TOKEN_EXPIRED
+                    : Code.UNCLASSIFIED;
+                return new WatsonxError(nonNull(code) ? code : httpStatusCode, "", List.of(new Error(errorCode.value(), message, description)));
+            }
+
+            if (fieldCount == 1 && hasError) {
+                if (nonNull(error))
+                    return new WatsonxError(httpStatusCode, errorRequestId, List.of(error));
+
+                // TODO: verify if the Create Schema API still returns the error message as a string.
+                if (nonNull(errorString))
+                    return new WatsonxError(httpStatusCode, "", List.of(new Error(Code.SCHEMA_EVENT_DOES_NOT_EXIST.value(), errorString, "")));
+            }
+
+            // Standard error body that simply has no "trace".
+            return new WatsonxError(statusCode, null, errors);
+        }
+
+        if (isNull(statusCode) && hasError)
+            return new WatsonxError(status, trace, nonNull(error) ? List.of(new Error(error.code(), error.message(), null)) : null);
+
+        return new WatsonxError(statusCode, trace, errors);
+    }
+
+    private void readError(Map<?, ?> object) {
+        errorRequestId = textValue(object.get("request_id"));
+        error = new Error(textValue(object.get("code")), textValue(object.get("message")), null);
+    }
+
+    private static List<Error> readErrors(Object value) {
+        if (!(value instanceof List<?> array))
+            return null;
+
+        var errors = new ArrayList<Error>(array.size());
+        for (var element : array) {
+            if (element instanceof Map<?, ?> object)
+                errors.add(new Error(textValue(object.get("code")), textValue(object.get("message")), textValue(object.get("more_info"))));
+        }
+        return errors;
+    }
+
+    private static String textValue(Object value) {
+        if (value instanceof Map || value instanceof List)
+            return null;
+        return isNull(value) ? null : value.toString();
+    }
+
+    private static Integer intValue(Object value) {
+        return value instanceof Number number ? number.intValue() : null;
+    }
+}
@@ -4,9 +4,9 @@
  */
 package com.ibm.watsonx.ai.core;
 
-import static com.ibm.watsonx.ai.core.Json.fromJson;
 import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNullElse;
+import static java.util.Objects.requireNonNullElseGet;
 import static java.util.stream.Collectors.joining;
 import java.io.InputStream;
 import java.net.http.HttpResponse;
@@ -112,6 +112,9 @@ public final class HttpUtils {
 
     /**
      * Parses error body based on content type.
+     * <p>
+     * JSON bodies are read in a single pass, the error format (standard, IAM, Agent Tool, Model Gateway, File Service) being detected from the fields
+     * of the body.
      *
      * @param statusCode status code of the http response.
      * @param body The error response body as a String.
@@ -122,40 +125,8 @@ public final class HttpUtils {
         if (isNull(contentType))
             throw new IllegalArgumentException("Missing content type");
 
-        if (contentType.contains("application/json")) {
-
-            var error = fromJson(body, WatsonxError.class);
-            var genericError = fromJson(body, Map.class);
-
-            if (isNull(error.trace())) {
-                if (genericError.containsKey("errorCode")) {
-                    // IAM Authentication API errors use a non-standard format with "errorCode" and "errorMessage" fields.
-                    return parseIAMError(statusCode, genericError);
-                } else if (genericError.containsKey("code")) {
-                    // Agent Tool APIs (beta) return errors with a "code" field instead of the standard "errors" array.
-                    // TODO: verify if this behavior persists once the Agent Tool APIs are no longer in beta.
-                    return parseToolError(genericError);
-                } else if (genericError.size() == 1 && genericError.containsKey("error")) {
-                    var wrappedError = genericError.get("error");
-
-                    // Model Gateway errors wrap details in an "error" object with "code", "message", and "request_id".
-                    if (wrappedError instanceof Map<?, ?> gatewayError)
-                        return parseGatewayError(statusCode, gatewayError);
-
-                    // The Create Schema API returns a single error message as a string in the body.
-                    // TODO: verify if this behavior persists.
-                    if (wrappedError instanceof String schemaError)
-                        return new WatsonxError(statusCode, "", List.of(new Error("schema_event_does_not_exist", schemaError, "")));
-                }
-                // Standard error body that simply has no "trace": still return the typed error instead of
-                // falling through to a generic RuntimeException and losing the WatsonxException mapping.
-                return error;
-            } else {
-                // File Service API errors use a non-standard format: they include a "trace" field but use "status"
-                // instead of "status_code", and nest the error details under an "error" object instead of "errors" array.
-                return isNull(error.statusCode()) && genericError.containsKey("error") ? parseFileError(genericError) : error;
-            }
-        }
+        if (contentType.contains("application/json"))
+            return ErrorBodyParser.parse(statusCode, body);
 
         if (contentType.contains("application/xml"))
             return parseXmlError(body);
@@ -163,6 +134,22 @@ public final class HttpUtils {
         throw new RuntimeException(body);
     }
 
+    /**
+     * Creates the {@link WatsonxException} matching an error response.
+     * <p>
+     * The body is parsed with {@link #parseErrorBody(int, String, String)} and the specific exception for the {@link WatsonxError.Code} of the first
+     * error is created directly, or a {@link WatsonxException} if the code is not classified.
+     *
+     * @param statusCode status code of the http response.
+     * @param body The error response body as a String.
+     * @param contentType The content type of the error response.
+     * @return the {@link WatsonxException} to throw
+     */
+    public static WatsonxException toWatsonxException(int statusCode, String body, String contentType) {
+        var details = parseErrorBody(statusCode, body, contentType);
+        return requireNonNullElseGet(specificException(body, statusCode, details), () -> new WatsonxException(body, statusCode, details));
+    }
+
     /**
      * Maps a generic {@link WatsonxException} to a more specific exception based on the {@link WatsonxError.Code}.
      *
@@ -176,91 +163,32 @@ public final class HttpUtils {
         if (details.errors() == null || details.errors().isEmpty())
             throw exception;
 
-        try {
-            Code code = Code.valueOf(details.errors().get(0).code().toUpperCase());
-            return switch(code) {
-                case AUTHENTICATION_TOKEN_EXPIRED -> new AuthenticationTokenExpiredException(exception);
-                case AUTHORIZATION_REJECTED -> new AuthorizationRejectedException(exception);
-                case INVALID_INPUT_ARGUMENT -> new InvalidInputArgumentException(exception);
-                case INVALID_REQUEST_ENTITY -> new InvalidRequestEntityException(exception);
-                case JSON_TYPE_ERROR -> new JsonTypeErrorException(exception);
-                case JSON_VALIDATION_ERROR -> new JsonValidationErrorException(exception);
-                case MODEL_NOT_SUPPORTED -> new ModelNotSupportedException(exception);
-                case MODEL_NO_SUPPORT_FOR_FUNCTION -> new ModelNoSupportForFunctionException(exception);
-                case TOKEN_QUOTA_REACHED -> new TokenQuotaReachedException(exception);
-                case USER_AUTHORIZATION_FAILED -> new UserAuthorizationFailedException(exception);
-                case COS_ACCESS_DENIED, COS_FILE_NOT_FOUND, SCHEMA_EVENT_DOES_NOT_EXIST, TEXT_CLASSIFICATION_EVENT_DOES_NOT_EXIST,
-                    TEXT_EXTRACTION_EVENT_DOES_NOT_EXIST, UNCLASSIFIED -> throw exception;
-            };
-        } catch (Exception e) {
-            return exception;
-        }
-    }
-
-    /**
-     * Parses an error response from the File Service APIs into a {@link WatsonxError} with a standardized format.
-     *
-     * @param body the raw JSON error response as a String.
-     * @return An instance of {@link WatsonxError} parsed from the body.
-     */
-    private static WatsonxError parseFileError(Map<?, ?> body) {
-        var error = (Map<?, ?>) body.get("error");
-        return new WatsonxError(
-            (Integer) body.get("status"),
-            (String) body.get("trace"),
-            List.of(new Error((String) error.get("code"), (String) error.get("message"), null)));
+        return requireNonNullElse(specificException(exception.getMessage(), exception.statusCode(), details), exception);
     }
 
     /**
-     * Parses an error response from the Model Gateway API into a {@link WatsonxError} with a standardized format. The Gateway wraps error details in
-     * an {@code "error"} object with {@code "code"}, {@code "message"}, and {@code "request_id"} fields.
+     * Creates the specific exception for the {@link WatsonxError.Code} of the first error.
      *
-     * @param statusCode the HTTP status code
-     * @param error the deserialized {@code "error"} object from the response body
-     * @return An instance of {@link WatsonxError} parsed from the body.
+     * @return the specific exception, or {@code null} if the response has no errors or the code is not classified
      */
-    private static WatsonxError parseGatewayError(int statusCode, Map<?, ?> error) {
-        return new WatsonxError(
-            statusCode,
-            (String) error.get("request_id"),
-            List.of(new Error((String) error.get("code"), (String) error.get("message"), null)));
-    }
-
-    /**
-     * Parses an error response from the IAM Authentication API into a {@link WatsonxError} with a standardized format.
-     *
-     * @param body the raw JSON error response as a String.
-     * @return An instance of WatsonxError parsed from the body.
-     */
-    private static WatsonxError parseIAMError(Integer statusCode, Map<?, ?> body) {
-
-        var errorCode = (String) body.get("errorCode");
-        var errorMessage = (String) body.get("errorMessage");
-        var errorDetails = body.containsKey("errorDetails") ? (String) body.get("errorDetails") : null;
-
-        Error error = new Error(errorCode, errorMessage, errorDetails);
-        return new WatsonxError(statusCode, "", List.of(error));
-    }
-
-    /**
-     * Parses an error response from the beta Agent Tool APIs into a {@link WatsonxError} with a standardized format.
-     *
-     * @param body the raw JSON error response as a String.
-     * @return An instance of WatsonxError parsed from the body.
-     */
-    private static WatsonxError parseToolError(Map<?, ?> body) {
-
-        var statusCode = (Integer) body.get("code");
-        var message = (String) body.get("message");
-        var description = (String) body.get("description");
-
-        Error error;
-        if (nonNull(description) && description.contains("jwt expired"))
-            error = new Error(WatsonxError.Code.AUTHENTICATION_TOKEN_EXPIRED.value(), message, description);
-        else
-            error = new Error(WatsonxError.Code.UNCLASSIFIED.value(), message, description);
+    private static WatsonxException specificException(String message, int statusCode, WatsonxError details) {
+        if (isNull(details.errors()) || details.errors().isEmpty())
+            return null;
 
-        return new WatsonxError(statusCode, "", List.of(error));
+        return switch(Code.from(details.errors().get(0).code())) {
+            case AUTHENTICATION_TOKEN_EXPIRED -> new AuthenticationTokenExpiredException(message, statusCode, details);
+            case AUTHORIZATION_REJECTED -> new AuthorizationRejectedException(message, statusCode, details);
+            case INVALID_INPUT_ARGUMENT -> new InvalidInputArgumentException(message, statusCode, details);
+            case INVALID_REQUEST_ENTITY -> new InvalidRequestEntityException(message, statusCode, details);
+            case JSON_TYPE_ERROR -> new JsonTypeErrorException(message, statusCode, details);
+            case JSON_VALIDATION_ERROR -> new JsonValidationErrorException(message, statusCode, details);
+            case MODEL_NOT_SUPPORTED -> new ModelNotSupportedException(message, statusCode, details);
+            case MODEL_NO_SUPPORT_FOR_FUNCTION -> new ModelNoSupportForFunctionException(message, statusCode, details);
+            case TOKEN_QUOTA_REACHED -> new TokenQuotaReachedException(message, statusCode, details);
+            case USER_AUTHORIZATION_FAILED -> new UserAuthorizationFailedException(message, statusCode, details);
+            case COS_ACCESS_DENIED, COS_FILE_NOT_FOUND, SCHEMA_EVENT_DOES_NOT_EXIST, TEXT_CLASSIFICATION_EVENT_DOES_NOT_EXIST,
+                TEXT_EXTRACTION_EVENT_DOES_NOT_EXIST, UNCLASSIFIED -> null;
+        };
     }
 
     /**
@@ -4,6 +4,7 @@
  */
 package com.ibm.watsonx.ai.core;
 
+import java.lang.reflect.Type;
 import java.util.ServiceLoader;
 import com.ibm.watsonx.ai.core.provider.JacksonProvider;
 import com.ibm.watsonx.ai.core.spi.json.JsonProvider;
@@ -43,6 +44,30 @@ public final class Json {
         return provider.fromJson(json, typeToken);
     }
 
+    /**
+     * Deserializes UTF-8 encoded JSON content into an object of the specified class.
+     *
+     * @param json the UTF-8 encoded JSON content
+     * @param clazz the target class
+     * @param <T> the type of the resulting object
+     * @return the deserialized object
+     */
+    public static <T> T fromJson(byte[] json, Class<T> clazz) {
+        return provider.fromJson(json, clazz);
+    }
+
+    /**
+     * Deserializes UTF-8 encoded JSON content into an object of the specified generic type.
+     *
+     * @param json the UTF-8 encoded JSON content
+     * @param typeToken the target generic type
+     * @param <T> the type of the resulting object
+     * @return the deserialized object
+     */
+    public static <T> T fromJson(byte[] json, TypeToken<T> typeToken) {
+        return provider.fromJson(json, typeToken);
+    }
+
     /**
      * Serializes the given object into a JSON string.
      *
@@ -73,6 +98,16 @@ public final class Json {
         return provider.isValidObject(json);
     }
 
+    /**
+     * Prepares the serializers and deserializers of the given types.
+     *
+     * @param types the types to prepare
+     * @see JsonProvider#prime(Type...)
+     */
+    public static void prime(Type... types) {
+        provider.prime(types);
+    }
+
     /**
      * Attempts to load a {@link JsonProvider} via {@link ServiceLoader}.
      * <p>
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.core;
+
+import static java.util.Optional.ofNullable;
+import com.ibm.watsonx.ai.core.http.interceptors.LoggerInterceptor;
+
+/**
+ * Configuration class for the request and response logging performed by the {@link LoggerInterceptor}.
+ * <p>
+ * This class provides centralized access to logging configuration parameters that can be customized via environment variables. All methods return
+ * default values if the corresponding environment variables are not set.
+ * </p>
+ * <p>
+ * Supported environment variables:
+ * <ul>
+ * <li>{@code WATSONX_LOG_ASYNC} - Format and write the logs on a background thread (default: false)</li>
+ * <li>{@code WATSONX_LOG_ASYNC_BUFFER_SIZE} - Maximum number of log entries waiting for the background thread (default: 1024)</li>
+ * <li>{@code WATSONX_LOG_MAX_BODY_LENGTH} - Maximum number of characters logged for a request or response body (default: no limit)</li>
+ * <li>{@code WATSONX_LOG_SAMPLE_RATE} - Log one HTTP exchange every N (default: 1, every exchange is logged)</li>
+ * </ul>
+ */
+public final class LoggingConfig {
+    private static final boolean DEFAULT_ASYNC = false;
+    private static final int DEFAULT_ASYNC_BUFFER_SIZE = 1024;
+    private static final int DEFAULT_MAX_BODY_LENGTH = Integer.MAX_VALUE;
+    private static final int DEFAULT_SAMPLE_RATE = 1;
+
+    private LoggingConfig() {}
+
+    /**
+     * Returns whether the logs are formatted and written on a background thread.
+     * <p>
+     * This value can be customized by setting the {@code WATSONX_LOG_ASYNC} environment variable.
+     * </p>
+     *
+     * @return {@code true} if asynchronous logging is enabled, defaults to {@code false}
+     */
+    public static boolean asyncEnabled() {
+        return ofNullable(System.getenv("WATSONX_LOG_ASYNC"))
+            .map(Boolean::valueOf)
+            .orElse(DEFAULT_ASYNC);
+    }
+
+    /**
+     * Returns the maximum number of log entries waiting to be written by the background thread.
+     * <p>
+     * When the buffer is full, new entries are dropped instead of blocking the HTTP request. This value can be customized by setting the
+     * {@code WATSONX_LOG_ASYNC_BUFFER_SIZE} environment variable.
+     * </p>
+     *
+     * @return the size of the buffer, defaults to 1024
+     */
+    public static int asyncBufferSize() {
+        return ofNullable(System.getenv("WATSONX_LOG_ASYNC_BUFFER_SIZE"))
+            .map(Integer::valueOf)
+            .orElse(DEFAULT_ASYNC_BUFFER_SIZE);
+    }
+
+    /**
+     * Returns the maximum number of characters logged for a request or response body.
+     * <p>
+     * Longer bodies are truncated. This value can be customized by setting the {@code WATSONX_LOG_MAX_BODY_LENGTH} environment variable.
+     * </p>
+     *
+     * @return the maximum body length, defaults to {@link Integer#MAX_VALUE}
+     */
+    public static int maxBodyLength() {
+        return ofNullable(System.getenv("WATSONX_LOG_MAX_BODY_LENGTH"))
+            .map(Integer::valueOf)
+            .orElse(DEFAULT_MAX_BODY_LENGTH);
+    }
+
+    /**
+     * Returns the sampling rate of the logged HTTP exchanges.
+     * <p>
+     * With a value of {@code N}, one request/response exchange every {@code N} is logged. This value can be customized by setting the
+     * {@code WATSONX_LOG_SAMPLE_RATE} environment variable.
+     * </p>
+     *
+     * @return the sampling rate, defaults to 1
+     */
+    public static int sampleRate() {
+        return ofNullable(System.getenv("WATSONX_LOG_SAMPLE_RATE"))
+            .map(Integer::valueOf)
+            .orElse(DEFAULT_SAMPLE_RATE);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.core;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A value loaded asynchronously and refreshed in the background with a stale-while-revalidate policy.
+ * <p>
+ * Only the first call to {@link #get()} waits for the value to be loaded. Once the time-to-live has elapsed, {@link #get()} keeps returning the stale
+ * value and starts a refresh in the background; concurrent refreshes share the same request. When a refresh fails, the stale value is kept and the
+ * next refresh is attempted after a shorter delay.
+ *
+ * @param <T> the type of the value
+ */
+public final class RefreshingValue<T> {
+    private static final Logger logger = LoggerFactory.getLogger(RefreshingValue.class);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private record Snapshot<T>(T value, Instant loadedAt, Instant expiresAt) {}
+
+    private final Duration ttl;
+    private final Supplier<CompletableFuture<T>> loader;
+    private final Clock clock;
+    private final AtomicReference<Snapshot<T>> snapshot = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<T>> inFlight = new AtomicReference<>();
+
+    /**
+     * Creates a new {@code RefreshingValue}.
+     *
+     * @param ttl the time after which the value is refreshed
+     * @param loader the function loading the value
+     */
+    public RefreshingValue(Duration ttl, Supplier<CompletableFuture<T>> loader) {
+        this(ttl, loader, Clock.systemUTC());
+    }
+
+    RefreshingValue(Duration ttl, Supplier<CompletableFuture<T>> loader, Clock clock) {
+        this.ttl = requireNonNull(ttl, "ttl cannot be null");
+        this.loader = requireNonNull(loader, "loader cannot be null");
+        this.clock = clock;
+
+        if (ttl.isNegative() || ttl.isZero())
+            throw new IllegalArgumentException("ttl must be positive");
+    }
+
+    /**
+     * Returns the value, loading it if it has never been loaded.
+     * <p>
+     * If the value is expired, the stale value is returned and a refresh is started in the background.
+     *
+     * @return the value
+     */
+    public T get() {
+        var current = snapshot.get();
+
+        if (isNull(current)) {
+            try {
+                return refresh().join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        if (!clock.instant().isBefore(current.expiresAt()))
+            refresh();
+
+        return current.value();
+    }
+
+    /**
+     * Returns the current value without loading or refreshing it.
+     *
+     * @return an {@link Optional} with the current value, or empty if it has never been loaded
+     */
+    public Optional<T> peek() {
+        return Optional.ofNullable(snapshot.get()).map(Snapshot::value);
+    }
+
+    /**
+     * Returns the time of the last successful load.
+     *
+     * @return an {@link Optional} with the time of the last load, or empty if the value has never been loaded
+     */
+    public Optional<Instant> lastRefresh() {
+        return Optional.ofNullable(snapshot.get()).map(Snapshot::loadedAt);
+    }
+
+    /**
+     * Loads the value again, unless a load is already in progress.
+     *
+     * @return a {@link CompletableFuture} completed with the new value
+     */
+    public CompletableFuture<T> refresh() {
+        var future = new CompletableFuture<T>();
+        var existing = inFlight.compareAndExchange(null, future);
+        if (nonNull(existing))
+            return existing;
+
+        CompletableFuture<T> load;
+        try {
+            load = loader.get();
+        } catch (RuntimeException e) {
+            load = CompletableFuture.failedFuture(e);
+        }
+
+        load.whenComplete((value, error) -> {
+            var now = clock.instant();
+            if (isNull(error)) {
+                snapshot.set(new Snapshot<>(value, now, now.plus(ttl)));
+            } else {
+                var current = snapshot.get();
+                if (nonNull(current)) {
+                    logger.debug("Refresh failed, keeping the value loaded at {}", current.loadedAt(), error);
+                    var retryDelay = ttl.compareTo(MAX_RETRY_DELAY) < 0 ? ttl : MAX_RETRY_DELAY;
+                    snapshot.set(new Snapshot<>(current.value(), current.loadedAt(), now.plus(retryDelay)));
+                }
+            }
+
+            inFlight.set(null);
+            if (isNull(error))
+                future.complete(value);
+            else
+                future.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+        });
+
+        return future;
+    }
+}
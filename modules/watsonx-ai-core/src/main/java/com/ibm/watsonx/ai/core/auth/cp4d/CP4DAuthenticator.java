@@ -17,6 +17,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import com.ibm.watsonx.ai.core.auth.Authenticator;
+import com.ibm.watsonx.ai.core.http.TransportConfig;
 
 /**
  * The {@code CP4DAuthenticator} class is an implementation of the {@link Authenticator} interface, responsible for authenticating with Cloud Pack for
@@ -71,6 +72,7 @@ public class CP4DAuthenticator implements Authenticator {
             .timeout(timeout)
             .httpClient(builder.httpClient)
             .verifySsl(builder.verifySsl)
+            .transport(builder.transport)
             .build();
     }
 
@@ -167,6 +169,7 @@ public class CP4DAuthenticator implements Authenticator {
         private Duration timeout;
         private HttpClient httpClient;
         private boolean verifySsl = true;
+        private TransportConfig transport;
 
         private Builder() {}
 
@@ -269,6 +272,19 @@ public class CP4DAuthenticator implements Authenticator {
             return this;
         }
 
+        /**
+         * Sets the {@link TransportConfig} used to create the {@link HttpClient}: HTTP version, connect timeout, number of connections per host and
+         * connection warm-up.
+         * <p>
+         * This setting is ignored if a custom {@link HttpClient} is provided via {@link #httpClient(HttpClient)}.
+         *
+         * @param transport the {@link TransportConfig} to use
+         */
+        public Builder transport(TransportConfig transport) {
+            this.transport = transport;
+            return this;
+        }
+
         /**
          * Builds and returns an CP4DAuthenticator instance.
          *
@@ -16,6 +16,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import com.ibm.watsonx.ai.core.auth.Authenticator;
+import com.ibm.watsonx.ai.core.http.TransportConfig;
 
 /**
  * The {@code IBMCloudAuthenticator} class is an implementation of the {@link Authenticator} interface, responsible for authenticating with IBM Cloud
@@ -55,6 +56,7 @@ public class IBMCloudAuthenticator implements Authenticator {
             .timeout(timeout)
             .httpClient(builder.httpClient)
             .verifySsl(builder.verifySsl)
+            .transport(builder.transport)
             .build();
     }
 
@@ -140,6 +142,7 @@ public class IBMCloudAuthenticator implements Authenticator {
         private Duration timeout;
         private HttpClient httpClient;
         private boolean verifySsl = true;
+        private TransportConfig transport;
 
         private Builder() {}
 
@@ -212,6 +215,19 @@ public class IBMCloudAuthenticator implements Authenticator {
             return this;
         }
 
+        /**
+         * Sets the {@link TransportConfig} used to create the {@link HttpClient}: HTTP version, connect timeout, number of connections per host and
+         * connection warm-up.
+         * <p>
+         * This setting is ignored if a custom {@link HttpClient} is provided via {@link #httpClient(HttpClient)}.
+         *
+         * @param transport the {@link TransportConfig} to use
+         */
+        public Builder transport(TransportConfig transport) {
+            this.transport = transport;
+            return this;
+        }
+
         /**
          * Builds and returns an IBMCloudAuthenticator instance.
          *
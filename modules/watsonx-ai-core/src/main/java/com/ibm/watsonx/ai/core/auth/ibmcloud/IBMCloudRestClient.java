@@ -4,6 +4,7 @@
  */
 package com.ibm.watsonx.ai.core.auth.ibmcloud;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
 import java.net.URI;
@@ -12,6 +13,7 @@ import java.time.Duration;
 import java.util.ServiceLoader;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
+import com.ibm.watsonx.ai.core.http.TransportConfig;
 import com.ibm.watsonx.ai.core.provider.HttpClientProvider;
 
 /**
@@ -39,7 +41,9 @@ public abstract class IBMCloudRestClient {
     protected IBMCloudRestClient(Builder<?, ?> builder) {
         baseUrl = requireNonNull(builder.baseUrl, "The baseUrl is mandatory");
         timeout = builder.timeout;
-        httpClient = requireNonNullElse(builder.httpClient, HttpClientProvider.httpClient(builder.verifySsl));
+        httpClient = requireNonNullElse(builder.httpClient, isNull(builder.transport)
+            ? HttpClientProvider.httpClient(builder.verifySsl)
+            : HttpClientProvider.httpClient(builder.baseUrl.toString(), builder.verifySsl, builder.transport));
     }
 
     /**
@@ -84,6 +88,7 @@ public abstract class IBMCloudRestClient {
         private Duration timeout;
         private HttpClient httpClient;
         private boolean verifySsl = true;
+        private TransportConfig transport;
 
         /**
          * Creates a new {@code Builder}.
@@ -145,6 +150,19 @@ public abstract class IBMCloudRestClient {
             this.verifySsl = verifySsl;
             return (B) this;
         }
+
+        /**
+         * Sets the {@link TransportConfig} used to create the {@link HttpClient}: HTTP version, connect timeout, number of connections per host and
+         * connection warm-up.
+         * <p>
+         * This setting is ignored if a custom {@link HttpClient} is provided via {@link #httpClient(HttpClient)}.
+         *
+         * @param transport the {@link TransportConfig} to use
+         */
+        public B transport(TransportConfig transport) {
+            this.transport = transport;
+            return (B) this;
+        }
     }
 
     /**
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.core.exception;
+
+import java.time.Duration;
+import com.ibm.watsonx.ai.core.http.interceptors.CircuitBreakerInterceptor;
+
+/**
+ * Exception thrown when a request is rejected without being sent because the circuit of its endpoint and model is open.
+ * <p>
+ * The status code is {@code 503}, so that the request can be sent to another region.
+ *
+ * @see CircuitBreakerInterceptor
+ */
+public final class CircuitBreakerOpenException extends WatsonxException {
+
+    private final String circuit;
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new {@code CircuitBreakerOpenException}.
+     *
+     * @param circuit the name of the open circuit
+     * @param retryAfter the time after which the circuit lets requests through again
+     */
+    public CircuitBreakerOpenException(String circuit, Duration retryAfter) {
+        super("Circuit breaker '%s' is open, retry after %d ms".formatted(circuit, retryAfter.toMillis()), 503, null);
+        this.circuit = circuit;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns the name of the open circuit, made of the endpoint and the model of the request.
+     *
+     * @return the circuit name
+     */
+    public String circuit() {
+        return circuit;
+    }
+
+    /**
+     * Returns the time after which the circuit lets requests through again.
+     *
+     * @return the time to wait, {@link Duration#ZERO} if the circuit is half-open and all its probe requests are in flight
+     */
+    public Duration retryAfter() {
+        return retryAfter;
+    }
+}
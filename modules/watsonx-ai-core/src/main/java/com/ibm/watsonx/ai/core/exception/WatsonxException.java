@@ -4,8 +4,10 @@
  */
 package com.ibm.watsonx.ai.core.exception;
 
+import static java.util.Objects.isNull;
 import java.util.Optional;
 import com.ibm.watsonx.ai.core.exception.model.WatsonxError;
+import com.ibm.watsonx.ai.core.exception.model.WatsonxError.Code;
 
 /**
  * Exception thrown when a watsonx api request results in an error response.
@@ -64,4 +66,15 @@ public class WatsonxException extends RuntimeException {
     public Optional<WatsonxError> details() {
         return Optional.ofNullable(details);
     }
+
+    /**
+     * Returns the {@link Code} of the first error of the response.
+     *
+     * @return the error code, or {@link Code#UNCLASSIFIED} if the response has no error details or the code is unknown
+     */
+    public Code errorCode() {
+        if (isNull(details) || isNull(details.errors()) || details.errors().isEmpty())
+            return Code.UNCLASSIFIED;
+        return Code.from(details.errors().get(0).code());
+    }
 }
@@ -35,7 +35,7 @@ public record WatsonxError(Integer statusCode, String trace, List<Error> errors)
          * @return true if the code matches; false otherwise
          */
         public boolean is(Code code) {
-            return this.code.equals(code.value);
+            return code.value.equals(this.code);
         }
     }
 
@@ -123,6 +123,7 @@ public record WatsonxError(Integer statusCode, String trace, List<Error> errors)
          */
         UNCLASSIFIED("Unclassified");
 
+        private static final Code[] VALUES = values();
         private final String value;
 
         Code(String value) {
@@ -137,5 +138,22 @@ public record WatsonxError(Integer statusCode, String trace, List<Error> errors)
         public String value() {
             return value;
         }
+
+        /**
+         * Returns the {@link Code} matching the given error code, ignoring case.
+         *
+         * @param value the error code returned by the API
+         * @return the matching {@link Code}, or {@link #UNCLASSIFIED} if the error code is unknown or {@code null}
+         */
+        public static Code from(String value) {
+            if (isNull(value))
+                return UNCLASSIFIED;
+
+            for (Code code : VALUES) {
+                if (code.value.equalsIgnoreCase(value))
+                    return code;
+            }
+            return UNCLASSIFIED;
+        }
     }
 }
\ No newline at end of file
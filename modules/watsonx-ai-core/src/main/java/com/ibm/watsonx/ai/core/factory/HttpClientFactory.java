@@ -9,8 +9,10 @@ import static java.util.Objects.requireNonNull;
 import java.net.http.HttpClient;
 import com.ibm.watsonx.ai.core.auth.Authenticator;
 import com.ibm.watsonx.ai.core.http.AsyncHttpClient;
+import com.ibm.watsonx.ai.core.http.HedgingPolicy;
 import com.ibm.watsonx.ai.core.http.SyncHttpClient;
 import com.ibm.watsonx.ai.core.http.interceptors.AuthenticationInterceptor;
+import com.ibm.watsonx.ai.core.http.interceptors.CircuitBreakerInterceptor;
 import com.ibm.watsonx.ai.core.http.interceptors.LoggerInterceptor;
 import com.ibm.watsonx.ai.core.http.interceptors.LoggerInterceptor.LogMode;
 import com.ibm.watsonx.ai.core.http.interceptors.RetryInterceptor;
@@ -23,6 +25,7 @@ import com.ibm.watsonx.ai.core.http.interceptors.RetryInterceptor;
  * <li>{@link RetryInterceptor#ON_TOKEN_EXPIRED} – retry on expired authentication tokens</li>
  * <li>{@link RetryInterceptor#ON_RETRYABLE_STATUS_CODES} – retry on retryable status codes (5xx, etc.)</li>
  * <li>{@link AuthenticationInterceptor} – attach an IAM or custom {@link Authenticator}</li>
+ * <li>{@link CircuitBreakerInterceptor} – optional rejection of the requests to failing endpoints and models, placed before the retries</li>
  * <li>{@link LoggerInterceptor} – optional request/response logging</li>
  * </ul>
  */
@@ -39,6 +42,20 @@ public final class HttpClientFactory {
      * @return {@link SyncHttpClient} instance
      */
     public static SyncHttpClient createSync(Authenticator authenticator, HttpClient httpClient, LogMode logMode) {
+        return createSync(authenticator, httpClient, logMode, null);
+    }
+
+    /**
+     * Creates and configures a new {@link SyncHttpClient} with standard interceptors and the given {@link CircuitBreakerInterceptor}.
+     *
+     * @param authenticator {@link Authenticator} used to attach a bearer token
+     * @param httpClient the underlying {@link HttpClient} to use
+     * @param logMode Indicate whether logging should be enabled
+     * @param circuitBreaker the {@link CircuitBreakerInterceptor} to use, or {@code null} to disable it
+     * @return {@link SyncHttpClient} instance
+     */
+    public static SyncHttpClient createSync(Authenticator authenticator, HttpClient httpClient, LogMode logMode,
+        CircuitBreakerInterceptor circuitBreaker) {
 
         requireNonNull(httpClient);
         var builder = SyncHttpClient.builder().httpClient(httpClient);
@@ -49,6 +66,10 @@ public final class HttpClientFactory {
             builder.interceptor(new AuthenticationInterceptor(authenticator));
         }
 
+        if (nonNull(circuitBreaker)) {
+            builder.interceptor(circuitBreaker);
+        }
+
         builder.interceptor(RetryInterceptor.ON_RETRYABLE_STATUS_CODES);
 
         if (nonNull(logMode)) {
@@ -72,9 +93,38 @@ public final class HttpClientFactory {
      * @return {@link AsyncHttpClient} instance
      */
     public static AsyncHttpClient createAsync(Authenticator authenticator, HttpClient httpClient, LogMode logMode) {
+        return createAsync(authenticator, httpClient, logMode, null);
+    }
+
+    /**
+     * Creates and configures a new {@link AsyncHttpClient} with standard interceptors and the given {@link HedgingPolicy}.
+     *
+     * @param authenticator {@link Authenticator} used to attach a bearer token
+     * @param httpClient the underlying {@link HttpClient} to use
+     * @param logMode Indicate whether logging should be enabled
+     * @param hedging the {@link HedgingPolicy} to use, or {@code null} to disable hedging
+     * @return {@link AsyncHttpClient} instance
+     */
+    public static AsyncHttpClient createAsync(Authenticator authenticator, HttpClient httpClient, LogMode logMode, HedgingPolicy hedging) {
+        return createAsync(authenticator, httpClient, logMode, hedging, null);
+    }
+
+    /**
+     * Creates and configures a new {@link AsyncHttpClient} with standard interceptors, the given {@link HedgingPolicy} and
+     * {@link CircuitBreakerInterceptor}.
+     *
+     * @param authenticator {@link Authenticator} used to attach a bearer token
+     * @param httpClient the underlying {@link HttpClient} to use
+     * @param logMode Indicate whether logging should be enabled
+     * @param hedging the {@link HedgingPolicy} to use, or {@code null} to disable hedging
+     * @param circuitBreaker the {@link CircuitBreakerInterceptor} to use, or {@code null} to disable it
+     * @return {@link AsyncHttpClient} instance
+     */
+    public static AsyncHttpClient createAsync(Authenticator authenticator, HttpClient httpClient, LogMode logMode, HedgingPolicy hedging,
+        CircuitBreakerInterceptor circuitBreaker) {
 
         requireNonNull(httpClient);
-        var builder = AsyncHttpClient.builder().httpClient(httpClient);
+        var builder = AsyncHttpClient.builder().httpClient(httpClient).hedging(hedging);
 
         builder.interceptor(RetryInterceptor.ON_TOKEN_EXPIRED);
 
@@ -82,6 +132,10 @@ public final class HttpClientFactory {
             builder.interceptor(new AuthenticationInterceptor(authenticator));
         }
 
+        if (nonNull(circuitBreaker)) {
+            builder.interceptor(circuitBreaker);
+        }
+
         builder.interceptor(RetryInterceptor.ON_RETRYABLE_STATUS_CODES);
 
         if (nonNull(logMode)) {
@@ -5,8 +5,10 @@
 package com.ibm.watsonx.ai.core.http;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
+import java.io.IOException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
@@ -15,10 +17,20 @@ import java.net.http.HttpResponse.BodySubscribers;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import com.ibm.watsonx.ai.core.HttpUtils;
 import com.ibm.watsonx.ai.core.exception.WatsonxException;
-import com.ibm.watsonx.ai.core.exception.model.WatsonxError;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 
 /**
  * Asynchronous HTTP client.
@@ -27,8 +39,10 @@ import com.ibm.watsonx.ai.core.exception.model.WatsonxError;
  * @see HttpClient
  */
 public final class AsyncHttpClient extends BaseHttpClient {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncHttpClient.class);
 
     final List<AsyncHttpInterceptor> interceptors;
+    final HedgingPolicy hedging;
 
     /**
      * Constructs an {@code AsyncHttpClient} with the given underlying {@link HttpClient} and interceptors.
@@ -37,8 +51,13 @@ public final class AsyncHttpClient extends BaseHttpClient {
      * @param interceptors a list of asynchronous HTTP interceptors
      */
     AsyncHttpClient(HttpClient httpClient, List<AsyncHttpInterceptor> interceptors) {
+        this(httpClient, interceptors, null);
+    }
+
+    AsyncHttpClient(HttpClient httpClient, List<AsyncHttpInterceptor> interceptors, HedgingPolicy hedging) {
         super(requireNonNull(httpClient, "The HTTP client cannot be null"));
         this.interceptors = (interceptors == null) ? List.of() : List.copyOf(interceptors);
+        this.hedging = hedging;
     }
 
     /**
@@ -47,7 +66,7 @@ public final class AsyncHttpClient extends BaseHttpClient {
      * @param builder the builder instance
      */
     private AsyncHttpClient(Builder builder) {
-        this(builder.httpClient, builder.interceptors);
+        this(builder.httpClient, builder.interceptors, builder.hedging);
     }
 
     /**
@@ -59,7 +78,119 @@ public final class AsyncHttpClient extends BaseHttpClient {
      * @return a {@link CompletableFuture} of the HTTP response
      */
     public <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request, BodyHandler<T> handler) {
-        return new InterceptorChain(delegate, interceptors).proceed(addRequestIdHeaderIfNotPresent(request), handler);
+        request = addRequestIdHeaderIfNotPresent(request);
+        if (nonNull(hedging))
+            return sendHedged(request, handler);
+
+        var chain = new InterceptorChain(delegate, interceptors);
+        var response = chain.proceed(request, handler);
+        // The future is derived by the interceptors: cancelling it must also cancel the exchange sent by the chain.
+        response.whenComplete((r, error) -> {
+            if (error instanceof CancellationException)
+                chain.cancel();
+        });
+        return response;
+    }
+
+    /**
+     * Sends an HTTP request and waits for the response.
+     * <p>
+     * Lets synchronous calls benefit from the features of the asynchronous client, such as hedging.
+     *
+     * @param request the HTTP request to send
+     * @param handler the body handler for the response
+     * @param <T> the type of the response body
+     * @return the HTTP response
+     * @throws IOException if an I/O error occurs when sending or receiving
+     * @throws InterruptedException if the operation is interrupted
+     */
+    public <T> HttpResponse<T> sendAndWait(HttpRequest request, BodyHandler<T> handler) throws IOException, InterruptedException {
+        var future = send(request, handler);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            var cause = e.getCause() instanceof CompletionException ce && nonNull(ce.getCause()) ? ce.getCause() : e.getCause();
+            if (cause instanceof RuntimeException re)
+                throw re;
+            if (cause instanceof IOException io)
+                throw io;
+            if (cause instanceof Error error)
+                throw error;
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Sends the request and, if it has not completed after the delay given by the {@link HedgingPolicy}, a duplicate of it. The first successful
+     * response is used and the other request is cancelled; if both fail, the last error is returned.
+     */
+    private <T> CompletableFuture<HttpResponse<T>> sendHedged(HttpRequest request, BodyHandler<T> handler) {
+        var endpoint = HedgingPolicy.endpoint(request);
+        var delay = hedging.onRequest(endpoint);
+
+        var result = new CompletableFuture<HttpResponse<T>>();
+        var pending = new AtomicInteger(1);
+        var won = new AtomicBoolean();
+        var attempts = new ArrayList<InterceptorChain>(2);
+
+        var primary = attempt(request, handler, endpoint, result, pending, won, false);
+        synchronized (attempts) {
+            attempts.add(primary);
+        }
+
+        if (delay.isPresent()) {
+            var executor = CompletableFuture.delayedExecutor(delay.getAsLong(), TimeUnit.NANOSECONDS, ExecutorProvider.ioExecutor());
+            executor.execute(() -> {
+                if (result.isDone() || !hedging.tryHedge())
+                    return;
+
+                logger.debug("Hedging request \"{}\" after {} ms", request.headers().firstValue(REQUEST_ID_HEADER).orElse(""),
+                    TimeUnit.NANOSECONDS.toMillis(delay.getAsLong()));
+                pending.incrementAndGet();
+                var hedge = attempt(request, handler, endpoint, result, pending, won, true);
+                synchronized (attempts) {
+                    attempts.add(hedge);
+                }
+                if (result.isDone())
+                    hedge.cancel();
+            });
+        }
+
+        // Cancels the exchange of the attempt that lost the race, or of both attempts if the caller cancels the result.
+        result.whenComplete((response, error) -> {
+            synchronized (attempts) {
+                attempts.forEach(InterceptorChain::cancel);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Sends the request through a new chain of interceptors, returned so that the exchange can be cancelled.
+     */
+    private <T> InterceptorChain attempt(HttpRequest request, BodyHandler<T> handler, String endpoint,
+        CompletableFuture<HttpResponse<T>> result, AtomicInteger pending, AtomicBoolean won, boolean hedge) {
+
+        long start = System.nanoTime();
+        var chain = new InterceptorChain(delegate, interceptors);
+        var attempt = chain.proceed(request, handler);
+        attempt.whenComplete((response, error) -> {
+            if (isNull(error)) {
+                hedging.recordLatency(endpoint, System.nanoTime() - start);
+                if (won.compareAndSet(false, true)) {
+                    if (hedge)
+                        hedging.onHedgeWin();
+                    result.complete(response);
+                }
+            } else if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(error instanceof CompletionException && nonNull(error.getCause()) ? error.getCause() : error);
+            }
+        });
+        return chain;
     }
 
     /**
@@ -73,10 +204,15 @@ public final class AsyncHttpClient extends BaseHttpClient {
 
     /**
      * Internal chain implementation used to process interceptors in order.
+     * <p>
+     * The interceptors derive new futures from the future of the exchange, and cancelling a derived future does not cancel the exchange. The chain
+     * keeps the futures of its exchanges, several ones when the request is retried, so that {@link #cancel()} aborts them.
      */
     private final static class InterceptorChain implements AsyncHttpInterceptor.AsyncChain {
         private final HttpClient httpClient;
         private final List<AsyncHttpInterceptor> interceptors;
+        private final Set<CompletableFuture<?>> exchanges = ConcurrentHashMap.newKeySet();
+        private volatile boolean cancelled;
         private int index = 0;
 
         public InterceptorChain(HttpClient httpClient, List<AsyncHttpInterceptor> interceptors) {
@@ -92,7 +228,10 @@ public final class AsyncHttpClient extends BaseHttpClient {
                     return interceptors.get(current).intercept(request, handler, current, this);
                 }
 
-                return httpClient.sendAsync(request, responseInfo -> {
+                if (cancelled)
+                    return CompletableFuture.failedFuture(new CancellationException("The request has been cancelled"));
+
+                var exchange = httpClient.sendAsync(request, responseInfo -> {
 
                     int statusCode = responseInfo.statusCode();
                     if (statusCode >= 200 && statusCode < 300) {
@@ -108,11 +247,16 @@ public final class AsyncHttpClient extends BaseHttpClient {
                             String contentType = responseInfo.headers().firstValue("Content-Type")
                                 .orElseThrow(() -> new WatsonxException(body, statusCode, null));
 
-                            WatsonxError details = HttpUtils.parseErrorBody(statusCode, body, contentType);
-                            throw HttpUtils.mapWatsonxException(new WatsonxException(body, statusCode, details));
+                            throw HttpUtils.toWatsonxException(statusCode, body, contentType);
                         }
                     );
                 });
+                exchanges.add(exchange);
+                exchange.whenComplete((response, error) -> exchanges.remove(exchange));
+                // The chain may have been cancelled while the exchange was sent.
+                if (cancelled)
+                    exchange.cancel(true);
+                return exchange;
             } catch (Exception e) {
                 return CompletableFuture.failedFuture(e);
             }
@@ -122,6 +266,14 @@ public final class AsyncHttpClient extends BaseHttpClient {
         public void resetToIndex(int index) {
             this.index = index;
         }
+
+        /**
+         * Cancels the exchanges in progress, and the ones the interceptors would send later, for example to retry the request.
+         */
+        void cancel() {
+            cancelled = true;
+            exchanges.forEach(exchange -> exchange.cancel(true));
+        }
     }
 
     /**
@@ -131,6 +283,7 @@ public final class AsyncHttpClient extends BaseHttpClient {
 
         private HttpClient httpClient;
         private List<AsyncHttpInterceptor> interceptors;
+        private HedgingPolicy hedging;
 
         private Builder() {}
 
@@ -169,6 +322,19 @@ public final class AsyncHttpClient extends BaseHttpClient {
             return this;
         }
 
+        /**
+         * Sets the {@link HedgingPolicy} used to send a duplicate of the slow requests.
+         * <p>
+         * Must only be set on clients sending idempotent requests.
+         *
+         * @param hedging the hedging policy, or {@code null} to disable hedging
+         * @return {@code Builder} instance for method chaining
+         */
+        public Builder hedging(HedgingPolicy hedging) {
+            this.hedging = hedging;
+            return this;
+        }
+
         /**
          * Builds a new {@link AsyncHttpClient} instance.
          *
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.core.http;
+
+import static java.util.Objects.requireNonNull;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hedging policy of an {@link AsyncHttpClient}: if a request has not completed after the latency percentile observed for its endpoint, a duplicate is
+ * sent and the first response is used.
+ * <p>
+ * Hedging trades extra load for lower tail latency and must only be enabled for short, idempotent requests. The extra load is capped by a budget:
+ * every request earns {@code maxExtraLoad} of a hedge, and a hedge is only sent when a whole one has been earned, so that hedges never exceed
+ * {@code maxExtraLoad} of the requests. No request is hedged until {@code minSamples} latencies have been observed for its endpoint.
+ * <p>
+ * The policy keeps the latency statistics of the endpoints and the hedging counters; clients sharing a policy share them.
+ * <p>
+ * <b>Example usage:</b>
+ *
+ * <pre>{@code
+ * HedgingPolicy hedging = HedgingPolicy.builder()
+ *     .percentile(0.95)
+ *     .maxExtraLoad(0.05)
+ *     .build();
+ *
+ * RerankService rerankService = RerankService.builder()
+ *     .baseUrl(CloudRegion.DALLAS)
+ *     .hedging(hedging)
+ *     ...
+ *     .build();
+ *
+ * HedgingPolicy.Stats stats = hedging.stats();
+ * }</pre>
+ */
+public final class HedgingPolicy {
+    private static final long CREDIT_UNIT = 1_000_000;
+    private static final int PERCENTILE_REFRESH = 16;
+
+    private final double percentile;
+    private final double maxExtraLoad;
+    private final int minSamples;
+    private final int sampleSize;
+    private final long minDelayNanos;
+    private final long creditPerRequest;
+    private final long maxCredits;
+    private final Map<String, LatencyTracker> trackers = new ConcurrentHashMap<>();
+    private final AtomicLong credits = new AtomicLong();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+
+    private HedgingPolicy(Builder builder) {
+        percentile = builder.percentile;
+        maxExtraLoad = builder.maxExtraLoad;
+        minSamples = builder.minSamples;
+        sampleSize = builder.sampleSize;
+        minDelayNanos = requireNonNull(builder.minDelay, "minDelay cannot be null").toNanos();
+
+        if (percentile <= 0 || percentile >= 1)
+            throw new IllegalArgumentException("percentile must be between 0 and 1");
+
+        if (maxExtraLoad <= 0 || maxExtraLoad > 1)
+            throw new IllegalArgumentException("maxExtraLoad must be greater than 0 and at most 1");
+
+        if (minSamples <= 0)
+            throw new IllegalArgumentException("minSamples must be greater than 0");
+
+        if (sampleSize < minSamples)
+            throw new IllegalArgumentException("sampleSize must be greater than or equal to minSamples");
+
+        if (minDelayNanos < 0)
+            throw new IllegalArgumentException("minDelay cannot be negative");
+
+        creditPerRequest = Math.round(maxExtraLoad * CREDIT_UNIT);
+        // Allows short bursts of hedges, e.g. when an endpoint slows down, without exceeding the budget over time.
+        maxCredits = 10 * CREDIT_UNIT;
+    }
+
+    /**
+     * Returns the latency percentile after which a request is hedged.
+     *
+     * @return the percentile, defaults to 0.95
+     */
+    public double percentile() {
+        return percentile;
+    }
+
+    /**
+     * Returns the maximum number of hedges, as a fraction of the requests.
+     *
+     * @return the maximum extra load, defaults to 0.05
+     */
+    public double maxExtraLoad() {
+        return maxExtraLoad;
+    }
+
+    /**
+     * Returns the number of latencies observed for an endpoint before its requests are hedged.
+     *
+     * @return the minimum number of samples, defaults to 20
+     */
+    public int minSamples() {
+        return minSamples;
+    }
+
+    /**
+     * Returns the hedging counters.
+     *
+     * @return a {@link Stats} snapshot
+     */
+    public Stats stats() {
+        return new Stats(requests.sum(), hedges.sum(), hedgeWins.sum(), budgetExhausted.sum());
+    }
+
+    /**
+     * Returns the delay after which a request to the given endpoint is hedged, counting the request in the budget.
+     *
+     * @return the delay in nanoseconds, or empty if the request must not be hedged
+     */
+    OptionalLong onRequest(String endpoint) {
+        requests.increment();
+        credits.getAndUpdate(c -> Math.min(maxCredits, c + creditPerRequest));
+        var tracker = trackers.get(endpoint);
+        if (tracker == null)
+            return OptionalLong.empty();
+        var delay = tracker.percentile();
+        return delay < 0 ? OptionalLong.empty() : OptionalLong.of(Math.max(delay, minDelayNanos));
+    }
+
+    /**
+     * Takes a hedge from the budget.
+     *
+     * @return {@code true} if the hedge can be sent
+     */
+    boolean tryHedge() {
+        long current;
+        do {
+            current = credits.get();
+            if (current < CREDIT_UNIT) {
+                budgetExhausted.increment();
+                return false;
+            }
+        } while (!credits.compareAndSet(current, current - CREDIT_UNIT));
+        hedges.increment();
+        return true;
+    }
+
+    void onHedgeWin() {
+        hedgeWins.increment();
+    }
+
+    void recordLatency(String endpoint, long nanos) {
+        trackers.computeIfAbsent(endpoint, k -> new LatencyTracker()).record(nanos);
+    }
+
+    /**
+     * Returns the key under which the latencies of a request are tracked: the method, host and path, without the query.
+     */
+    static String endpoint(HttpRequest request) {
+        var uri = request.uri();
+        return request.method() + " " + uri.getHost() + ":" + uri.getPort() + uri.getPath();
+    }
+
+    /**
+     * Returns a new {@link Builder} instance.
+     *
+     * @return {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Hedging counters.
+     *
+     * @param requests the number of requests
+     * @param hedges the number of hedges sent
+     * @param hedgeWins the number of hedges that completed before the original request
+     * @param budgetExhausted the number of hedges not sent because the budget was exhausted
+     */
+    public record Stats(long requests, long hedges, long hedgeWins, long budgetExhausted) {}
+
+    /**
+     * Latencies of the last {@code sampleSize} successful requests to an endpoint.
+     */
+    private final class LatencyTracker {
+        private final long[] samples = new long[sampleSize];
+        private int count;
+        private int next;
+        private long cachedPercentile = -1;
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            count++;
+            if (count >= minSamples && (cachedPercentile < 0 || count % PERCENTILE_REFRESH == 0)) {
+                var sorted = Arrays.copyOf(samples, Math.min(count, samples.length));
+                Arrays.sort(sorted);
+                cachedPercentile = sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+            }
+        }
+
+        synchronized long percentile() {
+            return cachedPercentile;
+        }
+    }
+
+    /**
+     * Builder class for constructing {@link HedgingPolicy} instances.
+     */
+    public static final class Builder {
+        private double percentile = 0.95;
+        private double maxExtraLoad = 0.05;
+        private int minSamples = 20;
+        private int sampleSize = 256;
+        private Duration minDelay = Duration.ofMillis(5);
+
+        private Builder() {}
+
+        /**
+         * Sets the latency percentile after which a request is hedged.
+         *
+         * @param percentile the percentile, between 0 and 1
+         */
+        public Builder percentile(double percentile) {
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of hedges, as a fraction of the requests.
+         *
+         * @param maxExtraLoad the maximum extra load, e.g. {@code 0.05} for at most 5% more requests
+         */
+        public Builder maxExtraLoad(double maxExtraLoad) {
+            this.maxExtraLoad = maxExtraLoad;
+            return this;
+        }
+
+        /**
+         * Sets the number of latencies observed for an endpoint before its requests are hedged.
+         *
+         * @param minSamples the minimum number of samples
+         */
+        public Builder minSamples(int minSamples) {
+            this.minSamples = minSamples;
+            return this;
+        }
+
+        /**
+         * Sets the number of latest latencies used to compute the percentile of an endpoint.
+         *
+         * @param sampleSize the number of samples, defaults to 256
+         */
+        public Builder sampleSize(int sampleSize) {
+            this.sampleSize = sampleSize;
+            return this;
+        }
+
+        /**
+         * Sets the minimum delay before a request is hedged.
+         *
+         * @param minDelay the minimum delay, defaults to 5 milliseconds
+         */
+        public Builder minDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        /**
+         * Builds a {@link HedgingPolicy} instance using the configured parameters.
+         *
+         * @return a new instance of {@link HedgingPolicy}
+         */
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
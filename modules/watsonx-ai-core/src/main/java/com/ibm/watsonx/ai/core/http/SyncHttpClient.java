@@ -17,7 +17,6 @@ import java.util.List;
 import java.util.Optional;
 import com.ibm.watsonx.ai.core.HttpUtils;
 import com.ibm.watsonx.ai.core.exception.WatsonxException;
-import com.ibm.watsonx.ai.core.exception.model.WatsonxError;
 
 /**
  * Synchronous HTTP client.
@@ -111,8 +110,7 @@ public final class SyncHttpClient extends BaseHttpClient {
             String contentType = httpResponse.headers().firstValue("Content-Type")
                 .orElseThrow(() -> new WatsonxException(body, statusCode, null));
 
-            WatsonxError details = HttpUtils.parseErrorBody(statusCode, body, contentType);
-            throw HttpUtils.mapWatsonxException(new WatsonxException(body, statusCode, details));
+            throw HttpUtils.toWatsonxException(statusCode, body, contentType);
         }
 
         @Override
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.core.http;
+
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import static java.util.Objects.requireNonNullElse;
+import java.net.http.HttpClient;
+import java.net.http.HttpClient.Version;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Transport settings of the {@link HttpClient} instances created by the SDK.
+ * <p>
+ * When a {@code TransportConfig} is set on a service, the requests sent to a host are spread over a pool of {@link HttpClient} instances dedicated to
+ * that host. Each instance holds its own connection, so that concurrent requests are not all multiplexed on the same HTTP/2 connection. A new
+ * connection is only used when the ones already in use have {@code maxStreamsPerConnection} requests in flight.
+ * <p>
+ * <b>Example usage:</b>
+ *
+ * <pre>{@code
+ * TransportConfig transport = TransportConfig.builder()
+ *     .httpVersion(Version.HTTP_2)
+ *     .connectTimeout(Duration.ofSeconds(5))
+ *     .maxConnectionsPerHost(4)
+ *     .maxStreamsPerConnection(50)
+ *     .warmUp(true)
+ *     .build();
+ *
+ * ChatService chatService = ChatService.builder()
+ *     .baseUrl(CloudRegion.DALLAS)
+ *     .transport(transport)
+ *     .apiKey("my-api-key")
+ *     ...
+ *     .build();
+ * }</pre>
+ *
+ * The settings are ignored when a custom {@link HttpClient} is provided.
+ */
+public final class TransportConfig {
+    private final Version httpVersion;
+    private final Duration connectTimeout;
+    private final int maxConnectionsPerHost;
+    private final int maxStreamsPerConnection;
+    private final boolean warmUp;
+
+    private TransportConfig(Builder builder) {
+        httpVersion = requireNonNullElse(builder.httpVersion, Version.HTTP_2);
+        connectTimeout = builder.connectTimeout;
+        maxConnectionsPerHost = builder.maxConnectionsPerHost;
+        maxStreamsPerConnection = builder.maxStreamsPerConnection;
+        warmUp = builder.warmUp;
+
+        if (maxConnectionsPerHost <= 0)
+            throw new IllegalArgumentException("maxConnectionsPerHost must be greater than 0");
+
+        if (maxStreamsPerConnection <= 0)
+            throw new IllegalArgumentException("maxStreamsPerConnection must be greater than 0");
+
+        if (nonNull(connectTimeout) && (connectTimeout.isNegative() || connectTimeout.isZero()))
+            throw new IllegalArgumentException("connectTimeout must be positive");
+    }
+
+    /**
+     * Returns the preferred HTTP version.
+     *
+     * @return the HTTP version, defaults to {@link Version#HTTP_2}
+     */
+    public Version httpVersion() {
+        return httpVersion;
+    }
+
+    /**
+     * Returns the connect timeout.
+     *
+     * @return the connect timeout, or {@code null} to use the {@link HttpClient} default
+     */
+    public Duration connectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Returns the maximum number of connections opened to the same host.
+     *
+     * @return the maximum number of connections per host, defaults to 1
+     */
+    public int maxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    /**
+     * Returns the number of requests in flight on a connection above which another connection is used.
+     *
+     * @return the maximum number of streams per connection, defaults to 100
+     */
+    public int maxStreamsPerConnection() {
+        return maxStreamsPerConnection;
+    }
+
+    /**
+     * Returns whether the connections are opened when the client is created.
+     *
+     * @return {@code true} if the connections are warmed up, defaults to {@code false}
+     */
+    public boolean warmUp() {
+        return warmUp;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (!(obj instanceof TransportConfig other))
+            return false;
+        return httpVersion == other.httpVersion
+            && Objects.equals(connectTimeout, other.connectTimeout)
+            && maxConnectionsPerHost == other.maxConnectionsPerHost
+            && maxStreamsPerConnection == other.maxStreamsPerConnection
+            && warmUp == other.warmUp;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(httpVersion, connectTimeout, maxConnectionsPerHost, maxStreamsPerConnection, warmUp);
+    }
+
+    @Override
+    public String toString() {
+        return "TransportConfig [httpVersion=" + httpVersion + ", connectTimeout=" + connectTimeout + ", maxConnectionsPerHost="
+            + maxConnectionsPerHost + ", maxStreamsPerConnection=" + maxStreamsPerConnection + ", warmUp=" + warmUp + "]";
+    }
+
+    /**
+     * Returns a new {@link Builder} instance.
+     *
+     * @return {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder class for constructing {@link TransportConfig} instances.
+     */
+    public static final class Builder {
+        private Version httpVersion;
+        private Duration connectTimeout;
+        private int maxConnectionsPerHost = 1;
+        private int maxStreamsPerConnection = 100;
+        private boolean warmUp;
+
+        private Builder() {}
+
+        /**
+         * Sets the preferred HTTP version.
+         * <p>
+         * With {@link Version#HTTP_2}, the client falls back to HTTP/1.1 if the server does not support HTTP/2.
+         *
+         * @param httpVersion the HTTP version
+         */
+        public Builder httpVersion(Version httpVersion) {
+            this.httpVersion = requireNonNull(httpVersion, "httpVersion cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the maximum time to wait for a connection to be established.
+         *
+         * @param connectTimeout the connect timeout
+         */
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of connections opened to the same host.
+         *
+         * @param maxConnectionsPerHost the maximum number of connections per host
+         */
+        public Builder maxConnectionsPerHost(int maxConnectionsPerHost) {
+            this.maxConnectionsPerHost = maxConnectionsPerHost;
+            return this;
+        }
+
+        /**
+         * Sets the number of requests in flight on a connection above which another connection is used.
+         *
+         * @param maxStreamsPerConnection the maximum number of streams per connection
+         */
+        public Builder maxStreamsPerConnection(int maxStreamsPerConnection) {
+            this.maxStreamsPerConnection = maxStreamsPerConnection;
+            return this;
+        }
+
+        /**
+         * Sets whether the connections to the host are opened, including the TLS handshake, when the client is created instead of on the first
+         * request.
+         *
+         * @param warmUp {@code true} to open the connections eagerly
+         */
+        public Builder warmUp(boolean warmUp) {
+            this.warmUp = warmUp;
+            return this;
+        }
+
+        /**
+         * Builds a {@link TransportConfig} instance using the configured parameters.
+         *
+         * @return a new instance of {@link TransportConfig}
+         */
+        public TransportConfig build() {
+            return new TransportConfig(this);
+        }
+    }
+}
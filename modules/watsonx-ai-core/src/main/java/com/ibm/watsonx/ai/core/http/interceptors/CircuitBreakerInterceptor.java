@@ -0,0 +1,681 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.core.http.interceptors;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.ibm.watsonx.ai.core.exception.CircuitBreakerOpenException;
+import com.ibm.watsonx.ai.core.exception.ModelNotSupportedException;
+import com.ibm.watsonx.ai.core.exception.WatsonxException;
+import com.ibm.watsonx.ai.core.http.AsyncHttpInterceptor;
+import com.ibm.watsonx.ai.core.http.SyncHttpInterceptor;
+
+/**
+ * Interceptor that stops sending requests to an endpoint and model that keep failing or responding slowly.
+ * <p>
+ * Each circuit, identified by the host and path of the request and the {@code model_id} of its JSON body, records the outcome of its last
+ * {@code slidingWindowSize} requests. Once at least {@code minimumNumberOfCalls} have been recorded, the circuit opens if the failure rate reaches
+ * {@code failureRateThreshold} or the rate of requests slower than {@code slowCallDuration} reaches {@code slowCallRateThreshold}. While open, the
+ * requests are rejected with a {@link CircuitBreakerOpenException} without being sent. After {@code waitDurationInOpenState}, the circuit becomes
+ * half-open and lets {@code permittedCallsInHalfOpenState} probe requests through: it closes again if their failure and slow-call rates are below the
+ * thresholds, and opens again otherwise.
+ * <p>
+ * By default, server errors ({@code 5xx}), {@code 429}, {@link ModelNotSupportedException} and I/O errors are failures; other errors, such as an
+ * invalid request, count as successful calls.
+ * <p>
+ * The interceptor must be placed before the {@link RetryInterceptor} of the retryable status codes, so that an open circuit rejects the request
+ * without any retry and a request retried several times is recorded once. This is the position used by
+ * {@link com.ibm.watsonx.ai.core.factory.HttpClientFactory}. A single instance can be shared by the synchronous and asynchronous clients of a
+ * service, or by several services.
+ * <p>
+ * <b>Example usage:</b>
+ *
+ * <pre>{@code
+ * CircuitBreakerInterceptor circuitBreaker = CircuitBreakerInterceptor.builder()
+ *     .failureRateThreshold(0.5)
+ *     .slowCallDuration(Duration.ofSeconds(20))
+ *     .waitDurationInOpenState(Duration.ofSeconds(30))
+ *     .onStateTransition(transition -> logger.warn("{}", transition))
+ *     .build();
+ *
+ * ChatService chatService = ChatService.builder()
+ *     .baseUrl(CloudRegion.DALLAS)
+ *     .circuitBreaker(circuitBreaker)
+ *     ...
+ *     .build();
+ * }</pre>
+ */
+public final class CircuitBreakerInterceptor implements SyncHttpInterceptor, AsyncHttpInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreakerInterceptor.class);
+    private static final Pattern MODEL_ID_PATTERN = Pattern.compile("\"model_id\"\\s*:\\s*\"([^\"]+)\"");
+    private static final int MODEL_ID_SCAN_LENGTH = 4096;
+
+    /**
+     * State of a circuit.
+     */
+    public enum State {
+
+        /**
+         * The requests are sent and their outcome is recorded.
+         */
+        CLOSED,
+
+        /**
+         * The requests are rejected without being sent.
+         */
+        OPEN,
+
+        /**
+         * A limited number of probe requests are sent to decide whether the circuit closes.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * Change of state of a circuit.
+     *
+     * @param circuit the circuit name
+     * @param from the previous state
+     * @param to the new state
+     * @param failureRate the failure rate that caused the transition, between 0 and 1
+     * @param slowCallRate the slow-call rate that caused the transition, between 0 and 1
+     * @param timestamp the time of the transition
+     */
+    public record StateTransition(String circuit, State from, State to, float failureRate, float slowCallRate, Instant timestamp) {}
+
+    /**
+     * Metrics of a circuit.
+     *
+     * @param circuit the circuit name
+     * @param state the current state
+     * @param failureRate the failure rate of the recorded calls, between 0 and 1, or -1 if fewer than {@code minimumNumberOfCalls} are recorded
+     * @param slowCallRate the slow-call rate of the recorded calls, between 0 and 1, or -1 if fewer than {@code minimumNumberOfCalls} are recorded
+     * @param bufferedCalls the number of recorded calls
+     * @param notPermittedCalls the number of requests rejected since the circuit was created
+     */
+    public record Metrics(String circuit, State state, float failureRate, float slowCallRate, int bufferedCalls, long notPermittedCalls) {}
+
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final int slidingWindowSize;
+    private final int minimumNumberOfCalls;
+    private final long waitNanos;
+    private final int permittedCallsInHalfOpenState;
+    private final Predicate<Throwable> recordFailure;
+    private final Function<HttpRequest, String> circuitName;
+    private final List<Consumer<StateTransition>> listeners;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    private CircuitBreakerInterceptor(Builder builder) {
+        failureRateThreshold = builder.failureRateThreshold;
+        slowCallRateThreshold = builder.slowCallRateThreshold;
+        slowCallNanos = requireNonNull(builder.slowCallDuration, "slowCallDuration cannot be null").toNanos();
+        slidingWindowSize = builder.slidingWindowSize;
+        minimumNumberOfCalls = Math.min(builder.minimumNumberOfCalls, builder.slidingWindowSize);
+        waitNanos = requireNonNull(builder.waitDurationInOpenState, "waitDurationInOpenState cannot be null").toNanos();
+        permittedCallsInHalfOpenState = Math.min(builder.permittedCallsInHalfOpenState, builder.slidingWindowSize);
+        recordFailure = requireNonNull(builder.recordFailure, "recordFailure cannot be null");
+        circuitName = requireNonNull(builder.circuitName, "circuitName cannot be null");
+        listeners = new CopyOnWriteArrayList<>(builder.listeners);
+
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1)
+            throw new IllegalArgumentException("failureRateThreshold must be greater than 0 and at most 1");
+
+        if (slowCallRateThreshold <= 0 || slowCallRateThreshold > 1)
+            throw new IllegalArgumentException("slowCallRateThreshold must be greater than 0 and at most 1");
+
+        if (slidingWindowSize <= 0 || minimumNumberOfCalls <= 0 || permittedCallsInHalfOpenState <= 0)
+            throw new IllegalArgumentException("slidingWindowSize, minimumNumberOfCalls and permittedCallsInHalfOpenState must be greater than 0");
+
+        if (slowCallNanos <= 0 || waitNanos <= 0)
+            throw new IllegalArgumentException("slowCallDuration and waitDurationInOpenState must be positive");
+    }
+
+    @Override
+    public <T> HttpResponse<T> intercept(HttpRequest request, BodyHandler<T> bodyHandler, int index, Chain chain)
+        throws WatsonxException, IOException, InterruptedException {
+
+        var circuit = circuit(request);
+        long start = System.nanoTime();
+        long permit = circuit.acquire(start);
+        try {
+            var response = chain.proceed(request, bodyHandler);
+            long now = System.nanoTime();
+            circuit.onResult(permit, now, now - start, null);
+            return response;
+        } catch (RuntimeException | IOException e) {
+            long now = System.nanoTime();
+            circuit.onResult(permit, now, now - start, e);
+            throw e;
+        } catch (InterruptedException e) {
+            circuit.release(permit);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> intercept(HttpRequest request, BodyHandler<T> bodyHandler, int index, AsyncChain chain) {
+        Circuit circuit;
+        long permit;
+        long start = System.nanoTime();
+        try {
+            circuit = circuit(request);
+            permit = circuit.acquire(start);
+        } catch (CircuitBreakerOpenException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return chain.proceed(request, bodyHandler).whenComplete((response, error) -> {
+            var cause = error instanceof CompletionException && nonNull(error.getCause()) ? error.getCause() : error;
+            long now = System.nanoTime();
+            circuit.onResult(permit, now, now - start, cause);
+        });
+    }
+
+    /**
+     * Returns the metrics of all the circuits.
+     *
+     * @return the list of {@link Metrics}
+     */
+    public List<Metrics> metrics() {
+        return circuits.values().stream().map(Circuit::metrics).toList();
+    }
+
+    /**
+     * Returns the metrics of a circuit.
+     *
+     * @param circuit the circuit name
+     * @return an {@link Optional} with the metrics, or empty if no request has been sent to this circuit
+     */
+    public Optional<Metrics> metrics(String circuit) {
+        return Optional.ofNullable(circuits.get(circuit)).map(Circuit::metrics);
+    }
+
+    /**
+     * Registers a listener notified of the state transitions of the circuits.
+     *
+     * @param listener the listener
+     */
+    public void onStateTransition(Consumer<StateTransition> listener) {
+        listeners.add(requireNonNull(listener, "listener cannot be null"));
+    }
+
+    /**
+     * Closes all the circuits and clears their recorded calls.
+     */
+    public void reset() {
+        circuits.clear();
+    }
+
+    /**
+     * Returns the circuit with the given name, creating it if needed.
+     * <p>
+     * Used by the components that guard their own calls with the configuration of this circuit breaker, such as a router over several endpoints.
+     *
+     * @param name the circuit name
+     * @return the {@link Circuit}
+     */
+    public Circuit circuit(String name) {
+        return circuits.computeIfAbsent(requireNonNull(name, "name cannot be null"), Circuit::new);
+    }
+
+    private Circuit circuit(HttpRequest request) {
+        return circuit(circuitName.apply(request));
+    }
+
+    /**
+     * Returns the default circuit name of a request: its host and path, followed by the {@code model_id} of its JSON body, if any.
+     *
+     * @param request the HTTP request
+     * @return the circuit name, e.g. {@code us-south.ml.cloud.ibm.com/ml/v1/text/chat#ibm/granite-4-h-small}
+     */
+    public static String circuitName(HttpRequest request) {
+        var uri = request.uri();
+        var name = uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort()) + uri.getPath();
+        return modelId(request).map(modelId -> name + "#" + modelId).orElse(name);
+    }
+
+    /**
+     * Looks for the {@code model_id} field in the beginning of the JSON body of the request.
+     * <p>
+     * The body is only read if it can be read again when the request is sent, and only as long as it is delivered synchronously.
+     */
+    private static Optional<String> modelId(HttpRequest request) {
+        var publisher = request.bodyPublisher();
+        if (publisher.isEmpty() || publisher.get().contentLength() <= 0)
+            return Optional.empty();
+
+        var contentType = request.headers().firstValue("Content-Type").orElse("");
+        if (!contentType.startsWith("application/json"))
+            return Optional.empty();
+
+        var className = publisher.get().getClass().getName();
+        if (className.contains("StreamPublisher") || className.contains("FilePublisher") || className.contains("InputStream"))
+            return Optional.empty();
+
+        var body = new ByteArrayOutputStream();
+        publisher.get().subscribe(new Subscriber<>() {
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                synchronized (body) {
+                    int length = Math.min(item.remaining(), MODEL_ID_SCAN_LENGTH - body.size());
+                    var bytes = new byte[length];
+                    item.duplicate().get(bytes);
+                    body.write(bytes, 0, length);
+                    if (body.size() >= MODEL_ID_SCAN_LENGTH)
+                        subscription.cancel();
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {}
+
+            @Override
+            public void onComplete() {}
+        });
+
+        String scanned;
+        synchronized (body) {
+            scanned = body.toString(StandardCharsets.UTF_8);
+        }
+        var matcher = MODEL_ID_PATTERN.matcher(scanned);
+        return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+
+    /**
+     * Returns whether the error is a failure of the endpoint or the model, as opposed to an error of the request.
+     */
+    private static boolean isFailure(Throwable error) {
+        if (error instanceof ModelNotSupportedException)
+            return true;
+
+        if (error instanceof WatsonxException e)
+            return e.statusCode() >= 500 || e.statusCode() == 429;
+
+        for (var cause = error; nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof IOException)
+                return true;
+            if (cause.getCause() == cause)
+                break;
+        }
+        return false;
+    }
+
+    /**
+     * State and sliding window of a circuit.
+     * <p>
+     * The times are {@link System#nanoTime()} values, or values of another clock used for all the calls of the circuit.
+     */
+    public final class Circuit {
+        private final String name;
+        // Outcome of the recorded calls: bit 0 is set for a failure, bit 1 for a slow call.
+        private final byte[] outcomes = new byte[slidingWindowSize];
+        private int next;
+        private int recorded;
+        private int failures;
+        private int slowCalls;
+        private State state = State.CLOSED;
+        private long openedAt;
+        private int halfOpenPermits;
+        // Incremented on every transition, so that the outcome of a call started in a previous state is ignored.
+        private long generation;
+        private long notPermittedCalls;
+
+        private Circuit(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the circuit name.
+         *
+         * @return the circuit name
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Returns whether the circuit would let a call through, without reserving it.
+         *
+         * @param now the current time
+         * @return {@code true} if the circuit is closed, or lets a probe call through
+         */
+        public synchronized boolean isCallPermitted(long now) {
+            return switch(state) {
+                case CLOSED -> true;
+                case OPEN -> now - openedAt >= waitNanos;
+                case HALF_OPEN -> halfOpenPermits < permittedCallsInHalfOpenState;
+            };
+        }
+
+        /**
+         * Returns the time left before the circuit lets a call through.
+         *
+         * @param now the current time
+         * @return the time to wait, {@link Duration#ZERO} if the circuit lets a call through or all its probe calls are in flight
+         */
+        public synchronized Duration waitDuration(long now) {
+            return state == State.OPEN ? Duration.ofNanos(Math.max(0, waitNanos - (now - openedAt))) : Duration.ZERO;
+        }
+
+        /**
+         * Reserves a call, which must be followed by {@link #onResult(long, long, long, Throwable)} or {@link #release(long)}.
+         *
+         * @param now the current time
+         * @return the permit of the call
+         * @throws CircuitBreakerOpenException if the circuit is open, or half-open with all its probe calls in flight
+         */
+        public long acquire(long now) {
+            StateTransition transition = null;
+            long permit;
+            synchronized (this) {
+                if (state == State.OPEN) {
+                    long waited = now - openedAt;
+                    if (waited < waitNanos) {
+                        notPermittedCalls++;
+                        throw new CircuitBreakerOpenException(name, Duration.ofNanos(waitNanos - waited));
+                    }
+                    transition = transition(State.HALF_OPEN, -1, -1, now);
+                }
+
+                if (state == State.HALF_OPEN) {
+                    if (halfOpenPermits >= permittedCallsInHalfOpenState) {
+                        notPermittedCalls++;
+                        throw new CircuitBreakerOpenException(name, Duration.ZERO);
+                    }
+                    halfOpenPermits++;
+                }
+                permit = generation;
+            }
+            notify(transition);
+            return permit;
+        }
+
+        /**
+         * Records the outcome of a call.
+         * <p>
+         * The outcome is ignored if the permit was acquired before the last state transition.
+         *
+         * @param permit the permit returned by {@link #acquire(long)}
+         * @param now the current time
+         * @param elapsedNanos the duration of the call
+         * @param error the error of the call, or {@code null} if it succeeded
+         */
+        public void onResult(long permit, long now, long elapsedNanos, Throwable error) {
+            if (error instanceof CircuitBreakerOpenException)
+                return;
+
+            StateTransition transition = null;
+            synchronized (this) {
+                if (permit != generation || state == State.OPEN)
+                    return;
+
+                boolean failure = nonNull(error) && recordFailure.test(error);
+                boolean slow = elapsedNanos >= slowCallNanos;
+                record(failure, slow);
+
+                int required = state == State.HALF_OPEN ? permittedCallsInHalfOpenState : minimumNumberOfCalls;
+                if (recorded >= required) {
+                    float failureRate = (float) failures / recorded;
+                    float slowCallRate = (float) slowCalls / recorded;
+                    boolean tripped = failureRate >= failureRateThreshold || slowCallRate >= slowCallRateThreshold;
+
+                    if (tripped)
+                        transition = transition(State.OPEN, failureRate, slowCallRate, now);
+                    else if (state == State.HALF_OPEN)
+                        transition = transition(State.CLOSED, failureRate, slowCallRate, now);
+                }
+            }
+            notify(transition);
+        }
+
+        /**
+         * Gives back the permit of a call whose outcome is unknown, so that a half-open circuit can send another probe.
+         *
+         * @param permit the permit returned by {@link #acquire(long)}
+         */
+        public synchronized void release(long permit) {
+            if (permit == generation && state == State.HALF_OPEN && halfOpenPermits > 0)
+                halfOpenPermits--;
+        }
+
+        private void record(boolean failure, boolean slow) {
+            if (recorded == outcomes.length) {
+                var evicted = outcomes[next];
+                failures -= evicted & 1;
+                slowCalls -= (evicted >> 1) & 1;
+            } else {
+                recorded++;
+            }
+
+            outcomes[next] = (byte) ((failure ? 1 : 0) | (slow ? 2 : 0));
+            failures += failure ? 1 : 0;
+            slowCalls += slow ? 1 : 0;
+            next = (next + 1) % outcomes.length;
+        }
+
+        private StateTransition transition(State to, float failureRate, float slowCallRate, long now) {
+            var from = state;
+            state = to;
+            generation++;
+            next = recorded = failures = slowCalls = halfOpenPermits = 0;
+            if (to == State.OPEN)
+                openedAt = now;
+            return new StateTransition(name, from, to, failureRate, slowCallRate, Instant.now());
+        }
+
+        private void notify(StateTransition transition) {
+            if (isNull(transition))
+                return;
+
+            if (transition.to() == State.OPEN)
+                logger.warn("Circuit breaker '{}' is open (failure rate: {}, slow-call rate: {})", name, transition.failureRate(),
+                    transition.slowCallRate());
+            else
+                logger.info("Circuit breaker '{}' is {}", name, transition.to());
+
+            for (var listener : listeners) {
+                try {
+                    listener.accept(transition);
+                } catch (RuntimeException e) {
+                    logger.warn("Circuit breaker listener failed", e);
+                }
+            }
+        }
+
+        /**
+         * Returns the metrics of the circuit.
+         *
+         * @return the {@link Metrics}
+         */
+        public synchronized Metrics metrics() {
+            boolean enough = recorded >= (state == State.HALF_OPEN ? permittedCallsInHalfOpenState : minimumNumberOfCalls);
+            return new Metrics(name, state, enough ? (float) failures / recorded : -1, enough ? (float) slowCalls / recorded : -1, recorded,
+                notPermittedCalls);
+        }
+    }
+
+    /**
+     * Returns a new {@link Builder} instance.
+     *
+     * @return {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link CircuitBreakerInterceptor}.
+     */
+    public static final class Builder {
+        private float failureRateThreshold = 0.5f;
+        private float slowCallRateThreshold = 1.0f;
+        private Duration slowCallDuration = Duration.ofSeconds(60);
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+        private int permittedCallsInHalfOpenState = 3;
+        private Predicate<Throwable> recordFailure = CircuitBreakerInterceptor::isFailure;
+        private Function<HttpRequest, String> circuitName = CircuitBreakerInterceptor::circuitName;
+        private final List<Consumer<StateTransition>> listeners = new ArrayList<>();
+
+        private Builder() {}
+
+        /**
+         * Sets the failure rate at which a circuit opens.
+         *
+         * @param failureRateThreshold the failure rate, between 0 and 1, defaults to 0.5
+         * @return {@code Builder} instance for method chaining.
+         */
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            this.failureRateThreshold = (float) failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the rate of slow calls at which a circuit opens.
+         *
+         * @param slowCallRateThreshold the slow-call rate, between 0 and 1, defaults to 1
+         * @return {@code Builder} instance for method chaining.
+         */
+        public Builder slowCallRateThreshold(double slowCallRateThreshold) {
+            this.slowCallRateThreshold = (float) slowCallRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the duration above which a call is slow.
+         *
+         * @param slowCallDuration the slow-call duration, defaults to 60 seconds
+         * @return {@code Builder} instance for method chaining.
+         */
+        public Builder slowCallDuration(Duration slowCallDuration) {
+            this.slowCallDuration = slowCallDuration;
+            return this;
+        }
+
+        /**
+         * Sets the number of latest calls recorded by a circuit.
+         *
+         * @param slidingWindowSize the size of the sliding window, defaults to 20
+         * @return {@code Builder} instance for method chaining.
+         */
+        public Builder slidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of calls to record before the failure and slow-call rates are evaluated.
+         *
+         * @param minimumNumberOfCalls the minimum number of calls, defaults to 10
+         * @return {@code Builder} instance for method chaining.
+         */
+        public Builder minimumNumberOfCalls(int minimumNumberOfCalls) {
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+            return this;
+        }
+
+        /**
+         * Sets the time during which an open circuit rejects the requests before becoming half-open.
+         *
+         * @param waitDurationInOpenState the wait duration, defaults to 30 seconds
+         * @return {@code Builder} instance for method chaining.
+         */
+        public Builder waitDurationInOpenState(Duration waitDurationInOpenState) {
+            this.waitDurationInOpenState = waitDurationInOpenState;
+            return this;
+        }
+
+        /**
+         * Sets the number of probe requests sent by a half-open circuit.
+         *
+         * @param permittedCallsInHalfOpenState the number of probe requests, defaults to 3
+         * @return {@code Builder} instance for method chaining.
+         */
+        public Builder permittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+            this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+            return this;
+        }
+
+        /**
+         * Sets the predicate deciding whether an error is a failure; the other errors count as successful calls.
+         *
+         * @param recordFailure the predicate
+         * @return {@code Builder} instance for method chaining.
+         */
+        public Builder recordFailure(Predicate<Throwable> recordFailure) {
+            this.recordFailure = recordFailure;
+            return this;
+        }
+
+        /**
+         * Sets the function returning the name of the circuit of a request.
+         *
+         * @param circuitName the function, defaults to {@link CircuitBreakerInterceptor#circuitName(HttpRequest)}
+         * @return {@code Builder} instance for method chaining.
+         */
+        public Builder circuitName(Function<HttpRequest, String> circuitName) {
+            this.circuitName = circuitName;
+            return this;
+        }
+
+        /**
+         * Adds a listener notified of the state transitions of the circuits.
+         *
+         * @param listener the listener
+         * @return {@code Builder} instance for method chaining.
+         */
+        public Builder onStateTransition(Consumer<StateTransition> listener) {
+            listeners.add(requireNonNull(listener, "listener cannot be null"));
+            return this;
+        }
+
+        /**
+         * Builds a new {@code CircuitBreakerInterceptor} with the configured parameters.
+         *
+         * @return a new {@code CircuitBreakerInterceptor} instance.
+         */
+        public CircuitBreakerInterceptor build() {
+            return new CircuitBreakerInterceptor(this);
+        }
+    }
+}
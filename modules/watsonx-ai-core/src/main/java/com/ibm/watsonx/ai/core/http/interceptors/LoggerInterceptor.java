@@ -7,6 +7,7 @@ package com.ibm.watsonx.ai.core.http.interceptors;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNullElse;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.http.HttpRequest;
@@ -14,18 +15,25 @@ import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandler;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.ibm.watsonx.ai.core.HttpUtils;
 import com.ibm.watsonx.ai.core.Json;
+import com.ibm.watsonx.ai.core.LoggingConfig;
 import com.ibm.watsonx.ai.core.exception.WatsonxException;
 import com.ibm.watsonx.ai.core.http.AsyncHttpInterceptor;
 import com.ibm.watsonx.ai.core.http.SyncHttpInterceptor;
@@ -33,6 +41,16 @@ import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 
 /**
  * Interceptor that logs HTTP requests and responses.
+ * <p>
+ * By default, the bodies are read, masked and formatted on the thread that sends the request. In asynchronous mode, the interceptor only captures the
+ * bodies and hands them to a bounded buffer drained by a single background thread, which performs the masking, the formatting and the write. When the
+ * buffer is full the log entry is dropped instead of slowing down the request; the number of dropped entries is returned by
+ * {@link #droppedLogCount()}.
+ * <p>
+ * The size of the logged bodies can be limited to {@code maxBodyLength} characters, and {@code sampleRate} logs only one HTTP exchange every
+ * {@code N}. The defaults of these options are read from {@link LoggingConfig}.
+ *
+ * @see LoggingConfig
  */
 public final class LoggerInterceptor implements SyncHttpInterceptor, AsyncHttpInterceptor {
 
@@ -43,18 +61,26 @@ public final class LoggerInterceptor implements SyncHttpInterceptor, AsyncHttpIn
     private static final Pattern JSON_SECRET_PATTERN =
         Pattern.compile("\"([^\"]*(?:api[_-]?key|password|secret|access_token|refresh_token)[^\"]*)\"\\s*:\\s*\"[^\"]*\"", Pattern.CASE_INSENSITIVE);
 
+    // Matches a secret value cut by the truncation of the body, which has no closing quote.
+    private static final Pattern TRUNCATED_JSON_SECRET_PATTERN =
+        Pattern.compile("\"([^\"]*(?:api[_-]?key|password|secret|access_token|refresh_token)[^\"]*)\"\\s*:\\s*\"[^\"]*$", Pattern.CASE_INSENSITIVE);
+
     private static final Pattern FORM_SECRET_PATTERN =
         Pattern.compile("(api[_-]?key|password|secret|access_token|refresh_token)=([^&\\s]*)", Pattern.CASE_INSENSITIVE);
 
     private final boolean logRequest;
     private final boolean logResponse;
+    private final boolean async;
+    private final int maxBodyLength;
+    private final int maxBodyBytes;
+    private final int sampleRate;
+    private final AtomicLong exchanges = new AtomicLong();
 
     /**
      * Constructs a LoggerInterceptor with default log mode (BOTH).
      */
     public LoggerInterceptor() {
-        this.logRequest = true;
-        this.logResponse = true;
+        this(true, true);
     }
 
     /**
@@ -64,8 +90,7 @@ public final class LoggerInterceptor implements SyncHttpInterceptor, AsyncHttpIn
      * @param logResponse {@code true} to enable logging of incoming responses, {@code false} to disable
      */
     public LoggerInterceptor(boolean logRequest, boolean logResponse) {
-        this.logRequest = logRequest;
-        this.logResponse = logResponse;
+        this(builder().mode(LogMode.of(logRequest, logResponse)));
     }
 
     /**
@@ -74,7 +99,11 @@ public final class LoggerInterceptor implements SyncHttpInterceptor, AsyncHttpIn
      * @param mode The log mode.
      */
     public LoggerInterceptor(LogMode mode) {
-        mode = requireNonNullElse(mode, LogMode.BOTH);
+        this(builder().mode(mode));
+    }
+
+    private LoggerInterceptor(Builder builder) {
+        var mode = requireNonNullElse(builder.mode, LogMode.BOTH);
         switch(mode) {
             case BOTH -> {
                 this.logRequest = true;
@@ -94,67 +123,147 @@ public final class LoggerInterceptor implements SyncHttpInterceptor, AsyncHttpIn
             }
             default -> throw new IllegalStateException("Unknown log mode: " + mode);
         }
+
+        async = requireNonNullElse(builder.async, LoggingConfig.asyncEnabled());
+        maxBodyLength = requireNonNullElse(builder.maxBodyLength, LoggingConfig.maxBodyLength());
+        sampleRate = requireNonNullElse(builder.sampleRate, LoggingConfig.sampleRate());
+
+        if (maxBodyLength <= 0)
+            throw new IllegalArgumentException("maxBodyLength must be greater than 0");
+
+        // A UTF-16 char is encoded in at most 3 bytes, reading 3 * maxBodyLength bytes of the request is enough to log maxBodyLength characters.
+        maxBodyBytes = (int) Math.min(3L * maxBodyLength, Integer.MAX_VALUE - 8);
+
+        if (sampleRate <= 0)
+            throw new IllegalArgumentException("sampleRate must be greater than 0");
+    }
+
+    /**
+     * Returns the number of log entries dropped because the asynchronous logging buffer was full.
+     *
+     * @return the number of dropped log entries since the start of the application
+     */
+    public static long droppedLogCount() {
+        return AsyncLogWriter.DROPPED.sum();
+    }
+
+    /**
+     * Returns a new {@link Builder} instance.
+     *
+     * @return {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
     }
 
     @Override
     public <T> CompletableFuture<HttpResponse<T>> intercept(HttpRequest request, BodyHandler<T> bodyHandler, int index, AsyncChain chain) {
-        return CompletableFuture
-            .runAsync(() -> logRequest(request), ExecutorProvider.ioExecutor())
+        if (!sampled())
+            return chain.proceed(request, bodyHandler);
+
+        var logged = async
+            ? CompletableFuture.runAsync(() -> logRequest(request), Runnable::run)
+            : CompletableFuture.runAsync(() -> logRequest(request), ExecutorProvider.ioExecutor());
+
+        return logged
             .thenCompose(v -> chain.proceed(request, bodyHandler))
             .whenComplete((response, exception) -> {
                 var watsonxSDKRequestId = request.headers().firstValue("Watsonx-AI-SDK-Request-Id").orElse("");
                 if (isNull(exception))
-                    logResponse(watsonxSDKRequestId, response);
+                    dispatch(() -> logResponse(watsonxSDKRequestId, response));
                 else
-                    logResponse(watsonxSDKRequestId, exception);
+                    dispatch(() -> logResponse(watsonxSDKRequestId, exception));
             });
     }
 
     @Override
     public <T> HttpResponse<T> intercept(HttpRequest request, BodyHandler<T> bodyHandler, int index, Chain chain)
         throws WatsonxException, IOException, InterruptedException {
+        if (!sampled())
+            return chain.proceed(request, bodyHandler);
+
         logRequest(request);
         var watsonxSDKRequestId = request.headers().firstValue("Watsonx-AI-SDK-Request-Id").orElse("");
         try {
             var response = chain.proceed(request, bodyHandler);
-            logResponse(watsonxSDKRequestId, response);
+            dispatch(() -> logResponse(watsonxSDKRequestId, response));
             return response;
         } catch (RuntimeException e) {
-            logResponse(watsonxSDKRequestId, e);
+            dispatch(() -> logResponse(watsonxSDKRequestId, e));
             throw e;
         }
     }
 
+    /**
+     * Returns whether the current HTTP exchange must be logged, according to the sampling rate.
+     */
+    private boolean sampled() {
+        if ((!logRequest && !logResponse) || !logger.isInfoEnabled())
+            return false;
+
+        return sampleRate == 1 || exchanges.getAndIncrement() % sampleRate == 0;
+    }
+
+    /**
+     * Runs the given formatting task on the background thread in asynchronous mode, on the current thread otherwise.
+     */
+    private void dispatch(Runnable task) {
+        if (async)
+            AsyncLogWriter.submit(task);
+        else
+            task.run();
+    }
+
     private void logRequest(HttpRequest request) {
         if (!logRequest || !logger.isInfoEnabled())
             return;
 
         Optional<BodyPublisher> maybePublisher = request.bodyPublisher();
         if (maybePublisher.isEmpty()) {
-            logRequest(request, null);
+            dispatch(() -> logRequest(request, null, false));
             return;
         }
 
         BodyPublisher publisher = maybePublisher.get();
 
         if (isNonRepeatablePublisher(publisher)) {
-            logRequest(request, "[non-repeatable body skipped]");
+            dispatch(() -> logRequest(request, "[non-repeatable body skipped]", false));
             return;
         }
 
         publisher.subscribe(new Subscriber<>() {
-            private StringBuilder builder;
+            private ByteArrayOutputStream body;
+            private Subscription subscription;
+            private boolean done;
 
             @Override
             public void onSubscribe(Subscription subscription) {
-                builder = new StringBuilder();
+                this.subscription = subscription;
+                body = new ByteArrayOutputStream();
                 subscription.request(Long.MAX_VALUE);
             }
 
             @Override
             public void onNext(ByteBuffer item) {
-                String body = StandardCharsets.UTF_8.decode(item).toString();
-                builder.append(body);
+                if (done)
+                    return;
+
+                int length = Math.min(item.remaining(), maxBodyBytes - body.size());
+                if (item.hasArray()) {
+                    body.write(item.array(), item.arrayOffset() + item.position(), length);
+                } else {
+                    var bytes = new byte[length];
+                    item.duplicate().get(bytes);
+                    body.write(bytes, 0, length);
+                }
+
+                if (length < item.remaining() || body.size() >= maxBodyBytes) {
+                    // The rest of the body is not logged, stop reading it.
+                    done = true;
+                    subscription.cancel();
+                    var bytes = body.toByteArray();
+                    dispatch(() -> logRequest(request, truncate(decodeUtf8Prefix(bytes)), true));
+                }
             }
 
             @Override
@@ -164,7 +273,16 @@ public final class LoggerInterceptor implements SyncHttpInterceptor, AsyncHttpIn
 
             @Override
             public void onComplete() {
-                logRequest(request, builder.toString());
+                if (done)
+                    return;
+
+                done = true;
+                var bytes = body.toByteArray();
+                dispatch(() -> {
+                    var text = new String(bytes, StandardCharsets.UTF_8);
+                    var truncated = text.length() > maxBodyLength;
+                    logRequest(request, truncated ? truncate(text) : text, truncated);
+                });
             }
         });
     }
@@ -218,9 +336,10 @@ public final class LoggerInterceptor implements SyncHttpInterceptor, AsyncHttpIn
             }
 
             if (nonNull(body)) {
-                body = maskSecrets(body);
-                body = prettyPrint ? Json.prettyPrint(body) : body;
-                joiner.add("- body: " + body);
+                var truncated = body.length() > maxBodyLength;
+                body = maskSecrets(truncated ? truncate(body) : body);
+                body = prettyPrint && !truncated ? Json.prettyPrint(body) : body;
+                joiner.add("- body: " + (truncated ? truncationNotice(body) : body));
             }
 
             logger.info(joiner.toString());
@@ -230,7 +349,7 @@ public final class LoggerInterceptor implements SyncHttpInterceptor, AsyncHttpIn
         }
     }
 
-    private void logRequest(HttpRequest request, String body) {
+    private void logRequest(HttpRequest request, String body, boolean truncated) {
         String headers = null;
         StringJoiner joiner = new StringJoiner("\n", "Request:\n", "");
         joiner.add("- method: " + request.method());
@@ -245,10 +364,10 @@ public final class LoggerInterceptor implements SyncHttpInterceptor, AsyncHttpIn
 
                 var contentType = request.headers().firstValue("Content-Type");
 
-                if (contentType.isPresent() && contentType.get().contains("application/json"))
+                if (!truncated && contentType.isPresent() && contentType.get().contains("application/json"))
                     body = Json.prettyPrint(body);
 
-                joiner.add("- body: " + body);
+                joiner.add("- body: " + (truncated ? truncationNotice(body) : body));
             }
         }
 
@@ -275,6 +394,10 @@ public final class LoggerInterceptor implements SyncHttpInterceptor, AsyncHttpIn
         jsonMatcher.appendTail(sb);
         body = sb.toString();
 
+        Matcher truncatedMatcher = TRUNCATED_JSON_SECRET_PATTERN.matcher(body);
+        if (truncatedMatcher.find())
+            body = body.substring(0, truncatedMatcher.start()) + "\"" + truncatedMatcher.group(1) + "\": \"***";
+
         Matcher formMatcher = FORM_SECRET_PATTERN.matcher(body);
         sb = new StringBuilder();
 
@@ -300,6 +423,130 @@ public final class LoggerInterceptor implements SyncHttpInterceptor, AsyncHttpIn
         return sb.toString();
     }
 
+    /**
+     * Returns the first {@code maxBodyLength} characters of the body, without splitting a surrogate pair.
+     */
+    private String truncate(String body) {
+        if (body.length() <= maxBodyLength)
+            return body;
+
+        int end = Character.isHighSurrogate(body.charAt(maxBodyLength - 1)) ? maxBodyLength - 1 : maxBodyLength;
+        return body.substring(0, end);
+    }
+
+    /**
+     * Decodes the beginning of a UTF-8 body, the incomplete character at the end of the bytes is dropped.
+     */
+    private static String decodeUtf8Prefix(byte[] bytes) {
+        var decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        var chars = CharBuffer.allocate(bytes.length);
+        decoder.decode(ByteBuffer.wrap(bytes), chars, false);
+        return chars.flip().toString();
+    }
+
+    private String truncationNotice(String body) {
+        return body + "... [truncated to " + maxBodyLength + " characters]";
+    }
+
+    /**
+     * Bounded buffer of log entries drained by a single daemon thread, shared by all the asynchronous {@link LoggerInterceptor}s.
+     */
+    private static final class AsyncLogWriter {
+        private static final LongAdder DROPPED = new LongAdder();
+        private static final BlockingQueue<Runnable> QUEUE = new ArrayBlockingQueue<>(LoggingConfig.asyncBufferSize());
+
+        static {
+            var thread = new Thread(AsyncLogWriter::drain, "watsonx-ai-logger");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        static void submit(Runnable task) {
+            if (!QUEUE.offer(task))
+                DROPPED.increment();
+        }
+
+        private static void drain() {
+            while (true) {
+                try {
+                    QUEUE.take().run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to write log entry", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Builder class for constructing {@link LoggerInterceptor} instances.
+     * <p>
+     * The options that are not set default to the values of {@link LoggingConfig}.
+     */
+    public static final class Builder {
+        private LogMode mode;
+        private Boolean async;
+        private Integer maxBodyLength;
+        private Integer sampleRate;
+
+        private Builder() {}
+
+        /**
+         * Sets which parts of the HTTP transaction are logged.
+         * <p>
+         * Defaults to {@link LogMode#BOTH}.
+         *
+         * @param mode the log mode
+         */
+        public Builder mode(LogMode mode) {
+            this.mode = mode;
+            return this;
+        }
+
+        /**
+         * Sets whether the logs are formatted and written on a background thread.
+         *
+         * @param async {@code true} to enable asynchronous logging
+         */
+        public Builder async(boolean async) {
+            this.async = async;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of characters logged for a request or response body.
+         *
+         * @param maxBodyLength the maximum body length
+         */
+        public Builder maxBodyLength(int maxBodyLength) {
+            this.maxBodyLength = maxBodyLength;
+            return this;
+        }
+
+        /**
+         * Logs only one HTTP exchange every {@code sampleRate}.
+         *
+         * @param sampleRate the sampling rate
+         */
+        public Builder sampleRate(int sampleRate) {
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        /**
+         * Builds a {@link LoggerInterceptor} instance using the configured parameters.
+         *
+         * @return a new instance of {@link LoggerInterceptor}
+         */
+        public LoggerInterceptor build() {
+            return new LoggerInterceptor(this);
+        }
+    }
+
     /**
      * Specifies which parts of the HTTP transaction should be logged.
      */
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.core.provider;
+
+import static java.util.Objects.nonNull;
+import java.io.IOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpResponse.PushPromiseHandler;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.ibm.watsonx.ai.core.http.TransportConfig;
+
+/**
+ * {@link HttpClient} spreading the requests sent to a host over several {@link HttpClient} instances, each one holding its own connection.
+ * <p>
+ * A request is sent with the first client having less than {@code maxStreamsPerConnection} requests in flight, so that additional connections are
+ * only opened under load. When all the clients are busy, the least loaded one is used.
+ */
+final class HttpClientPool extends HttpClient {
+    private static final Logger logger = LoggerFactory.getLogger(HttpClientPool.class);
+    private static final Duration WARM_UP_TIMEOUT = Duration.ofSeconds(10);
+
+    private final List<HttpClient> clients;
+    private final AtomicInteger[] inFlight;
+    private final int maxStreamsPerConnection;
+
+    HttpClientPool(List<HttpClient> clients, TransportConfig transport) {
+        this.clients = List.copyOf(clients);
+        this.maxStreamsPerConnection = transport.maxStreamsPerConnection();
+        this.inFlight = IntStream.range(0, clients.size()).mapToObj(i -> new AtomicInteger()).toArray(AtomicInteger[]::new);
+    }
+
+    /**
+     * Opens a connection with every client of the pool.
+     * <p>
+     * A {@code HEAD} request is sent to the given URI and its response is ignored: the goal is to perform the TCP and TLS handshakes before the first
+     * real request.
+     *
+     * @param uri the URI of the host
+     * @return a {@link CompletableFuture} completed when all the connections are open or failed
+     */
+    CompletableFuture<Void> warmUp(URI uri) {
+        var request = HttpRequest.newBuilder(uri)
+            .method("HEAD", BodyPublishers.noBody())
+            .timeout(WARM_UP_TIMEOUT)
+            .build();
+
+        var futures = clients.stream()
+            .map(client -> client.sendAsync(request, BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    if (nonNull(error))
+                        logger.debug("Connection warm-up to {} failed", uri, error);
+                    return null;
+                }))
+            .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Returns the number of requests in flight on each client of the pool.
+     *
+     * @return the number of requests in flight, in the order of the clients
+     */
+    int[] inFlight() {
+        return IntStream.range(0, inFlight.length).map(i -> inFlight[i].get()).toArray();
+    }
+
+    private int select() {
+        int leastLoaded = 0;
+        for (int i = 0; i < inFlight.length; i++) {
+            int count = inFlight[i].get();
+            if (count < maxStreamsPerConnection)
+                return i;
+            if (count < inFlight[leastLoaded].get())
+                leastLoaded = i;
+        }
+        return leastLoaded;
+    }
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> responseBodyHandler) throws IOException, InterruptedException {
+        int index = select();
+        inFlight[index].incrementAndGet();
+        try {
+            return clients.get(index).send(request, responseBodyHandler);
+        } finally {
+            inFlight[index].decrementAndGet();
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, BodyHandler<T> responseBodyHandler) {
+        return sendAsync(request, responseBodyHandler, null);
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, BodyHandler<T> responseBodyHandler,
+        PushPromiseHandler<T> pushPromiseHandler) {
+        int index = select();
+        inFlight[index].incrementAndGet();
+        try {
+            return clients.get(index).sendAsync(request, responseBodyHandler, pushPromiseHandler)
+                .whenComplete((response, error) -> inFlight[index].decrementAndGet());
+        } catch (RuntimeException e) {
+            inFlight[index].decrementAndGet();
+            throw e;
+        }
+    }
+
+    @Override
+    public WebSocket.Builder newWebSocketBuilder() {
+        return clients.get(0).newWebSocketBuilder();
+    }
+
+    @Override
+    public Optional<CookieHandler> cookieHandler() {
+        return clients.get(0).cookieHandler();
+    }
+
+    @Override
+    public Optional<Duration> connectTimeout() {
+        return clients.get(0).connectTimeout();
+    }
+
+    @Override
+    public Redirect followRedirects() {
+        return clients.get(0).followRedirects();
+    }
+
+    @Override
+    public Optional<ProxySelector> proxy() {
+        return clients.get(0).proxy();
+    }
+
+    @Override
+    public SSLContext sslContext() {
+        return clients.get(0).sslContext();
+    }
+
+    @Override
+    public SSLParameters sslParameters() {
+        return clients.get(0).sslParameters();
+    }
+
+    @Override
+    public Optional<Authenticator> authenticator() {
+        return clients.get(0).authenticator();
+    }
+
+    @Override
+    public Version version() {
+        return clients.get(0).version();
+    }
+
+    @Override
+    public Optional<Executor> executor() {
+        return clients.get(0).executor();
+    }
+}
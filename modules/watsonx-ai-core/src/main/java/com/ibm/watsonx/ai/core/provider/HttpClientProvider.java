@@ -5,20 +5,34 @@
 package com.ibm.watsonx.ai.core.provider;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import java.net.URI;
 import java.net.http.HttpClient;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
+import com.ibm.watsonx.ai.core.http.TransportConfig;
 
 /**
  * Provides instances of {@link HttpClient}.
+ * <p>
+ * Without a {@link TransportConfig}, all the services share the same {@link HttpClient} instance. With a {@link TransportConfig}, each host gets its
+ * own pool of {@link HttpClient} instances, shared by the services using the same configuration.
  */
 public final class HttpClientProvider {
 
+    private record PoolKey(String scheme, String host, int port, boolean verifySsl, TransportConfig transport) {}
+
     private static volatile HttpClient secureClient;
     private static volatile HttpClient insecureClient;
+    private static final Map<PoolKey, HttpClientPool> pools = new ConcurrentHashMap<>();
 
     private HttpClientProvider() {}
 
@@ -32,6 +46,71 @@ public final class HttpClientProvider {
         return verifySsl ? secureClient() : insecureClient();
     }
 
+    /**
+     * Returns the {@link HttpClient} to use to send requests to the given URL.
+     * <p>
+     * If {@code transport} is {@code null}, this method returns the same instance as {@link #httpClient(boolean)}. Otherwise the returned client
+     * spreads the requests over a pool of connections dedicated to the host of the URL, and the connections are opened in the background if
+     * {@link TransportConfig#warmUp()} is enabled.
+     *
+     * @param url the URL of the service
+     * @param verifySsl if {@code true}, SSL certificates are validated; if {@code false}, all certificates are accepted (insecure)
+     * @param transport the transport configuration, can be {@code null}
+     * @return HttpClient instance
+     */
+    public static HttpClient httpClient(String url, boolean verifySsl, TransportConfig transport) {
+        if (isNull(transport) || isNull(url))
+            return httpClient(verifySsl);
+
+        var uri = URI.create(url);
+        var key = new PoolKey(uri.getScheme(), uri.getHost(), uri.getPort(), verifySsl, transport);
+        var created = new boolean[1];
+        var pool = pools.computeIfAbsent(key, k -> {
+            created[0] = true;
+            return createPool(verifySsl, transport);
+        });
+
+        if (created[0] && transport.warmUp())
+            pool.warmUp(URI.create(uri.getScheme() + "://" + uri.getRawAuthority() + "/"));
+
+        return pool;
+    }
+
+    /**
+     * Opens the connections of the given {@link HttpClient} to the host of the URL.
+     * <p>
+     * For a client returned by {@link #httpClient(String, boolean, TransportConfig)}, a connection is opened for every client of the pool. The
+     * returned future never completes exceptionally: a failed warm-up only means that the connection will be opened by the first request.
+     *
+     * @param httpClient the {@link HttpClient} to warm up
+     * @param url the URL of the service
+     * @return a {@link CompletableFuture} completed when the connections are open or failed
+     */
+    public static CompletableFuture<Void> warmUp(HttpClient httpClient, String url) {
+        var uri = URI.create(url);
+        var root = URI.create(uri.getScheme() + "://" + uri.getRawAuthority() + "/");
+        var pool = httpClient instanceof HttpClientPool p ? p : new HttpClientPool(List.of(httpClient), TransportConfig.builder().build());
+        return pool.warmUp(root);
+    }
+
+    private static HttpClientPool createPool(boolean verifySsl, TransportConfig transport) {
+        var clients = new ArrayList<HttpClient>(transport.maxConnectionsPerHost());
+        for (int i = 0; i < transport.maxConnectionsPerHost(); i++) {
+            var builder = HttpClient.newBuilder()
+                .executor(ExecutorProvider.ioExecutor())
+                .version(transport.httpVersion());
+
+            if (nonNull(transport.connectTimeout()))
+                builder.connectTimeout(transport.connectTimeout());
+
+            if (!verifySsl)
+                builder.sslContext(createInsecureSslContext());
+
+            clients.add(builder.build());
+        }
+        return new HttpClientPool(clients, transport);
+    }
+
     /**
      * Returns the singleton secure {@link HttpClient} instance that validates SSL/TLS certificates.
      *
@@ -4,12 +4,17 @@
  */
 package com.ibm.watsonx.ai.core.provider;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.isNull;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.ibm.watsonx.ai.core.exception.JsonException;
@@ -18,20 +23,39 @@ import com.ibm.watsonx.ai.core.spi.json.TypeToken;
 
 /**
  * Default SPI implementation of {@link JsonProvider} using Jackson.
+ * <p>
+ * The no-arg constructor registers every Jackson {@link Module} found on the classpath. To skip the classpath scan and register only the modules
+ * needed by the SDK, use {@link #JacksonProvider(Module...)}.
  */
 public final class JacksonProvider implements JsonProvider {
 
     private final ObjectMapper objectMapper;
 
     /**
-     * Constructs a {@code JacksonProvider} instance with default configuration.
+     * Constructs a {@code JacksonProvider} instance with default configuration, registering the Jackson modules discovered on the classpath via
+     * {@link java.util.ServiceLoader}.
      */
     public JacksonProvider() {
+        this(ObjectMapper.findModules());
+    }
+
+    /**
+     * Constructs a {@code JacksonProvider} instance with default configuration, registering exactly the given Jackson modules.
+     * <p>
+     * No classpath scan is performed, which reduces the startup time and makes the configuration independent of the other libraries on the classpath.
+     *
+     * @param modules the Jackson modules to register
+     */
+    public JacksonProvider(Module... modules) {
+        this(List.of(modules));
+    }
+
+    private JacksonProvider(List<Module> modules) {
         this.objectMapper = new ObjectMapper()
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .setDefaultPropertyInclusion(Include.NON_NULL)
             .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
-            .findAndRegisterModules();
+            .registerModules(modules);
     }
 
     @Override
@@ -53,6 +77,25 @@ public final class JacksonProvider implements JsonProvider {
         }
     }
 
+    @Override
+    public <T> T fromJson(byte[] json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (IOException e) {
+            throw new JsonException("Failed to deserialize JSON: '" + new String(json, UTF_8) + "'", e);
+        }
+    }
+
+    @Override
+    public <T> T fromJson(byte[] json, TypeToken<T> type) {
+        try {
+            JavaType javaType = objectMapper.getTypeFactory().constructType(type.getType());
+            return objectMapper.readValue(json, javaType);
+        } catch (IOException e) {
+            throw new JsonException("Failed to deserialize JSON: '" + new String(json, UTF_8) + "'", e);
+        }
+    }
+
     @Override
     public String toJson(Object obj) {
         try {
@@ -62,6 +105,20 @@ public final class JacksonProvider implements JsonProvider {
         }
     }
 
+    @Override
+    public void prime(Type... types) {
+        for (Type type : types) {
+            // Both are prefetched eagerly and kept in the shared serializer and deserializer caches of the mapper.
+            try {
+                JavaType javaType = objectMapper.getTypeFactory().constructType(type);
+                objectMapper.writerFor(javaType);
+                objectMapper.readerFor(javaType);
+            } catch (RuntimeException e) {
+                // Best effort: the error, if any, is reported by the first real conversion.
+            }
+        }
+    }
+
     @Override
     public String prettyPrint(Object obj) {
         try {
@@ -4,6 +4,8 @@
  */
 package com.ibm.watsonx.ai.core.spi.json;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import java.lang.reflect.Type;
 import com.ibm.watsonx.ai.core.exception.JsonException;
 
 /**
@@ -36,6 +38,36 @@ public interface JsonProvider {
      */
     <T> T fromJson(String json, TypeToken<T> typeToken);
 
+    /**
+     * Deserializes UTF-8 encoded JSON content into an instance of the specified class.
+     * <p>
+     * The default implementation decodes the content to a {@link String}; implementations able to parse bytes directly should override it.
+     *
+     * @param json the UTF-8 encoded JSON content
+     * @param clazz the target class
+     * @param <T> the result type
+     * @return the deserialized object
+     * @throws JsonException if the content cannot be deserialized into the target class
+     */
+    default <T> T fromJson(byte[] json, Class<T> clazz) {
+        return fromJson(new String(json, UTF_8), clazz);
+    }
+
+    /**
+     * Deserializes UTF-8 encoded JSON content into an object of the specified generic type.
+     * <p>
+     * The default implementation decodes the content to a {@link String}; implementations able to parse bytes directly should override it.
+     *
+     * @param json the UTF-8 encoded JSON content
+     * @param typeToken the {@code TypeToken} representing the target generic type
+     * @param <T> the type of the resulting object
+     * @return the deserialized object
+     * @throws JsonException if the content cannot be deserialized into the target type
+     */
+    default <T> T fromJson(byte[] json, TypeToken<T> typeToken) {
+        return fromJson(new String(json, UTF_8), typeToken);
+    }
+
     /**
      * Serializes an object to its JSON representation.
      *
@@ -63,4 +95,13 @@ public interface JsonProvider {
      * @return {@code true} if the string is a valid JSON object, {@code false} otherwise
      */
     boolean isValidObject(String json);
+
+    /**
+     * Prepares the serializers and deserializers of the given types, so that the first call converting them does not pay for their creation.
+     * <p>
+     * This is a best-effort optimization: the default implementation does nothing, and implementations must not throw if a type cannot be prepared.
+     *
+     * @param types the types to prepare
+     */
+    default void prime(Type... types) {}
 }
@@ -19,6 +19,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,6 +37,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -47,6 +50,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.mockito.stubbing.Answer;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.ibm.watsonx.ai.core.auth.Authenticator;
 import com.ibm.watsonx.ai.core.exception.AuthenticationTokenExpiredException;
 import com.ibm.watsonx.ai.core.exception.AuthorizationRejectedException;
 import com.ibm.watsonx.ai.core.exception.InvalidInputArgumentException;
@@ -58,8 +62,11 @@ import com.ibm.watsonx.ai.core.exception.ModelNotSupportedException;
 import com.ibm.watsonx.ai.core.exception.TokenQuotaReachedException;
 import com.ibm.watsonx.ai.core.exception.UserAuthorizationFailedException;
 import com.ibm.watsonx.ai.core.exception.WatsonxException;
+import com.ibm.watsonx.ai.core.factory.HttpClientFactory;
 import com.ibm.watsonx.ai.core.http.AsyncHttpClient;
 import com.ibm.watsonx.ai.core.http.AsyncHttpInterceptor;
+import com.ibm.watsonx.ai.core.http.HedgingPolicy;
+import com.ibm.watsonx.ai.core.http.interceptors.LoggerInterceptor.LogMode;
 import com.ibm.watsonx.ai.core.http.interceptors.RetryInterceptor;
 
 @SuppressWarnings("unchecked")
@@ -746,4 +753,93 @@ public class AsyncHttpClientTest {
         assertEquals(WatsonxException.class, ex.getCause().getClass());
         assertTrue(ex.getMessage().contains("exception_that_doesn_t_exist"));
     }
+
+    @Test
+    void should_hedge_slow_requests() throws Exception {
+
+        var slow = new CompletableFuture<HttpResponse<String>>();
+        var calls = new AtomicInteger();
+        when(httpClient.sendAsync(any(), any())).thenAnswer(invocation -> calls.incrementAndGet() == 6 ? slow : completedFuture(httpResponse));
+        when(httpResponse.body()).thenReturn("ok");
+
+        var hedging = HedgingPolicy.builder().minSamples(5).maxExtraLoad(1.0).build();
+        var client = AsyncHttpClient.builder().httpClient(httpClient).hedging(hedging).build();
+        var request = HttpRequest.newBuilder(URI.create("https://test.com/ml/v1/text/rerank?version=1")).GET().build();
+
+        for (int i = 0; i < 5; i++)
+            assertEquals("ok", client.sendAndWait(request, handler).body());
+
+        // The sixth request never completes: its hedge is sent after the minimum delay and wins.
+        assertEquals("ok", client.send(request, handler).get(5, TimeUnit.SECONDS).body());
+        assertEquals(7, calls.get());
+        assertTrue(slow.isCancelled());
+        assertEquals(new HedgingPolicy.Stats(6, 1, 1, 0), hedging.stats());
+    }
+
+    @Test
+    void should_cancel_the_exchange_through_the_interceptors() throws Exception {
+
+        var slow = new CompletableFuture<HttpResponse<String>>();
+        var calls = new AtomicInteger();
+        when(httpClient.sendAsync(any(), any())).thenAnswer(invocation -> calls.incrementAndGet() == 6 ? slow : completedFuture(httpResponse));
+        when(httpResponse.body()).thenReturn("ok");
+
+        var authenticator = mock(Authenticator.class);
+        when(authenticator.tokenAsync()).thenReturn(completedFuture("token"));
+        when(authenticator.scheme()).thenReturn("Bearer");
+
+        // The interceptors derive new futures from the future of the exchange.
+        var hedging = HedgingPolicy.builder().minSamples(5).maxExtraLoad(1.0).build();
+        var client = HttpClientFactory.createAsync(authenticator, httpClient, LogMode.BOTH, hedging);
+        var request = HttpRequest.newBuilder(URI.create("https://test.com/ml/v1/text/rerank?version=1")).GET().build();
+
+        for (int i = 0; i < 5; i++)
+            assertEquals("ok", client.sendAndWait(request, handler).body());
+
+        assertEquals("ok", client.send(request, handler).get(5, TimeUnit.SECONDS).body());
+        assertEquals(7, calls.get());
+        assertTrue(slow.isCancelled());
+
+        // Without hedging, cancelling the response cancels the exchange.
+        var pending = new CompletableFuture<HttpResponse<String>>();
+        when(httpClient.sendAsync(any(), any())).thenAnswer(invocation -> pending);
+        var response = HttpClientFactory.createAsync(authenticator, httpClient, LogMode.DISABLED).send(request, handler);
+        assertTrue(response.cancel(true));
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    void should_not_hedge_when_the_budget_is_exhausted() throws Exception {
+
+        var slow = new CompletableFuture<HttpResponse<String>>();
+        var calls = new AtomicInteger();
+        when(httpClient.sendAsync(any(), any())).thenAnswer(invocation -> calls.incrementAndGet() == 2 ? slow : completedFuture(httpResponse));
+
+        var hedging = HedgingPolicy.builder().minSamples(1).maxExtraLoad(0.1).build();
+        var client = AsyncHttpClient.builder().httpClient(httpClient).hedging(hedging).build();
+        var request = HttpRequest.newBuilder(URI.create("https://test.com/ml/v1/text/rerank")).GET().build();
+
+        client.sendAndWait(request, handler);
+        var response = client.send(request, handler);
+
+        Thread.sleep(100);
+        assertEquals(2, calls.get());
+        assertEquals(new HedgingPolicy.Stats(2, 0, 0, 1), hedging.stats());
+
+        slow.completeExceptionally(new WatsonxException("Status code: 503", 503, null));
+        var ex = assertThrows(CompletionException.class, response::join);
+        assertEquals(503, ((WatsonxException) ex.getCause()).statusCode());
+
+        when(httpClient.sendAsync(any(), any())).thenReturn(CompletableFuture.failedFuture(new WatsonxException("Status code: 400", 400, null)));
+        var error = assertThrows(WatsonxException.class, () -> client.sendAndWait(request, handler));
+        assertEquals(400, error.statusCode());
+    }
+
+    @Test
+    void should_validate_the_hedging_policy() {
+        var ex = assertThrows(IllegalArgumentException.class, () -> HedgingPolicy.builder().percentile(1).build());
+        assertEquals("percentile must be between 0 and 1", ex.getMessage());
+        ex = assertThrows(IllegalArgumentException.class, () -> HedgingPolicy.builder().maxExtraLoad(0).build());
+        assertEquals("maxExtraLoad must be greater than 0 and at most 1", ex.getMessage());
+    }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.core;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import com.ibm.watsonx.ai.core.exception.CircuitBreakerOpenException;
+import com.ibm.watsonx.ai.core.exception.WatsonxException;
+import com.ibm.watsonx.ai.core.http.AsyncHttpClient;
+import com.ibm.watsonx.ai.core.http.SyncHttpClient;
+import com.ibm.watsonx.ai.core.http.interceptors.CircuitBreakerInterceptor;
+import com.ibm.watsonx.ai.core.http.interceptors.CircuitBreakerInterceptor.State;
+import com.ibm.watsonx.ai.core.http.interceptors.CircuitBreakerInterceptor.StateTransition;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class CircuitBreakerInterceptorTest {
+
+    @Mock
+    HttpClient httpClient;
+
+    @Mock
+    HttpResponse<String> httpResponse;
+
+    private static HttpRequest request(String modelId) {
+        return HttpRequest.newBuilder(URI.create("https://us-south.ml.cloud.ibm.com/ml/v1/text/chat?version=2025-04-23"))
+            .header("Content-Type", "application/json")
+            .POST(BodyPublishers.ofString("""
+                { "model_id": "%s", "messages": [] }""".formatted(modelId)))
+            .build();
+    }
+
+    @Test
+    void should_name_the_circuits_after_the_endpoint_and_the_model() {
+
+        assertEquals("us-south.ml.cloud.ibm.com/ml/v1/text/chat#ibm/granite-4-h-small",
+            CircuitBreakerInterceptor.circuitName(request("ibm/granite-4-h-small")));
+
+        var get = HttpRequest.newBuilder(URI.create("http://localhost:8080/ml/v1/foundation_model_specs")).GET().build();
+        assertEquals("localhost:8080/ml/v1/foundation_model_specs", CircuitBreakerInterceptor.circuitName(get));
+    }
+
+    @Test
+    void should_open_the_circuit_and_reject_the_requests() throws Exception {
+
+        List<StateTransition> transitions = new CopyOnWriteArrayList<>();
+        var circuitBreaker = CircuitBreakerInterceptor.builder()
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(4)
+            .failureRateThreshold(0.5)
+            .waitDurationInOpenState(Duration.ofMinutes(1))
+            .onStateTransition(transitions::add)
+            .build();
+
+        var client = SyncHttpClient.builder().httpClient(httpClient).interceptor(circuitBreaker).build();
+
+        when(httpResponse.statusCode()).thenReturn(200);
+        when(httpClient.<String>send(any(), any()))
+            .thenReturn(httpResponse)
+            .thenThrow(new WatsonxException("Internal error", 500, null))
+            .thenReturn(httpResponse)
+            .thenThrow(new IOException("Connection reset"));
+
+        client.send(request("model-a"), BodyHandlers.ofString());
+        assertThrows(WatsonxException.class, () -> client.send(request("model-a"), BodyHandlers.ofString()));
+        client.send(request("model-a"), BodyHandlers.ofString());
+        assertThrows(IOException.class, () -> client.send(request("model-a"), BodyHandlers.ofString()));
+
+        var ex = assertThrows(CircuitBreakerOpenException.class, () -> client.send(request("model-a"), BodyHandlers.ofString()));
+        assertEquals(503, ex.statusCode());
+        assertEquals("us-south.ml.cloud.ibm.com/ml/v1/text/chat#model-a", ex.circuit());
+        assertTrue(ex.retryAfter().compareTo(Duration.ZERO) > 0);
+        verify(httpClient, times(4)).send(any(), any());
+
+        assertEquals(1, transitions.size());
+        assertEquals(State.CLOSED, transitions.get(0).from());
+        assertEquals(State.OPEN, transitions.get(0).to());
+        assertEquals(0.5f, transitions.get(0).failureRate());
+
+        var metrics = circuitBreaker.metrics("us-south.ml.cloud.ibm.com/ml/v1/text/chat#model-a").orElseThrow();
+        assertEquals(State.OPEN, metrics.state());
+        assertEquals(1, metrics.notPermittedCalls());
+
+        // The other models of the endpoint are not affected.
+        doReturn(httpResponse).when(httpClient).send(any(), any());
+        assertEquals(httpResponse, client.send(request("model-b"), BodyHandlers.ofString()));
+        assertEquals(2, circuitBreaker.metrics().size());
+    }
+
+    @Test
+    void should_not_count_client_errors_as_failures() throws Exception {
+
+        var circuitBreaker = CircuitBreakerInterceptor.builder()
+            .slidingWindowSize(2)
+            .minimumNumberOfCalls(2)
+            .build();
+
+        var client = SyncHttpClient.builder().httpClient(httpClient).interceptor(circuitBreaker).build();
+        when(httpClient.send(any(), any())).thenThrow(new WatsonxException("Bad request", 400, null));
+
+        for (int i = 0; i < 4; i++)
+            assertThrows(WatsonxException.class, () -> client.send(request("model-a"), BodyHandlers.ofString()));
+
+        verify(httpClient, times(4)).send(any(), any());
+        var metrics = circuitBreaker.metrics().get(0);
+        assertEquals(State.CLOSED, metrics.state());
+        assertEquals(0f, metrics.failureRate());
+    }
+
+    @Test
+    void should_probe_a_half_open_circuit_and_close_it() throws Exception {
+
+        List<StateTransition> transitions = new CopyOnWriteArrayList<>();
+        var circuitBreaker = CircuitBreakerInterceptor.builder()
+            .slidingWindowSize(2)
+            .minimumNumberOfCalls(2)
+            .permittedCallsInHalfOpenState(2)
+            .waitDurationInOpenState(Duration.ofMillis(100))
+            .onStateTransition(transitions::add)
+            .build();
+
+        var client = AsyncHttpClient.builder().httpClient(httpClient).interceptor(circuitBreaker).build();
+
+        when(httpResponse.statusCode()).thenReturn(200);
+        when(httpClient.<String>sendAsync(any(), any())).thenReturn(failedFuture(new WatsonxException("Unavailable", 503, null)));
+
+        for (int i = 0; i < 2; i++) {
+            var ex = assertThrows(CompletionException.class, () -> client.send(request("model-a"), BodyHandlers.ofString()).join());
+            assertEquals(503, ((WatsonxException) ex.getCause()).statusCode());
+        }
+
+        var ex = assertThrows(CompletionException.class, () -> client.send(request("model-a"), BodyHandlers.ofString()).join());
+        assertInstanceOf(CircuitBreakerOpenException.class, ex.getCause());
+        verify(httpClient, times(2)).sendAsync(any(), any());
+
+        Thread.sleep(150);
+        when(httpClient.<String>sendAsync(any(), any())).thenReturn(completedFuture(httpResponse));
+
+        client.send(request("model-a"), BodyHandlers.ofString()).join();
+        assertEquals(State.HALF_OPEN, circuitBreaker.metrics().get(0).state());
+        client.send(request("model-a"), BodyHandlers.ofString()).join();
+        assertEquals(State.CLOSED, circuitBreaker.metrics().get(0).state());
+
+        assertEquals(List.of(State.OPEN, State.HALF_OPEN, State.CLOSED), transitions.stream().map(StateTransition::to).toList());
+    }
+
+    @Test
+    void should_reopen_the_circuit_on_slow_probes() throws Exception {
+
+        var circuitBreaker = CircuitBreakerInterceptor.builder()
+            .slidingWindowSize(2)
+            .minimumNumberOfCalls(2)
+            .permittedCallsInHalfOpenState(1)
+            .slowCallDuration(Duration.ofMillis(50))
+            .slowCallRateThreshold(1)
+            .waitDurationInOpenState(Duration.ofMillis(100))
+            .build();
+
+        var client = SyncHttpClient.builder().httpClient(httpClient).interceptor(circuitBreaker).build();
+
+        when(httpResponse.statusCode()).thenReturn(200);
+        when(httpClient.<String>send(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(60);
+            return httpResponse;
+        });
+
+        client.send(request("model-a"), BodyHandlers.ofString());
+        client.send(request("model-a"), BodyHandlers.ofString());
+        assertEquals(State.OPEN, circuitBreaker.metrics().get(0).state());
+
+        Thread.sleep(150);
+        client.send(request("model-a"), BodyHandlers.ofString());
+        assertEquals(State.OPEN, circuitBreaker.metrics().get(0).state());
+        assertThrows(CircuitBreakerOpenException.class, () -> client.send(request("model-a"), BodyHandlers.ofString()));
+    }
+
+    @Test
+    void should_validate_the_configuration() {
+
+        var ex = assertThrows(IllegalArgumentException.class, () -> CircuitBreakerInterceptor.builder().failureRateThreshold(0).build());
+        assertEquals("failureRateThreshold must be greater than 0 and at most 1", ex.getMessage());
+
+        ex = assertThrows(IllegalArgumentException.class, () -> CircuitBreakerInterceptor.builder().slidingWindowSize(0).build());
+        assertEquals("slidingWindowSize, minimumNumberOfCalls and permittedCallsInHalfOpenState must be greater than 0", ex.getMessage());
+    }
+}
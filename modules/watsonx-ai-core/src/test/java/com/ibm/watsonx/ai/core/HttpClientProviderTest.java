@@ -5,12 +5,20 @@
 package com.ibm.watsonx.ai.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.lang.reflect.Field;
 import java.net.http.HttpClient;
+import java.net.http.HttpClient.Version;
+import java.time.Duration;
+import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import com.ibm.watsonx.ai.core.http.TransportConfig;
 import com.ibm.watsonx.ai.core.provider.HttpClientProvider;
 
 public class HttpClientProviderTest {
@@ -23,6 +31,9 @@ public class HttpClientProviderTest {
             f.setAccessible(true);
             f.set(null, null);
         }
+        Field pools = HttpClientProvider.class.getDeclaredField("pools");
+        pools.setAccessible(true);
+        ((Map<?, ?>) pools.get(null)).clear();
     }
 
     @Test
@@ -46,4 +57,46 @@ public class HttpClientProviderTest {
     void should_return_same_insecure_client_singleton() {
         assertEquals(HttpClientProvider.httpClient(false), HttpClientProvider.httpClient(false));
     }
+
+    @Test
+    void should_return_shared_client_without_transport() {
+        assertSame(HttpClientProvider.httpClient(true), HttpClientProvider.httpClient("https://us-south.ml.cloud.ibm.com", true, null));
+        assertSame(HttpClientProvider.httpClient(false), HttpClientProvider.httpClient("https://us-south.ml.cloud.ibm.com", false, null));
+    }
+
+    @Test
+    void should_return_one_pool_per_host_and_transport() {
+        var transport = TransportConfig.builder().maxConnectionsPerHost(2).build();
+
+        var client = HttpClientProvider.httpClient("https://us-south.ml.cloud.ibm.com/ml/v1", true, transport);
+        assertSame(client, HttpClientProvider.httpClient("https://us-south.ml.cloud.ibm.com", true, transport));
+        assertSame(client,
+            HttpClientProvider.httpClient("https://us-south.ml.cloud.ibm.com", true, TransportConfig.builder().maxConnectionsPerHost(2).build()));
+        assertNotSame(client, HttpClientProvider.httpClient("https://iam.cloud.ibm.com", true, transport));
+        assertNotSame(client, HttpClientProvider.httpClient("https://us-south.ml.cloud.ibm.com", false, transport));
+        assertNotSame(client, HttpClientProvider.httpClient("https://us-south.ml.cloud.ibm.com", true, TransportConfig.builder().build()));
+        assertNotEquals(HttpClientProvider.httpClient(true), client);
+    }
+
+    @Test
+    void should_apply_transport_settings() {
+        var transport = TransportConfig.builder()
+            .httpVersion(Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(3))
+            .build();
+
+        var client = HttpClientProvider.httpClient("https://us-south.ml.cloud.ibm.com", true, transport);
+        assertEquals(Version.HTTP_1_1, client.version());
+        assertEquals(Duration.ofSeconds(3), client.connectTimeout().orElseThrow());
+
+        client = HttpClientProvider.httpClient("https://us-south.ml.cloud.ibm.com", true, TransportConfig.builder().build());
+        assertEquals(Version.HTTP_2, client.version());
+    }
+
+    @Test
+    void should_validate_transport_config() {
+        assertThrows(IllegalArgumentException.class, () -> TransportConfig.builder().maxConnectionsPerHost(0).build());
+        assertThrows(IllegalArgumentException.class, () -> TransportConfig.builder().maxStreamsPerConnection(0).build());
+        assertThrows(IllegalArgumentException.class, () -> TransportConfig.builder().connectTimeout(Duration.ZERO).build());
+    }
 }
@@ -5,6 +5,7 @@
 package com.ibm.watsonx.ai.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -25,8 +26,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.skyscreamer.jsonassert.JSONAssert;
+import com.ibm.watsonx.ai.core.exception.AuthenticationTokenExpiredException;
+import com.ibm.watsonx.ai.core.exception.JsonException;
+import com.ibm.watsonx.ai.core.exception.TokenQuotaReachedException;
 import com.ibm.watsonx.ai.core.exception.WatsonxException;
 import com.ibm.watsonx.ai.core.exception.model.WatsonxError;
+import com.ibm.watsonx.ai.core.exception.model.WatsonxError.Code;
 import com.ibm.watsonx.ai.core.exception.model.WatsonxError.Error;
 
 @SuppressWarnings("unchecked")
@@ -276,6 +281,73 @@ public class HttpUtilsTest {
         assertEquals(null, result.errors().get(0).moreInfo());
     }
 
+    @Test
+    void should_parse_schema_error_body_correctly_from_json() {
+        WatsonxError result = HttpUtils.parseErrorBody(404, """
+            {"error": "Schema not found"}""", "application/json");
+        assertEquals(new WatsonxError(404, "", List.of(new Error("schema_event_does_not_exist", "Schema not found", ""))), result);
+    }
+
+    @Test
+    void should_ignore_unknown_fields_when_parsing_error_body() {
+        String jsonBody = """
+            {
+                "extra": { "nested": [1, 2, { "code": "ignored" }] },
+                "errors": [
+                    { "code": "token_quota_reached", "message": "quota", "more_info": "info", "target": { "name": "x" } },
+                    "not an object"
+                ],
+                "trace": "trace-id",
+                "status_code": 429
+            }""";
+
+        WatsonxError result = HttpUtils.parseErrorBody(429, jsonBody, "application/json");
+        assertEquals(new WatsonxError(429, "trace-id", List.of(new Error("token_quota_reached", "quota", "info"))), result);
+    }
+
+    @Test
+    void should_throw_json_exception_when_parsing_invalid_json_error_body() {
+        var ex = assertThrows(JsonException.class, () -> HttpUtils.parseErrorBody(500, "{\"errors\": [", "application/json"));
+        assertEquals("Failed to deserialize JSON: '{\"errors\": ['", ex.getMessage());
+        assertThrows(JsonException.class, () -> HttpUtils.parseErrorBody(500, "[]", "application/json"));
+    }
+
+    @Test
+    void should_create_the_typed_exception_from_the_error_body() {
+        String jsonBody = """
+            {"errors":[{"code":"token_quota_reached","message":"quota reached"}],"trace":"trace-id","status_code":403}""";
+
+        var ex = HttpUtils.toWatsonxException(403, jsonBody, "application/json");
+        assertInstanceOf(TokenQuotaReachedException.class, ex);
+        assertEquals(403, ex.statusCode());
+        assertEquals(jsonBody, ex.getMessage());
+        assertEquals(Code.TOKEN_QUOTA_REACHED, ex.errorCode());
+
+        ex = HttpUtils.toWatsonxException(401, """
+            {"code": 401, "message": "Unauthorized", "description": "jwt expired"}""", "application/json");
+        assertInstanceOf(AuthenticationTokenExpiredException.class, ex);
+
+        ex = HttpUtils.toWatsonxException(500, """
+            {"errors":[{"code":"unknown_code","message":"boom"}],"trace":"trace-id","status_code":500}""", "application/json");
+        assertEquals(WatsonxException.class, ex.getClass());
+        assertEquals(Code.UNCLASSIFIED, ex.errorCode());
+
+        ex = HttpUtils.toWatsonxException(500, """
+            {"trace":"trace-id","status_code":500}""", "application/json");
+        assertEquals(WatsonxException.class, ex.getClass());
+        assertEquals(Code.UNCLASSIFIED, ex.errorCode());
+    }
+
+    @Test
+    void should_resolve_error_codes_without_failing_on_unknown_values() {
+        assertEquals(Code.AUTHORIZATION_REJECTED, Code.from("authorization_rejected"));
+        assertEquals(Code.AUTHORIZATION_REJECTED, Code.from("AUTHORIZATION_REJECTED"));
+        assertEquals(Code.COS_ACCESS_DENIED, Code.from("AccessDenied"));
+        assertEquals(Code.UNCLASSIFIED, Code.from("unknown_code"));
+        assertEquals(Code.UNCLASSIFIED, Code.from(null));
+        assertEquals(false, new Error(null, "message", null).is(Code.UNCLASSIFIED));
+    }
+
     @Test
     void should_throw_runtime_exception_when_parsing_error_body_with_unsupported_content_type() {
         assertThrows(RuntimeException.class, () -> {
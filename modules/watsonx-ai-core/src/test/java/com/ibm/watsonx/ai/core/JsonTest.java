@@ -4,16 +4,24 @@
  */
 package com.ibm.watsonx.ai.core;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.ibm.watsonx.ai.core.exception.JsonException;
+import com.ibm.watsonx.ai.core.provider.JacksonProvider;
 import com.ibm.watsonx.ai.core.spi.json.TypeToken;
 
 public class JsonTest {
@@ -193,4 +201,39 @@ public class JsonTest {
         assertEquals("wrap", ex.getMessage());
         assertEquals(cause, ex.getCause());
     }
+
+    @Test
+    void should_prime_types_without_failing() {
+        assertDoesNotThrow(() -> Json.prime(Person.class, TypeToken.listOf(Person.class).getType(), Object.class));
+        assertEquals(new Person("Alan", "Wake"), Json.fromJson("{\"name\":\"Alan\",\"lastname\":\"Wake\"}", Person.class));
+    }
+
+    @Test
+    void should_register_only_the_given_modules() {
+
+        record Snake(String firstName) {}
+
+        var module = new SimpleModule().addSerializer(Person.class, new StdSerializer<>(Person.class) {
+            @Override
+            public void serialize(Person person, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                gen.writeString(person.name() + " " + person.lastname());
+            }
+        });
+
+        var provider = new JacksonProvider(module);
+        assertEquals("\"Alan Wake\"", provider.toJson(new Person("Alan", "Wake")));
+        assertEquals("{\"first_name\":\"Alan\"}", provider.toJson(new Snake("Alan")));
+        assertEquals("{\"name\":\"Alan\",\"lastname\":\"Wake\"}", new JacksonProvider().toJson(new Person("Alan", "Wake")));
+    }
+
+    @Test
+    void should_deserialize_utf8_bytes() {
+        var json = "{\"name\":\"Ren\u00e9\",\"lastname\":\"Wake\"}".getBytes(UTF_8);
+        assertEquals(new Person("Ren\u00e9", "Wake"), Json.fromJson(json, Person.class));
+        assertEquals(List.of(new Person("Ren\u00e9", "Wake")), Json.fromJson(("[" + new String(json, UTF_8) + "]")
+            .getBytes(UTF_8), TypeToken.listOf(Person.class)));
+
+        var ex = assertThrows(JsonException.class, () -> Json.fromJson("{".getBytes(UTF_8), Person.class));
+        assertEquals("Failed to deserialize JSON: '{'", ex.getMessage());
+    }
 }
@@ -651,23 +651,192 @@ public class LoggerInterceptorTest {
         }
     }
 
+    @Nested
+    @SuppressWarnings("unchecked")
+    class Options {
+
+        @Test
+        void should_truncate_long_bodies() throws Exception {
+
+            String body = "{\"input\":\"" + "a".repeat(100) + "\",\"last\":\"END_OF_BODY\"}";
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost"))
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(body))
+                .build();
+
+            HttpResponse<String> response = mock(HttpResponse.class);
+            when(response.body()).thenReturn(body);
+            when(response.statusCode()).thenReturn(200);
+            when(response.headers()).thenReturn(HttpHeaders.of(
+                Map.of("Content-Type", List.of("application/json")), (k, v) -> true));
+
+            var interceptor = LoggerInterceptor.builder().maxBodyLength(50).build();
+            List<String> logs = captureLogs(() -> intercept(interceptor, request, response));
+
+            String requestLog = findLog(logs, "Request:");
+            assertFalse(requestLog.contains("END_OF_BODY"), requestLog);
+            assertTrue(requestLog.contains("- body: " + body.substring(0, 50) + "... [truncated to 50 characters]"), requestLog);
+
+            String responseLog = findLog(logs, "Response:");
+            assertFalse(responseLog.contains("END_OF_BODY"), responseLog);
+            assertTrue(responseLog.contains("... [truncated to 50 characters]"), responseLog);
+        }
+
+        @Test
+        void should_truncate_request_and_response_bodies_in_characters() throws Exception {
+
+            // "é" is encoded in 2 bytes, "€" in 3 bytes and "😀" in 4 bytes (2 chars).
+            String body = "{\"input\":\"" + "é€😀".repeat(20) + "\"}";
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost"))
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(body))
+                .build();
+
+            HttpResponse<String> response = mock(HttpResponse.class);
+            when(response.body()).thenReturn(body);
+            when(response.statusCode()).thenReturn(200);
+
+            for (int maxBodyLength : new int[] { 13, 14, 15, 16 }) {
+                var interceptor = LoggerInterceptor.builder().maxBodyLength(maxBodyLength).build();
+                List<String> logs = captureLogs(() -> intercept(interceptor, request, response));
+
+                // The emoji is dropped instead of being split.
+                String expected = body.substring(0, Character.isHighSurrogate(body.charAt(maxBodyLength - 1)) ? maxBodyLength - 1 : maxBodyLength);
+                String notice = "... [truncated to " + maxBodyLength + " characters]";
+
+                String requestLog = findLog(logs, "Request:");
+                assertTrue(requestLog.contains("- body: " + expected + notice), requestLog);
+                assertFalse(requestLog.contains("\uFFFD"), requestLog);
+
+                String responseLog = findLog(logs, "Response:");
+                assertTrue(responseLog.contains("- body: " + expected + notice), responseLog);
+            }
+        }
+
+        @Test
+        void should_mask_secret_cut_by_truncation() throws Exception {
+
+            String body = "{\"apikey\":\"MY_SUPER_SECRET_KEY\"}";
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost"))
+                .header("Content-Type", "application/json")
+                .POST(BodyPublishers.ofString(body))
+                .build();
+
+            var interceptor = LoggerInterceptor.builder().mode(LogMode.REQUEST).maxBodyLength(20).build();
+            List<String> logs = captureLogs(() -> intercept(interceptor, request, mock(HttpResponse.class)));
+
+            String requestLog = findLog(logs, "Request:");
+            assertFalse(requestLog.contains("MY_SUPER"), requestLog);
+            assertTrue(requestLog.contains("\"apikey\": \"***... [truncated to 20 characters]"), requestLog);
+        }
+
+        @Test
+        void should_log_one_exchange_every_sample_rate() throws Exception {
+
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost"))
+                .GET()
+                .build();
+
+            HttpResponse<String> response = mock(HttpResponse.class);
+            when(response.statusCode()).thenReturn(200);
+
+            var interceptor = LoggerInterceptor.builder().sampleRate(3).build();
+            List<String> logs = captureLogs(() -> {
+                for (int i = 0; i < 7; i++)
+                    intercept(interceptor, request, response);
+            });
+
+            assertEquals(3, logs.stream().filter(log -> log.startsWith("Request:")).count());
+            assertEquals(3, logs.stream().filter(log -> log.startsWith("Response:")).count());
+        }
+
+        @Test
+        void should_log_on_background_thread_in_async_mode() throws Exception {
+
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(BodyPublishers.ofString("apikey=MY_SUPER_SECRET_KEY"))
+                .build();
+
+            HttpResponse<String> response = mock(HttpResponse.class);
+            when(response.body()).thenReturn("response");
+            when(response.statusCode()).thenReturn(200);
+
+            LoggerInterceptor.AsyncChain chain = mock(LoggerInterceptor.AsyncChain.class);
+            when(chain.proceed(eq(request), any(BodyHandler.class))).thenReturn(completedFuture(response));
+
+            var interceptor = LoggerInterceptor.builder().async(true).build();
+            List<String> threads = new CopyOnWriteArrayList<>();
+            List<String> logs = captureLogs(() -> {
+                try {
+                    assertEquals(response, interceptor.intercept(request, BodyHandlers.ofString(), 0, chain).get(3, TimeUnit.SECONDS));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }, 2, threads);
+
+            String requestLog = findLog(logs, "Request:");
+            assertTrue(requestLog.contains("apikey=***"), requestLog);
+            assertTrue(findLog(logs, "Response:").contains("- body: response"));
+            assertEquals(List.of("watsonx-ai-logger", "watsonx-ai-logger"), threads);
+            assertEquals(0, LoggerInterceptor.droppedLogCount());
+        }
+
+        @Test
+        void should_throw_exception_on_invalid_options() {
+            assertThrows(IllegalArgumentException.class, () -> LoggerInterceptor.builder().maxBodyLength(0).build());
+            assertThrows(IllegalArgumentException.class, () -> LoggerInterceptor.builder().sampleRate(0).build());
+        }
+
+        private HttpResponse<String> intercept(LoggerInterceptor interceptor, HttpRequest request, HttpResponse<String> response) {
+            try {
+                LoggerInterceptor.Chain chain = mock(LoggerInterceptor.Chain.class);
+                BodyHandler<String> bodyHandler = BodyHandlers.ofString();
+                when(chain.proceed(request, bodyHandler)).thenReturn(response);
+                return interceptor.intercept(request, bodyHandler, 0, chain);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
     //
     // Attaches an in-memory Log4j2 appender to the LoggerInterceptor logger, runs the given action,
     // and returns every message logged during its execution.
     //
     private static List<String> captureLogs(Runnable action) {
+        return captureLogs(action, 0, new ArrayList<>());
+    }
+
+    //
+    // Same as captureLogs(Runnable), but waits until at least the given number of messages is
+    // logged, to capture the messages written by a background thread, and collects the names
+    // of the threads that wrote them.
+    //
+    private static List<String> captureLogs(Runnable action, int expected, List<String> threads) {
         var logger = (org.apache.logging.log4j.core.Logger) LogManager.getLogger(LoggerInterceptor.class);
         List<String> messages = new CopyOnWriteArrayList<>();
         var appender = new AbstractAppender("test-capture", null, null, true, null) {
             @Override
             public void append(LogEvent event) {
                 messages.add(event.getMessage().getFormattedMessage());
+                threads.add(event.getThreadName());
             }
         };
         appender.start();
         logger.addAppender(appender);
         try {
             action.run();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (messages.size() < expected && System.nanoTime() < deadline)
+                Thread.sleep(10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } finally {
             logger.removeAppender(appender);
             appender.stop();
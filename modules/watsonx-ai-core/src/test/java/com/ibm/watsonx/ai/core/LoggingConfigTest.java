@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import uk.org.webcompere.systemstubs.environment.EnvironmentVariables;
+import uk.org.webcompere.systemstubs.jupiter.SystemStub;
+import uk.org.webcompere.systemstubs.jupiter.SystemStubsExtension;
+
+@ExtendWith(SystemStubsExtension.class)
+public class LoggingConfigTest {
+
+    @SystemStub
+    private EnvironmentVariables environmentVariables;
+
+    @Test
+    void should_use_default_values() {
+        assertFalse(LoggingConfig.asyncEnabled());
+        assertEquals(1024, LoggingConfig.asyncBufferSize());
+        assertEquals(Integer.MAX_VALUE, LoggingConfig.maxBodyLength());
+        assertEquals(1, LoggingConfig.sampleRate());
+    }
+
+    @Test
+    void should_customize_async_enabled() {
+        environmentVariables.set("WATSONX_LOG_ASYNC", "true");
+        assertTrue(LoggingConfig.asyncEnabled());
+    }
+
+    @Test
+    void should_customize_async_buffer_size() {
+        environmentVariables.set("WATSONX_LOG_ASYNC_BUFFER_SIZE", "16");
+        assertEquals(16, LoggingConfig.asyncBufferSize());
+    }
+
+    @Test
+    void should_customize_max_body_length() {
+        environmentVariables.set("WATSONX_LOG_MAX_BODY_LENGTH", "4096");
+        assertEquals(4096, LoggingConfig.maxBodyLength());
+    }
+
+    @Test
+    void should_customize_sample_rate() {
+        environmentVariables.set("WATSONX_LOG_SAMPLE_RATE", "10");
+        assertEquals(10, LoggingConfig.sampleRate());
+    }
+}
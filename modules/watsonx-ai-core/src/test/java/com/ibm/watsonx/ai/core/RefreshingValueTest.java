@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+public class RefreshingValueTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final List<CompletableFuture<String>> loads = new CopyOnWriteArrayList<>();
+
+    private RefreshingValue<String> value() {
+        return new RefreshingValue<>(Duration.ofMinutes(10), () -> {
+            var load = new CompletableFuture<String>();
+            loads.add(load);
+            return load;
+        }, clock);
+    }
+
+    @Test
+    void should_return_the_stale_value_while_refreshing() {
+
+        var value = value();
+        var first = CompletableFuture.supplyAsync(value::get);
+        while (loads.isEmpty())
+            Thread.onSpinWait();
+        loads.get(0).complete("v1");
+        assertEquals("v1", first.join());
+        assertEquals(Optional.of(clock.instant()), value.lastRefresh());
+
+        clock.advance(Duration.ofMinutes(5));
+        assertEquals("v1", value.get());
+        assertEquals(1, loads.size());
+
+        // Expired: the stale value is returned and a single refresh is started.
+        clock.advance(Duration.ofMinutes(5));
+        assertEquals("v1", value.get());
+        assertEquals("v1", value.get());
+        assertEquals(2, loads.size());
+
+        loads.get(1).complete("v2");
+        assertEquals("v2", value.get());
+        assertEquals(Optional.of(clock.instant()), value.lastRefresh());
+    }
+
+    @Test
+    void should_keep_the_stale_value_when_the_refresh_fails() {
+
+        var value = value();
+        value.refresh();
+        loads.get(0).complete("v1");
+
+        clock.advance(Duration.ofMinutes(10));
+        var loadedAt = value.lastRefresh();
+        assertEquals("v1", value.get());
+        loads.get(1).completeExceptionally(new RuntimeException("service unavailable"));
+
+        assertEquals("v1", value.get());
+        assertEquals(loadedAt, value.lastRefresh());
+        assertEquals(2, loads.size());
+
+        // The next attempt is made after the retry delay, not after the full time-to-live.
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals("v1", value.get());
+        assertEquals(3, loads.size());
+    }
+
+    @Test
+    void should_share_the_refresh_in_progress() {
+
+        var value = value();
+        var first = value.refresh();
+        var second = value.refresh();
+        assertSame(first, second);
+        assertEquals(1, loads.size());
+
+        loads.get(0).complete("v1");
+        assertEquals("v1", second.join());
+        assertEquals(Optional.of("v1"), value.peek());
+    }
+
+    @Test
+    void should_propagate_the_error_of_the_first_load() {
+
+        var value = new RefreshingValue<String>(Duration.ofMinutes(1), () -> CompletableFuture.failedFuture(new IllegalStateException("boom")));
+        var ex = assertThrows(IllegalStateException.class, value::get);
+        assertEquals("boom", ex.getMessage());
+        assertTrue(value.peek().isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> new RefreshingValue<>(Duration.ZERO, () -> CompletableFuture.completedFuture("v")));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
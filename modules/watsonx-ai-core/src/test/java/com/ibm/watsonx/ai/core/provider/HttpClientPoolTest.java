@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.core.provider;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import com.ibm.watsonx.ai.core.http.TransportConfig;
+
+@SuppressWarnings("unchecked")
+public class HttpClientPoolTest {
+
+    private final HttpRequest request = HttpRequest.newBuilder(URI.create("https://us-south.ml.cloud.ibm.com/ml/v1/text/chat")).build();
+
+    @Test
+    void should_open_a_new_connection_only_when_the_others_are_busy() {
+
+        var first = mock(HttpClient.class);
+        var second = mock(HttpClient.class);
+        var firstResponses = List.of(new CompletableFuture<HttpResponse<Object>>(), new CompletableFuture<HttpResponse<Object>>());
+        var secondResponse = new CompletableFuture<HttpResponse<Object>>();
+
+        when(first.sendAsync(any(), any(), any())).thenReturn(firstResponses.get(0), firstResponses.get(1));
+        when(second.sendAsync(any(), any(), any())).thenReturn(secondResponse);
+
+        var pool = new HttpClientPool(List.of(first, second), TransportConfig.builder().maxStreamsPerConnection(2).build());
+
+        pool.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        pool.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        verify(second, never()).sendAsync(any(), any(), any());
+        assertArrayEquals(new int[] { 2, 0 }, pool.inFlight());
+
+        pool.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        assertArrayEquals(new int[] { 2, 1 }, pool.inFlight());
+
+        firstResponses.get(0).complete(mock(HttpResponse.class));
+        assertArrayEquals(new int[] { 1, 1 }, pool.inFlight());
+
+        secondResponse.completeExceptionally(new RuntimeException("error"));
+        assertArrayEquals(new int[] { 1, 0 }, pool.inFlight());
+    }
+
+    @Test
+    void should_use_the_least_loaded_connection_when_all_are_busy() throws Exception {
+
+        var first = mock(HttpClient.class);
+        var second = mock(HttpClient.class);
+
+        when(first.sendAsync(any(), any(), any())).thenReturn(new CompletableFuture<>());
+        when(second.sendAsync(any(), any(), any())).thenReturn(new CompletableFuture<>());
+
+        var pool = new HttpClientPool(List.of(first, second), TransportConfig.builder().maxStreamsPerConnection(1).build());
+
+        pool.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        pool.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        pool.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        assertArrayEquals(new int[] { 2, 1 }, pool.inFlight());
+
+        when(second.send(any(), any())).thenReturn(mock(HttpResponse.class));
+        pool.send(request, HttpResponse.BodyHandlers.ofString());
+        verify(second).send(eq(request), any());
+        assertArrayEquals(new int[] { 2, 1 }, pool.inFlight());
+    }
+
+    @Test
+    void should_warm_up_every_connection() {
+
+        var first = mock(HttpClient.class);
+        var second = mock(HttpClient.class);
+
+        when(first.sendAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(mock(HttpResponse.class)));
+        when(second.sendAsync(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("connection refused")));
+
+        var pool = new HttpClientPool(List.of(first, second), TransportConfig.builder().build());
+        assertDoesNotThrow(() -> pool.warmUp(URI.create("https://us-south.ml.cloud.ibm.com/")).join());
+
+        var captor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(first).sendAsync(captor.capture(), any());
+        assertEquals("HEAD", captor.getValue().method());
+        assertEquals(URI.create("https://us-south.ml.cloud.ibm.com/"), captor.getValue().uri());
+        verify(second).sendAsync(any(), any());
+    }
+}
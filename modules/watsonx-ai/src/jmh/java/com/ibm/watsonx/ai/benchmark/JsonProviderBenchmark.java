@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import com.ibm.watsonx.ai.WatsonxJacksonModule;
+import com.ibm.watsonx.ai.WatsonxJsonProvider;
+import com.ibm.watsonx.ai.chat.model.ChatMessage;
+import com.ibm.watsonx.ai.chat.model.PartialChatResponse;
+import com.ibm.watsonx.ai.chat.model.SystemMessage;
+import com.ibm.watsonx.ai.chat.model.TextChatRequest;
+import com.ibm.watsonx.ai.chat.model.UserMessage;
+import com.ibm.watsonx.ai.core.provider.JacksonProvider;
+import com.ibm.watsonx.ai.core.spi.json.JsonProvider;
+import com.ibm.watsonx.ai.embedding.EmbeddingPayload;
+import com.ibm.watsonx.ai.embedding.EmbeddingResponse;
+import com.ibm.watsonx.ai.rerank.RerankResponse;
+
+/**
+ * Compares the hand-written (de)serializers of {@link WatsonxJsonProvider} with the reflective mapping of {@link JacksonProvider}.
+ * <p>
+ * Run with:
+ *
+ * <pre>{@code
+ * ./mvnw -Pbenchmarks -pl modules/watsonx-ai -am test-compile
+ * ./mvnw -Pbenchmarks -pl modules/watsonx-ai exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-cp %classpath com.ibm.watsonx.ai.benchmark.JsonProviderBenchmark"
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonProviderBenchmark {
+
+    @Param({ "reflective", "watsonx" })
+    public String provider;
+
+    private JsonProvider json;
+    private TextChatRequest chatRequest;
+    private String chatChunk;
+    private byte[] chatChunkBytes;
+    private EmbeddingPayload embeddingPayload;
+    private String embeddingResponse;
+    private byte[] embeddingResponseBytes;
+    private String rerankResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        json = provider.equals("watsonx") ? new WatsonxJsonProvider() : new JacksonProvider(new WatsonxJacksonModule());
+
+        var messages = new ArrayList<ChatMessage>();
+        messages.add(SystemMessage.of("You are a helpful assistant."));
+        for (int i = 0; i < 10; i++)
+            messages.add(UserMessage.text("What is the capital of the country number " + i + "?"));
+
+        chatRequest = TextChatRequest.builder()
+            .modelId("ibm/granite-4-h-small")
+            .projectId("project-id")
+            .messages(messages)
+            .maxCompletionTokens(1024)
+            .temperature(0.7)
+            .build();
+
+        chatChunk = """
+            {"id":"chat-123","object":"chat.completion.chunk","model_id":"ibm/granite-4-h-small","model":"ibm/granite-4-h-small",\
+            "choices":[{"index":0,"finish_reason":null,"delta":{"content":" Paris"}}],"created":1749764735,"model_version":"4.0.0",\
+            "created_at":"2025-06-12T21:45:35.371Z"}""";
+        chatChunkBytes = chatChunk.getBytes(UTF_8);
+
+        embeddingPayload = new EmbeddingPayload("ibm/slate-125m-english-rtrvr", null, "project-id",
+            List.of("first document", "second document", "third document"), null, null);
+
+        var random = new Random(42);
+        var embedding = new StringBuilder("{\"model_id\":\"ibm/slate-125m-english-rtrvr\",\"results\":[");
+        for (int r = 0; r < 10; r++) {
+            embedding.append(r == 0 ? "" : ",").append("{\"embedding\":[");
+            for (int i = 0; i < 768; i++)
+                embedding.append(i == 0 ? "" : ",").append(random.nextFloat() * 2 - 1);
+            embedding.append("]}");
+        }
+        embeddingResponse = embedding.append("],\"created_at\":\"2024-02-21T17:32:28Z\",\"input_token_count\":30}").toString();
+        embeddingResponseBytes = embeddingResponse.getBytes(UTF_8);
+
+        var rerank = new StringBuilder("{\"model_id\":\"cross-encoder\",\"results\":[");
+        for (int i = 0; i < 100; i++)
+            rerank.append(i == 0 ? "" : ",").append("{\"index\":").append(i).append(",\"score\":").append(random.nextDouble()).append("}");
+        rerankResponse = rerank.append("],\"created_at\":\"2024-02-21T17:32:28Z\",\"input_token_count\":3000}").toString();
+    }
+
+    @Benchmark
+    public String serializeChatRequest() {
+        return json.toJson(chatRequest);
+    }
+
+    @Benchmark
+    public PartialChatResponse deserializeChatChunk() {
+        return json.fromJson(chatChunk, PartialChatResponse.class);
+    }
+
+    @Benchmark
+    public PartialChatResponse deserializeChatChunkFromBytes() {
+        return json.fromJson(chatChunkBytes, PartialChatResponse.class);
+    }
+
+    @Benchmark
+    public String serializeEmbeddingPayload() {
+        return json.toJson(embeddingPayload);
+    }
+
+    @Benchmark
+    public EmbeddingResponse deserializeEmbeddingResponse() {
+        return json.fromJson(embeddingResponse, EmbeddingResponse.class);
+    }
+
+    @Benchmark
+    public EmbeddingResponse deserializeEmbeddingResponseFromBytes() {
+        return json.fromJson(embeddingResponseBytes, EmbeddingResponse.class);
+    }
+
+    @Benchmark
+    public RerankResponse deserializeRerankResponse() {
+        return json.fromJson(rerankResponse, RerankResponse.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JsonProviderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.benchmark;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import com.ibm.watsonx.ai.embedding.EmbeddingService;
+import com.ibm.watsonx.ai.vectorstore.Quantization;
+import com.ibm.watsonx.ai.vectorstore.VectorStore;
+import com.ibm.watsonx.ai.vectorstore.VectorStore.Document;
+import com.ibm.watsonx.ai.vectorstore.VectorStore.IndexType;
+import com.ibm.watsonx.ai.vectorstore.VectorStore.Match;
+
+/**
+ * Compares the search latency of the {@link VectorStore} with {@link Quantization#FLOAT32} and {@link Quantization#INT8} vectors, for both
+ * {@link IndexType}s.
+ * <p>
+ * The recall@k of each configuration, against an exact search in double precision, is printed once the trial is set up. The documents are clustered
+ * random vectors, so that the nearest neighbors are not all at the same distance as with uniform random vectors.
+ * <p>
+ * Run with:
+ *
+ * <pre>{@code
+ * ./mvnw -Pbenchmarks -pl modules/watsonx-ai -am test-compile
+ * ./mvnw -Pbenchmarks -pl modules/watsonx-ai exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     -Dexec.args="-cp %classpath com.ibm.watsonx.ai.benchmark.VectorStoreBenchmark"
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VectorStoreBenchmark {
+
+    private static final int DOCUMENTS = 20_000;
+    private static final int DIMENSIONS = 384;
+    private static final int CLUSTERS = 100;
+    private static final int QUERIES = 200;
+    private static final int K = 10;
+
+    @Param({ "FLOAT32", "INT8" })
+    public Quantization quantization;
+
+    @Param({ "HNSW", "FLAT" })
+    public IndexType indexType;
+
+    private VectorStore store;
+    private float[][] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var random = new Random(42);
+        var centers = new float[CLUSTERS][];
+        for (int i = 0; i < CLUSTERS; i++)
+            centers[i] = gaussian(random, 1);
+
+        var vectors = new float[DOCUMENTS][];
+        for (int i = 0; i < DOCUMENTS; i++)
+            vectors[i] = around(centers[random.nextInt(CLUSTERS)], random);
+
+        queries = new float[QUERIES][];
+        for (int i = 0; i < QUERIES; i++)
+            queries[i] = around(centers[random.nextInt(CLUSTERS)], random);
+
+        // The embedding service is never called: the documents and the queries are given as vectors.
+        var embeddingService = EmbeddingService.builder()
+            .baseUrl("http://localhost")
+            .apiKey("api-key")
+            .modelId("ibm/slate-125m-english-rtrvr")
+            .projectId("project-id")
+            .build();
+
+        store = VectorStore.builder()
+            .embeddingService(embeddingService)
+            .quantization(quantization)
+            .indexType(indexType)
+            .capacity(DOCUMENTS)
+            .build();
+        for (int i = 0; i < DOCUMENTS; i++)
+            store.add(new Document(String.valueOf(i), "document " + i), vectors[i]);
+
+        double found = 0;
+        for (var query : queries) {
+            var expected = exactSearch(vectors, query);
+            found += store.search(query, K).stream().map(match -> match.document().id()).filter(expected::contains).count();
+        }
+        System.out.printf("%nrecall@%d with %s and %s: %.4f%n", K, quantization, indexType, found / (QUERIES * K));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        store.close();
+    }
+
+    @Benchmark
+    public List<Match> search() {
+        var query = queries[next];
+        next = (next + 1) % QUERIES;
+        return store.search(query, K);
+    }
+
+    private static float[] gaussian(Random random, double deviation) {
+        var vector = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++)
+            vector[i] = (float) (random.nextGaussian() * deviation);
+        return vector;
+    }
+
+    private static float[] around(float[] center, Random random) {
+        var vector = gaussian(random, 0.5);
+        for (int i = 0; i < DIMENSIONS; i++)
+            vector[i] += center[i];
+        return vector;
+    }
+
+    private static HashSet<String> exactSearch(float[][] vectors, float[] query) {
+        var similarities = new double[vectors.length];
+        for (int i = 0; i < vectors.length; i++)
+            similarities[i] = cosine(vectors[i], query);
+
+        var ids = new HashSet<String>();
+        IntStream.range(0, vectors.length).boxed()
+            .sorted(Comparator.comparingDouble(i -> -similarities[i]))
+            .limit(K)
+            .forEach(i -> ids.add(String.valueOf(i)));
+        return ids;
+    }
+
+    private static double cosine(float[] a, float[] b) {
+        double dot = 0, normA = 0, normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += (double) a[i] * b[i];
+            normA += (double) a[i] * a[i];
+            normB += (double) b[i] * b[i];
+        }
+        return dot / Math.sqrt(normA * normB);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(VectorStoreBenchmark.class.getSimpleName()).build()).run();
+    }
+}
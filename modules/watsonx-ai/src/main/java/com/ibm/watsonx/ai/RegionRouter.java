@@ -0,0 +1,540 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.ibm.watsonx.ai.core.exception.CircuitBreakerOpenException;
+import com.ibm.watsonx.ai.core.exception.WatsonxException;
+import com.ibm.watsonx.ai.core.http.interceptors.CircuitBreakerInterceptor;
+import com.ibm.watsonx.ai.core.http.interceptors.CircuitBreakerInterceptor.Circuit;
+
+/**
+ * Routes the calls of a watsonx.ai service over several regions, each served by its own service instance.
+ * <p>
+ * Each endpoint keeps an exponentially weighted moving average (EWMA) of its latency and error rate. Every call is sent to the healthy endpoint with
+ * the best score, where the score is the average latency penalized by the error rate; endpoints without samples are tried first, in the order they
+ * were added. The statistics fade with a half-life of {@code statsHalfLife}: the error rate of an endpoint that is no longer called drops back to
+ * zero and the weight of its latency decreases, so that it gets a call again once its statistics are stale, and is preferred again if it has
+ * recovered.
+ * <p>
+ * An endpoint failing {@code failureThreshold} times in a row is ejected for {@code ejectDuration}, after which a single probe call decides whether
+ * it is used again. Each endpoint is guarded by a {@link Circuit} of a {@link CircuitBreakerInterceptor}: the probe is only reserved by the endpoint
+ * that is actually called, and ejected endpoints are only called as a last resort, once all the other endpoints have failed.
+ * <p>
+ * A call fails over to the next endpoint when it fails with a server error ({@code 5xx}), a {@code 429} or an I/O error. Other errors, such as an
+ * invalid request, are returned to the caller without trying another endpoint. Only idempotent calls should use {@link #execute(Function)} and
+ * {@link #executeAsync(Function)}; other calls should use {@link #executeOnce(Function)}, which routes the call but never sends it twice.
+ * <p>
+ * Since each endpoint is a separate service, every region can have its own project or space id, model and credentials.
+ * <p>
+ * <b>Example usage:</b>
+ *
+ * <pre>{@code
+ * RegionRouter<EmbeddingService> router = RegionRouter.<EmbeddingService>builder()
+ *     .region(CloudRegion.FRANKFURT, EmbeddingService.builder().baseUrl(CloudRegion.FRANKFURT).projectId("eu-de-project")...build())
+ *     .region(CloudRegion.LONDON, EmbeddingService.builder().baseUrl(CloudRegion.LONDON).projectId("eu-gb-project")...build())
+ *     .region(CloudRegion.DALLAS, EmbeddingService.builder().baseUrl(CloudRegion.DALLAS).projectId("us-south-project")...build())
+ *     .allowedRegions(CloudRegion.FRANKFURT, CloudRegion.LONDON)
+ *     .build();
+ *
+ * EmbeddingResponse response = router.execute(service -> service.embed("Hello"));
+ * }</pre>
+ *
+ * A streaming call can fail over as long as no event has been received:
+ *
+ * <pre>{@code
+ * var started = new AtomicBoolean();
+ * CompletableFuture<ChatResponse> response = router.executeAsync(
+ *     service -> service.chatStreaming(messages, partial -> {
+ *         started.set(true);
+ *         System.out.print(partial);
+ *     }),
+ *     started::get);
+ * }</pre>
+ *
+ * @param <S> the type of the service
+ */
+public final class RegionRouter<S extends WatsonxService> {
+    private static final Logger logger = LoggerFactory.getLogger(RegionRouter.class);
+    private static final double EWMA_ALPHA = 0.3;
+    private static final double ERROR_RATE_PENALTY = 10.0;
+
+    private static final long NO_PERMIT = -1;
+
+    private final List<Endpoint<S>> endpoints;
+    private final int maxAttempts;
+    private final long halfLifeNanos;
+    private final LongSupplier nanoTime;
+
+    private RegionRouter(Builder<S> builder) {
+        var ejectDuration = requireNonNull(builder.ejectDuration, "ejectDuration cannot be null");
+        halfLifeNanos = requireNonNull(builder.statsHalfLife, "statsHalfLife cannot be null").toNanos();
+        nanoTime = builder.nanoTime;
+
+        if (builder.failureThreshold <= 0)
+            throw new IllegalArgumentException("failureThreshold must be greater than 0");
+
+        if (ejectDuration.isNegative() || ejectDuration.isZero())
+            throw new IllegalArgumentException("ejectDuration must be positive");
+
+        if (halfLifeNanos <= 0)
+            throw new IllegalArgumentException("statsHalfLife must be positive");
+
+        // A window of failureThreshold calls that must all fail: the circuit opens after failureThreshold consecutive failures.
+        var circuitBreaker = CircuitBreakerInterceptor.builder()
+            .failureRateThreshold(1)
+            .slidingWindowSize(builder.failureThreshold)
+            .minimumNumberOfCalls(builder.failureThreshold)
+            .slowCallDuration(Duration.ofNanos(Long.MAX_VALUE))
+            .waitDurationInOpenState(ejectDuration)
+            .permittedCallsInHalfOpenState(1)
+            .recordFailure(RegionRouter::isEndpointFailure)
+            .build();
+
+        var allowed = builder.allowedEndpoints;
+        endpoints = builder.endpoints.entrySet().stream()
+            .filter(e -> isNull(allowed) || allowed.contains(e.getKey()))
+            .map(e -> new Endpoint<>(e.getKey(), e.getValue(), circuitBreaker.circuit(e.getKey()), halfLifeNanos))
+            .toList();
+
+        if (endpoints.isEmpty())
+            throw new IllegalArgumentException("At least one allowed endpoint must be provided");
+
+        maxAttempts = builder.maxAttempts <= 0 ? endpoints.size() : Math.min(builder.maxAttempts, endpoints.size());
+    }
+
+    /**
+     * Executes an idempotent call on the best endpoint, failing over to the next endpoints if it fails with a retryable error.
+     *
+     * @param call the call to execute on the service of the selected endpoint
+     * @param <R> the type of the result
+     * @return the result of the call
+     */
+    public <R> R execute(Function<S, R> call) {
+        return execute(call, maxAttempts);
+    }
+
+    /**
+     * Executes a non-idempotent call on the best endpoint, without failing over.
+     * <p>
+     * The outcome of the call is still recorded in the statistics of the endpoint.
+     *
+     * @param call the call to execute on the service of the selected endpoint
+     * @param <R> the type of the result
+     * @return the result of the call
+     */
+    public <R> R executeOnce(Function<S, R> call) {
+        return execute(call, 1);
+    }
+
+    /**
+     * Asynchronously executes an idempotent call on the best endpoint, failing over to the next endpoints if it fails with a retryable error.
+     *
+     * @param call the call to execute on the service of the selected endpoint
+     * @param <R> the type of the result
+     * @return a {@link CompletableFuture} completed with the result of the call
+     */
+    public <R> CompletableFuture<R> executeAsync(Function<S, CompletableFuture<R>> call) {
+        return executeAsync(call, () -> false);
+    }
+
+    /**
+     * Asynchronously executes a call on the best endpoint, failing over to the next endpoints only while {@code started} returns {@code false}.
+     * <p>
+     * Used for streaming calls, which can only be sent again if the caller has not received any event yet.
+     *
+     * @param call the call to execute on the service of the selected endpoint
+     * @param started returns {@code true} once the call has produced a result visible to the caller
+     * @param <R> the type of the result
+     * @return a {@link CompletableFuture} completed with the result of the call
+     */
+    public <R> CompletableFuture<R> executeAsync(Function<S, CompletableFuture<R>> call, BooleanSupplier started) {
+        requireNonNull(call, "call cannot be null");
+        requireNonNull(started, "started cannot be null");
+        return executeAsync(call, started, select(), 0, null);
+    }
+
+    /**
+     * Returns the current statistics of the endpoints, in the order they were added.
+     *
+     * @return the list of {@link EndpointStats}
+     */
+    public List<EndpointStats> stats() {
+        long now = nanoTime.getAsLong();
+        return endpoints.stream().map(endpoint -> endpoint.stats(now)).toList();
+    }
+
+    /**
+     * Returns the services of the allowed endpoints, in the order they were added.
+     *
+     * @return the map of services by endpoint id
+     */
+    public Map<String, S> services() {
+        var services = new LinkedHashMap<String, S>();
+        endpoints.forEach(endpoint -> services.put(endpoint.id, endpoint.service));
+        return services;
+    }
+
+    private <R> R execute(Function<S, R> call, int attempts) {
+        requireNonNull(call, "call cannot be null");
+
+        var candidates = select();
+        RuntimeException failure = null;
+
+        for (int i = 0; i < attempts; i++) {
+            long start = nanoTime.getAsLong();
+            long permit = reserve(candidates, i, start);
+            var endpoint = candidates.get(i);
+            try {
+                R result = call.apply(endpoint.service);
+                endpoint.onSuccess(permit, nanoTime.getAsLong(), start);
+                return result;
+            } catch (RuntimeException e) {
+                endpoint.onError(permit, nanoTime.getAsLong(), start, e);
+                if (!isEndpointFailure(e))
+                    throw e;
+
+                if (nonNull(failure))
+                    e.addSuppressed(failure);
+                failure = e;
+                if (i + 1 < attempts)
+                    logger.debug("Call to endpoint {} failed, failing over", endpoint.id, e);
+            } catch (Error e) {
+                endpoint.circuit.release(permit);
+                throw e;
+            }
+        }
+
+        throw failure;
+    }
+
+    private <R> CompletableFuture<R> executeAsync(Function<S, CompletableFuture<R>> call, BooleanSupplier started, List<Endpoint<S>> candidates,
+        int attempt, Throwable previous) {
+
+        long start = nanoTime.getAsLong();
+        long permit = reserve(candidates, attempt, start);
+        var endpoint = candidates.get(attempt);
+
+        CompletableFuture<R> future;
+        try {
+            future = call.apply(endpoint.service);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future.handle((result, error) -> {
+            if (isNull(error)) {
+                endpoint.onSuccess(permit, nanoTime.getAsLong(), start);
+                return CompletableFuture.completedFuture(result);
+            }
+
+            var cause = unwrap(error);
+            endpoint.onError(permit, nanoTime.getAsLong(), start, cause);
+            if (nonNull(previous))
+                cause.addSuppressed(previous);
+
+            if (!isEndpointFailure(cause))
+                return CompletableFuture.<R>failedFuture(cause);
+
+            if (attempt + 1 >= maxAttempts || started.getAsBoolean())
+                return CompletableFuture.<R>failedFuture(cause);
+
+            logger.debug("Call to endpoint {} failed, failing over", endpoint.id, cause);
+            return executeAsync(call, started, candidates, attempt + 1, cause);
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * Orders the endpoints by preference: available endpoints by score, then ejected endpoints by the end of their ejection.
+     * <p>
+     * Nothing is reserved: the probe of a half-open endpoint is only taken by {@link #reserve(List, int, long)} when the endpoint is called.
+     */
+    private List<Endpoint<S>> select() {
+        long now = nanoTime.getAsLong();
+        var available = new ArrayList<Endpoint<S>>(endpoints.size());
+        var ejected = new ArrayList<Endpoint<S>>();
+
+        for (var endpoint : endpoints) {
+            if (endpoint.circuit.isCallPermitted(now))
+                available.add(endpoint);
+            else
+                ejected.add(endpoint);
+        }
+
+        // List.sort is stable: endpoints with the same score keep the order in which they were added.
+        available.sort(Comparator.comparingDouble(endpoint -> endpoint.score(now)));
+        ejected.sort(Comparator.comparing(endpoint -> endpoint.circuit.waitDuration(now)));
+        available.addAll(ejected);
+        return available;
+    }
+
+    /**
+     * Reserves the call of the candidate at the given position, moving there the first remaining candidate whose circuit lets the call through.
+     * <p>
+     * A candidate rejected by its circuit, such as a half-open endpoint whose probe was taken by a concurrent call, is tried after the others. If all
+     * the remaining candidates are rejected, the candidate at the given position is called anyway without permit.
+     */
+    private long reserve(List<Endpoint<S>> candidates, int index, long now) {
+        for (int i = index; i < candidates.size(); i++) {
+            var endpoint = candidates.get(i);
+            try {
+                long permit = endpoint.circuit.acquire(now);
+                if (i != index)
+                    candidates.add(index, candidates.remove(i));
+                return permit;
+            } catch (CircuitBreakerOpenException e) {
+                // Rejected: keep looking for an endpoint accepting the call.
+            }
+        }
+        return NO_PERMIT;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && nonNull(error.getCause()))
+            error = error.getCause();
+        return error;
+    }
+
+    /**
+     * Returns whether the error means that the endpoint could not serve the call, so that another endpoint may succeed.
+     */
+    static boolean isEndpointFailure(Throwable error) {
+        error = unwrap(error);
+
+        if (error instanceof WatsonxException e)
+            return e.statusCode() >= 500 || e.statusCode() == 429;
+
+        for (var cause = error; nonNull(cause); cause = cause.getCause()) {
+            if (cause instanceof IOException)
+                return true;
+            if (cause.getCause() == cause)
+                break;
+        }
+        return false;
+    }
+
+    /**
+     * Returns a new {@link Builder} instance.
+     *
+     * @param <S> the type of the service
+     * @return {@link Builder} instance.
+     */
+    public static <S extends WatsonxService> Builder<S> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Statistics of an endpoint.
+     *
+     * @param id the endpoint id
+     * @param latency the moving average of the latency, {@link Duration#ZERO} if the endpoint has not been called yet
+     * @param errorRate the moving average of the error rate, between 0 and 1, fading while the endpoint is not called
+     * @param calls the number of calls sent to the endpoint
+     * @param failures the number of calls that failed with a retryable error
+     * @param ejected {@code true} if the endpoint is currently ejected, or is being probed
+     */
+    public record EndpointStats(String id, Duration latency, double errorRate, long calls, long failures, boolean ejected) {}
+
+    private static final class Endpoint<S> {
+        private final String id;
+        private final S service;
+        private final Circuit circuit;
+        private final long halfLifeNanos;
+        private double latencyNanos;
+        private double errorRate;
+        private long updatedAt;
+        private long calls;
+        private long failures;
+
+        Endpoint(String id, S service, Circuit circuit, long halfLifeNanos) {
+            this.id = id;
+            this.service = service;
+            this.circuit = circuit;
+            this.halfLifeNanos = halfLifeNanos;
+        }
+
+        /**
+         * Returns the weight of the statistics, halved every {@code halfLifeNanos} since they were last updated.
+         */
+        private double weight(long now) {
+            return calls == 0 ? 0 : Math.pow(0.5, Math.max(0, now - updatedAt) / (double) halfLifeNanos);
+        }
+
+        synchronized double score(long now) {
+            double weight = weight(now);
+            return weight * latencyNanos * (1 + ERROR_RATE_PENALTY * weight * errorRate);
+        }
+
+        void onSuccess(long permit, long now, long start) {
+            circuit.onResult(permit, now, now - start, null);
+            record(now, now - start, 0);
+        }
+
+        void onError(long permit, long now, long start, Throwable error) {
+            circuit.onResult(permit, now, now - start, error);
+            if (isEndpointFailure(error))
+                record(now, now - start, 1);
+        }
+
+        private synchronized void record(long now, long elapsedNanos, int failure) {
+            // The samples weigh more than the stale statistics: an endpoint called again after a long time takes the latency of the call.
+            double weight = (1 - EWMA_ALPHA) * weight(now);
+            latencyNanos = (EWMA_ALPHA * elapsedNanos + weight * latencyNanos) / (EWMA_ALPHA + weight);
+            errorRate = EWMA_ALPHA * failure + weight * errorRate;
+            updatedAt = now;
+            calls++;
+            failures += failure;
+        }
+
+        synchronized EndpointStats stats(long now) {
+            return new EndpointStats(id, Duration.ofNanos((long) latencyNanos), errorRate * weight(now), calls, failures,
+                !circuit.isCallPermitted(now));
+        }
+    }
+
+    /**
+     * Builder class for constructing {@link RegionRouter} instances.
+     *
+     * @param <S> the type of the service
+     */
+    public static final class Builder<S extends WatsonxService> {
+        private final Map<String, S> endpoints = new LinkedHashMap<>();
+        private Set<String> allowedEndpoints;
+        private int failureThreshold = 5;
+        private Duration ejectDuration = Duration.ofSeconds(30);
+        private Duration statsHalfLife = Duration.ofMinutes(1);
+        private int maxAttempts;
+        private LongSupplier nanoTime = System::nanoTime;
+
+        private Builder() {}
+
+        /**
+         * Adds the service of a cloud region, identified by the name of the region.
+         * <p>
+         * The endpoints added first are preferred when they have the same score.
+         *
+         * @param region the cloud region
+         * @param service the service sending its requests to the region
+         */
+        public Builder<S> region(CloudRegion region, S service) {
+            requireNonNull(region, "region cannot be null");
+            return endpoint(region.name(), service);
+        }
+
+        /**
+         * Adds the service of an endpoint, such as a dedicated or on-premises deployment.
+         *
+         * @param id the endpoint id
+         * @param service the service sending its requests to the endpoint
+         */
+        public Builder<S> endpoint(String id, S service) {
+            requireNonNull(id, "id cannot be null");
+            requireNonNull(service, "service cannot be null");
+            if (nonNull(endpoints.putIfAbsent(id, service)))
+                throw new IllegalArgumentException("Duplicate endpoint: " + id);
+            return this;
+        }
+
+        /**
+         * Restricts the routing to the given regions, for example to keep the data in a geography.
+         * <p>
+         * The endpoints of the other regions are ignored.
+         *
+         * @param regions the allowed regions
+         */
+        public Builder<S> allowedRegions(CloudRegion... regions) {
+            requireNonNull(regions, "regions cannot be null");
+            var ids = new LinkedHashSet<String>();
+            for (var region : regions)
+                ids.add(requireNonNull(region, "regions cannot contain null elements").name());
+            return allowedEndpoints(ids);
+        }
+
+        /**
+         * Restricts the routing to the endpoints with the given ids.
+         *
+         * @param ids the allowed endpoint ids
+         */
+        public Builder<S> allowedEndpoints(Set<String> ids) {
+            allowedEndpoints = isNull(ids) ? null : Set.copyOf(ids);
+            return this;
+        }
+
+        /**
+         * Sets the number of consecutive failures after which an endpoint is ejected.
+         *
+         * @param failureThreshold the number of consecutive failures, defaults to 5
+         */
+        public Builder<S> failureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the time during which an ejected endpoint receives no call, before a probe call is sent to it.
+         *
+         * @param ejectDuration the ejection duration, defaults to 30 seconds
+         */
+        public Builder<S> ejectDuration(Duration ejectDuration) {
+            this.ejectDuration = ejectDuration;
+            return this;
+        }
+
+        /**
+         * Sets the time after which the weight of the statistics of an endpoint that is no longer called is halved.
+         * <p>
+         * A shorter half-life brings a recovered endpoint back sooner, at the cost of more calls sent to an endpoint that is still slow.
+         *
+         * @param statsHalfLife the half-life of the statistics, defaults to 1 minute
+         */
+        public Builder<S> statsHalfLife(Duration statsHalfLife) {
+            this.statsHalfLife = statsHalfLife;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of endpoints tried by a call.
+         *
+         * @param maxAttempts the maximum number of attempts, defaults to the number of endpoints
+         */
+        public Builder<S> maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        Builder<S> nanoTime(LongSupplier nanoTime) {
+            this.nanoTime = requireNonNull(nanoTime);
+            return this;
+        }
+
+        /**
+         * Builds a {@link RegionRouter} instance using the configured parameters.
+         *
+         * @return a new instance of {@link RegionRouter}
+         */
+        public RegionRouter<S> build() {
+            return new RegionRouter<>(this);
+        }
+    }
+}
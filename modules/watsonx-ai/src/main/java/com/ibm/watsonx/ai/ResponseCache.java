@@ -0,0 +1,354 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import com.ibm.watsonx.ai.chat.ChatService;
+import com.ibm.watsonx.ai.core.Json;
+import com.ibm.watsonx.ai.textgeneration.TextGenerationService;
+
+/**
+ * In-memory cache of the responses to identical, deterministic requests.
+ * <p>
+ * The responses are keyed by a hash of the canonical JSON of the request sent to watsonx.ai, in which the object fields are sorted, so that two
+ * requests with the same content share their response. The transaction id is sent as a header and is not part of the key. Each response is kept for
+ * {@code ttl}, and the least recently used responses are evicted once the cache holds {@code maxSize} of them.
+ * <p>
+ * Concurrent identical requests are deduplicated: while a request is in flight, the other ones wait for its response instead of being sent.
+ * <p>
+ * The cache is opt-in and only used by the services for the requests whose response is deterministic:
+ * <ul>
+ * <li>{@link ChatService}: requests with a {@code temperature} of 0 or a {@code seed}. The streaming responses are replayed to the
+ * {@link com.ibm.watsonx.ai.chat.ChatHandler} as a sequence of partial events followed by the complete response;</li>
+ * <li>{@link TextGenerationService}: requests using greedy decoding, the default, or a {@code random_seed}. The streaming requests are not
+ * cached.</li>
+ * </ul>
+ * A single instance can be shared by several services.
+ * <p>
+ * <b>Example usage:</b>
+ *
+ * <pre>{@code
+ * ResponseCache cache = ResponseCache.builder()
+ *     .ttl(Duration.ofMinutes(10))
+ *     .maxSize(10_000)
+ *     .build();
+ *
+ * ChatService chatService = ChatService.builder()
+ *     .baseUrl(CloudRegion.DALLAS)
+ *     .responseCache(cache)
+ *     ...
+ *     .build();
+ *
+ * ResponseCache.Stats stats = cache.stats();
+ * }</pre>
+ */
+public final class ResponseCache {
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<String, Entry> entries;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder savedNanos = new LongAdder();
+
+    private ResponseCache(Builder builder) {
+        ttlNanos = requireNonNull(builder.ttl, "ttl cannot be null").toNanos();
+        maxSize = builder.maxSize;
+
+        if (ttlNanos <= 0)
+            throw new IllegalArgumentException("ttl must be positive");
+
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= maxSize)
+                    return false;
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the response cached under the given key, or calls the loader and caches its result.
+     * <p>
+     * If the same key is being loaded by another call, waits for its result instead of calling the loader. A {@code null} result is not cached.
+     *
+     * @param key the key of the request, see {@link #key(String, String, Object)}
+     * @param loader the function sending the request
+     * @return the response
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        requireNonNull(key, "key cannot be null");
+        requireNonNull(loader, "loader cannot be null");
+
+        var cached = lookup(key);
+        if (nonNull(cached))
+            return (T) cached;
+
+        var future = new CompletableFuture<Object>();
+        var existing = inFlight.putIfAbsent(key, future);
+        if (nonNull(existing)) {
+            deduplicated.increment();
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        misses.increment();
+        long start = System.nanoTime();
+        try {
+            var value = loader.get();
+            store(key, value, System.nanoTime() - start);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Returns the response cached under the given key, or calls the loader and caches its result once it completes.
+     * <p>
+     * If the same key is being loaded by another call, returns a future completing with its result instead of calling the loader. The future returned
+     * by the loader is returned as is to the call that loads the key, so that cancelling it cancels the request. A {@code null} result is not cached.
+     *
+     * @param key the key of the request, see {@link #key(String, String, Object)}
+     * @param loader the function sending the request
+     * @return a {@link CompletableFuture} completing with the response
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> getAsync(String key, Supplier<CompletableFuture<T>> loader) {
+        requireNonNull(key, "key cannot be null");
+        requireNonNull(loader, "loader cannot be null");
+
+        var cached = lookup(key);
+        if (nonNull(cached))
+            return CompletableFuture.completedFuture((T) cached);
+
+        var future = new CompletableFuture<Object>();
+        var existing = inFlight.putIfAbsent(key, future);
+        if (nonNull(existing)) {
+            deduplicated.increment();
+            // A dependent future, so that cancelling it does not cancel the shared request.
+            return existing.thenApply(value -> (T) value);
+        }
+
+        misses.increment();
+        long start = System.nanoTime();
+        CompletableFuture<T> loaded;
+        try {
+            loaded = requireNonNull(loader.get(), "The loader returned a null future");
+        } catch (RuntimeException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+
+        loaded.whenComplete((value, error) -> {
+            if (isNull(error))
+                store(key, value, System.nanoTime() - start);
+            inFlight.remove(key, future);
+            if (isNull(error))
+                future.complete(value);
+            else
+                future.completeExceptionally(error instanceof CompletionException && nonNull(error.getCause()) ? error.getCause() : error);
+        });
+        return loaded;
+    }
+
+    /**
+     * Removes all the cached responses.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached responses, including the expired ones not yet removed.
+     *
+     * @return the number of cached responses
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the cache counters.
+     *
+     * @return a {@link Stats} snapshot
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), deduplicated.sum(), evictions.sum(), size(), Duration.ofNanos(savedNanos.sum()));
+    }
+
+    /**
+     * Returns the key of a request: a hash of the operation, the base URL and the canonical JSON of the request.
+     *
+     * @param operation the name of the operation, e.g. {@code chat}
+     * @param baseUrl the base URL of the service
+     * @param request the request body sent to watsonx.ai
+     * @return the key of the request
+     */
+    public static String key(String operation, String baseUrl, Object request) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(baseUrl).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(Json.toJson(canonical(Json.fromJson(Json.toJson(request), Object.class))).getBytes(StandardCharsets.UTF_8));
+            return operation + ":" + HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sorts the fields of the JSON objects, at every level.
+     */
+    private static Object canonical(Object node) {
+        if (node instanceof Map<?, ?> map) {
+            var sorted = new TreeMap<String, Object>();
+            map.forEach((name, value) -> sorted.put(String.valueOf(name), canonical(value)));
+            return sorted;
+        }
+        if (node instanceof List<?> list)
+            return list.stream().map(ResponseCache::canonical).toList();
+        return node;
+    }
+
+    private Object lookup(String key) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (nonNull(entry) && System.nanoTime() - entry.expiresAt() >= 0) {
+                entries.remove(key);
+                entry = null;
+            }
+        }
+
+        if (isNull(entry))
+            return null;
+
+        hits.increment();
+        savedNanos.add(entry.loadNanos());
+        return entry.value();
+    }
+
+    private void store(String key, Object value, long loadNanos) {
+        if (isNull(value))
+            return;
+
+        synchronized (entries) {
+            entries.put(key, new Entry(value, System.nanoTime() + ttlNanos, loadNanos));
+        }
+    }
+
+    private record Entry(Object value, long expiresAt, long loadNanos) {}
+
+    /**
+     * Cache counters.
+     *
+     * @param hits the number of requests served from the cache
+     * @param misses the number of requests sent to watsonx.ai
+     * @param deduplicated the number of requests that waited for an identical request in flight instead of being sent
+     * @param evictions the number of responses evicted because the cache was full
+     * @param size the number of cached responses
+     * @param latencySaved the sum of the latencies of the original requests of the responses served from the cache
+     */
+    public record Stats(long hits, long misses, long deduplicated, long evictions, int size, Duration latencySaved) {
+
+        /**
+         * Returns the fraction of the requests that were not sent to watsonx.ai.
+         *
+         * @return the hit rate, between 0 and 1
+         */
+        public double hitRate() {
+            long requests = hits + misses + deduplicated;
+            return requests == 0 ? 0 : (double) (hits + deduplicated) / requests;
+        }
+    }
+
+    /**
+     * Returns a new {@link Builder} instance.
+     *
+     * @return {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder class for constructing {@link ResponseCache} instances.
+     */
+    public static final class Builder {
+        private Duration ttl = Duration.ofMinutes(10);
+        private int maxSize = 1000;
+
+        private Builder() {}
+
+        /**
+         * Sets the time during which a response is served from the cache.
+         *
+         * @param ttl the time to live, defaults to 10 minutes
+         */
+        public Builder ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached responses; the least recently used ones are evicted first.
+         *
+         * @param maxSize the maximum number of responses, defaults to 1000
+         */
+        public Builder maxSize(int maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Builds a {@link ResponseCache} instance using the configured parameters.
+         *
+         * @return a new instance of {@link ResponseCache}
+         */
+        public ResponseCache build() {
+            return new ResponseCache(this);
+        }
+    }
+}
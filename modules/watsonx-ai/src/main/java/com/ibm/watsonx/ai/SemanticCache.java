@@ -0,0 +1,560 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.ibm.watsonx.ai.chat.ChatService;
+import com.ibm.watsonx.ai.chat.TextChatResponse;
+import com.ibm.watsonx.ai.chat.model.TextChatRequest;
+import com.ibm.watsonx.ai.chat.model.TextContent;
+import com.ibm.watsonx.ai.chat.model.UserMessage;
+import com.ibm.watsonx.ai.core.Json;
+import com.ibm.watsonx.ai.embedding.EmbeddingService;
+import com.ibm.watsonx.ai.vectorstore.HnswIndex;
+
+/**
+ * Cache of chat responses that serves a request whose last user message is similar to the one of a previous request.
+ * <p>
+ * The last user message of each request is embedded with the configured {@link EmbeddingService} and looked up in an in-process {@link HnswIndex} of
+ * the previous messages. The cached response is returned if the cosine similarity of the messages reaches {@code similarityThreshold} and the rest of
+ * the request (model, project, previous messages, tools and parameters) is identical. A hit saves the whole round trip to the model, at the cost of
+ * an embedding request.
+ * <p>
+ * Only the requests whose last message is a text {@link UserMessage} are looked up. Each namespace, e.g. one per tenant, holds at most
+ * {@code maxEntries} responses; the least recently used ones are evicted first. The responses can be saved to a memory-mapped file, with
+ * {@link #save()} or {@link #close()}, and are loaded from it when the cache is built.
+ * <p>
+ * <b>Example usage:</b>
+ *
+ * <pre>{@code
+ * SemanticCache cache = SemanticCache.builder()
+ *     .embeddingService(embeddingService)
+ *     .similarityThreshold(0.95)
+ *     .maxEntries(10_000)
+ *     .persistTo(Path.of("semantic-cache.bin"))
+ *     .build();
+ *
+ * ChatService chatService = ChatService.builder()
+ *     .baseUrl(CloudRegion.DALLAS)
+ *     .semanticCache(cache.namespace("tenant-a"))
+ *     ...
+ *     .build();
+ * }</pre>
+ */
+public final class SemanticCache implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(SemanticCache.class);
+    private static final String DEFAULT_NAMESPACE = "default";
+    private static final int FILE_MAGIC = 0x57585343;
+    private static final int FILE_VERSION = 1;
+    private static final int MAX_CONNECTIONS = 16;
+    private static final int EF_CONSTRUCTION = 100;
+    private static final int CANDIDATES = 8;
+    private static final int INITIAL_SLOTS = 64;
+
+    private final Shared shared;
+    private final Namespace namespace;
+
+    private SemanticCache(Shared shared, String namespace) {
+        this.shared = shared;
+        this.namespace = shared.namespaces.computeIfAbsent(namespace, name -> new Namespace(name, shared.maxEntries));
+    }
+
+    /**
+     * Returns a view of this cache restricted to a namespace.
+     * <p>
+     * The views share the embedding service, the configuration and the file of this cache, but not their responses.
+     *
+     * @param name the namespace, e.g. a tenant id
+     * @return the {@link SemanticCache} of the namespace
+     */
+    public SemanticCache namespace(String name) {
+        return new SemanticCache(shared, requireNonNull(name, "name cannot be null"));
+    }
+
+    /**
+     * Returns the name of the namespace of this view.
+     *
+     * @return the namespace name, {@code default} for the cache returned by the builder
+     */
+    public String namespace() {
+        return namespace.name;
+    }
+
+    /**
+     * Embeds the last user message of the request and looks up a similar previous request.
+     * <p>
+     * If the embedding fails, the request is treated as a miss and is not cached.
+     *
+     * @param request the request to send to watsonx.ai
+     * @return the {@link Lookup} holding the cached response, if any, and used to cache the response otherwise
+     */
+    public Lookup lookup(TextChatRequest request) {
+        requireNonNull(request, "request cannot be null");
+
+        var text = lastUserText(request);
+        if (isNull(text))
+            return new Lookup(null, null, null, null);
+
+        float[] vector;
+        try {
+            var embedding = shared.embeddingService.embed(text).results().get(0).embedding();
+            vector = new float[embedding.size()];
+            for (int i = 0; i < vector.length; i++)
+                vector[i] = embedding.get(i);
+            normalize(vector);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to embed the message, the semantic cache is skipped", e);
+            return new Lookup(null, null, null, null);
+        }
+
+        var contextKey = contextKey(request);
+        var response = namespace.search(vector, contextKey, shared.similarityThreshold);
+        return new Lookup(namespace, vector, contextKey, response);
+    }
+
+    /**
+     * Returns the counters of the namespace of this view.
+     *
+     * @return a {@link Stats} snapshot
+     */
+    public Stats stats() {
+        return new Stats(namespace.hits.sum(), namespace.misses.sum(), namespace.evictions.sum(), namespace.size());
+    }
+
+    /**
+     * Removes all the responses of the namespace of this view.
+     */
+    public void invalidateAll() {
+        namespace.clear();
+    }
+
+    /**
+     * Saves the responses of all the namespaces to the file configured with {@link Builder#persistTo(Path)}.
+     * <p>
+     * Each namespace is written in turn through a memory mapping of its region of a temporary file, which is then moved over the previous one.
+     */
+    public void save() {
+        if (isNull(shared.file))
+            return;
+
+        var namespaces = List.copyOf(shared.namespaces.values());
+        var temporary = shared.file.resolveSibling(shared.file.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            MappedByteBuffer header = channel.map(MapMode.READ_WRITE, 0, 3 * Integer.BYTES);
+            header.putInt(FILE_MAGIC).putInt(FILE_VERSION).putInt(namespaces.size());
+            header.force();
+
+            long position = header.capacity();
+            for (var ns : namespaces)
+                position = ns.writeTo(channel, position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            Files.move(temporary, shared.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Saves the responses, see {@link #save()}.
+     */
+    @Override
+    public void close() {
+        save();
+    }
+
+    private void load(Path file) {
+        if (!Files.exists(file))
+            return;
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != FILE_MAGIC || buffer.getInt() != FILE_VERSION) {
+                logger.warn("{} is not a semantic cache file, it is ignored", file);
+                return;
+            }
+
+            int namespaces = buffer.getInt();
+            for (int n = 0; n < namespaces; n++) {
+                var name = readString(buffer);
+                var ns = shared.namespaces.computeIfAbsent(name, key -> new Namespace(key, shared.maxEntries));
+                ns.deserialize(buffer);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to load the semantic cache from {}", file, e);
+        }
+    }
+
+    /**
+     * Returns the text of the last message of the request if it is a {@link UserMessage} made of text only.
+     */
+    private static String lastUserText(TextChatRequest request) {
+        var messages = request.messages();
+        if (isNull(messages) || messages.isEmpty() || !(messages.get(messages.size() - 1) instanceof UserMessage message))
+            return null;
+
+        if (isNull(message.content()) || message.content().isEmpty() || !message.content().stream().allMatch(TextContent.class::isInstance))
+            return null;
+
+        return message.content().stream().map(content -> ((TextContent) content).text()).collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Returns the key of everything but the last message of the request, which must match exactly.
+     */
+    @SuppressWarnings("unchecked")
+    private static String contextKey(TextChatRequest request) {
+        var json = Json.fromJson(Json.toJson(request), Map.class);
+        var messages = new ArrayList<>((List<Object>) json.get("messages"));
+        messages.remove(messages.size() - 1);
+        json.put("messages", messages);
+        return ResponseCache.key("semantic", null, json);
+    }
+
+    private static void normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector)
+            norm += value * value;
+        norm = Math.sqrt(norm);
+        if (norm == 0)
+            return;
+        for (int i = 0; i < vector.length; i++)
+            vector[i] /= norm;
+    }
+
+    private static void writeString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        var bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Result of {@link SemanticCache#lookup(TextChatRequest)}.
+     */
+    public static final class Lookup {
+        private final Namespace namespace;
+        private final float[] vector;
+        private final String contextKey;
+        private final TextChatResponse response;
+
+        private Lookup(Namespace namespace, float[] vector, String contextKey, TextChatResponse response) {
+            this.namespace = namespace;
+            this.vector = vector;
+            this.contextKey = contextKey;
+            this.response = response;
+        }
+
+        /**
+         * Returns the cached response to a similar request.
+         *
+         * @return an {@link Optional} with the cached response, or empty on a miss
+         */
+        public Optional<TextChatResponse> response() {
+            return Optional.ofNullable(response);
+        }
+
+        /**
+         * Caches the response to the request, unless the request cannot be cached.
+         *
+         * @param response the response returned by watsonx.ai
+         */
+        public void put(TextChatResponse response) {
+            if (nonNull(namespace) && nonNull(response))
+                namespace.put(vector, contextKey, response);
+        }
+    }
+
+    /**
+     * Counters of a namespace.
+     *
+     * @param hits the number of requests served from the cache
+     * @param misses the number of requests looked up without a similar previous request
+     * @param evictions the number of responses evicted because the namespace was full
+     * @param size the number of cached responses
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+
+        /**
+         * Returns the fraction of the looked up requests served from the cache.
+         *
+         * @return the hit rate, between 0 and 1
+         */
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+
+    /**
+     * State shared by the namespace views.
+     */
+    private record Shared(EmbeddingService embeddingService, float similarityThreshold, int maxEntries, Path file,
+        Map<String, Namespace> namespaces) {}
+
+    /**
+     * Responses of a namespace, indexed by the normalized embedding of their last user message.
+     */
+    private static final class Namespace {
+        private final String name;
+        private final int capacity;
+        // Slots in least recently used order.
+        private final LinkedHashMap<Integer, Integer> recency = new LinkedHashMap<>(16, 0.75f, true);
+        private final String[] contextKeys;
+        private final TextChatResponse[] responses;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private int dimensions = -1;
+        // Doubled as the responses are added, up to the capacity.
+        private float[] vectors;
+        private HnswIndex index;
+        private int nextSlot;
+
+        Namespace(String name, int capacity) {
+            this.name = name;
+            this.capacity = capacity;
+            contextKeys = new String[capacity];
+            responses = new TextChatResponse[capacity];
+        }
+
+        synchronized int size() {
+            return recency.size();
+        }
+
+        synchronized TextChatResponse search(float[] vector, String contextKey, float threshold) {
+            if (isNull(index) || vector.length != dimensions) {
+                misses.increment();
+                return null;
+            }
+
+            for (var neighbor : index.search(node -> dot(vector, node), CANDIDATES, 4 * CANDIDATES)) {
+                if (neighbor.similarity() < threshold)
+                    break;
+                if (contextKey.equals(contextKeys[neighbor.node()])) {
+                    recency.get(neighbor.node());
+                    hits.increment();
+                    return responses[neighbor.node()];
+                }
+            }
+            misses.increment();
+            return null;
+        }
+
+        synchronized void put(float[] vector, String contextKey, TextChatResponse response) {
+            if (isNull(index)) {
+                dimensions = vector.length;
+                vectors = new float[Math.min(capacity, INITIAL_SLOTS) * dimensions];
+                index = new HnswIndex(capacity, MAX_CONNECTIONS, EF_CONSTRUCTION, (a, b) -> dot(a, b));
+            } else if (vector.length != dimensions) {
+                logger.warn("The embedding has {} dimensions instead of {}, the response of namespace '{}' is not cached", vector.length, dimensions,
+                    name);
+                return;
+            }
+
+            int slot;
+            if (recency.size() == capacity) {
+                slot = recency.keySet().iterator().next();
+                recency.remove(slot);
+                index.remove(slot);
+                evictions.increment();
+            } else {
+                slot = nextSlot++;
+                if (slot * dimensions == vectors.length)
+                    vectors = Arrays.copyOf(vectors, Math.min(capacity, 2 * slot) * dimensions);
+            }
+
+            System.arraycopy(vector, 0, vectors, slot * dimensions, dimensions);
+            contextKeys[slot] = contextKey;
+            responses[slot] = response;
+            index.add(slot);
+            recency.put(slot, slot);
+        }
+
+        synchronized void clear() {
+            recency.clear();
+            Arrays.fill(contextKeys, null);
+            Arrays.fill(responses, null);
+            index = null;
+            vectors = null;
+            dimensions = -1;
+            nextSlot = 0;
+        }
+
+        /**
+         * Writes the responses at a position of the file, through a memory mapping of their region, and returns the position following them.
+         */
+        synchronized long writeTo(FileChannel channel, long position) throws IOException {
+            var name = this.name.getBytes(StandardCharsets.UTF_8);
+            var entries = new ArrayList<byte[][]>();
+            long size = Integer.BYTES + name.length + 2 * Integer.BYTES;
+            for (int slot : recency.keySet()) {
+                var entry = new byte[][] {
+                        contextKeys[slot].getBytes(StandardCharsets.UTF_8),
+                        Json.toJson(responses[slot]).getBytes(StandardCharsets.UTF_8)
+                };
+                entries.add(entry);
+                size += 2 * Integer.BYTES + entry[0].length + entry[1].length + (long) dimensions * Float.BYTES;
+            }
+
+            MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, position, size);
+            writeString(buffer, name);
+            buffer.putInt(Math.max(dimensions, 0)).putInt(entries.size());
+            int i = 0;
+            for (int slot : recency.keySet()) {
+                writeString(buffer, entries.get(i)[0]);
+                writeString(buffer, entries.get(i++)[1]);
+                buffer.asFloatBuffer().put(vectors, slot * dimensions, dimensions);
+                buffer.position(buffer.position() + dimensions * Float.BYTES);
+            }
+            buffer.force();
+            return position + size;
+        }
+
+        synchronized void deserialize(ByteBuffer buffer) {
+            int dimensions = buffer.getInt();
+            int count = buffer.getInt();
+            var vector = new float[dimensions];
+            for (int i = 0; i < count; i++) {
+                var contextKey = readString(buffer);
+                var response = Json.fromJson(readString(buffer), TextChatResponse.class);
+                buffer.asFloatBuffer().get(vector);
+                buffer.position(buffer.position() + dimensions * Float.BYTES);
+                put(vector.clone(), contextKey, response);
+            }
+        }
+
+        private float dot(float[] query, int node) {
+            float sum = 0;
+            int offset = node * dimensions;
+            for (int i = 0; i < dimensions; i++)
+                sum += query[i] * vectors[offset + i];
+            return sum;
+        }
+
+        private float dot(int a, int b) {
+            float sum = 0;
+            int offsetA = a * dimensions;
+            int offsetB = b * dimensions;
+            for (int i = 0; i < dimensions; i++)
+                sum += vectors[offsetA + i] * vectors[offsetB + i];
+            return sum;
+        }
+    }
+
+    /**
+     * Returns a new {@link Builder} instance.
+     *
+     * @return {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder class for constructing {@link SemanticCache} instances.
+     */
+    public static final class Builder {
+        private EmbeddingService embeddingService;
+        private double similarityThreshold = 0.95;
+        private int maxEntries = 10_000;
+        private Path file;
+
+        private Builder() {}
+
+        /**
+         * Sets the {@link EmbeddingService} used to embed the last user message of the requests.
+         *
+         * @param embeddingService the embedding service
+         */
+        public Builder embeddingService(EmbeddingService embeddingService) {
+            this.embeddingService = embeddingService;
+            return this;
+        }
+
+        /**
+         * Sets the cosine similarity from which two messages are considered identical.
+         *
+         * @param similarityThreshold the similarity threshold, between 0 and 1, defaults to 0.95
+         */
+        public Builder similarityThreshold(double similarityThreshold) {
+            this.similarityThreshold = similarityThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of responses of each namespace; the least recently used ones are evicted first.
+         *
+         * @param maxEntries the maximum number of responses, defaults to 10000
+         */
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Sets the file the responses are loaded from when the cache is built, and saved to by {@link SemanticCache#save()}.
+         *
+         * @param file the file, or {@code null} to keep the responses in memory only
+         */
+        public Builder persistTo(Path file) {
+            this.file = file;
+            return this;
+        }
+
+        /**
+         * Builds a {@link SemanticCache} instance using the configured parameters.
+         *
+         * @return a new instance of {@link SemanticCache}
+         */
+        public SemanticCache build() {
+            requireNonNull(embeddingService, "embeddingService must be provided");
+
+            if (similarityThreshold <= 0 || similarityThreshold > 1)
+                throw new IllegalArgumentException("similarityThreshold must be greater than 0 and at most 1");
+
+            if (maxEntries <= 0)
+                throw new IllegalArgumentException("maxEntries must be greater than 0");
+
+            var shared = new Shared(embeddingService, (float) similarityThreshold, maxEntries, file, new ConcurrentHashMap<>());
+            var cache = new SemanticCache(shared, DEFAULT_NAMESPACE);
+            if (nonNull(file))
+                cache.load(file);
+            return cache;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai;
+
+import java.time.Duration;
+
+/**
+ * Time spent in each phase of a service warm-up.
+ * <p>
+ * The phases run in parallel, so {@code total} is close to the longest phase rather than to their sum.
+ *
+ * @param token time spent fetching the authentication token, {@link Duration#ZERO} if the service has no authenticator or the token was already
+ *            fetched by another service of the same warm-up
+ * @param connection time spent opening the connections to the {@code baseUrl} host
+ * @param json time spent preparing the serializers and deserializers of the service's request and response types
+ * @param total time elapsed from the start of the warm-up to the end of the last phase
+ * @see WatsonxService#warmUp()
+ * @see Watsonx#warmUp(WatsonxService...)
+ */
+public record WarmUpReport(Duration token, Duration connection, Duration json, Duration total) {}
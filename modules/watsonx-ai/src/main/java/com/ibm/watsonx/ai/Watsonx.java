@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai;
+
+import static java.util.Objects.requireNonNull;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import com.ibm.watsonx.ai.core.auth.Authenticator;
+
+/**
+ * Static utility methods operating on several watsonx.ai services at once.
+ */
+public final class Watsonx {
+
+    private Watsonx() {}
+
+    /**
+     * Warms up the given services in parallel.
+     * <p>
+     * Services sharing the same {@link Authenticator} fetch the token once.
+     * <p>
+     * <b>Example usage:</b>
+     *
+     * <pre>{@code
+     * List<WarmUpReport> reports = Watsonx.warmUp(chatService, embeddingService, rerankService);
+     * }</pre>
+     *
+     * @param services the services to warm up
+     * @return the warm-up reports, in the order of the services
+     * @see WatsonxService#warmUp()
+     */
+    public static List<WarmUpReport> warmUp(WatsonxService... services) {
+        return WatsonxService.join(warmUpAsync(services));
+    }
+
+    /**
+     * Asynchronously warms up the given services in parallel.
+     *
+     * @param services the services to warm up
+     * @return a {@link CompletableFuture} completed with the warm-up reports, in the order of the services
+     * @see #warmUp(WatsonxService...)
+     */
+    public static CompletableFuture<List<WarmUpReport>> warmUpAsync(WatsonxService... services) {
+        requireNonNull(services, "services cannot be null");
+
+        Map<Authenticator, CompletableFuture<Duration>> tokens = new IdentityHashMap<>();
+        Function<Authenticator, CompletableFuture<Duration>> tokenPhase = authenticator -> {
+            if (tokens.containsKey(authenticator))
+                return tokens.get(authenticator).thenApply(duration -> Duration.ZERO);
+            var future = WatsonxService.fetchToken(authenticator);
+            tokens.put(authenticator, future);
+            return future;
+        };
+
+        var futures = Arrays.stream(services)
+            .map(service -> requireNonNull(service, "services cannot contain null elements").warmUpAsync(tokenPhase))
+            .toList();
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+            .thenApply(v -> futures.stream().map(CompletableFuture::join).toList());
+    }
+}
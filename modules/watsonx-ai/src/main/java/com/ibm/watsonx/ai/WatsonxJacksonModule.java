@@ -4,6 +4,14 @@
  */
 package com.ibm.watsonx.ai;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -14,22 +22,41 @@ import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.ibm.watsonx.ai.batch.BatchCreateRequest;
 import com.ibm.watsonx.ai.chat.ChatModeration;
 import com.ibm.watsonx.ai.chat.ChatResponse;
 import com.ibm.watsonx.ai.chat.ChatResponse.ResultChoice;
 import com.ibm.watsonx.ai.chat.TextChatResponse;
+import com.ibm.watsonx.ai.chat.TextChatResponse.DetectionEntry;
+import com.ibm.watsonx.ai.chat.TextChatResponse.ModerationResult;
 import com.ibm.watsonx.ai.chat.model.AssistantMessage;
+import com.ibm.watsonx.ai.chat.model.Attachment;
+import com.ibm.watsonx.ai.chat.model.AttachmentCache;
+import com.ibm.watsonx.ai.chat.model.Audio;
 import com.ibm.watsonx.ai.chat.model.BaseChatParameters.JsonSchemaObject;
 import com.ibm.watsonx.ai.chat.model.ChatMessage;
+import com.ibm.watsonx.ai.chat.model.ChatMessageCache;
 import com.ibm.watsonx.ai.chat.model.ChatUsage;
 import com.ibm.watsonx.ai.chat.model.ExtractionTags;
+import com.ibm.watsonx.ai.chat.model.Image;
 import com.ibm.watsonx.ai.chat.model.TextChatRequest;
 import com.ibm.watsonx.ai.chat.model.Tool;
 import com.ibm.watsonx.ai.chat.model.ToolArguments;
+import com.ibm.watsonx.ai.chat.model.Video;
 import com.ibm.watsonx.ai.chat.model.schema.ArraySchema;
 import com.ibm.watsonx.ai.chat.model.schema.ConstantSchema;
 import com.ibm.watsonx.ai.chat.model.schema.EnumSchema;
@@ -68,7 +95,9 @@ import com.ibm.watsonx.ai.textprocessing.KvpFields;
 import com.ibm.watsonx.ai.textprocessing.KvpFields.KvpField;
 import com.ibm.watsonx.ai.textprocessing.KvpPage;
 import com.ibm.watsonx.ai.textprocessing.Schema;
+import com.ibm.watsonx.ai.timeseries.ForecastColumn;
 import com.ibm.watsonx.ai.timeseries.ForecastData;
+import com.ibm.watsonx.ai.timeseries.ForecastResponse;
 import com.ibm.watsonx.ai.timeseries.InputSchema;
 import com.ibm.watsonx.ai.timeseries.TimeSeriesParameters;
 
@@ -76,6 +105,7 @@ import com.ibm.watsonx.ai.timeseries.TimeSeriesParameters;
  * Custom Jackson module used to register mix-in annotations for serializing and deserializing specific components.
  */
 public class WatsonxJacksonModule extends SimpleModule {
+    private static final int MAX_CACHED_MESSAGE_LENGTH = 64 * 1024;
 
     /**
      * Constructs a new WatsonxJacksonModule and registers all mix-in annotations.
@@ -96,6 +126,18 @@ public class WatsonxJacksonModule extends SimpleModule {
         setMixInAnnotation(ExtractionTags.Think.class, ExtractionTagsThinkMixin.class);
         setMixInAnnotation(ExtractionTags.Response.class, ExtractionTagsResponseMixin.class);
 
+        // --- Attachment Serializer --- //
+        addSerializer(Image.class, new ImageSerializer());
+        addSerializer(Audio.class, new AudioSerializer());
+        addSerializer(Video.class, new VideoSerializer());
+
+        // --- Chat Messages Cache --- //
+        setSerializerModifier(new MessagesSerializerModifier());
+
+        // --- Time Series (De)Serializers --- //
+        addSerializer(ForecastColumn.class, new ForecastColumnSerializer());
+        addDeserializer(ForecastResponse.class, new ForecastResponseDeserializer());
+
         // -- Text Generation Mixin --- //
         setMixInAnnotation(TextGenerationParameters.class, TextGenerationParametersMixin.class);
         setMixInAnnotation(TextGenerationParameters.Builder.class, TextGenerationParametersBuilderMixin.class);
@@ -1069,4 +1111,298 @@ public class WatsonxJacksonModule extends SimpleModule {
             @JsonProperty("text_tokens") long textTokens) {}
     }
 
+    /**
+     * Streams the base64 representation of an {@link Attachment} into the generator, without materializing it in memory. The payload of an attachment
+     * returned by an {@link AttachmentCache} is already in memory and, when the generator writes bytes, is written as-is.
+     */
+    private static void writeAttachment(JsonGenerator gen, Attachment attachment, boolean dataUri) throws IOException {
+        var encoded = AttachmentCache.encoded(attachment, dataUri);
+        if (nonNull(encoded) && gen.getOutputTarget() instanceof OutputStream) {
+            // Base64 and data URIs are plain ASCII, which is valid UTF-8 needing no escape.
+            gen.writeUTF8String(encoded.array(), encoded.arrayOffset() + encoded.position(), encoded.remaining());
+            return;
+        }
+
+        // The length is unknown (-1): a file may have changed since the attachment was created, the reader is consumed until the end.
+        try (var reader = dataUri ? attachment.openDataUriReader() : attachment.openBase64Reader()) {
+            gen.writeString(reader, -1);
+        }
+    }
+
+    /**
+     * Writes the messages of a {@link TextChatRequest}, reusing the JSON of the messages already sent by the conversation of the request.
+     */
+    static void writeMessages(List<ChatMessage> messages, ChatMessageCache cache, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+        gen.writeStartArray();
+        for (ChatMessage message : messages) {
+            if (isNull(message))
+                gen.writeNull();
+            else
+                writeMessage(message, cache, gen, provider);
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writeMessage(ChatMessage message, ChatMessageCache cache, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+        var serializer = provider.findValueSerializer(message.getClass());
+        if (isNull(cache) || !ChatMessageCache.isCacheable(message) || nonNull(gen.getPrettyPrinter()) || isNull(gen.getCodec())) {
+            serializer.serialize(message, gen, provider);
+            return;
+        }
+
+        var json = cache.get(message);
+        if (isNull(json)) {
+            var writer = new StringWriter();
+            try (var generator = gen.getCodec().getFactory().createGenerator(writer)) {
+                serializer.serialize(message, generator, provider);
+            }
+            json = writer.toString();
+            if (json.length() <= MAX_CACHED_MESSAGE_LENGTH)
+                cache.put(message, json);
+        }
+        gen.writeRawValue(json);
+    }
+
+    /**
+     * Replaces the {@code messages} property of {@link TextChatRequest} by a {@link MessagesPropertyWriter}, keeping the reflective mapping of the
+     * other properties.
+     */
+    public static class MessagesSerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+            List<BeanPropertyWriter> beanProperties) {
+
+            if (beanDesc.getBeanClass() != TextChatRequest.class)
+                return beanProperties;
+
+            return beanProperties.stream()
+                .map(writer -> writer.getName().equals("messages") ? new MessagesPropertyWriter(writer) : writer)
+                .toList();
+        }
+    }
+
+    public static class MessagesPropertyWriter extends BeanPropertyWriter {
+
+        MessagesPropertyWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider provider) throws Exception {
+            var request = (TextChatRequest) bean;
+            if (isNull(request.messageCache()) || isNull(request.messages())) {
+                super.serializeAsField(bean, gen, provider);
+                return;
+            }
+
+            gen.writeFieldName(_name);
+            writeMessages(request.messages(), request.messageCache(), gen, provider);
+        }
+    }
+
+    public static class ImageSerializer extends StdSerializer<Image> {
+
+        public ImageSerializer() {
+            super(Image.class);
+        }
+
+        @Override
+        public void serialize(Image image, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            gen.writeFieldName("url");
+            if (isNull(image.attachment()))
+                gen.writeString(image.url());
+            else
+                writeAttachment(gen, image.attachment(), true);
+            gen.writeStringField("detail", image.detail());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class AudioSerializer extends StdSerializer<Audio> {
+
+        public AudioSerializer() {
+            super(Audio.class);
+        }
+
+        @Override
+        public void serialize(Audio audio, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            if (nonNull(audio.format()))
+                gen.writeStringField("format", audio.format());
+            if (nonNull(audio.attachment())) {
+                gen.writeFieldName("data");
+                writeAttachment(gen, audio.attachment(), false);
+            } else if (nonNull(audio.data())) {
+                gen.writeStringField("data", audio.data());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    public static class VideoSerializer extends StdSerializer<Video> {
+
+        public VideoSerializer() {
+            super(Video.class);
+        }
+
+        @Override
+        public void serialize(Video video, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            gen.writeFieldName("url");
+            if (isNull(video.attachment()))
+                gen.writeString(video.url());
+            else
+                writeAttachment(gen, video.attachment(), true);
+            gen.writeEndObject();
+        }
+    }
+
+    public static class ForecastColumnSerializer extends StdSerializer<ForecastColumn> {
+
+        public ForecastColumnSerializer() {
+            super(ForecastColumn.class);
+        }
+
+        @Override
+        public void serialize(ForecastColumn column, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray(column, column.size());
+            if (column instanceof ForecastColumn.Doubles doubles) {
+                for (int i = 0; i < doubles.size(); i++) {
+                    double value = doubles.getDouble(i);
+                    if (Double.isNaN(value))
+                        gen.writeNull();
+                    else if (doubles.isIntegral())
+                        gen.writeNumber((long) value);
+                    else
+                        gen.writeNumber(value);
+                }
+            } else if (column instanceof ForecastColumn.Longs longs) {
+                for (int i = 0; i < longs.size(); i++)
+                    gen.writeNumber(longs.getLong(i));
+            } else if (column instanceof ForecastColumn.Strings strings) {
+                for (int i = 0; i < strings.size(); i++)
+                    gen.writeString(strings.getString(i));
+            } else if (column instanceof ForecastColumn.Timestamps timestamps) {
+                for (int i = 0; i < timestamps.size(); i++)
+                    gen.writeString(timestamps.getString(i));
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Reads the results of a forecast like the default mapping of Jackson, except for the arrays of numbers, which are read into a
+     * {@link ForecastColumn.Doubles} without boxing the values.
+     */
+    public static class ForecastResponseDeserializer extends StdDeserializer<ForecastResponse> {
+
+        public ForecastResponseDeserializer() {
+            super(ForecastResponse.class);
+        }
+
+        @Override
+        public ForecastResponse deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            String modelId = null, modelVersion = null, createdAt = null;
+            List<Map<String, Object>> results = null;
+            int inputDataPoints = 0, outputDataPoints = 0;
+
+            for (String field = firstField(p, ctxt, ForecastResponse.class); nonNull(field); field = p.nextFieldName()) {
+                if (p.nextToken() == JsonToken.VALUE_NULL)
+                    continue;
+
+                switch(field) {
+                    case "model_id" -> modelId = p.getValueAsString();
+                    case "model_version" -> modelVersion = p.getValueAsString();
+                    case "created_at" -> createdAt = p.getValueAsString();
+                    case "input_data_points" -> inputDataPoints = p.getValueAsInt();
+                    case "output_data_points" -> outputDataPoints = p.getValueAsInt();
+                    case "results" -> {
+                        expectArray(p, ctxt, List.class);
+                        results = new ArrayList<>();
+                        while (p.nextToken() != JsonToken.END_ARRAY) {
+                            if (p.currentToken() != JsonToken.VALUE_NULL)
+                                results.add(readResult(p, ctxt));
+                        }
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+            return new ForecastResponse(modelId, modelVersion, createdAt, results, inputDataPoints, outputDataPoints);
+        }
+
+        private static Map<String, Object> readResult(JsonParser p, DeserializationContext ctxt) throws IOException {
+            var result = new LinkedHashMap<String, Object>();
+            for (String field = firstField(p, ctxt, Map.class); nonNull(field); field = p.nextFieldName()) {
+                var token = p.nextToken();
+                result.put(field, token == JsonToken.START_ARRAY ? readArray(p, ctxt) : ctxt.readValue(p, Object.class));
+            }
+            return result;
+        }
+
+        /**
+         * Reads an array into a column while its values are numbers of the same kind, integers or decimals, or missing values. The other arrays are
+         * read into a list of the values mapped by Jackson.
+         */
+        private static List<Object> readArray(JsonParser p, DeserializationContext ctxt) throws IOException {
+            var values = new double[16];
+            int size = 0;
+            // VALUE_NUMBER_INT or VALUE_NUMBER_FLOAT, null until a number is read.
+            JsonToken kind = null;
+
+            for (var token = p.nextToken(); token != JsonToken.END_ARRAY; token = p.nextToken()) {
+                if (token != JsonToken.VALUE_NULL && (!isNumber(p, token) || (nonNull(kind) && kind != token))) {
+                    // The values read so far are boxed as Jackson would have, and the following ones are mapped by Jackson.
+                    var list = new ArrayList<Object>(ForecastColumn.numbers(values, size, kind == JsonToken.VALUE_NUMBER_INT));
+                    for (; token != JsonToken.END_ARRAY; token = p.nextToken())
+                        list.add(ctxt.readValue(p, Object.class));
+                    return list;
+                }
+
+                if (size == values.length)
+                    values = Arrays.copyOf(values, size + (size >> 1));
+                if (token == JsonToken.VALUE_NULL) {
+                    values[size++] = Double.NaN;
+                } else {
+                    kind = token;
+                    values[size++] = token == JsonToken.VALUE_NUMBER_INT ? p.getLongValue() : p.getDoubleValue();
+                }
+            }
+            return ForecastColumn.numbers(values, size, kind == JsonToken.VALUE_NUMBER_INT);
+        }
+
+        /**
+         * Returns {@code true} if the value is a decimal, or an integer that a double holds without losing precision.
+         */
+        private static boolean isNumber(JsonParser p, JsonToken token) throws IOException {
+            if (token == JsonToken.VALUE_NUMBER_FLOAT)
+                return true;
+            if (token != JsonToken.VALUE_NUMBER_INT || p.getNumberType() == JsonParser.NumberType.BIG_INTEGER)
+                return false;
+            long value = p.getLongValue();
+            return value <= 1L << 53 && value >= -(1L << 53);
+        }
+    }
+
+    /**
+     * Returns the name of the first field of the object the parser is positioned on, or {@code null} if the object is empty.
+     */
+    static String firstField(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+        if (p.isExpectedStartObjectToken())
+            return p.nextFieldName();
+        if (p.currentToken() == JsonToken.FIELD_NAME)
+            return p.currentName();
+        if (p.currentToken() == JsonToken.END_OBJECT)
+            return null;
+        ctxt.reportWrongTokenException(type, JsonToken.START_OBJECT, null);
+        return null;
+    }
+
+    static void expectArray(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+        if (!p.isExpectedStartArrayToken())
+            ctxt.reportWrongTokenException(type, JsonToken.START_ARRAY, null);
+    }
 }
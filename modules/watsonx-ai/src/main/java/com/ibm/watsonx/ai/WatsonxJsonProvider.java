@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai;
+
+import java.lang.reflect.Type;
+import com.ibm.watsonx.ai.core.provider.JacksonProvider;
+import com.ibm.watsonx.ai.core.spi.json.JsonProvider;
+import com.ibm.watsonx.ai.core.spi.json.TypeToken;
+
+/**
+ * {@link JsonProvider} registering only the {@link WatsonxJacksonModule} and the {@link WatsonxStreamingCodecModule}, instead of every Jackson module
+ * found on the classpath.
+ * <p>
+ * The request and response types of the chat, embedding and rerank APIs, as well as the chat streaming chunks, are converted with the hand-written
+ * streaming (de)serializers of the {@link WatsonxStreamingCodecModule} instead of reflection, and JSON can be parsed directly from UTF-8 bytes with
+ * {@link #fromJson(byte[], Class)}.
+ * <p>
+ * Skipping the classpath scan reduces the startup time, and the JSON conversions no longer depend on the Jackson modules brought by other libraries.
+ * It is also the recommended provider for GraalVM native images.
+ * <p>
+ * To use it, register it in a {@code META-INF/services/com.ibm.watsonx.ai.core.spi.json.JsonProvider} file:
+ *
+ * <pre>{@code
+ * com.ibm.watsonx.ai.WatsonxJsonProvider
+ * }</pre>
+ */
+public final class WatsonxJsonProvider implements JsonProvider {
+
+    private final JacksonProvider delegate = new JacksonProvider(new WatsonxJacksonModule(), new WatsonxStreamingCodecModule());
+
+    @Override
+    public <T> T fromJson(String json, Class<T> clazz) {
+        return delegate.fromJson(json, clazz);
+    }
+
+    @Override
+    public <T> T fromJson(String json, TypeToken<T> typeToken) {
+        return delegate.fromJson(json, typeToken);
+    }
+
+    @Override
+    public <T> T fromJson(byte[] json, Class<T> clazz) {
+        return delegate.fromJson(json, clazz);
+    }
+
+    @Override
+    public <T> T fromJson(byte[] json, TypeToken<T> typeToken) {
+        return delegate.fromJson(json, typeToken);
+    }
+
+    @Override
+    public String toJson(Object object) {
+        return delegate.toJson(object);
+    }
+
+    @Override
+    public String prettyPrint(Object object) {
+        return delegate.prettyPrint(object);
+    }
+
+    @Override
+    public boolean isValidObject(String json) {
+        return delegate.isValidObject(json);
+    }
+
+    @Override
+    public void prime(Type... types) {
+        delegate.prime(types);
+    }
+}
@@ -4,11 +4,15 @@
  */
 package com.ibm.watsonx.ai;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
 import java.net.http.HttpClient;
 import java.time.Duration;
 import com.ibm.watsonx.ai.core.auth.Authenticator;
+import com.ibm.watsonx.ai.core.http.HedgingPolicy;
+import com.ibm.watsonx.ai.core.http.TransportConfig;
+import com.ibm.watsonx.ai.core.http.interceptors.CircuitBreakerInterceptor;
 import com.ibm.watsonx.ai.core.provider.HttpClientProvider;
 
 /**
@@ -25,6 +29,8 @@ public abstract class WatsonxRestClient {
     protected final boolean logRequests, logResponses;
     protected final Authenticator authenticator;
     protected final HttpClient httpClient;
+    protected final HedgingPolicy hedging;
+    protected final CircuitBreakerInterceptor circuitBreaker;
 
     protected WatsonxRestClient(Builder<?, ?> builder) {
         baseUrl = requireNonNull(builder.baseUrl, "The url must be provided");
@@ -33,7 +39,11 @@ public abstract class WatsonxRestClient {
         authenticator = builder.authenticator;
         logRequests = requireNonNullElse(builder.logRequests, false);
         logResponses = requireNonNullElse(builder.logResponses, false);
-        httpClient = requireNonNullElse(builder.httpClient, HttpClientProvider.httpClient(builder.verifySsl));
+        httpClient = requireNonNullElse(builder.httpClient, isNull(builder.transport)
+            ? HttpClientProvider.httpClient(builder.verifySsl)
+            : HttpClientProvider.httpClient(builder.baseUrl, builder.verifySsl, builder.transport));
+        hedging = builder.hedging;
+        circuitBreaker = builder.circuitBreaker;
     }
 
     /**
@@ -52,6 +62,9 @@ public abstract class WatsonxRestClient {
         private Authenticator authenticator;
         private HttpClient httpClient;
         private boolean verifySsl = true;
+        private TransportConfig transport;
+        private HedgingPolicy hedging;
+        private CircuitBreakerInterceptor circuitBreaker;
 
         /**
          * Builds and returns the configured REST client instance.
@@ -148,5 +161,38 @@ public abstract class WatsonxRestClient {
             this.verifySsl = verifySsl;
             return (B) this;
         }
+
+        /**
+         * Sets the {@link TransportConfig} used to create the {@link HttpClient}: HTTP version, connect timeout, number of connections per host and
+         * connection warm-up.
+         * <p>
+         * This setting is ignored if a custom {@link HttpClient} is provided via {@link #httpClient(HttpClient)}.
+         *
+         * @param transport the {@link TransportConfig} to use
+         */
+        public B transport(TransportConfig transport) {
+            this.transport = transport;
+            return (B) this;
+        }
+
+        /**
+         * Sets the {@link HedgingPolicy} used by the REST clients supporting request hedging.
+         *
+         * @param hedging the {@link HedgingPolicy} to use, or {@code null} to disable hedging
+         */
+        public B hedging(HedgingPolicy hedging) {
+            this.hedging = hedging;
+            return (B) this;
+        }
+
+        /**
+         * Sets the {@link CircuitBreakerInterceptor} added to the HTTP clients.
+         *
+         * @param circuitBreaker the {@link CircuitBreakerInterceptor} to use, or {@code null} to disable it
+         */
+        public B circuitBreaker(CircuitBreakerInterceptor circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return (B) this;
+        }
     }
 }
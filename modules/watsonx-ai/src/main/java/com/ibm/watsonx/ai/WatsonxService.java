@@ -8,13 +8,23 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
+import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import com.ibm.watsonx.ai.batch.BatchService;
 import com.ibm.watsonx.ai.chat.ChatService;
+import com.ibm.watsonx.ai.core.Json;
 import com.ibm.watsonx.ai.core.auth.Authenticator;
 import com.ibm.watsonx.ai.core.auth.ibmcloud.IBMCloudAuthenticator;
+import com.ibm.watsonx.ai.core.http.TransportConfig;
+import com.ibm.watsonx.ai.core.http.interceptors.CircuitBreakerInterceptor;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
+import com.ibm.watsonx.ai.core.provider.HttpClientProvider;
 import com.ibm.watsonx.ai.deployment.DeploymentService;
 import com.ibm.watsonx.ai.detection.DetectionService;
 import com.ibm.watsonx.ai.embedding.EmbeddingService;
@@ -75,6 +85,9 @@ public abstract class WatsonxService {
     protected final boolean logRequests, logResponses;
     protected final HttpClient httpClient;
     protected final boolean verifySsl;
+    protected final TransportConfig transport;
+    protected final CircuitBreakerInterceptor circuitBreaker;
+    protected final Authenticator authenticator;
 
     // Required by CDI for proxy / bean instantiation
     protected WatsonxService() {
@@ -85,6 +98,9 @@ public abstract class WatsonxService {
         logResponses = false;
         httpClient = null;
         verifySsl = true;
+        transport = null;
+        circuitBreaker = null;
+        authenticator = null;
     }
 
     protected WatsonxService(Builder<?> builder) {
@@ -95,6 +111,86 @@ public abstract class WatsonxService {
         logResponses = requireNonNullElse(builder.logResponses, false);
         httpClient = builder.httpClient;
         verifySsl = builder.verifySsl;
+        transport = builder.transport;
+        circuitBreaker = builder.circuitBreaker;
+        authenticator = builder.authenticator;
+    }
+
+    /**
+     * Prepares the service for its first request.
+     * <p>
+     * The following phases run in parallel:
+     * <ul>
+     * <li>the authentication token is fetched and cached by the authenticator;</li>
+     * <li>the connections to the {@code baseUrl} host are opened, including the TLS handshake;</li>
+     * <li>the serializers and deserializers of the service's request and response types are created.</li>
+     * </ul>
+     * A failed token fetch is reported as an exception, while a failed connection is ignored: the connection is then opened by the first request.
+     * <p>
+     * To warm up several services at once, use {@link Watsonx#warmUp(WatsonxService...)}.
+     *
+     * @return a {@link WarmUpReport} with the time spent in each phase
+     */
+    public WarmUpReport warmUp() {
+        return join(warmUpAsync());
+    }
+
+    /**
+     * Asynchronously prepares the service for its first request.
+     *
+     * @return a {@link CompletableFuture} completed with a {@link WarmUpReport} once all the phases are done
+     * @see #warmUp()
+     */
+    public CompletableFuture<WarmUpReport> warmUpAsync() {
+        return warmUpAsync(WatsonxService::fetchToken);
+    }
+
+    /**
+     * Returns the request and response types converted by the service, prepared by {@link #warmUp()}.
+     *
+     * @return the types to prepare
+     */
+    protected List<Type> jsonTypes() {
+        return List.of();
+    }
+
+    CompletableFuture<WarmUpReport> warmUpAsync(Function<Authenticator, CompletableFuture<Duration>> tokenPhase) {
+        long start = System.nanoTime();
+
+        var token = isNull(authenticator) ? CompletableFuture.completedFuture(Duration.ZERO) : tokenPhase.apply(authenticator);
+
+        var client = requireNonNullElse(httpClient, isNull(transport)
+            ? HttpClientProvider.httpClient(verifySsl)
+            : HttpClientProvider.httpClient(baseUrl, verifySsl, transport));
+        var connection = HttpClientProvider.warmUp(client, baseUrl).thenApply(v -> elapsed(start));
+
+        var json = CompletableFuture.supplyAsync(() -> {
+            long jsonStart = System.nanoTime();
+            Json.prime(jsonTypes().toArray(Type[]::new));
+            return elapsed(jsonStart);
+        }, ExecutorProvider.cpuExecutor());
+
+        return CompletableFuture.allOf(token, connection, json)
+            .thenApply(v -> new WarmUpReport(token.join(), connection.join(), json.join(), elapsed(start)));
+    }
+
+    static CompletableFuture<Duration> fetchToken(Authenticator authenticator) {
+        long start = System.nanoTime();
+        return authenticator.tokenAsync().thenApply(token -> elapsed(start));
+    }
+
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException ex)
+                throw ex;
+            throw e;
+        }
+    }
+
+    private static Duration elapsed(long start) {
+        return Duration.ofNanos(System.nanoTime() - start);
     }
 
     /**
@@ -112,6 +208,8 @@ public abstract class WatsonxService {
         private Authenticator authenticator;
         private HttpClient httpClient;
         private boolean verifySsl = true;
+        private TransportConfig transport;
+        private CircuitBreakerInterceptor circuitBreaker;
 
         /**
          * Sets the endpoint URL to which requests will be sent.
@@ -190,7 +288,7 @@ public abstract class WatsonxService {
          */
         public T apiKey(String apiKey) {
             requireNonNull(apiKey, "The apiKey must be provided");
-            authenticator = IBMCloudAuthenticator.builder().httpClient(httpClient).apiKey(apiKey).build();
+            authenticator = IBMCloudAuthenticator.builder().httpClient(httpClient).transport(transport).apiKey(apiKey).build();
             return (T) this;
         }
 
@@ -237,6 +335,34 @@ public abstract class WatsonxService {
             return (T) this;
         }
 
+        /**
+         * Sets the {@link TransportConfig} used to create the {@link HttpClient}: HTTP version, connect timeout, number of connections per host and
+         * connection warm-up.
+         * <p>
+         * This setting is ignored if a custom {@link HttpClient} is provided via {@link #httpClient(HttpClient)}. The connections to the watsonx.ai
+         * and IAM hosts are pooled separately.
+         * <p>
+         * Must be called before {@link #apiKey(String)} for the setting to apply to the IAM requests.
+         *
+         * @param transport the {@link TransportConfig} to use
+         */
+        public T transport(TransportConfig transport) {
+            this.transport = transport;
+            return (T) this;
+        }
+
+        /**
+         * Sets the {@link CircuitBreakerInterceptor} that rejects the requests to an endpoint and model that keep failing or responding slowly.
+         * <p>
+         * The same instance can be shared by several services, each circuit being identified by the endpoint and model of the requests.
+         *
+         * @param circuitBreaker the {@link CircuitBreakerInterceptor} to use, or {@code null} to disable it
+         */
+        public T circuitBreaker(CircuitBreakerInterceptor circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return (T) this;
+        }
+
         /**
          * Returns the authenticator.
          *
@@ -260,6 +386,8 @@ public abstract class WatsonxService {
             authenticator = other.authenticator;
             httpClient = other.httpClient;
             verifySsl = other.verifySsl;
+            transport = other.transport;
+            circuitBreaker = other.circuitBreaker;
             return (T) this;
         }
     }
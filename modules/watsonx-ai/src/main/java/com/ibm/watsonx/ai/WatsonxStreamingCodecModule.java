@@ -0,0 +1,394 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai;
+
+import static com.ibm.watsonx.ai.WatsonxJacksonModule.expectArray;
+import static com.ibm.watsonx.ai.WatsonxJacksonModule.firstField;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.ibm.watsonx.ai.chat.TextChatResponse.DetectionEntry;
+import com.ibm.watsonx.ai.chat.TextChatResponse.ModerationResult;
+import com.ibm.watsonx.ai.chat.model.ChatUsage;
+import com.ibm.watsonx.ai.chat.model.PartialChatResponse;
+import com.ibm.watsonx.ai.chat.model.ResultMessage;
+import com.ibm.watsonx.ai.chat.model.TextChatRequest;
+import com.ibm.watsonx.ai.embedding.EmbeddingPayload;
+import com.ibm.watsonx.ai.embedding.EmbeddingResponse;
+import com.ibm.watsonx.ai.rerank.RerankPayload;
+import com.ibm.watsonx.ai.rerank.RerankResponse;
+
+/**
+ * Jackson module with hand-written streaming (de)serializers for the types converted on every inference call: the chat requests and streaming chunks,
+ * and the embedding and rerank requests and responses.
+ * <p>
+ * The (de)serializers avoid the reflective bean introspection of the mix-ins of {@link WatsonxJacksonModule}, but each property is listed by hand.
+ * The module is therefore not loaded automatically: it is only registered by the opt-in {@link WatsonxJsonProvider}, on top of
+ * {@link WatsonxJacksonModule}.
+ */
+public class WatsonxStreamingCodecModule extends SimpleModule {
+
+    /**
+     * Constructs a new WatsonxStreamingCodecModule and registers the (de)serializers.
+     */
+    public WatsonxStreamingCodecModule() {
+        super("watsonx-ai-streaming-codec-module");
+        addSerializer(EmbeddingPayload.class, new EmbeddingPayloadSerializer());
+        addDeserializer(EmbeddingResponse.class, new EmbeddingResponseDeserializer());
+        addSerializer(TextChatRequest.class, new TextChatRequestSerializer());
+        addDeserializer(PartialChatResponse.class, new PartialChatResponseDeserializer());
+        addSerializer(RerankPayload.class, new RerankPayloadSerializer());
+        addDeserializer(RerankResponse.class, new RerankResponseDeserializer());
+    }
+
+    public static class EmbeddingPayloadSerializer extends StdSerializer<EmbeddingPayload> {
+
+        public EmbeddingPayloadSerializer() {
+            super(EmbeddingPayload.class);
+        }
+
+        @Override
+        public void serialize(EmbeddingPayload payload, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            writeField(gen, "model_id", payload.modelId());
+            writeField(gen, "space_id", payload.spaceId());
+            writeField(gen, "project_id", payload.projectId());
+            if (nonNull(payload.inputs())) {
+                gen.writeArrayFieldStart("inputs");
+                for (String input : payload.inputs())
+                    gen.writeString(input);
+                gen.writeEndArray();
+            }
+            writeField(gen, provider, "parameters", payload.parameters());
+            writeField(gen, provider, "crypto", payload.crypto());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class EmbeddingResponseDeserializer extends StdDeserializer<EmbeddingResponse> {
+
+        public EmbeddingResponseDeserializer() {
+            super(EmbeddingResponse.class);
+        }
+
+        @Override
+        public EmbeddingResponse deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            String modelId = null, createdAt = null;
+            List<EmbeddingResponse.Result> results = null;
+            Integer inputTokenCount = null;
+
+            for (String field = firstField(p, ctxt, EmbeddingResponse.class); nonNull(field); field = p.nextFieldName()) {
+                if (p.nextToken() == JsonToken.VALUE_NULL)
+                    continue;
+
+                switch(field) {
+                    case "model_id" -> modelId = p.getValueAsString();
+                    case "created_at" -> createdAt = p.getValueAsString();
+                    case "input_token_count" -> inputTokenCount = p.getValueAsInt();
+                    case "results" -> {
+                        expectArray(p, ctxt, List.class);
+                        results = new ArrayList<>();
+                        while (p.nextToken() != JsonToken.END_ARRAY)
+                            results.add(readResult(p, ctxt));
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+            return new EmbeddingResponse(modelId, createdAt, results, inputTokenCount);
+        }
+
+        private static EmbeddingResponse.Result readResult(JsonParser p, DeserializationContext ctxt) throws IOException {
+            List<Float> embedding = null;
+            String input = null;
+
+            for (String field = firstField(p, ctxt, EmbeddingResponse.Result.class); nonNull(field); field = p.nextFieldName()) {
+                if (p.nextToken() == JsonToken.VALUE_NULL)
+                    continue;
+
+                switch(field) {
+                    case "input" -> input = p.getValueAsString();
+                    case "embedding" -> {
+                        expectArray(p, ctxt, List.class);
+                        embedding = new ArrayList<>();
+                        while (p.nextToken() != JsonToken.END_ARRAY)
+                            embedding.add(p.currentToken() == JsonToken.VALUE_NULL ? null : p.getFloatValue());
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+            return new EmbeddingResponse.Result(embedding, input);
+        }
+    }
+
+    public static class PartialChatResponseDeserializer extends StdDeserializer<PartialChatResponse> implements ResolvableDeserializer {
+
+        private JsonDeserializer<Object> messageDeserializer;
+        private JsonDeserializer<Object> usageDeserializer;
+        private JsonDeserializer<Object> moderationsDeserializer;
+        private JsonDeserializer<Object> detectionsDeserializer;
+
+        public PartialChatResponseDeserializer() {
+            super(PartialChatResponse.class);
+        }
+
+        @Override
+        public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+            var typeFactory = ctxt.getTypeFactory();
+            var string = typeFactory.constructType(String.class);
+            messageDeserializer = ctxt.findRootValueDeserializer(typeFactory.constructType(ResultMessage.class));
+            usageDeserializer = ctxt.findRootValueDeserializer(typeFactory.constructType(ChatUsage.class));
+            moderationsDeserializer = ctxt.findRootValueDeserializer(
+                typeFactory.constructMapType(Map.class, string, typeFactory.constructCollectionType(List.class, ModerationResult.class)));
+            detectionsDeserializer = ctxt.findRootValueDeserializer(
+                typeFactory.constructMapType(Map.class, string, typeFactory.constructCollectionType(List.class, DetectionEntry.class)));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public PartialChatResponse deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            String id = null, object = null, modelId = null, model = null, modelVersion = null, createdAt = null;
+            String serviceTier = null, systemFingerprint = null;
+            List<PartialChatResponse.ResultChoice> choices = null;
+            Long created = null;
+            ChatUsage usage = null;
+            Map<String, List<ModerationResult>> moderations = null;
+            Map<String, List<DetectionEntry>> detections = null;
+            Boolean cached = null;
+
+            for (String field = firstField(p, ctxt, PartialChatResponse.class); nonNull(field); field = p.nextFieldName()) {
+                if (p.nextToken() == JsonToken.VALUE_NULL)
+                    continue;
+
+                switch(field) {
+                    case "id" -> id = p.getValueAsString();
+                    case "object" -> object = p.getValueAsString();
+                    case "model_id" -> modelId = p.getValueAsString();
+                    case "model" -> model = p.getValueAsString();
+                    case "model_version" -> modelVersion = p.getValueAsString();
+                    case "created_at" -> createdAt = p.getValueAsString();
+                    case "service_tier" -> serviceTier = p.getValueAsString();
+                    case "system_fingerprint" -> systemFingerprint = p.getValueAsString();
+                    case "created" -> created = p.getValueAsLong();
+                    case "cached" -> cached = p.getValueAsBoolean();
+                    case "usage" -> usage = (ChatUsage) usageDeserializer.deserialize(p, ctxt);
+                    case "moderations" -> moderations = (Map<String, List<ModerationResult>>) moderationsDeserializer.deserialize(p, ctxt);
+                    case "detections" -> detections = (Map<String, List<DetectionEntry>>) detectionsDeserializer.deserialize(p, ctxt);
+                    case "choices" -> {
+                        expectArray(p, ctxt, List.class);
+                        choices = new ArrayList<>(1);
+                        while (p.nextToken() != JsonToken.END_ARRAY)
+                            choices.add(readChoice(p, ctxt));
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+            return new PartialChatResponse(id, object, modelId, model, choices, created, modelVersion, createdAt, usage, moderations, detections,
+                serviceTier, systemFingerprint, cached);
+        }
+
+        private PartialChatResponse.ResultChoice readChoice(JsonParser p, DeserializationContext ctxt) throws IOException {
+            Integer index = null;
+            ResultMessage delta = null;
+            String finishReason = null;
+
+            for (String field = firstField(p, ctxt, PartialChatResponse.ResultChoice.class); nonNull(field); field = p.nextFieldName()) {
+                if (p.nextToken() == JsonToken.VALUE_NULL)
+                    continue;
+
+                switch(field) {
+                    case "index" -> index = p.getValueAsInt();
+                    case "finish_reason" -> finishReason = p.getValueAsString();
+                    case "delta" -> delta = (ResultMessage) messageDeserializer.deserialize(p, ctxt);
+                    default -> p.skipChildren();
+                }
+            }
+            return new PartialChatResponse.ResultChoice(index, delta, finishReason);
+        }
+    }
+
+    public static class TextChatRequestSerializer extends StdSerializer<TextChatRequest> {
+
+        public TextChatRequestSerializer() {
+            super(TextChatRequest.class);
+        }
+
+        @Override
+        public void serialize(TextChatRequest request, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            writeField(gen, "model_id", request.modelId());
+            writeField(gen, "model", request.model());
+            writeField(gen, "space_id", request.spaceId());
+            writeField(gen, "project_id", request.projectId());
+            if (nonNull(request.messages())) {
+                gen.writeFieldName("messages");
+                WatsonxJacksonModule.writeMessages(request.messages(), request.messageCache(), gen, provider);
+            }
+            writeField(gen, provider, "tools", request.tools());
+            writeField(gen, "tool_choice_option", request.toolChoiceOption());
+            writeField(gen, provider, "tool_choice", request.toolChoice());
+            writeField(gen, "frequency_penalty", request.frequencyPenalty());
+            writeField(gen, provider, "logit_bias", request.logitBias());
+            writeField(gen, "logprobs", request.logprobs());
+            writeField(gen, "top_logprobs", request.topLogprobs());
+            writeField(gen, "max_completion_tokens", request.maxCompletionTokens());
+            writeField(gen, "n", request.n());
+            writeField(gen, "presence_penalty", request.presencePenalty());
+            writeField(gen, "seed", request.seed());
+            writeField(gen, provider, "stop", request.stop());
+            writeField(gen, "temperature", request.temperature());
+            writeField(gen, "top_p", request.topP());
+            if (nonNull(request.timeLimit()))
+                gen.writeNumberField("time_limit", request.timeLimit());
+            writeField(gen, provider, "response_format", request.responseFormat());
+            writeField(gen, provider, "chat_template_kwargs", request.chatTemplateKwargs());
+            writeField(gen, "include_reasoning", request.includeReasoning());
+            writeField(gen, "reasoning_effort", request.reasoningEffort());
+            writeField(gen, provider, "guided_choice", request.guidedChoice());
+            writeField(gen, "guided_regex", request.guidedRegex());
+            writeField(gen, "guided_grammar", request.guidedGrammar());
+            writeField(gen, "repetition_penalty", request.repetitionPenalty());
+            writeField(gen, "length_penalty", request.lengthPenalty());
+            writeField(gen, "context", request.context());
+            writeField(gen, provider, "moderations", request.moderations());
+            writeField(gen, provider, "crypto", request.crypto());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class RerankPayloadSerializer extends StdSerializer<RerankPayload> {
+
+        public RerankPayloadSerializer() {
+            super(RerankPayload.class);
+        }
+
+        @Override
+        public void serialize(RerankPayload payload, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            writeField(gen, "model_id", payload.modelId());
+            if (nonNull(payload.inputs())) {
+                gen.writeArrayFieldStart("inputs");
+                for (RerankPayload.RerankInput input : payload.inputs()) {
+                    if (isNull(input)) {
+                        gen.writeNull();
+                        continue;
+                    }
+                    gen.writeStartObject();
+                    writeField(gen, "text", input.text());
+                    gen.writeEndObject();
+                }
+                gen.writeEndArray();
+            }
+            writeField(gen, "query", payload.query());
+            writeField(gen, "space_id", payload.spaceId());
+            writeField(gen, "project_id", payload.projectId());
+            writeField(gen, provider, "parameters", payload.parameters());
+            writeField(gen, provider, "crypto", payload.crypto());
+            gen.writeEndObject();
+        }
+    }
+
+    public static class RerankResponseDeserializer extends StdDeserializer<RerankResponse> {
+
+        public RerankResponseDeserializer() {
+            super(RerankResponse.class);
+        }
+
+        @Override
+        public RerankResponse deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            String modelId = null, createdAt = null, modelVersion = null, query = null;
+            List<RerankResponse.RerankResult> results = null;
+            int inputTokenCount = 0;
+
+            for (String field = firstField(p, ctxt, RerankResponse.class); nonNull(field); field = p.nextFieldName()) {
+                if (p.nextToken() == JsonToken.VALUE_NULL)
+                    continue;
+
+                switch(field) {
+                    case "model_id" -> modelId = p.getValueAsString();
+                    case "created_at" -> createdAt = p.getValueAsString();
+                    case "model_version" -> modelVersion = p.getValueAsString();
+                    case "query" -> query = p.getValueAsString();
+                    case "input_token_count" -> inputTokenCount = p.getValueAsInt();
+                    case "results" -> {
+                        expectArray(p, ctxt, List.class);
+                        results = new ArrayList<>();
+                        while (p.nextToken() != JsonToken.END_ARRAY)
+                            results.add(readResult(p, ctxt));
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+            return new RerankResponse(modelId, results, createdAt, inputTokenCount, modelVersion, query);
+        }
+
+        private static RerankResponse.RerankResult readResult(JsonParser p, DeserializationContext ctxt) throws IOException {
+            int index = 0;
+            Double score = null;
+            RerankResponse.RerankInputResult input = null;
+
+            for (String field = firstField(p, ctxt, RerankResponse.RerankResult.class); nonNull(field); field = p.nextFieldName()) {
+                if (p.nextToken() == JsonToken.VALUE_NULL)
+                    continue;
+
+                switch(field) {
+                    case "index" -> index = p.getValueAsInt();
+                    case "score" -> score = p.getValueAsDouble();
+                    case "input" -> {
+                        String text = null;
+                        for (String inputField = firstField(p, ctxt, RerankResponse.RerankInputResult.class); nonNull(inputField); inputField =
+                            p.nextFieldName()) {
+                            if (p.nextToken() != JsonToken.VALUE_NULL && inputField.equals("text"))
+                                text = p.getValueAsString();
+                            else
+                                p.skipChildren();
+                        }
+                        input = new RerankResponse.RerankInputResult(text);
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+            return new RerankResponse.RerankResult(index, score, input);
+        }
+    }
+
+    private static void writeField(JsonGenerator gen, String name, String value) throws IOException {
+        if (nonNull(value))
+            gen.writeStringField(name, value);
+    }
+
+    private static void writeField(JsonGenerator gen, String name, Integer value) throws IOException {
+        if (nonNull(value))
+            gen.writeNumberField(name, value);
+    }
+
+    private static void writeField(JsonGenerator gen, String name, Double value) throws IOException {
+        if (nonNull(value))
+            gen.writeNumberField(name, value);
+    }
+
+    private static void writeField(JsonGenerator gen, String name, Boolean value) throws IOException {
+        if (nonNull(value))
+            gen.writeBooleanField(name, value);
+    }
+
+    private static void writeField(JsonGenerator gen, SerializerProvider provider, String name, Object value) throws IOException {
+        if (nonNull(value))
+            provider.defaultSerializeField(name, value, gen);
+    }
+}
@@ -72,6 +72,8 @@ public class BatchService extends ProjectService {
             .authenticator(builder.authenticator())
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
             .build();
     }
 
@@ -0,0 +1,394 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.chat;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import static java.util.Objects.requireNonNullElse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import com.ibm.watsonx.ai.chat.model.AssistantMessage;
+import com.ibm.watsonx.ai.chat.model.ChatMessage;
+import com.ibm.watsonx.ai.chat.model.ChatMessageCache;
+import com.ibm.watsonx.ai.chat.model.ChatParameters;
+import com.ibm.watsonx.ai.chat.model.SystemMessage;
+import com.ibm.watsonx.ai.chat.model.TextContent;
+import com.ibm.watsonx.ai.chat.model.Tool;
+import com.ibm.watsonx.ai.chat.model.ToolMessage;
+import com.ibm.watsonx.ai.chat.model.UserMessage;
+import com.ibm.watsonx.ai.core.Json;
+import com.ibm.watsonx.ai.tokenization.TokenizationService;
+
+/**
+ * Runs the chat → tool → chat loop on top of a {@link ChatService} and a {@link ToolRegistry}.
+ * <p>
+ * The agent sends the conversation to the model, executes the tool calls of the response concurrently (see {@link ToolRegistry#executeAll(List)}),
+ * appends the results to the conversation and repeats until the model returns a final answer or the maximum number of steps is reached.
+ * <p>
+ * Example usage:
+ *
+ * <pre>{@code
+ * Agent agent = Agent.builder()
+ *     .chatService(chatService)
+ *     .toolRegistry(toolRegistry)
+ *     .maxSteps(5)
+ *     .build();
+ *
+ * AgentResult result = agent.run(
+ *     SystemMessage.of("You are a helpful assistant"),
+ *     UserMessage.text("What time is it in Rome?")
+ * );
+ *
+ * System.out.println(result.answer().content());
+ * }</pre>
+ *
+ * <b>Streaming</b>
+ * <p>
+ * When a {@link ChatHandler} is configured, every step is streamed and each tool call is executed as soon as it is complete, while the model is still
+ * generating the rest of the response (see {@link ChatService#chatStreaming(ChatRequest, ToolExecutor, ChatHandler)}).
+ * <p>
+ * <b>Conversation memory</b>
+ * <p>
+ * Earlier messages are sent again, unchanged, at every step. Each run owns a {@link ChatMessageCache}: the JSON of the text messages is serialized
+ * once and reused by the following requests of the same run, so each step only serializes the messages added since the previous one.
+ * <p>
+ * When a {@link TokenizationService} and a token budget are configured, the oldest turns are removed from the messages sent to the model as soon as
+ * the conversation exceeds the budget. The leading system messages and the last user message, with everything that follows it, are always kept. The
+ * number of tokens of each message is computed once, with the tokenizer of the {@link TokenizationService} model, and counts the JSON representation
+ * of the message, so the estimate is conservative. Images, audio and video are not sent to the tokenizer, each one counts for a fixed estimate of
+ * 1000 tokens. Tool definitions are not counted.
+ * <p>
+ * This class is thread-safe: a single instance can run several conversations concurrently.
+ *
+ * @see AgentResult
+ */
+public final class Agent {
+    private static final int DEFAULT_MAX_STEPS = 10;
+    // Estimated number of tokens of an image, audio or video, which are not sent to the tokenizer.
+    private static final int ATTACHMENT_TOKENS = 1_000;
+
+    private final ChatService chatService;
+    private final ToolRegistry toolRegistry;
+    private final List<Tool> tools;
+    private final ChatParameters parameters;
+    private final ChatHandler handler;
+    private final int maxSteps;
+    private final TokenizationService tokenizationService;
+    private final Integer maxInputTokens;
+    private final Map<ChatMessage, Integer> tokenCounts = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private Agent(Builder builder) {
+        chatService = requireNonNull(builder.chatService, "chatService can't be null");
+        toolRegistry = requireNonNull(builder.toolRegistry, "toolRegistry can't be null");
+        tools = requireNonNullElse(builder.tools, toolRegistry.tools());
+        parameters = builder.parameters;
+        handler = builder.handler;
+        maxSteps = requireNonNullElse(builder.maxSteps, DEFAULT_MAX_STEPS);
+        tokenizationService = builder.tokenizationService;
+        maxInputTokens = builder.maxInputTokens;
+
+        if (maxSteps <= 0)
+            throw new IllegalArgumentException("maxSteps must be greater than 0");
+
+        if (isNull(tokenizationService) != isNull(maxInputTokens))
+            throw new IllegalArgumentException("tokenizationService and maxInputTokens must be set together");
+
+        if (nonNull(maxInputTokens) && maxInputTokens <= 0)
+            throw new IllegalArgumentException("maxInputTokens must be greater than 0");
+    }
+
+    /**
+     * Runs the agent on the given messages.
+     *
+     * @param messages the messages of the conversation
+     * @return the {@link AgentResult}
+     */
+    public AgentResult run(ChatMessage... messages) {
+        return run(List.of(messages));
+    }
+
+    /**
+     * Runs the agent on the given messages.
+     *
+     * @param messages the messages of the conversation
+     * @return the {@link AgentResult}
+     */
+    public AgentResult run(List<? extends ChatMessage> messages) {
+        requireNonNull(messages, "messages can't be null");
+        if (messages.isEmpty())
+            throw new IllegalArgumentException("messages can't be empty");
+
+        var conversation = new ArrayList<ChatMessage>(messages);
+        var steps = new ArrayList<AgentResult.Step>();
+        var pinned = leadingSystemMessages(conversation);
+        var firstKept = pinned;
+        var messageCache = new ChatMessageCache();
+        AssistantMessage answer = null;
+
+        for (int step = 1; step <= maxSteps; step++) {
+            firstKept = compact(conversation, pinned, firstKept, messageCache);
+
+            var input = new ArrayList<ChatMessage>(pinned + conversation.size() - firstKept);
+            input.addAll(conversation.subList(0, pinned));
+            input.addAll(conversation.subList(firstKept, conversation.size()));
+
+            var chatRequest = ChatRequest.builder()
+                .messages(input)
+                .parameters(parameters)
+                .tools(tools)
+                .messageCache(messageCache)
+                .build();
+
+            long start = System.nanoTime();
+            ChatResponse chatResponse;
+            List<ToolMessage> toolMessages;
+            long responded;
+
+            if (isNull(handler)) {
+                chatResponse = chatService.chat(chatRequest);
+                responded = System.nanoTime();
+                answer = chatResponse.toAssistantMessage();
+                toolMessages = answer.hasToolCalls() ? toolRegistry.executeAll(answer.toolCalls()) : List.of();
+            } else {
+                var toolHandler = new ToolDispatchingChatHandler(handler, toolRegistry);
+                chatResponse = join(chatService.chatStreaming(chatRequest, toolHandler));
+                responded = System.nanoTime();
+                answer = chatResponse.toAssistantMessage();
+                toolMessages = join(toolHandler.toolResult(chatResponse)).toolMessages();
+            }
+
+            long end = System.nanoTime();
+            conversation.add(answer);
+            conversation.addAll(toolMessages);
+            steps.add(new AgentResult.Step(
+                step,
+                Duration.ofNanos(end - start),
+                Duration.ofNanos(end - responded),
+                chatResponse.usage(),
+                input.size(),
+                toolMessages));
+
+            if (!answer.hasToolCalls())
+                return new AgentResult(answer, conversation, steps, true);
+        }
+
+        return new AgentResult(answer, conversation, steps, false);
+    }
+
+    /**
+     * Returns a new {@link Builder} instance.
+     *
+     * @return {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the index of the first message to send after the leading system messages, removing the oldest turns until the conversation fits the
+     * token budget.
+     * <p>
+     * A turn always starts with a {@link UserMessage}, so the tool results are never separated from the assistant message that requested them.
+     */
+    private int compact(List<ChatMessage> conversation, int pinned, int firstKept, ChatMessageCache messageCache) {
+        if (isNull(maxInputTokens))
+            return firstKept;
+
+        var messages = new ArrayList<ChatMessage>(conversation.subList(0, pinned));
+        messages.addAll(conversation.subList(firstKept, conversation.size()));
+
+        var counts = countTokens(messages, messageCache);
+        int total = counts.stream().mapToInt(Integer::intValue).sum();
+        // Index of the first kept message in the counts, after the pinned messages.
+        final int countsOffset = firstKept;
+
+        while (total > maxInputTokens) {
+            int next = firstKept + 1;
+            while (next < conversation.size() && !(conversation.get(next) instanceof UserMessage))
+                next++;
+
+            if (next >= conversation.size())
+                break;
+
+            for (int i = firstKept; i < next; i++)
+                total -= counts.get(pinned + i - countsOffset);
+            firstKept = next;
+        }
+        return firstKept;
+    }
+
+    /**
+     * Returns the number of tokens of each message, tokenizing concurrently the messages not counted yet.
+     * <p>
+     * The JSON of the messages already sent in this run is taken from the cache instead of being serialized again.
+     */
+    private List<Integer> countTokens(List<ChatMessage> messages, ChatMessageCache messageCache) {
+        var futures = messages.stream()
+            .map(message -> {
+                var count = tokenCounts.get(message);
+                if (nonNull(count))
+                    return CompletableFuture.completedFuture(count);
+
+                // The attachments are estimated instead of being sent to the tokenizer, only the text of the message is tokenized.
+                var text = withoutAttachments(message);
+                int attachmentTokens = text == message ? 0 : attachments((UserMessage) message) * ATTACHMENT_TOKENS;
+                var json = messageCache.get(text);
+                return tokenizationService.tokenizeAsync(nonNull(json) ? json : Json.toJson(text))
+                    .thenApply(response -> {
+                        var tokenCount = response.result().tokenCount() + attachmentTokens;
+                        tokenCounts.put(message, tokenCount);
+                        return tokenCount;
+                    });
+            }).toList();
+
+        return join(CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+            .thenApply(v -> futures.stream().map(CompletableFuture::join).toList()));
+    }
+
+    /**
+     * Returns the message without its images, audio and video, or the message itself if it has none.
+     */
+    private static ChatMessage withoutAttachments(ChatMessage message) {
+        if (!(message instanceof UserMessage userMessage) || attachments(userMessage) == 0)
+            return message;
+
+        var text = userMessage.content().stream().filter(TextContent.class::isInstance).toList();
+        return new UserMessage(UserMessage.ROLE, text, userMessage.name());
+    }
+
+    private static int attachments(UserMessage message) {
+        return (int) message.content().stream().filter(content -> !(content instanceof TextContent)).count();
+    }
+
+    private static int leadingSystemMessages(List<ChatMessage> conversation) {
+        int count = 0;
+        while (count < conversation.size() && conversation.get(count) instanceof SystemMessage)
+            count++;
+        return count;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException ex)
+                throw ex;
+            throw e;
+        }
+    }
+
+    /**
+     * Builder class for constructing {@link Agent} instances.
+     */
+    public final static class Builder {
+        private ChatService chatService;
+        private ToolRegistry toolRegistry;
+        private List<Tool> tools;
+        private ChatParameters parameters;
+        private ChatHandler handler;
+        private Integer maxSteps;
+        private TokenizationService tokenizationService;
+        private Integer maxInputTokens;
+
+        private Builder() {}
+
+        /**
+         * Sets the {@link ChatService} used to call the model.
+         *
+         * @param chatService the chat service
+         */
+        public Builder chatService(ChatService chatService) {
+            this.chatService = chatService;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ToolRegistry} used to execute the tool calls.
+         *
+         * @param toolRegistry the tool registry
+         */
+        public Builder toolRegistry(ToolRegistry toolRegistry) {
+            this.toolRegistry = toolRegistry;
+            return this;
+        }
+
+        /**
+         * Sets the tools exposed to the model.
+         * <p>
+         * Defaults to all the tools of the {@link ToolRegistry}.
+         *
+         * @param tools the tools exposed to the model
+         */
+        public Builder tools(List<Tool> tools) {
+            this.tools = tools;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ChatParameters} used for every chat request.
+         *
+         * @param parameters the chat parameters
+         */
+        public Builder parameters(ChatParameters parameters) {
+            this.parameters = parameters;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ChatHandler} that receives the streamed responses.
+         * <p>
+         * When a handler is set, every step is streamed and the tool calls are executed while the response is still being generated.
+         *
+         * @param handler the chat handler
+         */
+        public Builder handler(ChatHandler handler) {
+            this.handler = handler;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of chat requests of a single run.
+         * <p>
+         * Defaults to {@code 10}.
+         *
+         * @param maxSteps the maximum number of steps
+         */
+        public Builder maxSteps(int maxSteps) {
+            this.maxSteps = maxSteps;
+            return this;
+        }
+
+        /**
+         * Enables the compaction of the conversation.
+         * <p>
+         * The oldest turns are not sent to the model once the messages exceed the given number of tokens, as counted by the
+         * {@link TokenizationService}.
+         *
+         * @param tokenizationService the tokenization service used to count the tokens of the messages
+         * @param maxInputTokens the maximum number of tokens of the messages sent to the model
+         */
+        public Builder compaction(TokenizationService tokenizationService, int maxInputTokens) {
+            this.tokenizationService = tokenizationService;
+            this.maxInputTokens = maxInputTokens;
+            return this;
+        }
+
+        /**
+         * Builds an {@link Agent} instance using the configured parameters.
+         *
+         * @return a new instance of {@link Agent}
+         */
+        public Agent build() {
+            return new Agent(this);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.chat;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+import java.time.Duration;
+import java.util.List;
+import com.ibm.watsonx.ai.chat.model.AssistantMessage;
+import com.ibm.watsonx.ai.chat.model.ChatMessage;
+import com.ibm.watsonx.ai.chat.model.ChatUsage;
+import com.ibm.watsonx.ai.chat.model.ToolMessage;
+
+/**
+ * Result of an {@link Agent} run.
+ *
+ * @param answer the last assistant message returned by the model
+ * @param messages the whole conversation, including the input messages, the assistant messages and the tool results
+ * @param steps the steps executed by the agent, in execution order
+ * @param completed {@code true} if the model returned a final answer, {@code false} if the run was stopped by the maximum number of steps while the
+ *            model was still calling tools
+ */
+public record AgentResult(AssistantMessage answer, List<ChatMessage> messages, List<Step> steps, boolean completed) {
+
+    public AgentResult {
+        requireNonNull(answer);
+        messages = List.copyOf(messages);
+        steps = List.copyOf(steps);
+    }
+
+    /**
+     * Returns the total latency of the run.
+     *
+     * @return the sum of the latencies of all the steps
+     */
+    public Duration latency() {
+        return steps.stream().map(Step::latency).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    /**
+     * Returns the token usage of the whole run.
+     *
+     * @return the sum of the token usage of all the steps
+     */
+    public ChatUsage usage() {
+        int completionTokens = 0, promptTokens = 0, totalTokens = 0;
+        for (var step : steps) {
+            if (isNull(step.usage()))
+                continue;
+            completionTokens += isNull(step.usage().completionTokens()) ? 0 : step.usage().completionTokens();
+            promptTokens += isNull(step.usage().promptTokens()) ? 0 : step.usage().promptTokens();
+            totalTokens += isNull(step.usage().totalTokens()) ? 0 : step.usage().totalTokens();
+        }
+        return new ChatUsage(completionTokens, promptTokens, totalTokens);
+    }
+
+    /**
+     * A single chat round-trip of an {@link Agent} run, followed by the execution of the requested tools.
+     *
+     * @param number the step number, starting from {@code 1}
+     * @param latency the time spent on the step, chat request and tool execution included
+     * @param toolLatency the time spent waiting for the tools once the chat response was complete
+     * @param usage the token usage reported by the model
+     * @param inputMessages the number of messages sent to the model, after compaction
+     * @param toolMessages the results of the tools executed in this step
+     */
+    public record Step(int number, Duration latency, Duration toolLatency, ChatUsage usage, int inputMessages, List<ToolMessage> toolMessages) {
+
+        public Step {
+            toolMessages = List.copyOf(toolMessages);
+        }
+    }
+}
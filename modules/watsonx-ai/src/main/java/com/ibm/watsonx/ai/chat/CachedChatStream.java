@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.chat;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNullElse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import com.ibm.watsonx.ai.chat.model.CompletedToolCall;
+import com.ibm.watsonx.ai.chat.model.PartialChatResponse;
+import com.ibm.watsonx.ai.chat.model.PartialToolCall;
+import com.ibm.watsonx.ai.chat.model.ResultMessage;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
+
+/**
+ * Records the streaming chat responses to cache and replays the cached ones to a {@link ChatHandler}.
+ */
+final class CachedChatStream {
+
+    private CachedChatStream() {}
+
+    /**
+     * Replays a cached response to the handler on the callback executor.
+     * <p>
+     * For each choice, the reasoning and the content are delivered as a single partial event each, marked as {@code cached}, followed by the tool
+     * calls, then the complete response.
+     *
+     * @param response the cached response
+     * @param handler the handler receiving the events
+     * @return a {@link CompletableFuture} that completes with the response once the handler has received all the events
+     */
+    static CompletableFuture<ChatResponse> replay(ChatResponse response, ChatHandler handler) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                for (var choice : requireNonNullElse(response.choices(), List.<ChatResponse.ResultChoice>of())) {
+                    var message = choice.message();
+                    if (isNull(message))
+                        continue;
+
+                    if (nonNull(message.reasoningContent()) && !message.reasoningContent().isEmpty())
+                        handler.onPartialThinking(message.reasoningContent(),
+                            partial(response, choice.index(), new ResultMessage(message.role(), null, message.reasoningContent(), null, null)));
+
+                    if (nonNull(message.content()) && !message.content().isEmpty())
+                        handler.onPartialResponse(message.content(),
+                            partial(response, choice.index(), new ResultMessage(message.role(), message.content(), null, null, null)));
+
+                    if (nonNull(message.toolCalls())) {
+                        for (int i = 0; i < message.toolCalls().size(); i++) {
+                            var toolCall = message.toolCalls().get(i);
+                            int toolIndex = nonNull(toolCall.index()) ? toolCall.index() : i;
+                            handler.onPartialToolCall(new PartialToolCall(response.id(), choice.index(), toolIndex, toolCall.id(),
+                                toolCall.function().name(), toolCall.function().arguments()));
+                            handler.onCompleteToolCall(new CompletedToolCall(response.id(), choice.index(), toolCall));
+                        }
+                    }
+                }
+                handler.onCompleteResponse(response);
+                return response;
+            } catch (RuntimeException e) {
+                handler.onError(e);
+                throw e;
+            }
+        }, ExecutorProvider.callbackExecutor());
+    }
+
+    private static PartialChatResponse partial(ChatResponse response, Integer index, ResultMessage delta) {
+        return new PartialChatResponse(response.id(), "chat.completion.chunk", response.model(), response.model(),
+            List.of(new PartialChatResponse.ResultChoice(index, delta, null)), response.created(), null, null, null, null, null, null, null, true);
+    }
+
+    /**
+     * Handler forwarding the events to another handler and recording the complete response, unless an error was reported.
+     */
+    static final class Recorder implements ChatHandler {
+        private final ChatHandler delegate;
+        private volatile ChatResponse response;
+        private volatile boolean failed;
+
+        Recorder(ChatHandler delegate) {
+            this.delegate = delegate;
+        }
+
+        /**
+         * Returns the complete response to cache.
+         *
+         * @return the complete response, or {@code null} if an error was reported during the stream
+         */
+        ChatResponse recorded() {
+            return failed ? null : response;
+        }
+
+        @Override
+        public void onPartialResponse(String partialResponse, PartialChatResponse partialChatResponse) {
+            delegate.onPartialResponse(partialResponse, partialChatResponse);
+        }
+
+        @Override
+        public void onCompleteResponse(ChatResponse completeResponse) {
+            response = completeResponse;
+            delegate.onCompleteResponse(completeResponse);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            failed = true;
+            delegate.onError(error);
+        }
+
+        @Override
+        public void onPartialToolCall(PartialToolCall partialToolCall) {
+            delegate.onPartialToolCall(partialToolCall);
+        }
+
+        @Override
+        public void onCompleteToolCall(CompletedToolCall completeToolCall) {
+            delegate.onCompleteToolCall(completeToolCall);
+        }
+
+        @Override
+        public void onPartialThinking(String partialThinking, PartialChatResponse partialChatResponse) {
+            delegate.onPartialThinking(partialThinking, partialChatResponse);
+        }
+
+        @Override
+        public boolean failOnFirstError() {
+            return delegate.failOnFirstError();
+        }
+    }
+}
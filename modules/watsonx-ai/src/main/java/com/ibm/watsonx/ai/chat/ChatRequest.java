@@ -4,6 +4,8 @@
  */
 package com.ibm.watsonx.ai.chat;
 
+import com.ibm.watsonx.ai.chat.model.ChatMessageCache;
+
 /**
  * Represents a chat request for the {@link ChatService}.
  * <p>
@@ -41,10 +43,12 @@ package com.ibm.watsonx.ai.chat;
  */
 public final class ChatRequest extends NativeChatRequest {
     private final ChatModeration moderations;
+    private final ChatMessageCache messageCache;
 
     private ChatRequest(Builder builder) {
         super(builder);
         moderations = builder.moderations;
+        messageCache = builder.messageCache;
     }
 
     /**
@@ -56,6 +60,15 @@ public final class ChatRequest extends NativeChatRequest {
         return moderations;
     }
 
+    /**
+     * Returns the cache of the JSON of the messages.
+     *
+     * @return the {@link ChatMessageCache}, or {@code null} if not set
+     */
+    public ChatMessageCache messageCache() {
+        return messageCache;
+    }
+
     /**
      * Creates a builder initialized with the current state of the {@code ChatRequest}.
      *
@@ -67,7 +80,8 @@ public final class ChatRequest extends NativeChatRequest {
             .tools(tools)
             .parameters(parameters)
             .thinking(thinking)
-            .moderations(moderations);
+            .moderations(moderations)
+            .messageCache(messageCache);
     }
 
     /**
@@ -100,6 +114,7 @@ public final class ChatRequest extends NativeChatRequest {
      */
     public final static class Builder extends NativeChatRequest.Builder<Builder> {
         private ChatModeration moderations;
+        private ChatMessageCache messageCache;
 
         private Builder() {}
 
@@ -113,6 +128,19 @@ public final class ChatRequest extends NativeChatRequest {
             return this;
         }
 
+        /**
+         * Sets the cache of the JSON of the messages, shared by the requests of a conversation.
+         * <p>
+         * The messages already serialized by a previous request of the conversation are written from the cache instead of being serialized again. The
+         * cache is not part of the request and is ignored by {@link #equals(Object)}.
+         *
+         * @param messageCache the {@link ChatMessageCache} of the conversation
+         */
+        public Builder messageCache(ChatMessageCache messageCache) {
+            this.messageCache = messageCache;
+            return this;
+        }
+
         /**
          * Builds a {@link ChatRequest} instance using the configured parameters.
          *
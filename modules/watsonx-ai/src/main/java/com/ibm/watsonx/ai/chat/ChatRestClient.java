@@ -8,6 +8,7 @@ import java.util.ServiceLoader;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import com.ibm.watsonx.ai.WatsonxRestClient;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 import com.ibm.watsonx.ai.chat.model.TextChatRequest;
 
 /**
@@ -33,6 +34,19 @@ public abstract class ChatRestClient extends WatsonxRestClient {
      */
     public abstract TextChatResponse chat(String transactionId, TextChatRequest textChatRequest);
 
+    /**
+     * Executes an asynchronous chat request against the watsonx.ai API.
+     * <p>
+     * The default implementation runs {@link #chat} on the I/O executor, implementations should override it to send the request asynchronously.
+     *
+     * @param transactionId an optional client-provided transaction identifier used for tracing
+     * @param textChatRequest the structured chat request payload
+     * @return a {@link CompletableFuture} resolving to the complete {@link TextChatResponse} returned by watsonx.ai
+     */
+    public CompletableFuture<TextChatResponse> chatAsync(String transactionId, TextChatRequest textChatRequest) {
+        return CompletableFuture.supplyAsync(() -> chat(transactionId, textChatRequest), ExecutorProvider.ioExecutor());
+    }
+
     /**
      * Executes an asynchronous streaming chat request against the watsonx.ai API.
      * <p>
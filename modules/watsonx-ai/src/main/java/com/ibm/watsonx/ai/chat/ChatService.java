@@ -7,11 +7,17 @@ package com.ibm.watsonx.ai.chat;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
+import java.lang.reflect.Type;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import com.ibm.watsonx.ai.ResponseCache;
+import com.ibm.watsonx.ai.SemanticCache;
 import com.ibm.watsonx.ai.WatsonxService.CryptoService;
 import com.ibm.watsonx.ai.chat.interceptor.InterceptorContext;
 import com.ibm.watsonx.ai.chat.interceptor.MessageInterceptor;
@@ -19,11 +25,15 @@ import com.ibm.watsonx.ai.chat.interceptor.ToolInterceptor;
 import com.ibm.watsonx.ai.chat.model.BaseChatParameters.ToolChoiceOption;
 import com.ibm.watsonx.ai.chat.model.ChatMessage;
 import com.ibm.watsonx.ai.chat.model.ChatParameters;
+import com.ibm.watsonx.ai.chat.model.CompletedToolCall;
 import com.ibm.watsonx.ai.chat.model.FinishReason;
 import com.ibm.watsonx.ai.chat.model.PartialChatResponse;
+import com.ibm.watsonx.ai.chat.model.TextChatRequest;
 import com.ibm.watsonx.ai.chat.model.Tool;
+import com.ibm.watsonx.ai.chat.model.ToolCall;
 import com.ibm.watsonx.ai.chat.model.UserMessage;
 import com.ibm.watsonx.ai.core.auth.Authenticator;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 
 /**
  * Service for interacting with IBM watsonx.ai Text Chat APIs.
@@ -55,12 +65,16 @@ public class ChatService extends CryptoService implements ChatProvider<ChatReque
     private final ChatProvider<ChatRequest, TextChatResponse> chatProvider;
     private final ChatParameters defaultParameters;
     private final List<Tool> defaultTools;
+    private final ResponseCache responseCache;
+    private final SemanticCache semanticCache;
 
     private ChatService(Builder builder) {
         super(builder);
         requireNonNull(builder.authenticator(), "authenticator cannot be null");
         messageInterceptor = builder.messageInterceptor;
         toolInterceptor = builder.toolInterceptor;
+        responseCache = builder.responseCache;
+        semanticCache = builder.semanticCache;
         defaultTools = isNull(builder.defaultTools) ? null : List.copyOf(builder.defaultTools);
 
         var defaultParametersBuilder = nonNull(builder.defaultParameters)
@@ -82,6 +96,8 @@ public class ChatService extends CryptoService implements ChatProvider<ChatReque
             .timeout(timeout)
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
             .authenticator(builder.authenticator())
             .build();
 
@@ -101,35 +117,35 @@ public class ChatService extends CryptoService implements ChatProvider<ChatReque
         requireNonNull(chatRequest, "chatRequest cannot be null");
 
         var textChatRequest = ChatUtility.buildTextChatRequest(chatRequest, defaultParameters);
-        var extractionTags = nonNull(chatRequest.thinking()) ? chatRequest.thinking().extractionTags() : null;
         var transactionId = nonNull(chatRequest.parameters()) ? chatRequest.parameters().transactionId() : null;
-        var chatResponse = client.chat(transactionId, textChatRequest);
-
-        if (nonNull(messageInterceptor)) {
-            var newChoices = messageInterceptor.intercept(new InterceptorContext<>(chatProvider, chatRequest, chatResponse));
-            chatResponse = chatResponse.toBuilder()
-                .choices(newChoices)
-                .build();
-        }
+        var chatResponse = isCacheable(textChatRequest)
+            ? responseCache.get(ResponseCache.key("chat", baseUrl, textChatRequest), () -> send(transactionId, textChatRequest))
+            : send(transactionId, textChatRequest);
+        return processResponse(chatRequest, textChatRequest, chatResponse);
+    }
 
-        if (nonNull(toolInterceptor)) {
-            var newChoices = toolInterceptor.intercept(new InterceptorContext<>(chatProvider, chatRequest, chatResponse));
-            chatResponse = chatResponse.toBuilder()
-                .choices(newChoices)
-                .build();
-        }
+    /**
+     * Sends a chat request asynchronously.
+     * <p>
+     * The configured message and tool interceptors are applied to the response before the returned future completes.
+     *
+     * @param chatRequest the {@link ChatRequest}
+     * @return a {@link CompletableFuture} with the {@link TextChatResponse} containing the model's reply
+     */
+    public CompletableFuture<TextChatResponse> chatAsync(ChatRequest chatRequest) {
+        requireNonNull(chatRequest, "chatRequest cannot be null");
 
-        var chatResponseBuilder = chatResponse.toBuilder();
+        var textChatRequest = ChatUtility.buildTextChatRequest(chatRequest, defaultParameters);
+        var transactionId = nonNull(chatRequest.parameters()) ? chatRequest.parameters().transactionId() : null;
+        var chatResponse = isCacheable(textChatRequest)
+            ? responseCache.getAsync(ResponseCache.key("chat", baseUrl, textChatRequest), () -> sendAsync(transactionId, textChatRequest))
+            : sendAsync(transactionId, textChatRequest);
 
-        // For certain models, watsonx.ai does not return FinishReason.TOOL_CHOICE when ToolChoiceOption.REQUIRED is set
-        if (ToolChoiceOption.REQUIRED.value().equals(textChatRequest.toolChoiceOption()))
-            chatResponseBuilder.choices(
-                chatResponse.choices().stream()
-                    .map(resultChoice -> resultChoice.withFinishReason(FinishReason.TOOL_CALLS))
-                    .toList()
-            );
+        // The interceptors can call the model again, so they must not run on the cpu executor.
+        if (isNull(messageInterceptor) && isNull(toolInterceptor))
+            return chatResponse.thenApply(response -> processResponse(chatRequest, textChatRequest, response));
 
-        return chatResponseBuilder.extractionTags(extractionTags).build();
+        return chatResponse.thenApplyAsync(response -> processResponse(chatRequest, textChatRequest, response), ExecutorProvider.ioExecutor());
     }
 
     /**
@@ -157,7 +173,89 @@ public class ChatService extends CryptoService implements ChatProvider<ChatReque
             .extractionTags(extractionTags)
             .build();
 
-        return client.chatStreaming(transactionId, textChatRequest, context, handler);
+        if (!isCacheable(textChatRequest))
+            return client.chatStreaming(transactionId, textChatRequest, context, handler);
+
+        var stream = new AtomicReference<CompletableFuture<ChatResponse>>();
+        var cached = responseCache.getAsync(ResponseCache.key("chat_stream", baseUrl, textChatRequest), () -> {
+            var recorder = new CachedChatStream.Recorder(handler);
+            stream.set(client.chatStreaming(transactionId, textChatRequest, context, recorder));
+            return stream.get().thenApply(response -> recorder.recorded());
+        });
+
+        // This call sends the request: the response is streamed to the handler as usual.
+        if (nonNull(stream.get()))
+            return stream.get();
+
+        // The response is cached or being streamed to another call: it is replayed once complete. If that stream failed or was cancelled, the
+        // request is sent without the cache.
+        return cached.handle((response, error) -> nonNull(response)
+            ? CachedChatStream.replay(response, handler)
+            : isNull(error) || unwrap(error) instanceof CancellationException
+                ? client.chatStreaming(transactionId, textChatRequest, context, handler)
+                : failed(unwrap(error), handler))
+            .thenCompose(future -> future);
+    }
+
+    /**
+     * Sends a streaming chat request and executes the tool calls while the response is still being streamed.
+     * <p>
+     * Each tool call is dispatched to the {@link ToolExecutor} as soon as its arguments are complete (see
+     * {@link ChatHandler#onCompleteToolCall(CompletedToolCall)}), instead of waiting for the end of the stream. When the model calls several tools,
+     * the execution of the first tools overlaps with the generation of the following ones. The tools run on the callback executor or, for a
+     * {@link ToolRegistry}, with its concurrency limits and timeouts (see {@link ToolRegistry#executeAsync(ToolCall)}).
+     * <p>
+     * Only the tool calls of the first choice are executed. The returned future completes once the stream is complete and every tool has returned,
+     * and fails with the error of the first failing tool call, in tool call order.
+     * <p>
+     * <b>Example usage:</b>
+     *
+     * <pre>{@code
+     * var result = chatService.chatStreaming(chatRequest, toolRegistry, handler).join();
+     * messages.addAll(result.messages());
+     *
+     * while (result.hasToolCalls()) {
+     *     result = chatService.chatStreaming(messages, toolRegistry, handler).join();
+     *     messages.addAll(result.messages());
+     * }
+     * }</pre>
+     *
+     * @param chatRequest the {@link ChatRequest}
+     * @param toolExecutor the {@link ToolExecutor} used to execute the tool calls
+     * @param handler a {@link ChatHandler} implementation that receives partial responses, the complete response, and error notifications
+     * @return a {@link CompletableFuture} that completes with the {@link StreamingToolResult}
+     */
+    public CompletableFuture<StreamingToolResult> chatStreaming(ChatRequest chatRequest, ToolExecutor toolExecutor, ChatHandler handler) {
+        requireNonNull(toolExecutor, "toolExecutor cannot be null");
+        requireNonNull(handler, "The chatHandler parameter can not be null");
+
+        var toolHandler = new ToolDispatchingChatHandler(handler, toolExecutor);
+        var stream = chatStreaming(chatRequest, toolHandler);
+        var result = stream.thenCompose(toolHandler::toolResult);
+
+        result.whenComplete((r, t) -> {
+            if (result.isCancelled())
+                stream.cancel(true);
+        });
+
+        return result;
+    }
+
+    /**
+     * Sends a streaming chat request using the provided messages and executes the tool calls while the response is still being streamed.
+     *
+     * @param messages the list of chat messages forming the prompt history
+     * @param toolExecutor the {@link ToolExecutor} used to execute the tool calls
+     * @param handler a {@link ChatHandler} implementation
+     * @return a {@link CompletableFuture} that completes with the {@link StreamingToolResult}
+     * @see #chatStreaming(ChatRequest, ToolExecutor, ChatHandler)
+     */
+    public CompletableFuture<StreamingToolResult> chatStreaming(List<ChatMessage> messages, ToolExecutor toolExecutor, ChatHandler handler) {
+        var chatRequest = ChatRequest.builder()
+            .messages(messages)
+            .tools(defaultTools)
+            .build();
+        return chatStreaming(chatRequest, toolExecutor, handler);
     }
 
     /**
@@ -241,6 +339,55 @@ public class ChatService extends CryptoService implements ChatProvider<ChatReque
         );
     }
 
+    /**
+     * Sends a chat request asynchronously using the provided message.
+     *
+     * @param message Message to send.
+     * @return a {@link CompletableFuture} with the {@link TextChatResponse} containing the model's reply
+     */
+    public CompletableFuture<TextChatResponse> chatAsync(String message) {
+        return chatAsync(List.<ChatMessage>of(UserMessage.text(message)));
+    }
+
+    /**
+     * Sends a chat request asynchronously using the provided messages.
+     *
+     * @param messages the list of chat messages representing the conversation history
+     * @return a {@link CompletableFuture} with the {@link TextChatResponse} containing the model's reply
+     */
+    public CompletableFuture<TextChatResponse> chatAsync(List<ChatMessage> messages) {
+        return chatAsync(messages, ChatParameters.builder().build());
+    }
+
+    /**
+     * Sends a chat request asynchronously using the provided messages and parameters.
+     *
+     * @param messages the list of chat messages representing the conversation history
+     * @param parameters parameters to customize the output generation
+     * @return a {@link CompletableFuture} with the {@link TextChatResponse} containing the model's reply
+     */
+    public CompletableFuture<TextChatResponse> chatAsync(List<ChatMessage> messages, ChatParameters parameters) {
+        return chatAsync(messages, parameters, null);
+    }
+
+    /**
+     * Sends a chat request asynchronously using the provided messages, parameters and tools.
+     *
+     * @param messages the list of chat messages representing the conversation history
+     * @param parameters parameters to customize the output generation
+     * @param tools list of tools the model may call during generation
+     * @return a {@link CompletableFuture} with the {@link TextChatResponse} containing the model's reply
+     */
+    public CompletableFuture<TextChatResponse> chatAsync(List<ChatMessage> messages, ChatParameters parameters, List<Tool> tools) {
+        return chatAsync(
+            ChatRequest.builder()
+                .messages(messages)
+                .parameters(parameters)
+                .tools(isNull(tools) ? defaultTools : tools)
+                .build()
+        );
+    }
+
     /**
      * Sends a chat request to the model using the provided message.
      *
@@ -361,6 +508,99 @@ public class ChatService extends CryptoService implements ChatProvider<ChatReque
         return chatStreaming(chatRequest, handler);
     }
 
+    /**
+     * Returns whether the response to the request can be served from the {@link ResponseCache}: the cache is enabled and the request is
+     * deterministic.
+     */
+    private boolean isCacheable(TextChatRequest textChatRequest) {
+        if (isNull(responseCache))
+            return false;
+
+        var temperature = textChatRequest.temperature();
+        return (nonNull(temperature) && temperature == 0) || nonNull(textChatRequest.seed());
+    }
+
+    /**
+     * Sends the request to watsonx.ai, unless the {@link SemanticCache} holds the response to a similar request.
+     */
+    private TextChatResponse send(String transactionId, TextChatRequest textChatRequest) {
+        if (isNull(semanticCache))
+            return client.chat(transactionId, textChatRequest);
+
+        var lookup = semanticCache.lookup(textChatRequest);
+        if (lookup.response().isPresent())
+            return lookup.response().get();
+
+        var chatResponse = client.chat(transactionId, textChatRequest);
+        lookup.put(chatResponse);
+        return chatResponse;
+    }
+
+    /**
+     * Sends the request to watsonx.ai asynchronously, unless the {@link SemanticCache} holds the response to a similar request.
+     * <p>
+     * The message is embedded on the I/O executor, as the embedding request is blocking.
+     */
+    private CompletableFuture<TextChatResponse> sendAsync(String transactionId, TextChatRequest textChatRequest) {
+        if (isNull(semanticCache))
+            return client.chatAsync(transactionId, textChatRequest);
+
+        return CompletableFuture.supplyAsync(() -> semanticCache.lookup(textChatRequest), ExecutorProvider.ioExecutor())
+            .thenCompose(lookup -> lookup.response().isPresent()
+                ? CompletableFuture.completedFuture(lookup.response().get())
+                : client.chatAsync(transactionId, textChatRequest).thenApply(chatResponse -> {
+                    lookup.put(chatResponse);
+                    return chatResponse;
+                }));
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && nonNull(error.getCause()) ? error.getCause() : error;
+    }
+
+    private static CompletableFuture<ChatResponse> failed(Throwable error, ChatHandler handler) {
+        handler.onError(error);
+        return CompletableFuture.failedFuture(error);
+    }
+
+    /**
+     * Applies the interceptors to the response returned by watsonx.ai.
+     */
+    private TextChatResponse processResponse(ChatRequest chatRequest, TextChatRequest textChatRequest, TextChatResponse chatResponse) {
+        var extractionTags = nonNull(chatRequest.thinking()) ? chatRequest.thinking().extractionTags() : null;
+
+        if (nonNull(messageInterceptor)) {
+            var newChoices = messageInterceptor.intercept(new InterceptorContext<>(chatProvider, chatRequest, chatResponse));
+            chatResponse = chatResponse.toBuilder()
+                .choices(newChoices)
+                .build();
+        }
+
+        if (nonNull(toolInterceptor)) {
+            var newChoices = toolInterceptor.intercept(new InterceptorContext<>(chatProvider, chatRequest, chatResponse));
+            chatResponse = chatResponse.toBuilder()
+                .choices(newChoices)
+                .build();
+        }
+
+        var chatResponseBuilder = chatResponse.toBuilder();
+
+        // For certain models, watsonx.ai does not return FinishReason.TOOL_CHOICE when ToolChoiceOption.REQUIRED is set
+        if (ToolChoiceOption.REQUIRED.value().equals(textChatRequest.toolChoiceOption()))
+            chatResponseBuilder.choices(
+                chatResponse.choices().stream()
+                    .map(resultChoice -> resultChoice.withFinishReason(FinishReason.TOOL_CALLS))
+                    .toList()
+            );
+
+        return chatResponseBuilder.extractionTags(extractionTags).build();
+    }
+
+    @Override
+    protected List<Type> jsonTypes() {
+        return List.of(TextChatRequest.class, TextChatResponse.class, PartialChatResponse.class);
+    }
+
     /**
      * Returns a new {@link Builder} instance.
      * <p>
@@ -394,6 +634,8 @@ public class ChatService extends CryptoService implements ChatProvider<ChatReque
         private ToolInterceptor<ChatRequest> toolInterceptor;
         private ChatParameters defaultParameters;
         private List<Tool> defaultTools;
+        private ResponseCache responseCache;
+        private SemanticCache semanticCache;
 
         private Builder() {}
 
@@ -489,6 +731,32 @@ public class ChatService extends CryptoService implements ChatProvider<ChatReque
             return this;
         }
 
+        /**
+         * Sets the {@link ResponseCache} serving the responses to identical requests with a {@code temperature} of 0 or a {@code seed}.
+         * <p>
+         * The message and tool interceptors are applied to the cached responses as to the responses returned by watsonx.ai. The streaming responses
+         * are cached separately, once their interceptors have been applied, and replayed to the {@link ChatHandler}.
+         *
+         * @param responseCache the {@link ResponseCache} to use, or {@code null} to disable caching
+         */
+        public Builder responseCache(ResponseCache responseCache) {
+            this.responseCache = responseCache;
+            return this;
+        }
+
+        /**
+         * Sets the {@link SemanticCache} serving the responses to requests whose last user message is similar to the one of a previous request.
+         * <p>
+         * The semantic cache is looked up after the {@link ResponseCache}, if any, and only by {@code chat} and {@code chatAsync}: the streaming
+         * requests are always sent to watsonx.ai.
+         *
+         * @param semanticCache the {@link SemanticCache} to use, or {@code null} to disable it
+         */
+        public Builder semanticCache(SemanticCache semanticCache) {
+            this.semanticCache = semanticCache;
+            return this;
+        }
+
         /**
          * Returns a copy of this builder without the registered interceptors.
          * <p>
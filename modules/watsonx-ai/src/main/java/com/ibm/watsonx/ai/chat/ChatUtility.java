@@ -100,6 +100,7 @@ public class ChatUtility {
             .reasoningEffort(thinkingEffort)
             .chatTemplateKwargs(chatTemplateKwargs)
             .moderations(chatRequest.moderations())
+            .messageCache(chatRequest.messageCache())
             .crypto(getOrDefault(parameters.crypto(), defaultParameters.crypto()))
             .build();
     }
@@ -25,6 +25,7 @@ import com.ibm.watsonx.ai.core.factory.HttpClientFactory;
 import com.ibm.watsonx.ai.core.http.AsyncHttpClient;
 import com.ibm.watsonx.ai.core.http.SyncHttpClient;
 import com.ibm.watsonx.ai.core.http.interceptors.LoggerInterceptor.LogMode;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 
 /**
  * Default implementation of the {@link ChatRestClient} abstract class.
@@ -37,8 +38,8 @@ final class DefaultRestClient extends ChatRestClient {
     DefaultRestClient(Builder builder) {
         super(builder);
         requireNonNull(authenticator, "authenticator is mandatory");
-        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses));
-        asyncHttpClient = HttpClientFactory.createAsync(authenticator, httpClient, LogMode.of(logRequests, logResponses));
+        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses), circuitBreaker);
+        asyncHttpClient = HttpClientFactory.createAsync(authenticator, httpClient, LogMode.of(logRequests, logResponses), null, circuitBreaker);
     }
 
     @Override
@@ -55,7 +56,7 @@ final class DefaultRestClient extends ChatRestClient {
 
         try {
 
-            var httpResponse = syncHttpClient.send(httpRequest.build(), BodyHandlers.ofString());
+            var httpResponse = syncHttpClient.send(httpRequest.build(), BodyHandlers.ofByteArray());
             return fromJson(httpResponse.body(), TextChatResponse.class);
 
         } catch (IOException | InterruptedException e) {
@@ -63,6 +64,22 @@ final class DefaultRestClient extends ChatRestClient {
         }
     }
 
+    @Override
+    public CompletableFuture<TextChatResponse> chatAsync(String transactionId, TextChatRequest textChatRequest) {
+
+        var httpRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/ml/v1/text/chat?version=%s".formatted(version)))
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json")
+            .POST(BodyPublishers.ofString(toJson(textChatRequest)))
+            .timeout(Duration.ofMillis(textChatRequest.timeLimit()));
+
+        if (nonNull(transactionId))
+            httpRequest.header(TRANSACTION_ID_HEADER, transactionId);
+
+        return asyncHttpClient.send(httpRequest.build(), BodyHandlers.ofByteArray())
+            .thenApplyAsync(r -> fromJson(r.body(), TextChatResponse.class), ExecutorProvider.cpuExecutor());
+    }
+
     @Override
     public CompletableFuture<ChatResponse> chatStreaming(
         String transactionId,
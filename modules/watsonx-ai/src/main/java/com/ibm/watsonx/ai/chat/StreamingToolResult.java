@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.chat;
+
+import static java.util.Objects.requireNonNull;
+import java.util.ArrayList;
+import java.util.List;
+import com.ibm.watsonx.ai.chat.model.AssistantMessage;
+import com.ibm.watsonx.ai.chat.model.ChatMessage;
+import com.ibm.watsonx.ai.chat.model.ToolMessage;
+
+/**
+ * Result of a streaming chat request whose tool calls were executed while the response was still being streamed.
+ *
+ * @param chatResponse the complete {@link ChatResponse}
+ * @param toolMessages the results of the tool calls of the first choice, in tool call order (empty if the model did not call any tool)
+ * @see ChatService#chatStreaming(ChatRequest, ToolExecutor, ChatHandler)
+ */
+public record StreamingToolResult(ChatResponse chatResponse, List<ToolMessage> toolMessages) {
+
+    public StreamingToolResult {
+        requireNonNull(chatResponse);
+        toolMessages = List.copyOf(toolMessages);
+    }
+
+    /**
+     * Returns whether the model called at least one tool.
+     *
+     * @return {@code true} if there are tool results to send back to the model
+     */
+    public boolean hasToolCalls() {
+        return !toolMessages.isEmpty();
+    }
+
+    /**
+     * Returns the assistant message of the first choice.
+     *
+     * @return the {@link AssistantMessage}
+     */
+    public AssistantMessage toAssistantMessage() {
+        return chatResponse.toAssistantMessage();
+    }
+
+    /**
+     * Returns the messages to append to the conversation: the assistant message followed by the tool results.
+     *
+     * @return the list of messages
+     */
+    public List<ChatMessage> messages() {
+        var messages = new ArrayList<ChatMessage>(toolMessages.size() + 1);
+        messages.add(toAssistantMessage());
+        messages.addAll(toolMessages);
+        return messages;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.chat;
+
+import static java.util.Objects.isNull;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import com.ibm.watsonx.ai.chat.model.CompletedToolCall;
+import com.ibm.watsonx.ai.chat.model.PartialChatResponse;
+import com.ibm.watsonx.ai.chat.model.PartialToolCall;
+import com.ibm.watsonx.ai.chat.model.ToolCall;
+import com.ibm.watsonx.ai.chat.model.ToolMessage;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
+
+/**
+ * {@link ChatHandler} that starts the execution of every tool call as soon as it is complete, without waiting for the end of the stream.
+ * <p>
+ * Only the tool calls of the first choice are executed. The tool is dispatched before the completed tool call is handed to the delegate, so a slow
+ * delegate callback does not delay the execution.
+ */
+final class ToolDispatchingChatHandler implements ChatHandler {
+    private final ChatHandler delegate;
+    private final ToolExecutor toolExecutor;
+    private final List<CompletableFuture<ToolMessage>> toolResults = new CopyOnWriteArrayList<>();
+
+    ToolDispatchingChatHandler(ChatHandler delegate, ToolExecutor toolExecutor) {
+        this.delegate = delegate;
+        this.toolExecutor = toolExecutor;
+    }
+
+    @Override
+    public void onPartialResponse(String partialResponse, PartialChatResponse partialChatResponse) {
+        delegate.onPartialResponse(partialResponse, partialChatResponse);
+    }
+
+    @Override
+    public void onCompleteResponse(ChatResponse completeResponse) {
+        delegate.onCompleteResponse(completeResponse);
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        delegate.onError(error);
+    }
+
+    @Override
+    public void onPartialToolCall(PartialToolCall partialToolCall) {
+        delegate.onPartialToolCall(partialToolCall);
+    }
+
+    @Override
+    public void onCompleteToolCall(CompletedToolCall completeToolCall) {
+        if (isNull(completeToolCall.index()) || completeToolCall.index() == 0)
+            toolResults.add(execute(completeToolCall.toolCall()));
+
+        delegate.onCompleteToolCall(completeToolCall);
+    }
+
+    @Override
+    public void onPartialThinking(String partialThinking, PartialChatResponse partialChatResponse) {
+        delegate.onPartialThinking(partialThinking, partialChatResponse);
+    }
+
+    @Override
+    public boolean failOnFirstError() {
+        return delegate.failOnFirstError();
+    }
+
+    /**
+     * Waits for every tool dispatched so far and returns the results in tool call order.
+     *
+     * @param chatResponse the complete chat response
+     * @return a {@link CompletableFuture} that completes with the {@link StreamingToolResult}
+     */
+    CompletableFuture<StreamingToolResult> toolResult(ChatResponse chatResponse) {
+        var futures = List.copyOf(toolResults);
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+            .thenApply(v -> new StreamingToolResult(chatResponse, futures.stream().map(CompletableFuture::join).toList()));
+    }
+
+    private CompletableFuture<ToolMessage> execute(ToolCall toolCall) {
+        if (toolExecutor instanceof ToolRegistry toolRegistry)
+            return toolRegistry.executeAsync(toolCall);
+
+        return CompletableFuture.supplyAsync(() -> toolCall.processTool(toolExecutor), ExecutorProvider.callbackExecutor());
+    }
+}
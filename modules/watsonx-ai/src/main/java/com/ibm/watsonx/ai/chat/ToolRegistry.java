@@ -6,14 +6,27 @@ package com.ibm.watsonx.ai.chat;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import static java.util.Objects.requireNonNullElse;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import com.ibm.watsonx.ai.chat.model.Tool;
 import com.ibm.watsonx.ai.chat.model.ToolArguments;
+import com.ibm.watsonx.ai.chat.model.ToolCall;
+import com.ibm.watsonx.ai.chat.model.ToolMessage;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 
 /**
  * A registry for managing and executing tools that implement {@link ExecutableTool}.
@@ -40,6 +53,21 @@ import com.ibm.watsonx.ai.chat.model.ToolArguments;
  * var assistantMessage = chatService.chat(messages).toAssistantMessage();
  * assistantMessage.processTools(toolRegistry);
  * }</pre>
+ * <p>
+ * When the model returns several tool calls, they can be executed concurrently with {@link #executeAll(List)} or {@link #executeAsync(List)}. The
+ * results are returned in the same order as the tool calls, ready to be appended to the conversation:
+ *
+ * <pre>{@code
+ * ToolRegistry toolRegistry = ToolRegistry.builder()
+ *     .register(new GoogleSearchTool(toolService), new WebCrawlerTool(toolService))
+ *     .timeout(Duration.ofSeconds(30))
+ *     .maxConcurrency("webcrawler", 2)
+ *     .build();
+ *
+ * var assistantMessage = chatService.chat(messages).toAssistantMessage();
+ * messages.add(assistantMessage);
+ * messages.addAll(toolRegistry.executeAll(assistantMessage.toolCalls()));
+ * }</pre>
  *
  * @see ExecutableTool
  * @see ToolExecutor
@@ -50,6 +78,11 @@ public class ToolRegistry implements ToolExecutor {
     private final ExecutableTool.BeforeExecution beforeExecution;
     private final ExecutableTool.AfterExecution afterExecution;
     private final ExecutableTool.OnError onError;
+    private final Executor executor;
+    private final Duration timeout;
+    private final Map<String, Duration> toolTimeouts;
+    private final Semaphore permits;
+    private final Map<String, Semaphore> toolPermits;
 
     /**
      * Constructs a new empty {@code ToolRegistry}.
@@ -61,6 +94,12 @@ public class ToolRegistry implements ToolExecutor {
         beforeExecution = builder.beforeExecution;
         afterExecution = builder.afterExecution;
         onError = builder.onError;
+        executor = builder.executor;
+        timeout = builder.timeout;
+        toolTimeouts = Map.copyOf(builder.toolTimeouts);
+        permits = isNull(builder.maxConcurrency) ? null : new Semaphore(builder.maxConcurrency);
+        toolPermits = builder.toolMaxConcurrency.entrySet().stream()
+            .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> new Semaphore(e.getValue())));
     }
 
     @Override
@@ -90,6 +129,107 @@ public class ToolRegistry implements ToolExecutor {
         }
     }
 
+    /**
+     * Executes the given tool calls concurrently and waits for all of them to complete.
+     * <p>
+     * See {@link #executeAsync(List)} for the execution semantics.
+     *
+     * @param toolCalls the tool calls generated by the model
+     * @return the {@link ToolMessage}s produced by the tools, in the same order as the tool calls
+     * @throws RuntimeException the failure of the first tool call (in call order) that did not complete successfully
+     */
+    public List<ToolMessage> executeAll(List<ToolCall> toolCalls) {
+        try {
+            return executeAsync(toolCalls).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            throw e;
+        }
+    }
+
+    /**
+     * Executes the given tool calls concurrently.
+     * <p>
+     * Each tool call is dispatched on the configured executor, honoring the global and per-tool concurrency limits. The
+     * {@link ExecutableTool.BeforeExecution}, {@link ExecutableTool.AfterExecution} and {@link ExecutableTool.OnError} callbacks are invoked for
+     * every tool call, exactly as for {@link #execute(String, ToolArguments)}; they can therefore run concurrently and must be thread-safe.
+     * <p>
+     * If a tool does not complete within its timeout (measured from the moment the tool call is submitted), the {@link ExecutableTool.OnError}
+     * callback receives a {@link TimeoutException} and the tool call fails. The running tool is not interrupted and its late result is discarded.
+     * <p>
+     * The returned future completes once every tool call has completed. If one or more tool calls fail, it completes exceptionally with the failure
+     * of the first failed tool call in call order.
+     *
+     * @param toolCalls the tool calls generated by the model
+     * @return a {@link CompletableFuture} with the {@link ToolMessage}s produced by the tools, in the same order as the tool calls
+     */
+    public CompletableFuture<List<ToolMessage>> executeAsync(List<ToolCall> toolCalls) {
+        requireNonNull(toolCalls, "toolCalls can't be null");
+
+        var futures = toolCalls.stream().map(this::executeAsync).toList();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+            .handle((unused, t) -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Executes a single tool call asynchronously.
+     * <p>
+     * See {@link #executeAsync(List)} for the execution semantics.
+     *
+     * @param toolCall the tool call generated by the model
+     * @return a {@link CompletableFuture} with the {@link ToolMessage} produced by the tool
+     */
+    public CompletableFuture<ToolMessage> executeAsync(ToolCall toolCall) {
+        requireNonNull(toolCall, "toolCall can't be null");
+
+        var toolName = toolCall.function().name();
+        var result = new CompletableFuture<ToolMessage>();
+
+        try {
+            executor().execute(() -> {
+                var toolSemaphore = toolPermits.get(toolName);
+                boolean toolAcquired = false, acquired = false;
+                try {
+                    if (nonNull(toolSemaphore)) {
+                        toolSemaphore.acquire();
+                        toolAcquired = true;
+                    }
+                    if (nonNull(permits)) {
+                        permits.acquire();
+                        acquired = true;
+                    }
+                    if (!result.isDone())
+                        result.complete(toolCall.processTool(this));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    result.completeExceptionally(e);
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                } finally {
+                    if (acquired)
+                        permits.release();
+                    if (toolAcquired)
+                        toolSemaphore.release();
+                }
+            });
+        } catch (Exception e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        var toolTimeout = toolTimeouts.getOrDefault(toolName, timeout);
+        if (isNull(toolTimeout))
+            return result;
+
+        return result
+            .orTimeout(toolTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            .whenComplete((message, t) -> {
+                if (t instanceof TimeoutException timeoutException && nonNull(onError))
+                    onError.accept(toolName, toolCall.toolArguments(), timeoutException);
+            });
+    }
+
     /**
      * Returns all registered tools.
      *
@@ -144,6 +284,10 @@ public class ToolRegistry implements ToolExecutor {
         return tools(toolNames);
     }
 
+    private Executor executor() {
+        return requireNonNullElse(executor, ExecutorProvider.callbackExecutor());
+    }
+
     /**
      * Creates a new builder for constructing a {@link ToolRegistry}.
      *
@@ -161,6 +305,11 @@ public class ToolRegistry implements ToolExecutor {
         private ExecutableTool.BeforeExecution beforeExecution;
         private ExecutableTool.AfterExecution afterExecution;
         private ExecutableTool.OnError onError;
+        private Executor executor;
+        private Duration timeout;
+        private Map<String, Duration> toolTimeouts = new HashMap<>();
+        private Integer maxConcurrency;
+        private Map<String, Integer> toolMaxConcurrency = new HashMap<>();
 
         private Builder() {}
 
@@ -194,6 +343,72 @@ public class ToolRegistry implements ToolExecutor {
             return this;
         }
 
+        /**
+         * Sets the executor used by {@link ToolRegistry#executeAsync(List)} and {@link ToolRegistry#executeAll(List)} to run the tools.
+         * <p>
+         * Defaults to {@link ExecutorProvider#callbackExecutor()}, which uses virtual threads on Java 21+ and a cached thread pool on Java 17-20.
+         *
+         * @param executor the executor used to run the tools
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the default timeout applied to each tool call executed by {@link ToolRegistry#executeAsync(List)} and
+         * {@link ToolRegistry#executeAll(List)}.
+         * <p>
+         * By default no timeout is applied.
+         *
+         * @param timeout the default timeout of a tool call
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Sets the timeout applied to the calls of a specific tool, overriding the default {@link #timeout(Duration)}.
+         *
+         * @param toolName the name of the tool
+         * @param timeout the timeout of a call to the tool
+         */
+        public Builder timeout(String toolName, Duration timeout) {
+            requireNonNull(toolName, "toolName can't be null");
+            requireNonNull(timeout, "timeout can't be null");
+            toolTimeouts.put(toolName, timeout);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of tool calls that can run at the same time.
+         * <p>
+         * By default the number of concurrent tool calls is not limited.
+         *
+         * @param maxConcurrency the maximum number of concurrent tool calls
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            if (maxConcurrency < 1)
+                throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of calls to a specific tool that can run at the same time.
+         *
+         * @param toolName the name of the tool
+         * @param maxConcurrency the maximum number of concurrent calls to the tool
+         */
+        public Builder maxConcurrency(String toolName, int maxConcurrency) {
+            requireNonNull(toolName, "toolName can't be null");
+            if (maxConcurrency < 1)
+                throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+            toolMaxConcurrency.put(toolName, maxConcurrency);
+            return this;
+        }
+
         /**
          * Registers one or more tools with this registry.
          *
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.chat.model;
+
+import static java.util.Objects.requireNonNull;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Represents a binary payload (image, audio or video) that is encoded lazily when the chat request is serialized.
+ * <p>
+ * The {@code String} based factories of {@link ImageContent}, {@link AudioContent} and {@link VideoContent} require the whole payload to be encoded
+ * in base64 before the message is built. An {@code Attachment} only references its source: the base64 representation is streamed directly into the
+ * request body, so neither the raw bytes nor the intermediate base64 {@code String} are kept in memory.
+ * <p>
+ * Example usage:
+ *
+ * <pre>{@code
+ * var message = UserMessage.of(
+ *     TextContent.of("Tell me more about this image"),
+ *     ImageContent.of(Attachment.of(Path.of("invoice.png")))
+ * );
+ * }</pre>
+ *
+ * @see AttachmentCache
+ * @see ImageContent#of(Attachment)
+ * @see AudioContent#of(Attachment)
+ * @see VideoContent#of(Attachment)
+ */
+public sealed interface Attachment permits FileAttachment, CachedAttachment {
+
+    /**
+     * Returns the MIME type of the payload (e.g., {@code image/png}, {@code audio/wav}, {@code video/mp4}).
+     *
+     * @return the MIME type
+     */
+    String mimeType();
+
+    /**
+     * Returns the size of the raw (not encoded) payload in bytes.
+     *
+     * @return the size in bytes
+     */
+    long size();
+
+    /**
+     * Opens a {@link Reader} returning the base64-encoded payload.
+     * <p>
+     * The caller is responsible for closing the returned reader.
+     *
+     * @return a reader over the base64-encoded payload
+     * @throws IOException if the payload cannot be read
+     */
+    Reader openBase64Reader() throws IOException;
+
+    /**
+     * Opens a {@link Reader} returning the payload as a base64 data URI (e.g., {@code data:image/png;base64,iVBORw0...}).
+     * <p>
+     * The caller is responsible for closing the returned reader.
+     *
+     * @return a reader over the data URI
+     * @throws IOException if the payload cannot be read
+     */
+    Reader openDataUriReader() throws IOException;
+
+    /**
+     * Writes the base64-encoded payload to the given stream.
+     * <p>
+     * The stream is not closed.
+     *
+     * @param out the target stream
+     * @throws IOException if the payload cannot be read or written
+     */
+    void writeBase64(OutputStream out) throws IOException;
+
+    /**
+     * Returns the number of characters of the base64-encoded payload.
+     *
+     * @return the length of the base64 representation
+     */
+    default long base64Length() {
+        return 4 * ((size() + 2) / 3);
+    }
+
+    /**
+     * Returns the number of characters of the data URI representation.
+     *
+     * @return the length of the data URI
+     */
+    default long dataUriLength() {
+        return dataUriPrefix(mimeType()).length() + base64Length();
+    }
+
+    /**
+     * Encodes the whole payload in base64 and returns it as a {@code String}.
+     * <p>
+     * This method materializes the payload in memory and should only be used when the encoded value is explicitly needed.
+     *
+     * @return the base64-encoded payload
+     * @throws UncheckedIOException if the payload cannot be read
+     */
+    default String base64() {
+        try {
+            var out = new ByteArrayOutputStream((int) Math.min(base64Length(), Integer.MAX_VALUE - 8));
+            writeBase64(out);
+            return out.toString(StandardCharsets.ISO_8859_1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Encodes the whole payload and returns it as a base64 data URI.
+     * <p>
+     * This method materializes the payload in memory and should only be used when the encoded value is explicitly needed.
+     *
+     * @return the data URI
+     * @throws UncheckedIOException if the payload cannot be read
+     */
+    default String dataUri() {
+        return dataUriPrefix(mimeType()) + base64();
+    }
+
+    /**
+     * Creates an {@code Attachment} backed by a file.
+     *
+     * @param file the file to attach
+     * @return a new {@code Attachment} instance
+     * @throws IOException if the file does not exist or cannot be accessed
+     */
+    static Attachment of(File file) throws IOException {
+        requireNonNull(file);
+        return of(file.toPath());
+    }
+
+    /**
+     * Creates an {@code Attachment} backed by a file, the MIME type is detected using {@link Files#probeContentType(Path)}.
+     *
+     * @param path the path of the file to attach
+     * @return a new {@code Attachment} instance
+     * @throws IOException if the file does not exist or cannot be accessed
+     */
+    static Attachment of(Path path) throws IOException {
+        requireNonNull(path);
+        return of(path, Files.probeContentType(path));
+    }
+
+    /**
+     * Creates an {@code Attachment} backed by a file.
+     *
+     * @param path the path of the file to attach
+     * @param mimeType the MIME type of the file
+     * @return a new {@code Attachment} instance
+     * @throws IOException if the file does not exist or cannot be accessed
+     */
+    static Attachment of(Path path, String mimeType) throws IOException {
+        requireNonNull(path);
+        requireNonNull(mimeType, "mimeType can't be null");
+        return new FileAttachment(path, mimeType, Files.size(path));
+    }
+
+    /**
+     * Returns the prefix of a base64 data URI for the given MIME type.
+     */
+    private static String dataUriPrefix(String mimeType) {
+        return "data:%s;base64,".formatted(mimeType);
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.chat.model;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.Objects.requireNonNullElse;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Content-addressed cache of base64-encoded attachments.
+ * <p>
+ * Applications that send the same files with many different prompts (for example, document QA over a fixed set of page images) can use an
+ * {@code AttachmentCache} to read and encode each file only once. Entries are keyed by the SHA-256 digest of the file content, so identical files
+ * stored under different paths share the same encoded payload. The digest of a path is remembered together with its size and last-modified time: as
+ * long as the file is not modified, subsequent lookups do not read the file at all.
+ * <p>
+ * The cache is bounded by the total size of the encoded payloads and evicts the least recently used entries first. Files larger than the cache
+ * capacity are not cached and are returned as lazily encoded {@link Attachment}s.
+ * <p>
+ * Example usage:
+ *
+ * <pre>{@code
+ * var cache = AttachmentCache.builder()
+ *     .maxSize(256 * 1024 * 1024)
+ *     .build();
+ *
+ * var message = UserMessage.of(
+ *     TextContent.of("What is the total amount of the invoice?"),
+ *     ImageContent.of(cache.get(Path.of("invoice-page-1.png")))
+ * );
+ * }</pre>
+ *
+ * This class is thread-safe, a single instance should be shared across requests.
+ */
+public final class AttachmentCache {
+
+    private static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+    private static final int MAX_INDEX_ENTRIES = 10_000;
+
+    private final long maxSize;
+    private final Map<String, CachedAttachment> entries;
+    private final Map<FileKey, String> index;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+    private long size;
+
+    private AttachmentCache(Builder builder) {
+        maxSize = requireNonNullElse(builder.maxSize, DEFAULT_MAX_SIZE);
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+
+        entries = new LinkedHashMap<>(16, 0.75f, true);
+        index = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FileKey, String> eldest) {
+                return size() > MAX_INDEX_ENTRIES;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached attachment for the given file, reading and encoding the file only if its content is not cached yet.
+     *
+     * @param file the file to attach
+     * @return the {@link Attachment} for the file
+     * @throws IOException if the file does not exist or cannot be read
+     */
+    public Attachment get(File file) throws IOException {
+        requireNonNull(file);
+        return get(file.toPath());
+    }
+
+    /**
+     * Returns the cached attachment for the given file, reading and encoding the file only if its content is not cached yet.
+     * <p>
+     * The MIME type is detected using {@link Files#probeContentType(Path)}.
+     *
+     * @param path the path of the file to attach
+     * @return the {@link Attachment} for the file
+     * @throws IOException if the file does not exist or cannot be read
+     */
+    public Attachment get(Path path) throws IOException {
+        requireNonNull(path);
+        return get(path, Files.probeContentType(path));
+    }
+
+    /**
+     * Returns the cached attachment for the given file, reading and encoding the file only if its content is not cached yet.
+     *
+     * @param path the path of the file to attach
+     * @param mimeType the MIME type of the file
+     * @return the {@link Attachment} for the file
+     * @throws IOException if the file does not exist or cannot be read
+     */
+    public Attachment get(Path path, String mimeType) throws IOException {
+        requireNonNull(path);
+        requireNonNull(mimeType, "mimeType can't be null");
+
+        var key = FileKey.of(path);
+        synchronized (this) {
+            var digest = index.get(key);
+            var entry = digest == null ? null : entries.get(digest);
+            if (entry != null)
+                return hit(entry, mimeType);
+        }
+
+        if (4 * ((key.size() + 2) / 3) > maxSize) {
+            misses.increment();
+            return Attachment.of(path, mimeType);
+        }
+
+        var encoded = encode(path, mimeType, key.size());
+        var stable = key.equals(FileKey.of(path));
+
+        synchronized (this) {
+            var existing = entries.get(encoded.digest());
+            if (stable)
+                index.put(key, encoded.digest());
+
+            misses.increment();
+            if (existing != null)
+                return existing.withMimeType(mimeType);
+
+            entries.put(encoded.digest(), encoded);
+            size += encoded.base64Length();
+            evict();
+            return encoded;
+        }
+    }
+
+    /**
+     * Removes all the entries from the cache.
+     * <p>
+     * The statistics are not reset.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        index.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the current {@link Stats}
+     */
+    public synchronized Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), bytesSaved.sum(), entries.size(), size);
+    }
+
+    /**
+     * Returns the encoded payload of an attachment returned by a cache, so that the serializers write the stored bytes as-is.
+     *
+     * @param attachment the attachment
+     * @param dataUri {@code true} for the data URI representation, {@code false} for the base64 payload only
+     * @return a buffer wrapping the US-ASCII bytes stored by the cache, which must not be modified, or {@code null} if the attachment was not
+     *         returned by a cache
+     */
+    public static ByteBuffer encoded(Attachment attachment, boolean dataUri) {
+        return attachment instanceof CachedAttachment cached ? cached.encoded(dataUri) : null;
+    }
+
+    /**
+     * Returns a new {@link Builder} instance.
+     *
+     * @return {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private CachedAttachment hit(CachedAttachment entry, String mimeType) {
+        hits.increment();
+        bytesSaved.add(entry.base64Length());
+        return entry.withMimeType(mimeType);
+    }
+
+    private void evict() {
+        if (size <= maxSize)
+            return;
+
+        var iterator = entries.values().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            var eldest = iterator.next();
+            iterator.remove();
+            size -= eldest.base64Length();
+            evictions.increment();
+        }
+        index.values().removeIf(digest -> !entries.containsKey(digest));
+    }
+
+    /**
+     * Reads the file once, computing its digest and its data URI.
+     */
+    private static CachedAttachment encode(Path path, String mimeType, long size) throws IOException {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        long read;
+        var prefix = CachedAttachment.dataUriPrefix(mimeType);
+        var out = new ByteArrayOutputStream(prefix.length + (int) (4 * ((size + 2) / 3)));
+        out.write(prefix);
+        try (var is = new DigestInputStream(Files.newInputStream(path), messageDigest);
+            var encoder = Base64.getEncoder().wrap(out)) {
+            read = is.transferTo(encoder);
+        }
+
+        var digest = HexFormat.of().formatHex(messageDigest.digest());
+        return new CachedAttachment(mimeType, read, digest, out.toByteArray());
+    }
+
+    /**
+     * Snapshot of the {@link AttachmentCache} statistics.
+     *
+     * @param hitCount the number of lookups served from the cache
+     * @param missCount the number of lookups that required reading and encoding the file
+     * @param evictionCount the number of entries evicted to honor the size limit
+     * @param bytesSaved the number of encoded bytes served from the cache instead of being read and encoded again
+     * @param entryCount the number of entries currently in the cache
+     * @param size the total size in bytes of the encoded payloads currently in the cache
+     */
+    public record Stats(long hitCount, long missCount, long evictionCount, long bytesSaved, long entryCount, long size) {
+
+        /**
+         * Returns the ratio of lookups served from the cache.
+         *
+         * @return the hit rate, between {@code 0.0} and {@code 1.0}
+         */
+        public double hitRate() {
+            long total = hitCount + missCount;
+            return total == 0 ? 0.0 : (double) hitCount / total;
+        }
+    }
+
+    /**
+     * Identifies a version of a file on disk.
+     */
+    private record FileKey(Path path, long size, FileTime lastModifiedTime) {
+
+        static FileKey of(Path path) throws IOException {
+            var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new FileKey(path.toAbsolutePath().normalize(), attributes.size(), attributes.lastModifiedTime());
+        }
+    }
+
+    /**
+     * Builder class for constructing {@link AttachmentCache} instances.
+     */
+    public final static class Builder {
+        private Long maxSize;
+
+        private Builder() {}
+
+        /**
+         * Sets the maximum total size in bytes of the encoded payloads kept in the cache.
+         * <p>
+         * Defaults to 64 MB.
+         *
+         * @param maxSize the maximum size in bytes
+         */
+        public Builder maxSize(long maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Builds an {@link AttachmentCache} instance using the configured parameters.
+         *
+         * @return a new instance of {@link AttachmentCache}
+         */
+        public AttachmentCache build() {
+            return new AttachmentCache(this);
+        }
+    }
+}
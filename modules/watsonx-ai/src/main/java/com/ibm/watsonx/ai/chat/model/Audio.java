@@ -4,6 +4,11 @@
  */
 package com.ibm.watsonx.ai.chat.model;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import java.util.Objects;
+
 /**
  * Represents an audio input used in chat interactions.
  * <p>
@@ -14,8 +19,63 @@ package com.ibm.watsonx.ai.chat.model;
  * <pre>{@code
  * Audio audio = new Audio("audio/wav", base64EncodedData);
  * }</pre>
+ * <p>
+ * Two audios are equal when they have the same format and data, whether the data is provided or encoded from an {@link Attachment}.
  *
  * @param format the MIME type of the audio (e.g., {@code audio/wav}, {@code audio/mp3})
- * @param data the base64-encoded audio data
+ * @param data the base64-encoded audio data, encoded from the {@link Attachment} on every call if the audio is backed by one
+ * @param attachment the lazily encoded audio payload, {@code null} if the audio is provided as base64-encoded data
  */
-public record Audio(String format, String data) {}
+public record Audio(String format, String data, Attachment attachment) {
+
+    /**
+     * Creates a new {@code Audio} from base64-encoded data.
+     *
+     * @param format the MIME type of the audio (e.g., {@code audio/wav}, {@code audio/mp3})
+     * @param data the base64-encoded audio data
+     */
+    public Audio(String format, String data) {
+        this(format, data, null);
+    }
+
+    /**
+     * Returns the base64-encoded audio data.
+     * <p>
+     * If the audio is backed by an {@link Attachment}, the data is encoded on every call.
+     *
+     * @return the base64-encoded audio data
+     */
+    @Override
+    public String data() {
+        return isNull(attachment) ? data : attachment.base64();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (!(obj instanceof Audio other) || !Objects.equals(format, other.format))
+            return false;
+        // Two audios backed by the same attachment are equal without encoding it.
+        if (nonNull(attachment) && attachment.equals(other.attachment))
+            return true;
+        return Objects.equals(data(), other.data());
+    }
+
+    @Override
+    public int hashCode() {
+        // The data is not hashed, so that the attachment is only encoded when the audios are compared.
+        return Objects.hashCode(format);
+    }
+
+    /**
+     * Creates a new {@code Audio} backed by an {@link Attachment}.
+     *
+     * @param attachment the audio payload
+     * @return a new {@code Audio} instance
+     */
+    public static Audio of(Attachment attachment) {
+        requireNonNull(attachment);
+        return new Audio(attachment.mimeType(), null, attachment);
+    }
+}
@@ -42,9 +42,10 @@ public record AudioContent(String type, Audio inputAudio) implements UserContent
     /**
      * Creates an {@code AudioContent} from a file.
      *
-     * @param file the audio file to read
+     * @param file the audio file
      * @return a new {@code AudioContent} instance
-     * @throws IOException if an I/O error occurs reading from the file
+     * @throws IOException if the file does not exist or cannot be accessed
+     * @see #from(Path)
      */
     public static AudioContent from(File file) throws IOException {
         requireNonNull(file);
@@ -53,21 +54,24 @@ public record AudioContent(String type, Audio inputAudio) implements UserContent
 
     /**
      * Creates an {@code AudioContent} from a file path.
+     * <p>
+     * The audio is backed by an {@link Attachment}: the file is not read until the request is serialized. The MIME type is detected using
+     * {@link Files#probeContentType(Path)}.
      *
      * @param path the path to the audio file
      * @return a new {@code AudioContent} instance
-     * @throws IOException if an I/O error occurs reading from the file
+     * @throws IOException if the file does not exist or cannot be accessed
+     * @see Attachment#of(Path)
      */
     public static AudioContent from(Path path) throws IOException {
         requireNonNull(path);
-        var mimetype = Files.probeContentType(path);
-        try (var is = Files.newInputStream(path)) {
-            return from(is, mimetype);
-        }
+        return of(Attachment.of(path));
     }
 
     /**
      * Creates an {@code AudioContent} from an input stream.
+     * <p>
+     * The stream is read and encoded in memory, use {@link #from(Path)} or {@link #of(Attachment)} to encode a file lazily.
      *
      * @param is the input stream containing the audio data
      * @param mimetype the MIME type of the audio (e.g., {@code audio/wav}, {@code audio/mp3})
@@ -80,6 +84,18 @@ public record AudioContent(String type, Audio inputAudio) implements UserContent
         return of(mimetype, data);
     }
 
+    /**
+     * Creates an {@code AudioContent} backed by an {@link Attachment}.
+     * <p>
+     * The audio is encoded lazily while the request is serialized.
+     *
+     * @param attachment the audio payload
+     * @return a new {@code AudioContent} instance
+     */
+    public static AudioContent of(Attachment attachment) {
+        return new AudioContent(TYPE, Audio.of(attachment));
+    }
+
     /**
      * Creates an {@code AudioContent} from format and base64-encoded audio data.
      *
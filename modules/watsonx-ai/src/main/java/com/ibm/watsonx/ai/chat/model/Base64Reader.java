@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.chat.model;
+
+import static java.util.Objects.requireNonNull;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * {@link Reader} that encodes the content of a {@link ReadableByteChannel} in base64 on the fly.
+ * <p>
+ * The channel is consumed in fixed-size chunks (a multiple of 3 bytes, so no padding is emitted until the last chunk), which keeps the memory
+ * footprint constant regardless of the size of the source.
+ */
+final class Base64Reader extends Reader {
+
+    private static final int CHUNK_SIZE = 3 * 16 * 1024;
+    private static final Base64.Encoder ENCODER = Base64.getEncoder();
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer raw = ByteBuffer.allocate(CHUNK_SIZE);
+    private final byte[] encoded = new byte[4 * CHUNK_SIZE / 3];
+    private char[] buffer;
+    private int position;
+    private int limit;
+    private boolean eof;
+
+    /**
+     * Creates a new {@code Base64Reader}.
+     *
+     * @param prefix the characters to return before the encoded content (e.g. the data URI header)
+     * @param channel the channel to encode, closed when the reader is closed
+     */
+    Base64Reader(String prefix, ReadableByteChannel channel) {
+        this.channel = requireNonNull(channel);
+        this.buffer = new char[Math.max(encoded.length, prefix.length())];
+        prefix.getChars(0, prefix.length(), buffer, 0);
+        this.limit = prefix.length();
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0)
+            return 0;
+
+        if (position == limit && !fill())
+            return -1;
+
+        int n = Math.min(len, limit - position);
+        System.arraycopy(buffer, position, cbuf, off, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Reads the next chunk from the channel and encodes it into the internal buffer.
+     *
+     * @return {@code false} if the end of the channel has been reached
+     */
+    private boolean fill() throws IOException {
+        if (eof)
+            return false;
+
+        raw.clear();
+        while (raw.hasRemaining()) {
+            if (channel.read(raw) < 0) {
+                eof = true;
+                break;
+            }
+        }
+
+        if (raw.position() == 0)
+            return false;
+
+        int length = ENCODER.encode(raw.position() == CHUNK_SIZE ? raw.array() : Arrays.copyOf(raw.array(), raw.position()), encoded);
+        for (int i = 0; i < length; i++)
+            buffer[i] = (char) encoded[i];
+
+        position = 0;
+        limit = length;
+        return true;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.chat.model;
+
+import static java.util.Objects.requireNonNull;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * {@link Attachment} implementation backed by a payload already encoded in base64, as stored by an {@link AttachmentCache}.
+ * <p>
+ * The payload is stored as a data URI, the base64 representation being its suffix, so that both representations are written as-is into the request
+ * body. The bytes are shared between all the attachments created from the same cache entry with the same MIME type.
+ *
+ * @param mimeType the MIME type of the payload
+ * @param size the size of the raw payload in bytes
+ * @param digest the SHA-256 digest of the raw payload
+ * @param encoded the payload as a base64 data URI, in US-ASCII
+ */
+record CachedAttachment(String mimeType, long size, String digest, byte[] encoded) implements Attachment {
+
+    CachedAttachment {
+        requireNonNull(mimeType);
+        requireNonNull(digest);
+        requireNonNull(encoded);
+    }
+
+    /**
+     * Returns the prefix of the data URI of a MIME type, in US-ASCII.
+     */
+    static byte[] dataUriPrefix(String mimeType) {
+        return "data:%s;base64,".formatted(mimeType).getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns an attachment with the same payload and another MIME type, copying the payload only if the MIME type differs.
+     */
+    CachedAttachment withMimeType(String mimeType) {
+        if (this.mimeType.equals(mimeType))
+            return this;
+
+        var prefix = dataUriPrefix(mimeType);
+        var bytes = new byte[prefix.length + (int) base64Length()];
+        System.arraycopy(prefix, 0, bytes, 0, prefix.length);
+        System.arraycopy(encoded, base64Offset(), bytes, prefix.length, (int) base64Length());
+        return new CachedAttachment(mimeType, size, digest, bytes);
+    }
+
+    /**
+     * Returns the stored bytes of the data URI or of the base64 payload.
+     *
+     * @param dataUri {@code true} for the data URI, {@code false} for the base64 payload only
+     * @return a buffer wrapping the stored bytes, which must not be modified
+     */
+    ByteBuffer encoded(boolean dataUri) {
+        return dataUri ? ByteBuffer.wrap(encoded) : ByteBuffer.wrap(encoded, base64Offset(), (int) base64Length());
+    }
+
+    @Override
+    public Reader openBase64Reader() {
+        return new AsciiReader(encoded, base64Offset(), (int) base64Length());
+    }
+
+    @Override
+    public Reader openDataUriReader() {
+        return new AsciiReader(encoded, 0, encoded.length);
+    }
+
+    @Override
+    public void writeBase64(OutputStream out) throws IOException {
+        requireNonNull(out);
+        out.write(encoded, base64Offset(), (int) base64Length());
+    }
+
+    @Override
+    public String base64() {
+        return new String(encoded, base64Offset(), (int) base64Length(), StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String dataUri() {
+        return new String(encoded, StandardCharsets.ISO_8859_1);
+    }
+
+    private int base64Offset() {
+        return encoded.length - (int) base64Length();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (!(obj instanceof CachedAttachment other))
+            return false;
+        return size == other.size && mimeType.equals(other.mimeType) && digest.equals(other.digest);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * mimeType.hashCode() + digest.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CachedAttachment[mimeType=" + mimeType + ", size=" + size + ", digest=" + digest + "]";
+    }
+
+    /**
+     * Reader over US-ASCII bytes, widening each byte to a char without going through a charset decoder.
+     */
+    private static final class AsciiReader extends Reader {
+        private final byte[] bytes;
+        private final int end;
+        private int position;
+
+        AsciiReader(byte[] bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.position = offset;
+            this.end = offset + length;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, buffer.length);
+            if (length == 0)
+                return 0;
+            if (position == end)
+                return -1;
+
+            int count = Math.min(length, end - position);
+            for (int i = 0; i < count; i++)
+                buffer[offset + i] = (char) (bytes[position + i] & 0xFF);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.chat.model;
+
+import static java.util.Objects.requireNonNull;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The JSON of the messages of a conversation, reused by the following requests of the same conversation.
+ * <p>
+ * Messages are immutable, so the JSON of a message sent again in the following turns of a conversation never changes. A cache attached to the
+ * requests of a conversation lets them serialize only the messages added since the previous request. Entries are keyed by message instance, not by
+ * value, and the cache is meant to be owned by a single conversation: it is discarded with it, and must not be shared between requests serialized
+ * with different JSON configurations.
+ * <p>
+ * Only text messages are cached, messages with multimodal content are always serialized again so that their attachments are streamed and never kept
+ * in memory.
+ */
+public final class ChatMessageCache {
+    private final Map<ChatMessage, String> json = new IdentityHashMap<>();
+
+    /**
+     * Returns the JSON of a message, if it was already serialized.
+     *
+     * @param message the message
+     * @return the JSON of the message, or {@code null} if the message is not cached
+     */
+    public synchronized String get(ChatMessage message) {
+        return json.get(message);
+    }
+
+    /**
+     * Stores the JSON of a message.
+     *
+     * @param message the message
+     * @param json the JSON of the message
+     */
+    public synchronized void put(ChatMessage message, String json) {
+        this.json.put(requireNonNull(message), requireNonNull(json));
+    }
+
+    /**
+     * Returns {@code true} if the JSON of the message can be cached.
+     *
+     * @param message the message
+     * @return {@code true} if the message has no multimodal content
+     */
+    public static boolean isCacheable(ChatMessage message) {
+        return !(message instanceof UserMessage userMessage)
+            || userMessage.content() == null
+            || userMessage.content().stream().allMatch(TextContent.class::isInstance);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.chat.model;
+
+import static java.util.Objects.requireNonNull;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+
+/**
+ * {@link Attachment} implementation backed by a file.
+ * <p>
+ * The file is never loaded in memory: every read opens a new {@link FileChannel} and encodes the content chunk by chunk.
+ *
+ * @param path the path of the file
+ * @param mimeType the MIME type of the file
+ * @param size the size of the file in bytes
+ */
+record FileAttachment(Path path, String mimeType, long size) implements Attachment {
+
+    FileAttachment {
+        requireNonNull(path);
+        requireNonNull(mimeType);
+    }
+
+    @Override
+    public Reader openBase64Reader() throws IOException {
+        return new Base64Reader("", FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    @Override
+    public Reader openDataUriReader() throws IOException {
+        return new Base64Reader("data:%s;base64,".formatted(mimeType), FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    @Override
+    public void writeBase64(OutputStream out) throws IOException {
+        requireNonNull(out);
+
+        // Base64.Encoder.wrap closes the wrapped stream, the caller owns "out".
+        var nonClosing = new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ);
+            var encoder = Base64.getEncoder().wrap(nonClosing)) {
+            Channels.newInputStream(channel).transferTo(encoder);
+        }
+    }
+}
@@ -4,6 +4,8 @@
  */
 package com.ibm.watsonx.ai.chat.model;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
 
@@ -15,17 +17,61 @@ import static java.util.Objects.requireNonNullElse;
  * <pre>{@code
  * data:image/jpeg;base64,/9j/4AAQSkZJRgABAQEASABIAAD...
  * }</pre>
+ * <p>
+ * Two images are equal when they have the same data URI and detail level, whether the data URI is provided or encoded from an {@link Attachment}.
  *
- * @param url the base64-encoded data URI of the image
+ * @param url the base64-encoded data URI of the image, encoded from the {@link Attachment} on every call if the image is backed by one
  * @param detail the detail level for image processing: "low", "high", or "auto" (default: "auto")
+ * @param attachment the lazily encoded image payload, {@code null} if the image is provided as a data URI
  */
-public record Image(String url, String detail) {
+public record Image(String url, String detail, Attachment attachment) {
 
     public Image {
-        requireNonNull(url);
+        if (isNull(attachment))
+            requireNonNull(url);
         detail = requireNonNullElse(detail, "auto");
     }
 
+    /**
+     * Creates a new {@code Image} from a base64-encoded data URI.
+     *
+     * @param url the base64-encoded data URI of the image
+     * @param detail the detail level for image processing
+     */
+    public Image(String url, String detail) {
+        this(url, detail, null);
+    }
+
+    /**
+     * Returns the base64-encoded data URI of the image.
+     * <p>
+     * If the image is backed by an {@link Attachment}, the data URI is encoded on every call.
+     *
+     * @return the data URI of the image
+     */
+    @Override
+    public String url() {
+        return isNull(attachment) ? url : attachment.dataUri();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (!(obj instanceof Image other) || !detail.equals(other.detail))
+            return false;
+        // Two images backed by the same attachment are equal without encoding it.
+        if (nonNull(attachment) && attachment.equals(other.attachment))
+            return true;
+        return url().equals(other.url());
+    }
+
+    @Override
+    public int hashCode() {
+        // The data URI is not hashed, so that the attachment is only encoded when the images are compared.
+        return detail.hashCode();
+    }
+
     /**
      * Creates a new {@code Image} instance.
      *
@@ -55,6 +101,19 @@ public record Image(String url, String detail) {
         );
     }
 
+    /**
+     * Creates a new {@code Image} backed by an {@link Attachment}.
+     *
+     * @param attachment the image payload
+     * @param detail the level of detail to guide image processing
+     * @return a new {@code Image} instance
+     */
+    public static Image of(Attachment attachment, Detail detail) {
+        requireNonNull(attachment);
+        detail = requireNonNullElse(detail, Detail.AUTO);
+        return new Image(null, detail.value(), attachment);
+    }
+
     /**
      * Enum representing the levels of image detail.
      */
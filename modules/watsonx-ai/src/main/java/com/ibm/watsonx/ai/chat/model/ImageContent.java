@@ -37,9 +37,10 @@ public record ImageContent(String type, Image imageUrl) implements UserContent {
     /**
      * Creates an {@code ImageContent} from a file.
      *
-     * @param file the image file to read
+     * @param file the image file
      * @return a new {@code ImageContent} instance
-     * @throws IOException if an I/O error occurs reading from the file
+     * @throws IOException if the file does not exist or cannot be accessed
+     * @see #from(Path)
      */
     public static ImageContent from(File file) throws IOException {
         requireNonNull(file);
@@ -48,21 +49,24 @@ public record ImageContent(String type, Image imageUrl) implements UserContent {
 
     /**
      * Creates an {@code ImageContent} from a file path.
+     * <p>
+     * The image is backed by an {@link Attachment}: the file is not read until the request is serialized. The MIME type is detected using
+     * {@link Files#probeContentType(Path)}.
      *
      * @param path the path to the image file
      * @return a new {@code ImageContent} instance
-     * @throws IOException if an I/O error occurs reading from the file
+     * @throws IOException if the file does not exist or cannot be accessed
+     * @see Attachment#of(Path)
      */
     public static ImageContent from(Path path) throws IOException {
         requireNonNull(path);
-        var mimetype = Files.probeContentType(path);
-        try (var is = Files.newInputStream(path)) {
-            return from(is, mimetype);
-        }
+        return of(Attachment.of(path));
     }
 
     /**
      * Creates an {@code ImageContent} from an input stream.
+     * <p>
+     * The stream is read and encoded in memory, use {@link #from(Path)} or {@link #of(Attachment)} to encode a file lazily.
      *
      * @param is the input stream containing the image data
      * @param mimetype the MIME type of the image (e.g., {@code image/png}, {@code image/jpeg})
@@ -75,6 +79,31 @@ public record ImageContent(String type, Image imageUrl) implements UserContent {
         return of(mimetype, data);
     }
 
+    /**
+     * Creates an {@code ImageContent} backed by an {@link Attachment}.
+     * <p>
+     * The image is encoded lazily while the request is serialized.
+     *
+     * @param attachment the image payload
+     * @return a new {@code ImageContent}
+     */
+    public static ImageContent of(Attachment attachment) {
+        return of(attachment, null);
+    }
+
+    /**
+     * Creates an {@code ImageContent} backed by an {@link Attachment}.
+     * <p>
+     * The image is encoded lazily while the request is serialized.
+     *
+     * @param attachment the image payload
+     * @param detail the level of detail for how the model should process the image
+     * @return a new {@code ImageContent}
+     */
+    public static ImageContent of(Attachment attachment, Detail detail) {
+        return of(Image.of(attachment, detail));
+    }
+
     /**
      * Creates an {@code ImageContent} from an {@link Image}.
      *
@@ -54,6 +54,7 @@ public final class TextChatRequest {
     private final String context;
     private final ChatModeration moderations;
     private final Crypto crypto;
+    private final ChatMessageCache messageCache;
 
     private TextChatRequest(Builder builder) {
         modelId = builder.modelId;
@@ -96,6 +97,7 @@ public final class TextChatRequest {
         lengthPenalty = builder.lengthPenalty;
         moderations = builder.moderations;
         crypto = nonNull(builder.crypto) ? new Crypto(builder.crypto) : null;
+        messageCache = builder.messageCache;
     }
 
     public String modelId() {
@@ -226,6 +228,15 @@ public final class TextChatRequest {
         return crypto;
     }
 
+    /**
+     * Returns the cache of the JSON of the messages, which is not part of the request.
+     *
+     * @return the {@link ChatMessageCache}, or {@code null} if the messages are always serialized
+     */
+    public ChatMessageCache messageCache() {
+        return messageCache;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -263,6 +274,7 @@ public final class TextChatRequest {
         private String context;
         private ChatModeration moderations;
         private String crypto;
+        private ChatMessageCache messageCache;
 
         private Builder() {}
 
@@ -426,6 +438,11 @@ public final class TextChatRequest {
             return this;
         }
 
+        public Builder messageCache(ChatMessageCache messageCache) {
+            this.messageCache = messageCache;
+            return this;
+        }
+
         public TextChatRequest build() {
             return new TextChatRequest(this);
         }
@@ -4,7 +4,7 @@
  */
 package com.ibm.watsonx.ai.chat.model;
 
-import static java.util.Objects.nonNull;
+import static java.util.Objects.isNull;
 import java.util.Map;
 import com.ibm.watsonx.ai.chat.ToolExecutor;
 import com.ibm.watsonx.ai.core.Json;
@@ -77,18 +77,24 @@ public record ToolCall(Integer index, String id, String type, FunctionCall funct
      * @return {@link ToolMessage} object generated from the tool call
      */
     public ToolMessage processTool(ToolExecutor executor) {
+        var toolResult = String.valueOf(executor.execute(function.name(), toolArguments()));
+        return ToolMessage.of(toolResult, id);
+    }
 
-        ToolArguments toolArguments = null;
-        if (nonNull(function.arguments())) {
+    /**
+     * Parses the arguments generated by the model for this tool call.
+     *
+     * @return the parsed {@link ToolArguments}, or {@code null} if the model did not generate any argument
+     */
+    public ToolArguments toolArguments() {
 
-            var arguments = function.arguments().startsWith("\"")
-                ? Json.fromJson(function.arguments(), String.class)
-                : function.arguments();
+        if (isNull(function.arguments()))
+            return null;
 
-            toolArguments = new ToolArguments(Json.fromJson(arguments, new TypeToken<Map<String, Object>>() {}));
-        }
+        var arguments = function.arguments().startsWith("\"")
+            ? Json.fromJson(function.arguments(), String.class)
+            : function.arguments();
 
-        var toolResult = String.valueOf(executor.execute(function.name(), toolArguments));
-        return ToolMessage.of(toolResult, id);
+        return new ToolArguments(Json.fromJson(arguments, new TypeToken<Map<String, Object>>() {}));
     }
 }
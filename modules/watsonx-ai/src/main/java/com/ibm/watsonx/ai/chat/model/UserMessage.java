@@ -8,7 +8,6 @@ import static java.util.Objects.requireNonNull;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
@@ -128,9 +127,8 @@ public record UserMessage(String role, List<UserContent> content, String name) i
      * @return a new {@link UserMessage} containing {@link TextContent} and {@link ImageContent}
      */
     public static UserMessage image(String text, Path path) {
-        try (var is = Files.newInputStream(path)) {
-            var mimeType = Files.probeContentType(path);
-            return image(text, is, mimeType);
+        try {
+            return of(null, List.of(TextContent.of(text), ImageContent.from(path)));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -171,9 +169,8 @@ public record UserMessage(String role, List<UserContent> content, String name) i
      * @return a new {@link UserMessage} containing {@link TextContent} and {@link VideoContent}
      */
     public static UserMessage video(String text, Path path) {
-        try (var is = Files.newInputStream(path)) {
-            var mimeType = Files.probeContentType(path);
-            return video(text, is, mimeType);
+        try {
+            return of(null, List.of(TextContent.of(text), VideoContent.from(path)));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -214,9 +211,8 @@ public record UserMessage(String role, List<UserContent> content, String name) i
      * @return a new {@link UserMessage} containing {@link TextContent} and {@link AudioContent}
      */
     public static UserMessage audio(String text, Path path) {
-        try (var is = Files.newInputStream(path)) {
-            var mimeType = Files.probeContentType(path);
-            return audio(text, is, mimeType);
+        try {
+            return of(null, List.of(TextContent.of(text), AudioContent.from(path)));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -4,6 +4,8 @@
  */
 package com.ibm.watsonx.ai.chat.model;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -16,13 +18,57 @@ import static java.util.Objects.requireNonNull;
  * <pre>{@code
  * data:video/mp4;base64,AAAAHGZ0eXBN...
  * }</pre>
+ * <p>
+ * Two videos are equal when they have the same data URI, whether it is provided or encoded from an {@link Attachment}.
  *
- * @param url the base64-encoded video (e.g., {@code data:video/mp4;base64,...})
+ * @param url the base64-encoded video (e.g., {@code data:video/mp4;base64,...}), encoded from the {@link Attachment} on every call if the video is
+ *            backed by one
+ * @param attachment the lazily encoded video payload, {@code null} if the video is provided as a data URI
  */
-public record Video(String url) {
+public record Video(String url, Attachment attachment) {
 
     public Video {
-        requireNonNull(url);
+        if (isNull(attachment))
+            requireNonNull(url);
+    }
+
+    /**
+     * Creates a new {@code Video} from a base64-encoded data URI.
+     *
+     * @param url the base64-encoded video (e.g., {@code data:video/mp4;base64,...})
+     */
+    public Video(String url) {
+        this(url, null);
+    }
+
+    /**
+     * Returns the base64-encoded data URI of the video.
+     * <p>
+     * If the video is backed by an {@link Attachment}, the data URI is encoded on every call.
+     *
+     * @return the data URI of the video
+     */
+    @Override
+    public String url() {
+        return isNull(attachment) ? url : attachment.dataUri();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (!(obj instanceof Video other))
+            return false;
+        // Two videos backed by the same attachment are equal without encoding it.
+        if (nonNull(attachment) && attachment.equals(other.attachment))
+            return true;
+        return url().equals(other.url());
+    }
+
+    @Override
+    public int hashCode() {
+        // The data URI is not hashed, so that the attachment is only encoded when the videos are compared.
+        return Video.class.hashCode();
     }
 
     /**
@@ -36,5 +82,15 @@ public record Video(String url) {
         requireNonNull(mimeType);
         return new Video("data:%s;base64,%s".formatted(mimeType, data));
     }
-}
 
+    /**
+     * Create a {@code Video} instance backed by an {@link Attachment}.
+     *
+     * @param attachment the video payload
+     * @return a new {@link Video} instance
+     */
+    public static Video of(Attachment attachment) {
+        requireNonNull(attachment);
+        return new Video(null, attachment);
+    }
+}
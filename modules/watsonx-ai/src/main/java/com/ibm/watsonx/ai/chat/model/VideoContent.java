@@ -36,9 +36,10 @@ public record VideoContent(String type, Video videoUrl) implements UserContent {
     /**
      * Creates a {@code VideoContent} from a file.
      *
-     * @param file the video file to read
+     * @param file the video file
      * @return a new {@code VideoContent} instance
-     * @throws IOException if an I/O error occurs reading from the file
+     * @throws IOException if the file does not exist or cannot be accessed
+     * @see #from(Path)
      */
     public static VideoContent from(File file) throws IOException {
         requireNonNull(file);
@@ -47,21 +48,24 @@ public record VideoContent(String type, Video videoUrl) implements UserContent {
 
     /**
      * Creates a {@code VideoContent} from a file path.
+     * <p>
+     * The video is backed by an {@link Attachment}: the file is not read until the request is serialized. The MIME type is detected using
+     * {@link Files#probeContentType(Path)}.
      *
      * @param path the path to the video file
      * @return a new {@code VideoContent} instance
-     * @throws IOException if an I/O error occurs reading from the file
+     * @throws IOException if the file does not exist or cannot be accessed
+     * @see Attachment#of(Path)
      */
     public static VideoContent from(Path path) throws IOException {
         requireNonNull(path);
-        var mimetype = Files.probeContentType(path);
-        try (var is = Files.newInputStream(path)) {
-            return from(is, mimetype);
-        }
+        return of(Attachment.of(path));
     }
 
     /**
      * Creates a {@code VideoContent} from an input stream.
+     * <p>
+     * The stream is read and encoded in memory, use {@link #from(Path)} or {@link #of(Attachment)} to encode a file lazily.
      *
      * @param is the input stream containing the video data
      * @param mimetype the MIME type of the video (e.g., {@code video/mp4})
@@ -74,6 +78,18 @@ public record VideoContent(String type, Video videoUrl) implements UserContent {
         return of(mimetype, data);
     }
 
+    /**
+     * Create a new {@code VideoContent} backed by an {@link Attachment}.
+     * <p>
+     * The video is encoded lazily while the request is serialized.
+     *
+     * @param attachment the video payload
+     * @return a new {@link VideoContent} instance
+     */
+    public static VideoContent of(Attachment attachment) {
+        return new VideoContent(TYPE, Video.of(attachment));
+    }
+
     /**
      * Create a new {@code VideoContent} instance from media type and base64-encoded video data.
      *
@@ -93,6 +93,8 @@ public class DeploymentService extends WatsonxService
             .authenticator(builder.authenticator())
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
             .build();
 
         chatProvider = nonNull(messageInterceptor) || nonNull(toolInterceptor)
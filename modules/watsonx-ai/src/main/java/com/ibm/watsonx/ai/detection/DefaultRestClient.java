@@ -6,6 +6,7 @@ package com.ibm.watsonx.ai.detection;
 
 import static com.ibm.watsonx.ai.core.Json.fromJson;
 import static com.ibm.watsonx.ai.core.Json.toJson;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import java.io.IOException;
@@ -13,9 +14,13 @@ import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.util.concurrent.CompletableFuture;
+import com.ibm.watsonx.ai.core.Json;
 import com.ibm.watsonx.ai.core.factory.HttpClientFactory;
+import com.ibm.watsonx.ai.core.http.AsyncHttpClient;
 import com.ibm.watsonx.ai.core.http.SyncHttpClient;
 import com.ibm.watsonx.ai.core.http.interceptors.LoggerInterceptor.LogMode;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 import com.ibm.watsonx.ai.core.spi.json.TypeToken;
 
 /**
@@ -23,11 +28,13 @@ import com.ibm.watsonx.ai.core.spi.json.TypeToken;
  */
 final class DefaultRestClient extends DetectionRestClient {
     private final SyncHttpClient syncHttpClient;
+    private final AsyncHttpClient asyncHttpClient;
 
     DefaultRestClient(Builder builder) {
         super(builder);
         requireNonNull(authenticator, "authenticator is mandatory");
-        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses));
+        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses), circuitBreaker);
+        asyncHttpClient = HttpClientFactory.createAsync(authenticator, httpClient, LogMode.of(logRequests, logResponses), hedging, circuitBreaker);
     }
 
     @Override
@@ -45,7 +52,10 @@ final class DefaultRestClient extends DetectionRestClient {
 
         try {
 
-            var httpResponse = syncHttpClient.send(httpRequest.build(), BodyHandlers.ofString());
+            // Hedging is done by the asynchronous client.
+            var httpResponse = isNull(hedging)
+                ? syncHttpClient.send(httpRequest.build(), BodyHandlers.ofString())
+                : asyncHttpClient.sendAndWait(httpRequest.build(), BodyHandlers.ofString());
             return fromJson(httpResponse.body(), new TypeToken<DetectionResponse<DetectionTextResponse>>() {});
 
         } catch (IOException | InterruptedException e) {
@@ -53,6 +63,24 @@ final class DefaultRestClient extends DetectionRestClient {
         }
     }
 
+    @Override
+    public CompletableFuture<DetectionResponse<DetectionTextResponse>> detectAsync(String transactionId, TextDetectionContentDetectors request) {
+
+        var httpRequest = HttpRequest
+            .newBuilder(URI.create(baseUrl + "/ml/v1/text/detection?version=%s".formatted(version)))
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json")
+            .POST(BodyPublishers.ofString(toJson(request)))
+            .timeout(timeout);
+
+        if (nonNull(transactionId))
+            httpRequest.header(TRANSACTION_ID_HEADER, transactionId);
+
+        return asyncHttpClient.send(httpRequest.build(), BodyHandlers.ofString())
+            .thenApplyAsync(r -> Json.fromJson(r.body(), new TypeToken<DetectionResponse<DetectionTextResponse>>() {}),
+                ExecutorProvider.cpuExecutor());
+    }
+
     /**
      * Returns a new {@link Builder} instance.
      */
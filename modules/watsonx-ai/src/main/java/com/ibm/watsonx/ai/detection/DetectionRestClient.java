@@ -5,8 +5,10 @@
 package com.ibm.watsonx.ai.detection;
 
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import com.ibm.watsonx.ai.WatsonxRestClient;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 
 /**
  * Abstraction of a REST client for interacting with the IBM watsonx.ai Text Detection APIs.
@@ -26,6 +28,20 @@ public abstract class DetectionRestClient extends WatsonxRestClient {
      */
     public abstract DetectionResponse<DetectionTextResponse> detect(String transactionId, TextDetectionContentDetectors request);
 
+    /**
+     * Executes an asynchronous text content detection request.
+     * <p>
+     * The default implementation runs {@link #detect} on the I/O executor, implementations should override it to send the request asynchronously.
+     *
+     * @param transactionId an optional transaction identifier for tracing
+     * @param request the detection request containing input text and detector configurations
+     * @return a {@link CompletableFuture} resolving to a {@link DetectionResponse} containing the detection results
+     */
+    public CompletableFuture<DetectionResponse<DetectionTextResponse>> detectAsync(String transactionId,
+        TextDetectionContentDetectors request) {
+        return CompletableFuture.supplyAsync(() -> detect(transactionId, request), ExecutorProvider.ioExecutor());
+    }
+
     /**
      * Creates a new {@link Builder} using the first available {@link DetectionRestClientBuilderFactory} discovered via {@link ServiceLoader}.
      * <p>
@@ -5,8 +5,10 @@
 package com.ibm.watsonx.ai.detection;
 
 import static java.util.Objects.requireNonNull;
+import java.util.concurrent.CompletableFuture;
 import com.ibm.watsonx.ai.WatsonxService.ProjectService;
 import com.ibm.watsonx.ai.core.auth.Authenticator;
+import com.ibm.watsonx.ai.core.http.HedgingPolicy;
 
 /**
  * Service class to interact with IBM watsonx.ai Text Detection APIs.
@@ -47,6 +49,9 @@ public class DetectionService extends ProjectService {
             .authenticator(builder.authenticator())
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
+            .hedging(builder.hedging)
             .build();
     }
 
@@ -65,6 +70,21 @@ public class DetectionService extends ProjectService {
         return client.detect(transactionId, textDetectionRequest);
     }
 
+    /**
+     * Performs content detection asynchronously on the provided text using the specified detectors.
+     *
+     * @param request the detection request containing input text and detector configurations
+     * @return a {@link CompletableFuture} with the {@link DetectionResponse} containing the detection results
+     */
+    public CompletableFuture<DetectionResponse<DetectionTextResponse>> detectAsync(DetectionTextRequest request) {
+        requireNonNull(request, "request cannot be null");
+        var projectSpace = resolveProjectSpace(request);
+        var transactionId = request.transactionId();
+        var textDetectionRequest =
+            new TextDetectionContentDetectors(request.input(), request.detectors(), projectSpace.projectId(), projectSpace.spaceId());
+        return client.detectAsync(transactionId, textDetectionRequest);
+    }
+
     /**
      * Returns a new {@link Builder} instance.
      * <p>
@@ -95,9 +115,22 @@ public class DetectionService extends ProjectService {
      * Builder class for constructing {@link DetectionService} instances with configurable parameters.
      */
     public final static class Builder extends ProjectService.Builder<Builder> {
+        private HedgingPolicy hedging;
 
         private Builder() {}
 
+        /**
+         * Sets the {@link HedgingPolicy} used to send a duplicate of the requests that are slower than usual.
+         * <p>
+         * When set, the synchronous methods also go through the asynchronous HTTP client so that their requests can be hedged.
+         *
+         * @param hedging the {@link HedgingPolicy} to use
+         */
+        public Builder hedging(HedgingPolicy hedging) {
+            this.hedging = hedging;
+            return this;
+        }
+
         /**
          * Builds a {@link DetectionService} instance using the configured parameters.
          *
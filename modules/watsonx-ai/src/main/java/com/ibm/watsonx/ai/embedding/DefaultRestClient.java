@@ -6,6 +6,7 @@ package com.ibm.watsonx.ai.embedding;
 
 import static com.ibm.watsonx.ai.core.Json.fromJson;
 import static com.ibm.watsonx.ai.core.Json.toJson;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import java.io.IOException;
@@ -32,8 +33,8 @@ final class DefaultRestClient extends EmbeddingRestClient {
     DefaultRestClient(Builder builder) {
         super(builder);
         requireNonNull(authenticator, "authenticator is mandatory");
-        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses));
-        asyncHttpClient = HttpClientFactory.createAsync(authenticator, httpClient, LogMode.of(logRequests, logResponses));
+        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses), circuitBreaker);
+        asyncHttpClient = HttpClientFactory.createAsync(authenticator, httpClient, LogMode.of(logRequests, logResponses), hedging, circuitBreaker);
     }
 
     @Override
@@ -51,7 +52,10 @@ final class DefaultRestClient extends EmbeddingRestClient {
 
         try {
 
-            var httpResponse = syncHttpClient.send(httpRequest.build(), BodyHandlers.ofString());
+            // Hedging is done by the asynchronous client.
+            var httpResponse = isNull(hedging)
+                ? syncHttpClient.send(httpRequest.build(), BodyHandlers.ofByteArray())
+                : asyncHttpClient.sendAndWait(httpRequest.build(), BodyHandlers.ofByteArray());
             return fromJson(httpResponse.body(), EmbeddingResponse.class);
 
         } catch (IOException | InterruptedException e) {
@@ -72,7 +76,7 @@ final class DefaultRestClient extends EmbeddingRestClient {
         if (nonNull(transactionId))
             httpRequest.header(TRANSACTION_ID_HEADER, transactionId);
 
-        return asyncHttpClient.send(httpRequest.build(), BodyHandlers.ofString())
+        return asyncHttpClient.send(httpRequest.build(), BodyHandlers.ofByteArray())
             .thenApplyAsync(r -> Json.fromJson(r.body(), EmbeddingResponse.class), ExecutorProvider.cpuExecutor());
     }
 
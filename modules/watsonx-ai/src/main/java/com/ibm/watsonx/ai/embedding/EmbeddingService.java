@@ -8,6 +8,7 @@ import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
 import static java.util.concurrent.CompletableFuture.allOf;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -15,6 +16,7 @@ import java.util.concurrent.CompletableFuture;
 import com.ibm.watsonx.ai.Crypto;
 import com.ibm.watsonx.ai.WatsonxService.ModelService;
 import com.ibm.watsonx.ai.core.auth.Authenticator;
+import com.ibm.watsonx.ai.core.http.HedgingPolicy;
 
 /**
  * Service class to interact with IBM watsonx.ai Text Embeddings APIs.
@@ -55,6 +57,9 @@ public class EmbeddingService extends ModelService {
             .authenticator(builder.authenticator())
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
+            .hedging(builder.hedging)
             .build();
     }
 
@@ -147,6 +152,11 @@ public class EmbeddingService extends ModelService {
         return new EmbeddingResponse(modelId, createdAt, results, inputTokenCount);
     }
 
+    @Override
+    protected List<Type> jsonTypes() {
+        return List.of(EmbeddingPayload.class, EmbeddingResponse.class);
+    }
+
     /**
      * Returns a new {@link Builder} instance.
      * <p>
@@ -176,9 +186,22 @@ public class EmbeddingService extends ModelService {
      * Builder class for constructing {@link EmbeddingService} instances with configurable parameters.
      */
     public final static class Builder extends ModelService.Builder<Builder> {
+        private HedgingPolicy hedging;
 
         private Builder() {}
 
+        /**
+         * Sets the {@link HedgingPolicy} used to send a duplicate of the requests that are slower than usual.
+         * <p>
+         * When set, the synchronous methods also go through the asynchronous HTTP client so that their requests can be hedged.
+         *
+         * @param hedging the {@link HedgingPolicy} to use
+         */
+        public Builder hedging(HedgingPolicy hedging) {
+            this.hedging = hedging;
+            return this;
+        }
+
         /**
          * Builds a {@link EmbeddingService} instance using the configured parameters.
          *
@@ -50,6 +50,8 @@ public class FileService extends ProjectService {
             .authenticator(builder.authenticator())
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
             .build();
     }
 
@@ -14,9 +14,12 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse.BodyHandlers;
 import java.nio.charset.StandardCharsets;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
 import com.ibm.watsonx.ai.core.factory.HttpClientFactory;
+import com.ibm.watsonx.ai.core.http.AsyncHttpClient;
 import com.ibm.watsonx.ai.core.http.SyncHttpClient;
 import com.ibm.watsonx.ai.core.http.interceptors.LoggerInterceptor.LogMode;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 import com.ibm.watsonx.ai.core.spi.json.TypeToken;
 
 /**
@@ -25,10 +28,12 @@ import com.ibm.watsonx.ai.core.spi.json.TypeToken;
 final class DefaultRestClient extends FoundationModelRestClient {
 
     private final SyncHttpClient syncHttpClient;
+    private final AsyncHttpClient asyncHttpClient;
 
     DefaultRestClient(Builder builder) {
         super(builder);
-        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses));
+        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses), circuitBreaker);
+        asyncHttpClient = HttpClientFactory.createAsync(authenticator, httpClient, LogMode.of(logRequests, logResponses), null, circuitBreaker);
     }
 
     @Override
@@ -41,33 +46,8 @@ final class DefaultRestClient extends FoundationModelRestClient {
 
         try {
 
-            var queryParameters = new StringJoiner("&", "", "");
-            queryParameters.add("version=" + version);
-
-            if (nonNull(start))
-                queryParameters.add("start=" + start);
-
-            if (nonNull(limit))
-                queryParameters.add("limit=" + limit);
-
-            if (techPreview)
-                queryParameters.add("tech_preview=" + techPreview);
-
-            if (nonNull(filters))
-                queryParameters.add("filters=" + URLEncoder.encode(filters.toString(), StandardCharsets.UTF_8));
-
-            var uri =
-                URI.create(baseUrl + "/ml/v1/foundation_model_specs?%s".formatted(queryParameters));
-
-            var httpRequest = HttpRequest.newBuilder(uri)
-                .header("Accept", "application/json")
-                .timeout(timeout)
-                .GET();
-
-            if (nonNull(transactionId))
-                httpRequest.header(TRANSACTION_ID_HEADER, transactionId);
-
-            var response = syncHttpClient.send(httpRequest.build(), BodyHandlers.ofString());
+            var httpRequest = getModelsRequest(start, limit, transactionId, techPreview, filters);
+            var response = syncHttpClient.send(httpRequest, BodyHandlers.ofString());
             return fromJson(response.body(), new TypeToken<FoundationModelResponse<FoundationModel>>() {});
 
         } catch (IOException | InterruptedException e) {
@@ -75,6 +55,21 @@ final class DefaultRestClient extends FoundationModelRestClient {
         }
     }
 
+    @Override
+    public CompletableFuture<FoundationModelResponse<FoundationModel>> getModelsAsync(
+        Integer start,
+        Integer limit,
+        String transactionId,
+        Boolean techPreview,
+        String filters) {
+
+        var httpRequest = getModelsRequest(start, limit, transactionId, techPreview, filters);
+        return asyncHttpClient.send(httpRequest, BodyHandlers.ofString())
+            .thenApplyAsync(
+                response -> fromJson(response.body(), new TypeToken<FoundationModelResponse<FoundationModel>>() {}),
+                ExecutorProvider.cpuExecutor());
+    }
+
     @Override
     public FoundationModelResponse<FoundationModelTask> getTasks(FoundationModelParameters parameters) {
 
@@ -107,6 +102,37 @@ final class DefaultRestClient extends FoundationModelRestClient {
         }
     }
 
+    private HttpRequest getModelsRequest(Integer start, Integer limit, String transactionId, Boolean techPreview, String filters) {
+
+        var queryParameters = new StringJoiner("&", "", "");
+        queryParameters.add("version=" + version);
+
+        if (nonNull(start))
+            queryParameters.add("start=" + start);
+
+        if (nonNull(limit))
+            queryParameters.add("limit=" + limit);
+
+        if (techPreview)
+            queryParameters.add("tech_preview=" + techPreview);
+
+        if (nonNull(filters))
+            queryParameters.add("filters=" + URLEncoder.encode(filters.toString(), StandardCharsets.UTF_8));
+
+        var uri =
+            URI.create(baseUrl + "/ml/v1/foundation_model_specs?%s".formatted(queryParameters));
+
+        var httpRequest = HttpRequest.newBuilder(uri)
+            .header("Accept", "application/json")
+            .timeout(timeout)
+            .GET();
+
+        if (nonNull(transactionId))
+            httpRequest.header(TRANSACTION_ID_HEADER, transactionId);
+
+        return httpRequest.build();
+    }
+
     /**
      * Returns a new {@link Builder} instance.
      */
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.foundationmodel;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import com.ibm.watsonx.ai.core.RefreshingValue;
+import com.ibm.watsonx.ai.foundationmodel.filter.Filter;
+
+/**
+ * In-memory copy of the foundation model catalog, indexed by model id, task, provider and function.
+ * <p>
+ * The catalog is loaded on first use and refreshed in the background once its time-to-live has elapsed: lookups keep returning the previous content
+ * while the refresh is in progress, so only the first lookup waits for the network. If a refresh fails, the previous content is kept.
+ * <p>
+ * <b>Example usage:</b>
+ *
+ * <pre>{@code
+ * FoundationModelCatalog catalog = foundationModelService.catalog();
+ *
+ * Integer maxOutputTokens = catalog.model("ibm/granite-3-3-8b-instruct")
+ *     .map(FoundationModel::maxOutputTokens)
+ *     .orElse(null);
+ *
+ * List<FoundationModel> chatModels = catalog.modelsByFunction("text_chat");
+ * List<FoundationModel> rerankers = catalog.models(Filter.and(function("rerank"), not(provider("IBM"))));
+ * }</pre>
+ *
+ * @see FoundationModelService#catalog()
+ */
+public final class FoundationModelCatalog {
+
+    private record Snapshot(
+        List<FoundationModel> models,
+        Map<String, FoundationModel> byId,
+        Map<String, List<FoundationModel>> byTask,
+        Map<String, List<FoundationModel>> byProvider,
+        Map<String, List<FoundationModel>> byFunction,
+        List<FoundationModelTask> tasks) {}
+
+    private final RefreshingValue<Snapshot> snapshot;
+
+    FoundationModelCatalog(Duration ttl, Supplier<CompletableFuture<List<FoundationModel>>> models,
+        Supplier<CompletableFuture<List<FoundationModelTask>>> tasks) {
+        requireNonNull(models);
+        requireNonNull(tasks);
+        snapshot = new RefreshingValue<>(ttl, () -> models.get().thenCombine(tasks.get(), FoundationModelCatalog::index));
+    }
+
+    /**
+     * Returns the model with the given id.
+     *
+     * @param modelId the model id
+     * @return an {@link Optional} with the model, or empty if the catalog has no model with this id
+     */
+    public Optional<FoundationModel> model(String modelId) {
+        requireNonNull(modelId, "The modelId must be provided");
+        return Optional.ofNullable(snapshot.get().byId().get(modelId));
+    }
+
+    /**
+     * Returns all the models of the catalog.
+     *
+     * @return the list of models
+     */
+    public List<FoundationModel> models() {
+        return snapshot.get().models();
+    }
+
+    /**
+     * Returns the models matching the given {@link Filter}, evaluated in memory.
+     *
+     * @param filter the filter to apply
+     * @return the list of matching models
+     * @throws UnsupportedOperationException if the filter contains an expression that cannot be evaluated locally
+     * @see Filter#matches(FoundationModel)
+     */
+    public List<FoundationModel> models(Filter filter) {
+        requireNonNull(filter, "The filter must be provided");
+        return snapshot.get().models().stream().filter(filter::matches).toList();
+    }
+
+    /**
+     * Returns the models supporting the given task.
+     *
+     * @param taskId the task id (e.g. {@code "summarization"})
+     * @return the list of models supporting the task
+     */
+    public List<FoundationModel> modelsByTask(String taskId) {
+        requireNonNull(taskId, "The taskId must be provided");
+        return snapshot.get().byTask().getOrDefault(taskId, List.of());
+    }
+
+    /**
+     * Returns the models of the given provider, ignoring case.
+     *
+     * @param provider the provider (e.g. {@code "IBM"})
+     * @return the list of models of the provider
+     */
+    public List<FoundationModel> modelsByProvider(String provider) {
+        requireNonNull(provider, "The provider must be provided");
+        return snapshot.get().byProvider().getOrDefault(provider.toLowerCase(Locale.ROOT), List.of());
+    }
+
+    /**
+     * Returns the models supporting the given function.
+     *
+     * @param function the function id (e.g. {@code "text_chat"})
+     * @return the list of models supporting the function
+     */
+    public List<FoundationModel> modelsByFunction(String function) {
+        requireNonNull(function, "The function must be provided");
+        return snapshot.get().byFunction().getOrDefault(function, List.of());
+    }
+
+    /**
+     * Returns the foundation model tasks.
+     *
+     * @return the list of tasks
+     */
+    public List<FoundationModelTask> tasks() {
+        return snapshot.get().tasks();
+    }
+
+    /**
+     * Returns the time of the last successful load of the catalog.
+     *
+     * @return an {@link Optional} with the time of the last load, or empty if the catalog has not been loaded yet
+     */
+    public Optional<Instant> lastRefresh() {
+        return snapshot.lastRefresh();
+    }
+
+    /**
+     * Loads the catalog again, without waiting for its time-to-live to elapse.
+     * <p>
+     * Can be called at startup to load the catalog before the first lookup.
+     *
+     * @return a {@link CompletableFuture} completed when the catalog is loaded
+     */
+    public CompletableFuture<Void> refresh() {
+        return snapshot.refresh().thenApply(s -> null);
+    }
+
+    private static Snapshot index(List<FoundationModel> models, List<FoundationModelTask> tasks) {
+        var byId = new HashMap<String, FoundationModel>();
+        var byTask = new HashMap<String, List<FoundationModel>>();
+        var byProvider = new HashMap<String, List<FoundationModel>>();
+        var byFunction = new HashMap<String, List<FoundationModel>>();
+
+        for (var model : models) {
+            if (nonNull(model.modelId()))
+                byId.putIfAbsent(model.modelId(), model);
+
+            if (nonNull(model.provider()))
+                byProvider.computeIfAbsent(model.provider().toLowerCase(Locale.ROOT), k -> new ArrayList<>()).add(model);
+
+            var taskIds = new LinkedHashSet<String>();
+            if (nonNull(model.taskIds()))
+                taskIds.addAll(model.taskIds());
+            if (nonNull(model.tasks()))
+                model.tasks().stream().map(FoundationModel.Task::id).filter(Objects::nonNull).forEach(taskIds::add);
+            taskIds.forEach(taskId -> byTask.computeIfAbsent(taskId, k -> new ArrayList<>()).add(model));
+
+            if (nonNull(model.functions()))
+                model.functions().stream()
+                    .map(FoundationModel.Function::id)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .forEach(function -> byFunction.computeIfAbsent(function, k -> new ArrayList<>()).add(model));
+        }
+
+        return new Snapshot(List.copyOf(models), Map.copyOf(byId), freeze(byTask), freeze(byProvider), freeze(byFunction),
+            isNull(tasks) ? List.of() : List.copyOf(tasks));
+    }
+
+    private static Map<String, List<FoundationModel>> freeze(Map<String, List<FoundationModel>> index) {
+        return index.entrySet().stream().collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> List.copyOf(e.getValue())));
+    }
+
+    /**
+     * Loads all the pages of a paginated resource.
+     *
+     * @param page the function loading the page starting at the given offset, {@code null} for the first page
+     * @return a {@link CompletableFuture} completed with the resources of all the pages
+     */
+    static <T> CompletableFuture<List<T>> loadAll(Function<Integer, CompletableFuture<FoundationModelResponse<T>>> page) {
+        return loadAll(page, null, new ArrayList<>());
+    }
+
+    private static <T> CompletableFuture<List<T>> loadAll(Function<Integer, CompletableFuture<FoundationModelResponse<T>>> page, Integer start,
+        List<T> resources) {
+        return page.apply(start).thenCompose(response -> {
+            if (nonNull(response.resources()))
+                resources.addAll(response.resources());
+
+            var next = isNull(response.next()) || isNull(response.next().href()) ? Optional.<Integer>empty() : response.next().start();
+            if (next.isEmpty() || next.get().equals(start) || isNull(response.resources()) || response.resources().isEmpty())
+                return CompletableFuture.completedFuture(resources);
+
+            return loadAll(page, next.get(), resources);
+        });
+    }
+}
@@ -5,8 +5,10 @@
 package com.ibm.watsonx.ai.foundationmodel;
 
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import com.ibm.watsonx.ai.WatsonxRestClient;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 
 /**
  * Abstraction of a REST client for interacting with the IBM watsonx.ai Foundation Model APIs.
@@ -34,6 +36,27 @@ public abstract class FoundationModelRestClient extends WatsonxRestClient {
         Boolean techPreview,
         String filters);
 
+    /**
+     * Asynchronously retrieves a list of foundation models from the service.
+     * <p>
+     * The default implementation runs {@link #getModels} on the I/O executor, implementations should override it to send the request asynchronously.
+     *
+     * @param start A pagination token for fetching the next set of results (optional).
+     * @param limit The number of models to return (1–200). Defaults to 100 if null.
+     * @param transactionId Optional transaction ID for tracking the request.
+     * @param techPreview {@code true} to include tech preview models, {@code false} otherwise.
+     * @param filters A string expression for filtering models using logical combinations of filters.
+     * @return A {@link CompletableFuture} resolving to a {@link FoundationModelResponse} containing the list of foundation models.
+     */
+    public CompletableFuture<FoundationModelResponse<FoundationModel>> getModelsAsync(
+        Integer start,
+        Integer limit,
+        String transactionId,
+        Boolean techPreview,
+        String filters) {
+        return CompletableFuture.supplyAsync(() -> getModels(start, limit, transactionId, techPreview, filters), ExecutorProvider.ioExecutor());
+    }
+
     /**
      * Retrieves a list of foundation model tasks.
      *
@@ -4,12 +4,16 @@
  */
 package com.ibm.watsonx.ai.foundationmodel;
 
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
 import static java.util.Optional.ofNullable;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import com.ibm.watsonx.ai.WatsonxService;
 import com.ibm.watsonx.ai.core.auth.Authenticator;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 import com.ibm.watsonx.ai.foundationmodel.filter.Filter;
 import com.ibm.watsonx.ai.foundationmodel.filter.Filter.Expression;
 
@@ -31,8 +35,13 @@ import com.ibm.watsonx.ai.foundationmodel.filter.Filter.Expression;
  * @see Authenticator
  */
 public class FoundationModelService extends WatsonxService {
+    private static final Duration DEFAULT_CATALOG_TTL = Duration.ofHours(1);
+    private static final int CATALOG_PAGE_SIZE = 200;
+
     private final boolean techPreview;
     private final FoundationModelRestClient client;
+    private final FoundationModelCatalog catalog;
+    private final boolean useCatalog;
 
     private FoundationModelService(Builder builder) {
         super(builder);
@@ -45,7 +54,16 @@ public class FoundationModelService extends WatsonxService {
             .timeout(timeout)
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
             .build();
+        useCatalog = nonNull(builder.catalogTtl);
+        catalog = new FoundationModelCatalog(
+            requireNonNullElse(builder.catalogTtl, DEFAULT_CATALOG_TTL),
+            () -> FoundationModelCatalog.loadAll(start -> client.getModelsAsync(start, CATALOG_PAGE_SIZE, null, techPreview, null)),
+            () -> FoundationModelCatalog.loadAll(start -> CompletableFuture.supplyAsync(
+                () -> client.getTasks(FoundationModelParameters.builder().start(start).limit(CATALOG_PAGE_SIZE).build()),
+                ExecutorProvider.ioExecutor())));
     }
 
     /**
@@ -59,12 +77,18 @@ public class FoundationModelService extends WatsonxService {
 
     /**
      * Retrieves a foundation model by its unique model id.
+     * <p>
+     * If a catalog time-to-live is configured with {@link Builder#catalogTtl(Duration)}, the model is looked up in the {@link #catalog()}.
      *
      * @param modelId the unique identifier of the foundation model.
      * @return an {@link Optional} containing the {@link FoundationModel} if found.
      */
     public Optional<FoundationModel> getModel(String modelId) {
         requireNonNull(modelId, "The modelId must be provided");
+
+        if (useCatalog)
+            return catalog.model(modelId);
+
         var resources = getModels(Filter.of(Expression.modelId(modelId))).resources();
         return resources.isEmpty()
             ? Optional.empty()
@@ -73,11 +97,22 @@ public class FoundationModelService extends WatsonxService {
 
     /**
      * Retrieves a list of foundation models filtered by the specified {@link Filter}.
+     * <p>
+     * If a catalog time-to-live is configured with {@link Builder#catalogTtl(Duration)}, the filter is evaluated against the {@link #catalog()} and
+     * all the matching models are returned, unless it contains an expression that cannot be evaluated locally.
      *
      * @param filter the {@link Filter} criteria to apply when fetching models.
      * @return a {@link FoundationModelResponse} containing the filtered list of models (default limit applies).
      */
     public FoundationModelResponse<FoundationModel> getModels(Filter filter) {
+        if (useCatalog && nonNull(filter)) {
+            try {
+                var models = catalog.models(filter);
+                return new FoundationModelResponse<>(null, null, models.size(), null, models);
+            } catch (UnsupportedOperationException e) {
+                // The filter has an expression unknown to the SDK, let the service evaluate it.
+            }
+        }
         return getModels(FoundationModelParameters.builder().filter(filter).build());
     }
 
@@ -93,6 +128,38 @@ public class FoundationModelService extends WatsonxService {
         return getModels(parameters.start(), parameters.limit(), parameters.transactionId(), techPreview, parameters.filter());
     }
 
+    /**
+     * Asynchronously retrieves all available foundation models.
+     *
+     * @return a {@link CompletableFuture} with the {@link FoundationModelResponse} containing the full list of foundation models (default limit
+     *         applies).
+     */
+    public CompletableFuture<FoundationModelResponse<FoundationModel>> getModelsAsync() {
+        return getModelsAsync(FoundationModelParameters.builder().build());
+    }
+
+    /**
+     * Asynchronously retrieves a list of foundation models filtered by the specified {@link Filter}.
+     *
+     * @param filter the {@link Filter} criteria to apply when fetching models.
+     * @return a {@link CompletableFuture} with the {@link FoundationModelResponse} containing the filtered list of models (default limit applies).
+     */
+    public CompletableFuture<FoundationModelResponse<FoundationModel>> getModelsAsync(Filter filter) {
+        return getModelsAsync(FoundationModelParameters.builder().filter(filter).build());
+    }
+
+    /**
+     * Asynchronously retrieves a list of foundation models with pagination and filtering.
+     *
+     * @param parameters Parameters for the get models request.
+     * @return a {@link CompletableFuture} with the {@link FoundationModelResponse} containing the filtered and/or paginated list of models.
+     */
+    public CompletableFuture<FoundationModelResponse<FoundationModel>> getModelsAsync(FoundationModelParameters parameters) {
+        parameters = requireNonNullElse(parameters, FoundationModelParameters.builder().build());
+        var techPreview = ofNullable(parameters.techPreview()).orElse(this.techPreview);
+        return client.getModelsAsync(parameters.start(), parameters.limit(), parameters.transactionId(), techPreview, parameters.filter());
+    }
+
     /**
      * Retrieves a list of available foundation models from the model catalog.
      *
@@ -141,10 +208,16 @@ public class FoundationModelService extends WatsonxService {
 
     /**
      * Retrieves the list of tasks.
+     * <p>
+     * If a catalog time-to-live is configured with {@link Builder#catalogTtl(Duration)}, the tasks of the {@link #catalog()} are returned.
      *
      * @return a {@link FoundationModelResponse} containing foundation model tasks (default limit applies).
      */
     public FoundationModelResponse<FoundationModelTask> getTasks() {
+        if (useCatalog) {
+            var tasks = catalog.tasks();
+            return new FoundationModelResponse<>(null, null, tasks.size(), null, tasks);
+        }
         return getTasks(FoundationModelParameters.builder().build());
     }
 
@@ -158,6 +231,17 @@ public class FoundationModelService extends WatsonxService {
         return client.getTasks(parameters);
     }
 
+    /**
+     * Returns the in-memory catalog of the foundation models and tasks available to this service.
+     * <p>
+     * The catalog is loaded on first use and refreshed in the background every {@link Builder#catalogTtl(Duration)}, one hour by default.
+     *
+     * @return the {@link FoundationModelCatalog}
+     */
+    public FoundationModelCatalog catalog() {
+        return catalog;
+    }
+
     /**
      * Returns a new {@link Builder} instance.
      * <p>
@@ -185,6 +269,7 @@ public class FoundationModelService extends WatsonxService {
      */
     public final static class Builder extends WatsonxService.Builder<Builder> {
         private Boolean techPreview;
+        private Duration catalogTtl;
 
         private Builder() {}
 
@@ -198,6 +283,21 @@ public class FoundationModelService extends WatsonxService {
             return this;
         }
 
+        /**
+         * Serves {@link FoundationModelService#getModel(String)}, {@link FoundationModelService#getModels(Filter)} and
+         * {@link FoundationModelService#getTasks()} from the in-memory {@link FoundationModelService#catalog()}, refreshed in the background after
+         * the given time-to-live.
+         * <p>
+         * Only the first lookup waits for the catalog to be loaded; afterwards lookups never wait for the network, and may return data up to
+         * {@code catalogTtl} old.
+         *
+         * @param catalogTtl the time after which the catalog is refreshed
+         */
+        public Builder catalogTtl(Duration catalogTtl) {
+            this.catalogTtl = catalogTtl;
+            return this;
+        }
+
         /**
          * Builds a {@link FoundationModelService} instance using the configured parameters.
          *
@@ -4,9 +4,16 @@
  */
 package com.ibm.watsonx.ai.foundationmodel.filter;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
+import static java.util.Objects.requireNonNullElse;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.StringJoiner;
+import com.ibm.watsonx.ai.foundationmodel.FoundationModel;
+import com.ibm.watsonx.ai.foundationmodel.FoundationModel.Lifecycle;
 import com.ibm.watsonx.ai.foundationmodel.FoundationModelService;
 
 /**
@@ -34,12 +41,14 @@ import com.ibm.watsonx.ai.foundationmodel.FoundationModelService;
 public final class Filter {
 
     private final StringJoiner filterExpression;
+    private final List<String> terms;
+    private final boolean or;
 
     private Filter(String logicalOperator, List<FilterExpression> expressions) {
         filterExpression = new StringJoiner(",", "", logicalOperator);
-        expressions.stream()
-            .map(FilterExpression::expression)
-            .forEach(filterExpression::add);
+        terms = expressions.stream().map(FilterExpression::expression).toList();
+        terms.forEach(filterExpression::add);
+        or = logicalOperator.equals(":or");
     }
 
     /**
@@ -84,6 +93,95 @@ public final class Filter {
         return toString();
     }
 
+    /**
+     * Evaluates the filter against a {@link FoundationModel}, without calling the service.
+     * <p>
+     * The expressions are matched as follows:
+     * <ul>
+     * <li>{@code modelid_*}: the model id</li>
+     * <li>{@code provider_*}, {@code source_*}, {@code input_tier_*}, {@code output_tier_*}: the corresponding attribute, ignoring case</li>
+     * <li>{@code tier_*}: the input or the output tier, ignoring case</li>
+     * <li>{@code task_*}: one of the supported tasks</li>
+     * <li>{@code function_*}: one of the function ids</li>
+     * <li>{@code lifecycle_*}: the current lifecycle state, which is the last one with a start date that is not in the future</li>
+     * </ul>
+     *
+     * @param model the model to test
+     * @return {@code true} if the model matches the filter
+     * @throws UnsupportedOperationException if the filter contains an expression that cannot be evaluated locally
+     */
+    public boolean matches(FoundationModel model) {
+        requireNonNull(model, "The model cannot be null");
+
+        for (String term : terms) {
+            boolean match = matches(term, model);
+            if (or && match)
+                return true;
+            if (!or && !match)
+                return false;
+        }
+        return !or || terms.isEmpty();
+    }
+
+    private static boolean matches(String term, FoundationModel model) {
+        if (term.startsWith("!"))
+            return !matches(term.substring(1), model);
+
+        if (term.startsWith("modelid_"))
+            return term.substring(8).equals(model.modelId());
+
+        if (term.startsWith("provider_"))
+            return term.substring(9).equalsIgnoreCase(model.provider());
+
+        if (term.startsWith("source_"))
+            return term.substring(7).equalsIgnoreCase(model.source());
+
+        if (term.startsWith("input_tier_"))
+            return term.substring(11).equalsIgnoreCase(model.inputTier());
+
+        if (term.startsWith("output_tier_"))
+            return term.substring(12).equalsIgnoreCase(model.outputTier());
+
+        if (term.startsWith("tier_")) {
+            var tier = term.substring(5);
+            return tier.equalsIgnoreCase(model.inputTier()) || tier.equalsIgnoreCase(model.outputTier());
+        }
+
+        if (term.startsWith("task_")) {
+            var task = term.substring(5);
+            return (nonNull(model.taskIds()) && model.taskIds().contains(task))
+                || (nonNull(model.tasks()) && model.tasks().stream().anyMatch(t -> task.equals(t.id())));
+        }
+
+        if (term.startsWith("function_")) {
+            var function = term.substring(9);
+            return nonNull(model.functions()) && model.functions().stream().anyMatch(f -> function.equals(f.id()));
+        }
+
+        if (term.startsWith("lifecycle_"))
+            return term.substring(10).equals(currentLifecycle(model));
+
+        throw new UnsupportedOperationException("The filter expression \"%s\" cannot be evaluated locally".formatted(term));
+    }
+
+    private static String currentLifecycle(FoundationModel model) {
+        if (isNull(model.lifecycle()))
+            return null;
+
+        // Dates are in the ISO format, so they can be compared as strings.
+        var today = LocalDate.now(ZoneOffset.UTC).toString();
+        String current = null;
+        String currentDate = "";
+        for (Lifecycle lifecycle : model.lifecycle()) {
+            var startDate = requireNonNullElse(lifecycle.startDate(), "");
+            if (startDate.compareTo(today) <= 0 && startDate.compareTo(currentDate) >= 0) {
+                current = lifecycle.id();
+                currentDate = startDate;
+            }
+        }
+        return current;
+    }
+
     /**
      * A utility class containing factory methods for creating {@link FilterExpression} instances.
      * <p>
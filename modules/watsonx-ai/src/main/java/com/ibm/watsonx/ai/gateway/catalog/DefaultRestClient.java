@@ -24,7 +24,7 @@ final class DefaultRestClient extends ModelGatewayCatalogRestClient {
 
     DefaultRestClient(Builder builder) {
         super(builder);
-        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses));
+        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses), circuitBreaker);
     }
 
     @Override
@@ -4,10 +4,18 @@
  */
 package com.ibm.watsonx.ai.gateway.catalog;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import com.ibm.watsonx.ai.WatsonxService;
+import com.ibm.watsonx.ai.core.RefreshingValue;
 import com.ibm.watsonx.ai.core.auth.Authenticator;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 
 /**
  * Service for interacting with the IBM watsonx.ai Model Gateway catalog APIs.
@@ -30,7 +38,10 @@ import com.ibm.watsonx.ai.core.auth.Authenticator;
  */
 public class ModelGatewayCatalogService extends WatsonxService {
 
+    private record Snapshot(List<ModelGatewayModel> models, Map<String, ModelGatewayModel> byId) {}
+
     private final ModelGatewayCatalogRestClient client;
+    private final RefreshingValue<Snapshot> cache;
 
     private ModelGatewayCatalogService(Builder builder) {
         super(builder);
@@ -44,28 +55,74 @@ public class ModelGatewayCatalogService extends WatsonxService {
             .authenticator(builder.authenticator())
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
             .build();
+        cache = isNull(builder.catalogTtl)
+            ? null
+            : new RefreshingValue<>(builder.catalogTtl,
+                () -> CompletableFuture.supplyAsync(() -> index(client.listModels()), ExecutorProvider.ioExecutor()));
     }
 
     /**
      * Lists all configured model details aggregated across all configured providers.
+     * <p>
+     * If a catalog time-to-live is configured with {@link Builder#catalogTtl(Duration)}, the cached list is returned.
      *
      * @return a list of {@link ModelGatewayModel} instances
      */
     public List<ModelGatewayModel> listModels() {
-        return client.listModels();
+        return nonNull(cache) ? cache.get().models() : client.listModels();
     }
 
     /**
      * Retrieves a specific model configuration by UUID or alias.
+     * <p>
+     * If a catalog time-to-live is configured with {@link Builder#catalogTtl(Duration)}, the model is looked up in the cached list by UUID, id or
+     * alias; models that are not in the cached list are still requested to the service.
      *
      * @param modelId the UUID or alias of the model to retrieve
      * @return the {@link ModelGatewayModel} matching the given identifier
      */
     public ModelGatewayModel getModel(String modelId) {
+        if (nonNull(cache) && nonNull(modelId)) {
+            var model = cache.get().byId().get(modelId);
+            if (nonNull(model))
+                return model;
+        }
         return client.getModel(modelId);
     }
 
+    /**
+     * Refreshes the cached list of models, without waiting for its time-to-live to elapse.
+     * <p>
+     * Can be called at startup to load the list before the first lookup.
+     *
+     * @return a {@link CompletableFuture} completed when the list is loaded
+     * @throws IllegalStateException if no catalog time-to-live is configured
+     */
+    public CompletableFuture<Void> refreshCatalog() {
+        if (isNull(cache))
+            throw new IllegalStateException("The catalog cache is not enabled, set a catalogTtl on the builder");
+        return cache.refresh().thenApply(s -> null);
+    }
+
+    private static Snapshot index(List<ModelGatewayModel> models) {
+        var byId = new HashMap<String, ModelGatewayModel>();
+        for (var model : models) {
+            // The UUID takes precedence over an alias or an id with the same value.
+            if (nonNull(model.alias()))
+                byId.putIfAbsent(model.alias(), model);
+            if (nonNull(model.id()))
+                byId.putIfAbsent(model.id(), model);
+        }
+        for (var model : models) {
+            if (nonNull(model.uuid()))
+                byId.put(model.uuid(), model);
+        }
+        return new Snapshot(List.copyOf(models), Map.copyOf(byId));
+    }
+
     /**
      * Returns a new {@link Builder} instance.
      *
@@ -80,8 +137,24 @@ public class ModelGatewayCatalogService extends WatsonxService {
      */
     public static final class Builder extends WatsonxService.Builder<Builder> {
 
+        private Duration catalogTtl;
+
         private Builder() {}
 
+        /**
+         * Caches the list of models returned by {@link ModelGatewayCatalogService#listModels()} and used by
+         * {@link ModelGatewayCatalogService#getModel(String)}, refreshing it in the background after the given time-to-live.
+         * <p>
+         * Only the first lookup waits for the list to be loaded; afterwards lookups never wait for the network, and may return data up to
+         * {@code catalogTtl} old.
+         *
+         * @param catalogTtl the time after which the list of models is refreshed
+         */
+        public Builder catalogTtl(Duration catalogTtl) {
+            this.catalogTtl = catalogTtl;
+            return this;
+        }
+
         /**
          * Builds a {@link ModelGatewayCatalogService} instance using the configured parameters.
          *
@@ -79,6 +79,8 @@ public class ModelGatewayChatService extends WatsonxService implements ChatProvi
             .authenticator(builder.authenticator())
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
             .build();
 
         chatProvider = nonNull(messageInterceptor) || nonNull(toolInterceptor)
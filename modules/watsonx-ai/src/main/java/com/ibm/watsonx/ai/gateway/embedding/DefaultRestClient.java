@@ -12,9 +12,13 @@ import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.util.concurrent.CompletableFuture;
+import com.ibm.watsonx.ai.core.Json;
 import com.ibm.watsonx.ai.core.factory.HttpClientFactory;
+import com.ibm.watsonx.ai.core.http.AsyncHttpClient;
 import com.ibm.watsonx.ai.core.http.SyncHttpClient;
 import com.ibm.watsonx.ai.core.http.interceptors.LoggerInterceptor.LogMode;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 
 /**
  * Default implementation of the {@link ModelGatewayEmbeddingRestClient} abstract class.
@@ -22,11 +26,13 @@ import com.ibm.watsonx.ai.core.http.interceptors.LoggerInterceptor.LogMode;
 final class DefaultRestClient extends ModelGatewayEmbeddingRestClient {
 
     private final SyncHttpClient syncHttpClient;
+    private final AsyncHttpClient asyncHttpClient;
 
     DefaultRestClient(Builder builder) {
         super(builder);
         requireNonNull(authenticator, "authenticator is mandatory");
-        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses));
+        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses), circuitBreaker);
+        asyncHttpClient = HttpClientFactory.createAsync(authenticator, httpClient, LogMode.of(logRequests, logResponses), null, circuitBreaker);
     }
 
     @Override
@@ -48,6 +54,21 @@ final class DefaultRestClient extends ModelGatewayEmbeddingRestClient {
         }
     }
 
+    @Override
+    public CompletableFuture<ModelGatewayEmbeddingResponse> embedAsync(ModelGatewayEmbeddingPayload request) {
+        var url = URI.create(baseUrl + "/ml/gateway/v1/embeddings?version=%s".formatted(version));
+
+        var httpRequest = HttpRequest.newBuilder(url)
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json")
+            .POST(BodyPublishers.ofString(toJson(request)))
+            .timeout(timeout)
+            .build();
+
+        return asyncHttpClient.send(httpRequest, BodyHandlers.ofString())
+            .thenApplyAsync(r -> Json.fromJson(r.body(), ModelGatewayEmbeddingResponse.class), ExecutorProvider.cpuExecutor());
+    }
+
     /**
      * Returns a new {@link Builder} instance.
      */
@@ -5,8 +5,10 @@
 package com.ibm.watsonx.ai.gateway.embedding;
 
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import com.ibm.watsonx.ai.WatsonxRestClient;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 
 /**
  * Abstraction of a REST client for interacting with the IBM watsonx.ai Model Gateway embeddings API.
@@ -25,6 +27,18 @@ public abstract class ModelGatewayEmbeddingRestClient extends WatsonxRestClient
      */
     public abstract ModelGatewayEmbeddingResponse embed(ModelGatewayEmbeddingPayload request);
 
+    /**
+     * Sends an asynchronous embedding request to the Model Gateway.
+     * <p>
+     * The default implementation runs {@link #embed} on the I/O executor, implementations should override it to send the request asynchronously.
+     *
+     * @param request the {@link ModelGatewayEmbeddingPayload} already containing model, input and all parameters
+     * @return a {@link CompletableFuture} resolving to a {@link ModelGatewayEmbeddingResponse} containing the generated embeddings
+     */
+    public CompletableFuture<ModelGatewayEmbeddingResponse> embedAsync(ModelGatewayEmbeddingPayload request) {
+        return CompletableFuture.supplyAsync(() -> embed(request), ExecutorProvider.ioExecutor());
+    }
+
     /**
      * Creates a new {@link Builder} using the first available {@link ModelGatewayEmbeddingRestClientBuilderFactory} discovered via
      * {@link ServiceLoader}.
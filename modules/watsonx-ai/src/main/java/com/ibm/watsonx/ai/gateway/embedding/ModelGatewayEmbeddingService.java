@@ -5,8 +5,10 @@
 package com.ibm.watsonx.ai.gateway.embedding;
 
 import static java.util.Objects.requireNonNull;
+import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import com.ibm.watsonx.ai.WatsonxService;
 import com.ibm.watsonx.ai.core.auth.Authenticator;
 
@@ -48,6 +50,8 @@ public class ModelGatewayEmbeddingService extends WatsonxService {
             .authenticator(builder.authenticator())
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
             .build();
     }
 
@@ -95,13 +99,58 @@ public class ModelGatewayEmbeddingService extends WatsonxService {
      * @return a {@link ModelGatewayEmbeddingResponse} containing the generated embeddings
      */
     public ModelGatewayEmbeddingResponse embed(ModelGatewayEmbeddingRequest request) {
+        return client.embed(buildPayload(request));
+    }
+
+    /**
+     * Generates embeddings asynchronously for the provided input texts.
+     *
+     * @param inputs the list of texts to embed
+     * @return a {@link CompletableFuture} with the {@link ModelGatewayEmbeddingResponse} containing the generated embeddings
+     */
+    public CompletableFuture<ModelGatewayEmbeddingResponse> embedAsync(List<String> inputs) {
+        return embedAsync(inputs, null);
+    }
+
+    /**
+     * Generates embeddings asynchronously for the provided input texts.
+     *
+     * @param inputs the list of texts to embed
+     * @param parameters the parameters for the embedding request
+     * @return a {@link CompletableFuture} with the {@link ModelGatewayEmbeddingResponse} containing the generated embeddings
+     */
+    public CompletableFuture<ModelGatewayEmbeddingResponse> embedAsync(List<String> inputs, ModelGatewayEmbeddingParameters parameters) {
+        return embedAsync(
+            ModelGatewayEmbeddingRequest.builder()
+                .input(inputs)
+                .parameters(parameters)
+                .build()
+        );
+    }
+
+    /**
+     * Generates embeddings asynchronously for the provided request.
+     *
+     * @param request the {@link ModelGatewayEmbeddingRequest}
+     * @return a {@link CompletableFuture} with the {@link ModelGatewayEmbeddingResponse} containing the generated embeddings
+     */
+    public CompletableFuture<ModelGatewayEmbeddingResponse> embedAsync(ModelGatewayEmbeddingRequest request) {
+        return client.embedAsync(buildPayload(request));
+    }
+
+    private ModelGatewayEmbeddingPayload buildPayload(ModelGatewayEmbeddingRequest request) {
         requireNonNull(request, "request cannot be null");
         requireNonNull(request.input(), "input cannot be null");
 
         if (request.input().isEmpty())
             throw new IllegalArgumentException("At least one input must be provided");
 
-        return client.embed(ModelGatewayEmbeddingPayload.of(modelId, request));
+        return ModelGatewayEmbeddingPayload.of(modelId, request);
+    }
+
+    @Override
+    protected List<Type> jsonTypes() {
+        return List.of(ModelGatewayEmbeddingPayload.class, ModelGatewayEmbeddingResponse.class);
     }
 
     /**
@@ -5,8 +5,10 @@
 package com.ibm.watsonx.ai.gateway.image;
 
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import com.ibm.watsonx.ai.WatsonxRestClient;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 
 /**
  * Abstraction of a REST client for interacting with the IBM watsonx.ai Model Gateway image generation API.
@@ -25,6 +27,18 @@ public abstract class ModelGatewayImageRestClient extends WatsonxRestClient {
      */
     public abstract ModelGatewayImageResponse generate(ModelGatewayImageGenerationRequest request);
 
+    /**
+     * Sends an asynchronous image generation request to the Model Gateway.
+     * <p>
+     * The default implementation runs {@link #generate} on the I/O executor, implementations should override it to send the request asynchronously.
+     *
+     * @param request the {@link ModelGatewayImageGenerationRequest} already containing model, prompt and all parameters
+     * @return a {@link CompletableFuture} resolving to a {@link ModelGatewayImageResponse} containing the generated images
+     */
+    public CompletableFuture<ModelGatewayImageResponse> generateAsync(ModelGatewayImageGenerationRequest request) {
+        return CompletableFuture.supplyAsync(() -> generate(request), ExecutorProvider.ioExecutor());
+    }
+
     /**
      * Creates a new {@link Builder} using the first available {@link ModelGatewayImageRestClientBuilderFactory} discovered via {@link ServiceLoader}.
      * <p>
@@ -5,6 +5,7 @@
 package com.ibm.watsonx.ai.gateway.image;
 
 import static java.util.Objects.requireNonNull;
+import java.util.concurrent.CompletableFuture;
 import com.ibm.watsonx.ai.WatsonxService;
 import com.ibm.watsonx.ai.core.auth.Authenticator;
 
@@ -46,6 +47,8 @@ public class ModelGatewayImageService extends WatsonxService {
             .authenticator(builder.authenticator())
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
             .build();
     }
 
@@ -82,13 +85,53 @@ public class ModelGatewayImageService extends WatsonxService {
      * @return a {@link ModelGatewayImageResponse} containing the generated images
      */
     public ModelGatewayImageResponse generate(ModelGatewayImageRequest request) {
+        return client.generate(buildRequest(request));
+    }
+
+    /**
+     * Generates an image asynchronously from the provided prompt.
+     *
+     * @param prompt the text prompt describing the desired image
+     * @return a {@link CompletableFuture} with the {@link ModelGatewayImageResponse} containing the generated images
+     */
+    public CompletableFuture<ModelGatewayImageResponse> generateAsync(String prompt) {
+        return generateAsync(prompt, null);
+    }
+
+    /**
+     * Generates an image asynchronously from the provided prompt and parameters.
+     *
+     * @param prompt the text prompt describing the desired image
+     * @param parameters the parameters for the image generation request
+     * @return a {@link CompletableFuture} with the {@link ModelGatewayImageResponse} containing the generated images
+     */
+    public CompletableFuture<ModelGatewayImageResponse> generateAsync(String prompt, ModelGatewayImageParameters parameters) {
+        return generateAsync(
+            ModelGatewayImageRequest.builder()
+                .prompt(prompt)
+                .parameters(parameters)
+                .build()
+        );
+    }
+
+    /**
+     * Generates an image asynchronously from the provided request.
+     *
+     * @param request the {@link ModelGatewayImageRequest} containing the prompt and optional parameters
+     * @return a {@link CompletableFuture} with the {@link ModelGatewayImageResponse} containing the generated images
+     */
+    public CompletableFuture<ModelGatewayImageResponse> generateAsync(ModelGatewayImageRequest request) {
+        return client.generateAsync(buildRequest(request));
+    }
+
+    private ModelGatewayImageGenerationRequest buildRequest(ModelGatewayImageRequest request) {
         requireNonNull(request, "request cannot be null");
         requireNonNull(request.prompt(), "prompt cannot be null");
 
         if (request.prompt().isBlank())
             throw new IllegalArgumentException("The prompt must not be blank");
 
-        return client.generate(ModelGatewayImageGenerationRequest.of(modelId, request));
+        return ModelGatewayImageGenerationRequest.of(modelId, request);
     }
 
     /**
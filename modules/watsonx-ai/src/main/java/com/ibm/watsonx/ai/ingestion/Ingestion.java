@@ -0,0 +1,409 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.ingestion;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import com.ibm.watsonx.ai.ingestion.IngestionPipeline.Chunk;
+import com.ibm.watsonx.ai.ingestion.IngestionPipeline.EmbeddedChunk;
+import com.ibm.watsonx.ai.ingestion.IngestionPipeline.Source;
+
+/**
+ * Run of an {@link IngestionPipeline}, started by {@link IngestionPipeline#start(Iterable)}.
+ * <p>
+ * The workers of the stages run on the executor of the pipeline, see {@link IngestionPipeline.Builder#executor(ExecutorService)}. The progress of
+ * each stage can be followed with {@link #metrics()} while the documents are ingested.
+ */
+public final class Ingestion {
+    private static final long POLL_MILLIS = 100;
+
+    /**
+     * Represents the stages of an {@link IngestionPipeline}.
+     */
+    public enum Stage {
+        EXTRACTION,
+        CHUNKING,
+        EMBEDDING,
+        SINK
+    }
+
+    /**
+     * Document or batch that could not go through a stage.
+     *
+     * @param stage the stage that failed
+     * @param sourceId the identifier of the document
+     * @param error the error
+     */
+    public record Failure(Stage stage, String sourceId, Throwable error) {}
+
+    /**
+     * Progress of a stage.
+     *
+     * @param processed the number of items processed: documents for the extraction, chunks for the other stages
+     * @param failed the number of items that failed
+     * @param queued the number of items waiting in the input queue of the stage, always 0 for the extraction which reads the sources lazily
+     * @param busyTime the time spent by the workers of the stage processing items, excluding the time spent waiting on the queues
+     * @param throughput the number of items processed per second since the start of the ingestion
+     */
+    public record StageMetrics(long processed, long failed, int queued, Duration busyTime, double throughput) {}
+
+    /**
+     * Progress of an ingestion.
+     *
+     * @param extraction the progress of the extraction
+     * @param chunking the progress of the chunking
+     * @param embedding the progress of the embedding
+     * @param sink the progress of the writes to the sink
+     * @param elapsed the time since the start of the ingestion, until its end once completed
+     */
+    public record Metrics(StageMetrics extraction, StageMetrics chunking, StageMetrics embedding, StageMetrics sink, Duration elapsed) {}
+
+    private record Extracted(String sourceId, String text) {}
+
+    private static final class Counters {
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder busyNanos = new LongAdder();
+
+        StageMetrics metrics(int queued, long elapsedNanos) {
+            long count = processed.sum();
+            double throughput = elapsedNanos <= 0 ? 0 : count / (elapsedNanos / 1e9);
+            return new StageMetrics(count, failed.sum(), queued, Duration.ofNanos(busyNanos.sum()), throughput);
+        }
+    }
+
+    private final IngestionPipeline pipeline;
+    private final Iterator<Source> sources;
+    private final BlockingQueue<Extracted> texts;
+    private final BlockingQueue<Chunk> chunks;
+    private final BlockingQueue<List<EmbeddedChunk>> embedded;
+    private final Counters extraction = new Counters();
+    private final Counters chunking = new Counters();
+    private final Counters embedding = new Counters();
+    private final Counters sink = new Counters();
+    private final Queue<Failure> failures = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger extractors;
+    private final AtomicInteger embedders;
+    private final CompletableFuture<Metrics> completion = new CompletableFuture<>();
+    private final long startNanos = System.nanoTime();
+    private volatile long endNanos;
+    private volatile boolean extractionDone;
+    private volatile boolean chunkingDone;
+    private volatile boolean embeddingDone;
+    private volatile boolean stopped;
+
+    Ingestion(IngestionPipeline pipeline, Iterator<Source> sources) {
+        this.pipeline = pipeline;
+        this.sources = sources;
+        texts = new ArrayBlockingQueue<>(pipeline.queueCapacity());
+        chunks = new ArrayBlockingQueue<>(pipeline.queueCapacity());
+        embedded = new ArrayBlockingQueue<>(Math.max(1, pipeline.queueCapacity() / pipeline.batchSize()));
+        extractors = new AtomicInteger(pipeline.extractionConcurrency());
+        embedders = new AtomicInteger(pipeline.embeddingConcurrency());
+
+        var executor = pipeline.executor();
+        try {
+            for (int i = 0; i < pipeline.extractionConcurrency(); i++)
+                executor.execute(this::extract);
+            executor.execute(this::chunk);
+            for (int i = 0; i < pipeline.embeddingConcurrency(); i++)
+                executor.execute(this::embed);
+            executor.execute(this::write);
+        } catch (RejectedExecutionException e) {
+            // The workers already started exit once stopped.
+            stop(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the current progress of the stages.
+     *
+     * @return a {@link Metrics} snapshot
+     */
+    public Metrics metrics() {
+        long end = endNanos;
+        long elapsed = (end == 0 ? System.nanoTime() : end) - startNanos;
+        int embeddedChunks = embedded.stream().mapToInt(List::size).sum();
+        return new Metrics(
+            extraction.metrics(0, elapsed),
+            chunking.metrics(texts.size(), elapsed),
+            embedding.metrics(chunks.size(), elapsed),
+            sink.metrics(embeddedChunks, elapsed),
+            Duration.ofNanos(elapsed));
+    }
+
+    /**
+     * Returns the documents and batches that could not go through a stage so far.
+     *
+     * @return the failures, in the order they occurred
+     */
+    public List<Failure> failures() {
+        return List.copyOf(failures);
+    }
+
+    /**
+     * Returns a future completing with the final metrics once all the chunks are written to the sink.
+     * <p>
+     * The future completes exceptionally if reading the sources fails or the ingestion is cancelled.
+     *
+     * @return a {@link CompletableFuture} with the final {@link Metrics}
+     */
+    public CompletableFuture<Metrics> completion() {
+        return completion.thenApply(metrics -> metrics);
+    }
+
+    /**
+     * Waits for all the chunks to be written to the sink.
+     *
+     * @return the final {@link Metrics}
+     */
+    public Metrics join() {
+        try {
+            return completion.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException ex)
+                throw ex;
+            throw e;
+        }
+    }
+
+    /**
+     * Stops the ingestion: the items being processed are completed, the queued ones are discarded.
+     */
+    public void cancel() {
+        stop(new CancellationException("The ingestion was cancelled"));
+    }
+
+    private void extract() {
+        try {
+            while (!stopped) {
+                Source source;
+                synchronized (sources) {
+                    if (!sources.hasNext())
+                        break;
+                    source = sources.next();
+                }
+
+                long start = System.nanoTime();
+                String text;
+                try {
+                    text = extract(source);
+                    extraction.processed.increment();
+                } catch (Exception e) {
+                    extraction.failed.increment();
+                    failures.add(new Failure(Stage.EXTRACTION, source.id(), e));
+                    continue;
+                } finally {
+                    extraction.busyNanos.add(System.nanoTime() - start);
+                }
+
+                if (!put(texts, new Extracted(source.id(), text)))
+                    break;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop(e);
+        } catch (RuntimeException e) {
+            // The sources could not be read.
+            stop(e);
+        } finally {
+            if (extractors.decrementAndGet() == 0)
+                extractionDone = true;
+        }
+    }
+
+    private String extract(Source source) throws Exception {
+        if (nonNull(source.text()))
+            return source.text();
+
+        var textExtractionService = pipeline.textExtractionService();
+        if (isNull(textExtractionService))
+            throw new IllegalStateException("A TextExtractionService is required to extract " + source.id());
+
+        return nonNull(source.file())
+            ? textExtractionService.uploadExtractAndFetch(source.file())
+            : textExtractionService.extractAndFetch(source.path());
+    }
+
+    private void chunk() {
+        try {
+            Extracted document;
+            while (nonNull(document = take(texts, () -> extractionDone))) {
+                long start = System.nanoTime();
+                List<String> parts;
+                try {
+                    parts = pipeline.splitter().split(document.text());
+                } catch (RuntimeException e) {
+                    chunking.failed.increment();
+                    failures.add(new Failure(Stage.CHUNKING, document.sourceId(), e));
+                    continue;
+                } finally {
+                    chunking.busyNanos.add(System.nanoTime() - start);
+                }
+
+                for (int i = 0; i < parts.size(); i++) {
+                    if (!put(chunks, new Chunk(document.sourceId(), i, parts.get(i))))
+                        return;
+                    chunking.processed.increment();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop(e);
+        } finally {
+            chunkingDone = true;
+        }
+    }
+
+    private void embed() {
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(pipeline.batchTimeoutMillis());
+        try {
+            boolean upstreamDone = false;
+            while (!upstreamDone && !stopped) {
+                // Fills a batch until it is full, the chunking is done, or the oldest chunk has waited for the batch timeout.
+                var batch = new ArrayList<Chunk>(pipeline.batchSize());
+                long deadline = 0;
+                while (batch.size() < pipeline.batchSize()) {
+                    boolean done = chunkingDone;
+                    long waitNanos = batch.isEmpty()
+                        ? TimeUnit.MILLISECONDS.toNanos(POLL_MILLIS)
+                        : Math.min(TimeUnit.MILLISECONDS.toNanos(POLL_MILLIS), deadline - System.nanoTime());
+                    var chunk = waitNanos > 0 ? chunks.poll(waitNanos, TimeUnit.NANOSECONDS) : chunks.poll();
+                    if (nonNull(chunk)) {
+                        if (batch.isEmpty())
+                            deadline = System.nanoTime() + timeoutNanos;
+                        batch.add(chunk);
+                        chunks.drainTo(batch, pipeline.batchSize() - batch.size());
+                    } else if (stopped) {
+                        return;
+                    } else if (done) {
+                        upstreamDone = true;
+                        break;
+                    } else if (!batch.isEmpty() && System.nanoTime() - deadline >= 0) {
+                        break;
+                    }
+                }
+
+                if (!batch.isEmpty() && !embed(batch))
+                    return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop(e);
+        } finally {
+            if (embedders.decrementAndGet() == 0)
+                embeddingDone = true;
+        }
+    }
+
+    /**
+     * Embeds a batch with a single request and queues it for the sink.
+     *
+     * @return {@code false} if the ingestion was stopped while waiting for room in the queue
+     */
+    private boolean embed(List<Chunk> batch) throws InterruptedException {
+        long start = System.nanoTime();
+        List<EmbeddedChunk> result;
+        try {
+            var inputs = batch.stream().map(Chunk::text).toList();
+            var results = pipeline.embeddingService().embed(inputs, pipeline.embeddingParameters()).results();
+            result = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                var values = results.get(i).embedding();
+                var vector = new float[values.size()];
+                for (int j = 0; j < vector.length; j++)
+                    vector[j] = values.get(j);
+                result.add(new EmbeddedChunk(batch.get(i), vector));
+            }
+            embedding.processed.add(batch.size());
+        } catch (RuntimeException e) {
+            embedding.failed.add(batch.size());
+            batch.stream().map(Chunk::sourceId).distinct().forEach(sourceId -> failures.add(new Failure(Stage.EMBEDDING, sourceId, e)));
+            return true;
+        } finally {
+            embedding.busyNanos.add(System.nanoTime() - start);
+        }
+        return put(embedded, result);
+    }
+
+    private void write() {
+        try {
+            List<EmbeddedChunk> batch;
+            while (nonNull(batch = take(embedded, () -> embeddingDone))) {
+                long start = System.nanoTime();
+                try {
+                    pipeline.sink().write(batch);
+                    sink.processed.add(batch.size());
+                } catch (RuntimeException e) {
+                    sink.failed.add(batch.size());
+                    var error = e;
+                    batch.stream().map(chunk -> chunk.chunk().sourceId()).distinct()
+                        .forEach(sourceId -> failures.add(new Failure(Stage.SINK, sourceId, error)));
+                } finally {
+                    sink.busyNanos.add(System.nanoTime() - start);
+                }
+            }
+            endNanos = System.nanoTime();
+            completion.complete(metrics());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop(e);
+        }
+    }
+
+    /**
+     * Waits for room in a queue.
+     *
+     * @return {@code false} if the ingestion was stopped
+     */
+    private <T> boolean put(BlockingQueue<T> queue, T item) throws InterruptedException {
+        while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (stopped)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Waits for an item of a queue.
+     *
+     * @return the item, or {@code null} once the previous stage is done and the queue is empty, or the ingestion was stopped
+     */
+    private <T> T take(BlockingQueue<T> queue, BooleanSupplier upstreamDone) throws InterruptedException {
+        while (!stopped) {
+            // Read before polling: if the previous stage was already done, an empty queue stays empty.
+            boolean done = upstreamDone.getAsBoolean();
+            var item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (nonNull(item) || done)
+                return item;
+        }
+        return null;
+    }
+
+    private void stop(Throwable error) {
+        stopped = true;
+        if (endNanos == 0)
+            endNanos = System.nanoTime();
+        completion.completeExceptionally(error);
+    }
+}
@@ -0,0 +1,504 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.ingestion;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import java.io.File;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+import com.ibm.watsonx.ai.embedding.EmbeddingParameters;
+import com.ibm.watsonx.ai.embedding.EmbeddingService;
+import com.ibm.watsonx.ai.textprocessing.textextraction.TextExtractionService;
+import com.ibm.watsonx.ai.tokenization.TokenEstimator;
+import com.ibm.watsonx.ai.vectorstore.VectorStore;
+
+/**
+ * Pipeline extracting, chunking and embedding documents, and writing the embedded chunks to a {@link Sink}, e.g. a {@link VectorStore}.
+ * <p>
+ * The four stages run concurrently and are connected by bounded queues: when a stage is slower than the previous one, the previous one waits for room
+ * in the queue, so that the memory used does not depend on the number of documents. The stages are:
+ * <ol>
+ * <li><b>extraction</b>: the text of the files is extracted with the {@link TextExtractionService}, {@code extractionConcurrency} documents at a
+ * time;</li>
+ * <li><b>chunking</b>: the text is split by the {@link TextSplitter}, by default in chunks of at most {@code chunkSize} tokens;</li>
+ * <li><b>embedding</b>: the chunks are embedded by batches of up to {@code batchSize} inputs, a single request to the embedding API each;</li>
+ * <li><b>sink</b>: the embedded batches are written, one at a time, to the {@link Sink}.</li>
+ * </ol>
+ * A document that fails to be extracted, or a batch that fails to be embedded or written, is reported in the {@link Ingestion.Failure}s and does not
+ * stop the pipeline.
+ * <p>
+ * The workers of the stages block on the queues for the whole ingestion, so they run on a dedicated executor rather than on the shared I/O executor
+ * of the SDK. The pipeline must be closed to cancel the running ingestions and release the threads of the executor.
+ * <p>
+ * <b>Example usage:</b>
+ *
+ * <pre>{@code
+ * IngestionPipeline pipeline = IngestionPipeline.builder()
+ *     .textExtractionService(textExtractionService)
+ *     .embeddingService(embeddingService)
+ *     .tokenEstimator(tokenEstimator, "ibm/granite-embedding-278m-multilingual")
+ *     .chunkSize(512)
+ *     .sink(batch -> batch.forEach(chunk -> vectorStore.add(chunk.toDocument(), chunk.embedding())))
+ *     .build();
+ *
+ * Ingestion ingestion = pipeline.start(List.of(
+ *     IngestionPipeline.Source.file(new File("report.pdf")),
+ *     IngestionPipeline.Source.text("faq", "...")));
+ *
+ * Ingestion.Metrics metrics = ingestion.join();
+ * pipeline.close();
+ * }</pre>
+ */
+public final class IngestionPipeline implements AutoCloseable {
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final TextExtractionService textExtractionService;
+    private final EmbeddingService embeddingService;
+    private final EmbeddingParameters embeddingParameters;
+    private final TextSplitter splitter;
+    private final Sink sink;
+    private final int extractionConcurrency;
+    private final int embeddingConcurrency;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final long batchTimeoutMillis;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final Set<Ingestion> running = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    private IngestionPipeline(Builder builder) {
+        textExtractionService = builder.textExtractionService;
+        embeddingService = requireNonNull(builder.embeddingService, "embeddingService must be provided");
+        embeddingParameters = builder.embeddingParameters;
+        sink = requireNonNull(builder.sink, "sink must be provided");
+        extractionConcurrency = builder.extractionConcurrency;
+        embeddingConcurrency = builder.embeddingConcurrency;
+        batchSize = builder.batchSize;
+        queueCapacity = builder.queueCapacity;
+        batchTimeoutMillis = builder.batchTimeoutMillis;
+
+        if (extractionConcurrency <= 0 || embeddingConcurrency <= 0)
+            throw new IllegalArgumentException("The concurrency of the stages must be greater than 0");
+
+        if (batchSize <= 0 || batchSize > MAX_BATCH_SIZE)
+            throw new IllegalArgumentException("batchSize must be between 1 and " + MAX_BATCH_SIZE);
+
+        if (queueCapacity <= 0)
+            throw new IllegalArgumentException("queueCapacity must be greater than 0");
+
+        if (batchTimeoutMillis <= 0)
+            throw new IllegalArgumentException("batchTimeout must be positive");
+
+        if (nonNull(builder.splitter)) {
+            splitter = builder.splitter;
+        } else {
+            ToIntFunction<String> tokenCounter = isNull(builder.tokenEstimator)
+                ? text -> (text.length() + 3) / 4
+                : TextSplitter.tokenCounter(builder.tokenEstimator, builder.tokenizerModelId);
+            splitter = TextSplitter.recursive(builder.chunkSize, builder.chunkOverlap, tokenCounter);
+        }
+
+        ownsExecutor = isNull(builder.executor);
+        executor = ownsExecutor ? Executors.newCachedThreadPool(workerThreadFactory()) : builder.executor;
+    }
+
+    /**
+     * Starts ingesting documents in the background.
+     * <p>
+     * The sources are read lazily, as the extraction stage has room for them.
+     *
+     * @param sources the documents to ingest
+     * @return the {@link Ingestion} tracking the progress
+     */
+    public Ingestion start(Iterable<Source> sources) {
+        requireNonNull(sources, "sources cannot be null");
+        if (closed)
+            throw new IllegalStateException("The pipeline is closed");
+
+        var ingestion = new Ingestion(this, sources.iterator());
+        running.add(ingestion);
+        ingestion.completion().whenComplete((metrics, error) -> running.remove(ingestion));
+        return ingestion;
+    }
+
+    /**
+     * Ingests documents and waits for all the chunks to be written to the sink.
+     *
+     * @param sources the documents to ingest
+     * @return the final {@link Ingestion.Metrics}
+     */
+    public Ingestion.Metrics ingest(Iterable<Source> sources) {
+        return start(sources).join();
+    }
+
+    /**
+     * Cancels the running ingestions and shuts down the executor of the workers, unless it was provided with
+     * {@link Builder#executor(ExecutorService)}.
+     * <p>
+     * The items being processed are completed, so the workers may still run for the duration of an extraction, an embedding request or a write to the
+     * sink.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        running.forEach(Ingestion::cancel);
+        if (ownsExecutor)
+            executor.shutdown();
+    }
+
+    TextExtractionService textExtractionService() {
+        return textExtractionService;
+    }
+
+    EmbeddingService embeddingService() {
+        return embeddingService;
+    }
+
+    EmbeddingParameters embeddingParameters() {
+        return embeddingParameters;
+    }
+
+    TextSplitter splitter() {
+        return splitter;
+    }
+
+    Sink sink() {
+        return sink;
+    }
+
+    int extractionConcurrency() {
+        return extractionConcurrency;
+    }
+
+    int embeddingConcurrency() {
+        return embeddingConcurrency;
+    }
+
+    int batchSize() {
+        return batchSize;
+    }
+
+    int queueCapacity() {
+        return queueCapacity;
+    }
+
+    long batchTimeoutMillis() {
+        return batchTimeoutMillis;
+    }
+
+    ExecutorService executor() {
+        return executor;
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        var counter = new AtomicInteger(1);
+        return task -> {
+            var thread = new Thread(task, "ingestion-worker-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Document to ingest: a text, a local file or a file of the document reference of the {@link TextExtractionService}.
+     *
+     * @param id the identifier of the document, copied to its chunks
+     * @param text the text of the document, or {@code null} if it must be extracted
+     * @param file the local file to upload and extract, or {@code null}
+     * @param path the absolute path of the file in the document reference to extract, or {@code null}
+     */
+    public record Source(String id, String text, File file, String path) {
+        public Source {
+            requireNonNull(id, "id cannot be null");
+            int set = (nonNull(text) ? 1 : 0) + (nonNull(file) ? 1 : 0) + (nonNull(path) ? 1 : 0);
+            if (set != 1)
+                throw new IllegalArgumentException("Exactly one of text, file and path must be set");
+        }
+
+        /**
+         * Creates a document from its text; it is not extracted.
+         *
+         * @param id the identifier of the document
+         * @param text the text of the document
+         * @return the {@link Source}
+         */
+        public static Source text(String id, String text) {
+            return new Source(id, requireNonNull(text, "text cannot be null"), null, null);
+        }
+
+        /**
+         * Creates a document from a local file, uploaded and extracted with the {@link TextExtractionService}.
+         *
+         * @param file the file, also used as the identifier of the document
+         * @return the {@link Source}
+         */
+        public static Source file(File file) {
+            requireNonNull(file, "file cannot be null");
+            return new Source(file.getPath(), null, file, null);
+        }
+
+        /**
+         * Creates a document from a file of the document reference of the {@link TextExtractionService}.
+         *
+         * @param path the absolute path of the file, also used as the identifier of the document
+         * @return the {@link Source}
+         */
+        public static Source path(String path) {
+            return new Source(requireNonNull(path, "path cannot be null"), null, null, path);
+        }
+    }
+
+    /**
+     * Chunk of a document.
+     *
+     * @param sourceId the identifier of the document
+     * @param index the position of the chunk in the document, starting at 0
+     * @param text the text of the chunk
+     */
+    public record Chunk(String sourceId, int index, String text) {
+
+        /**
+         * Returns the identifier of the chunk, unique across the documents with distinct identifiers.
+         *
+         * @return the identifier, {@code sourceId#index}
+         */
+        public String id() {
+            return sourceId + "#" + index;
+        }
+    }
+
+    /**
+     * Chunk with its embedding.
+     *
+     * @param chunk the chunk
+     * @param embedding the embedding of the text of the chunk
+     */
+    public record EmbeddedChunk(Chunk chunk, float[] embedding) {
+
+        /**
+         * Returns the chunk as a {@link VectorStore.Document}, identified by {@link Chunk#id()}.
+         *
+         * @return the {@link VectorStore.Document}
+         */
+        public VectorStore.Document toDocument() {
+            return new VectorStore.Document(chunk.id(), chunk.text());
+        }
+    }
+
+    /**
+     * Destination of the embedded chunks.
+     * <p>
+     * The batches are written one at a time, from a single thread at a time.
+     */
+    @FunctionalInterface
+    public interface Sink {
+
+        /**
+         * Writes a batch of embedded chunks.
+         *
+         * @param batch the embedded chunks, in the order of each document
+         */
+        void write(List<EmbeddedChunk> batch);
+    }
+
+    /**
+     * Returns a new {@link Builder} instance.
+     *
+     * @return {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder class for constructing {@link IngestionPipeline} instances.
+     */
+    public static final class Builder {
+        private TextExtractionService textExtractionService;
+        private EmbeddingService embeddingService;
+        private EmbeddingParameters embeddingParameters;
+        private TextSplitter splitter;
+        private TokenEstimator tokenEstimator;
+        private String tokenizerModelId;
+        private Sink sink;
+        private int chunkSize = 512;
+        private int chunkOverlap = 64;
+        private int extractionConcurrency = 4;
+        private int embeddingConcurrency = 2;
+        private int batchSize = MAX_BATCH_SIZE;
+        private int queueCapacity = 2 * MAX_BATCH_SIZE;
+        private long batchTimeoutMillis = 1000;
+        private ExecutorService executor;
+
+        private Builder() {}
+
+        /**
+         * Sets the {@link TextExtractionService} extracting the text of the {@link Source#file(File)} and {@link Source#path(String)} documents.
+         *
+         * @param textExtractionService the text extraction service, or {@code null} to ingest text documents only
+         */
+        public Builder textExtractionService(TextExtractionService textExtractionService) {
+            this.textExtractionService = textExtractionService;
+            return this;
+        }
+
+        /**
+         * Sets the {@link EmbeddingService} embedding the chunks.
+         *
+         * @param embeddingService the embedding service
+         */
+        public Builder embeddingService(EmbeddingService embeddingService) {
+            this.embeddingService = embeddingService;
+            return this;
+        }
+
+        /**
+         * Sets the parameters of the embedding requests.
+         *
+         * @param embeddingParameters the {@link EmbeddingParameters}
+         */
+        public Builder embeddingParameters(EmbeddingParameters embeddingParameters) {
+            this.embeddingParameters = embeddingParameters;
+            return this;
+        }
+
+        /**
+         * Sets the {@link TextSplitter}; {@link #chunkSize(int)}, {@link #chunkOverlap(int)} and {@link #tokenEstimator(TokenEstimator, String)} are
+         * then ignored.
+         *
+         * @param splitter the text splitter
+         */
+        public Builder splitter(TextSplitter splitter) {
+            this.splitter = splitter;
+            return this;
+        }
+
+        /**
+         * Sets the {@link TokenEstimator} counting the tokens of the chunks for the given model.
+         * <p>
+         * Without it, a token is assumed to be four characters long.
+         *
+         * @param tokenEstimator the token estimator
+         * @param modelId the identifier of the embedding model
+         */
+        public Builder tokenEstimator(TokenEstimator tokenEstimator, String modelId) {
+            this.tokenEstimator = tokenEstimator;
+            this.tokenizerModelId = modelId;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of tokens of a chunk.
+         *
+         * @param chunkSize the maximum number of tokens, defaults to 512
+         */
+        public Builder chunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of tokens repeated between two consecutive chunks of a document.
+         *
+         * @param chunkOverlap the number of tokens, defaults to 64
+         */
+        public Builder chunkOverlap(int chunkOverlap) {
+            this.chunkOverlap = chunkOverlap;
+            return this;
+        }
+
+        /**
+         * Sets the number of documents extracted concurrently.
+         *
+         * @param extractionConcurrency the number of documents, defaults to 4
+         */
+        public Builder extractionConcurrency(int extractionConcurrency) {
+            this.extractionConcurrency = extractionConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the number of embedding requests sent concurrently.
+         *
+         * @param embeddingConcurrency the number of requests, defaults to 2
+         */
+        public Builder embeddingConcurrency(int embeddingConcurrency) {
+            this.embeddingConcurrency = embeddingConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of chunks embedded by a single request.
+         *
+         * @param batchSize the number of chunks, at most and by default 1000, the limit of the embedding API
+         */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the capacity of the queues between the stages, in documents for the extracted texts and in chunks afterwards.
+         *
+         * @param queueCapacity the capacity, defaults to 2000
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the time after which an incomplete batch is embedded rather than waiting for more chunks.
+         *
+         * @param batchTimeout the time, defaults to 1 second
+         */
+        public Builder batchTimeout(Duration batchTimeout) {
+            this.batchTimeoutMillis = requireNonNull(batchTimeout, "batchTimeout cannot be null").toMillis();
+            return this;
+        }
+
+        /**
+         * Sets the executor running the workers of the stages.
+         * <p>
+         * Each ingestion keeps {@code extractionConcurrency + embeddingConcurrency + 2} of its threads busy until it ends, so the executor must be
+         * able to run them all at once, and should not be shared with short tasks. It is not shut down by {@link IngestionPipeline#close()}.
+         *
+         * @param executor the executor, defaults to a cached thread pool of daemon threads owned by the pipeline
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Sink} the embedded chunks are written to.
+         *
+         * @param sink the sink
+         */
+        public Builder sink(Sink sink) {
+            this.sink = sink;
+            return this;
+        }
+
+        /**
+         * Builds an {@link IngestionPipeline} instance using the configured parameters.
+         *
+         * @return a new instance of {@link IngestionPipeline}
+         */
+        public IngestionPipeline build() {
+            return new IngestionPipeline(this);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.ingestion;
+
+import static java.util.Objects.requireNonNull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * {@link TextSplitter} cutting the text on the coarsest separator that gives pieces small enough, see
+ * {@link TextSplitter#recursive(int, int, ToIntFunction)}.
+ */
+final class RecursiveTextSplitter implements TextSplitter {
+    private static final String[] SEPARATORS = { "\n\n", "\n", ". ", " " };
+
+    private final int maxTokens;
+    private final int overlapTokens;
+    private final ToIntFunction<String> tokenCounter;
+
+    RecursiveTextSplitter(int maxTokens, int overlapTokens, ToIntFunction<String> tokenCounter) {
+        if (maxTokens <= 0)
+            throw new IllegalArgumentException("maxTokens must be greater than 0");
+
+        if (overlapTokens < 0 || overlapTokens >= maxTokens)
+            throw new IllegalArgumentException("overlapTokens must be at least 0 and less than maxTokens");
+
+        this.maxTokens = maxTokens;
+        this.overlapTokens = overlapTokens;
+        this.tokenCounter = requireNonNull(tokenCounter, "tokenCounter cannot be null");
+    }
+
+    @Override
+    public List<String> split(String text) {
+        requireNonNull(text, "text cannot be null");
+        var chunks = new ArrayList<String>();
+        split(text, 0, chunks);
+        return chunks;
+    }
+
+    private void split(String text, int level, List<String> chunks) {
+        int tokens = tokenCounter.applyAsInt(text);
+        if (tokens <= maxTokens) {
+            add(text, chunks);
+            return;
+        }
+
+        if (level == SEPARATORS.length) {
+            // A single word longer than a chunk: cut it by characters, assuming the tokens are evenly spread.
+            int length = Math.max(1, (int) ((long) text.length() * maxTokens / tokens));
+            for (int start = 0; start < text.length(); start += length)
+                add(text.substring(start, Math.min(text.length(), start + length)), chunks);
+            return;
+        }
+
+        var pieces = pieces(text, SEPARATORS[level]);
+        if (pieces.size() == 1) {
+            split(text, level + 1, chunks);
+            return;
+        }
+
+        // The pieces of the current chunk and their number of tokens.
+        var current = new ArrayDeque<String>();
+        var counts = new ArrayDeque<Integer>();
+        int currentTokens = 0;
+        for (var piece : pieces) {
+            int pieceTokens = tokenCounter.applyAsInt(piece);
+            if (pieceTokens > maxTokens) {
+                add(String.join("", current), chunks);
+                current.clear();
+                counts.clear();
+                currentTokens = 0;
+                split(piece, level + 1, chunks);
+                continue;
+            }
+
+            if (!current.isEmpty() && currentTokens + pieceTokens > maxTokens) {
+                add(String.join("", current), chunks);
+                while (!current.isEmpty() && (currentTokens > overlapTokens || currentTokens + pieceTokens > maxTokens)) {
+                    current.pollFirst();
+                    currentTokens -= counts.pollFirst();
+                }
+            }
+            current.addLast(piece);
+            counts.addLast(pieceTokens);
+            currentTokens += pieceTokens;
+        }
+        add(String.join("", current), chunks);
+    }
+
+    /**
+     * Splits the text after each separator, so that the pieces can be joined back without loss.
+     */
+    private static List<String> pieces(String text, String separator) {
+        var pieces = new ArrayList<String>();
+        int start = 0;
+        for (int end = text.indexOf(separator); end >= 0; end = text.indexOf(separator, start)) {
+            pieces.add(text.substring(start, end + separator.length()));
+            start = end + separator.length();
+        }
+        if (start < text.length())
+            pieces.add(text.substring(start));
+        return pieces;
+    }
+
+    private static void add(String chunk, List<String> chunks) {
+        var stripped = chunk.strip();
+        if (!stripped.isEmpty())
+            chunks.add(stripped);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.ingestion;
+
+import static java.util.Objects.requireNonNull;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import com.ibm.watsonx.ai.tokenization.TokenEstimator;
+
+/**
+ * Splits the text of a document into the chunks embedded by an {@link IngestionPipeline}.
+ */
+@FunctionalInterface
+public interface TextSplitter {
+
+    /**
+     * Splits a text into chunks.
+     *
+     * @param text the text of a document
+     * @return the chunks, in the order of the text
+     */
+    List<String> split(String text);
+
+    /**
+     * Returns a splitter that cuts the text on paragraphs, then lines, sentences and words, so that each chunk has at most {@code maxTokens} tokens.
+     * <p>
+     * The consecutive pieces are merged as long as they fit, and each chunk starts with the last pieces of the previous one, up to
+     * {@code overlapTokens} tokens.
+     *
+     * @param maxTokens the maximum number of tokens of a chunk
+     * @param overlapTokens the number of tokens repeated between two consecutive chunks
+     * @param tokenCounter the number of tokens of a text, see {@link #tokenCounter(TokenEstimator, String)}
+     * @return the {@link TextSplitter}
+     */
+    static TextSplitter recursive(int maxTokens, int overlapTokens, ToIntFunction<String> tokenCounter) {
+        return new RecursiveTextSplitter(maxTokens, overlapTokens, tokenCounter);
+    }
+
+    /**
+     * Returns a token counter using the upper bound of the estimates of a {@link TokenEstimator}, so that the chunks fit within the input limit of
+     * the embedding model.
+     *
+     * @param tokenEstimator the token estimator, calibrated with the tokenization API
+     * @param modelId the identifier of the embedding model
+     * @return the token counter
+     */
+    static ToIntFunction<String> tokenCounter(TokenEstimator tokenEstimator, String modelId) {
+        requireNonNull(tokenEstimator, "tokenEstimator cannot be null");
+        requireNonNull(modelId, "modelId cannot be null");
+        return text -> tokenEstimator.estimate(modelId, text).upperBound();
+    }
+}
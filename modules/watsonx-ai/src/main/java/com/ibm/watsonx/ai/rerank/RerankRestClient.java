@@ -5,8 +5,10 @@
 package com.ibm.watsonx.ai.rerank;
 
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import com.ibm.watsonx.ai.WatsonxRestClient;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 
 /**
  * Abstraction of a REST client for interacting with the IBM watsonx.ai Rerank APIs.
@@ -26,6 +28,19 @@ public abstract class RerankRestClient extends WatsonxRestClient {
      */
     public abstract RerankResponse rerank(String transactionId, RerankPayload request);
 
+    /**
+     * Executes an asynchronous rerank request against the watsonx.ai Rerank API.
+     * <p>
+     * The default implementation runs {@link #rerank} on the I/O executor, implementations should override it to send the request asynchronously.
+     *
+     * @param transactionId an optional client-provided transaction identifier used for tracing
+     * @param request the rerank request payload
+     * @return A {@link CompletableFuture} resolving to a {@link RerankResponse} containing the reranked results.
+     */
+    public CompletableFuture<RerankResponse> rerankAsync(String transactionId, RerankPayload request) {
+        return CompletableFuture.supplyAsync(() -> rerank(transactionId, request), ExecutorProvider.ioExecutor());
+    }
+
     /**
      * Creates a new {@link Builder} using the first available {@link RerankRestClientBuilderFactory} discovered via {@link ServiceLoader}.
      * <p>
@@ -7,10 +7,21 @@ package com.ibm.watsonx.ai.rerank;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
 import com.ibm.watsonx.ai.Crypto;
 import com.ibm.watsonx.ai.WatsonxService.ModelService;
 import com.ibm.watsonx.ai.core.auth.Authenticator;
+import com.ibm.watsonx.ai.core.http.HedgingPolicy;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
+import com.ibm.watsonx.ai.embedding.EmbeddingService;
 import com.ibm.watsonx.ai.rerank.RerankPayload.Parameters;
 import com.ibm.watsonx.ai.rerank.RerankPayload.RerankInput;
 
@@ -38,15 +49,37 @@ import com.ibm.watsonx.ai.rerank.RerankPayload.RerankInput;
  * }</pre>
  *
  * To use a custom authentication mechanism, configure it explicitly with {@code authenticator(Authenticator)}.
+ * <p>
+ * Requests with more than {@code maxInputsPerRequest} inputs are split into shards that are reranked in parallel, with at most {@code maxConcurrency}
+ * requests in flight. The results of the shards are merged by score, their indexes refer to the positions of the inputs in the original request, and
+ * {@code topN} applies to the merged results. When a prefilter is configured, only the inputs most similar to the query according to an
+ * {@link EmbeddingService} are reranked.
  *
  * @see Authenticator
  */
 public class RerankService extends ModelService {
+    private static final int DEFAULT_MAX_INPUTS_PER_REQUEST = 1000;
+    private static final int DEFAULT_MAX_CONCURRENCY = 8;
+
     private final RerankRestClient client;
+    private final int maxInputsPerRequest;
+    private final int maxConcurrency;
+    private final EmbeddingService prefilterService;
+    private final int maxCandidates;
 
     private RerankService(Builder builder) {
         super(builder);
         requireNonNull(builder.authenticator(), "authenticator cannot be null");
+        maxInputsPerRequest = requireNonNullElse(builder.maxInputsPerRequest, DEFAULT_MAX_INPUTS_PER_REQUEST);
+        if (maxInputsPerRequest <= 0)
+            throw new IllegalArgumentException("maxInputsPerRequest must be greater than 0");
+        maxConcurrency = requireNonNullElse(builder.maxConcurrency, DEFAULT_MAX_CONCURRENCY);
+        if (maxConcurrency <= 0)
+            throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+        prefilterService = builder.prefilterService;
+        maxCandidates = builder.maxCandidates;
+        if (nonNull(prefilterService) && maxCandidates <= 0)
+            throw new IllegalArgumentException("maxCandidates must be greater than 0");
         client = RerankRestClient.builder()
             .baseUrl(baseUrl)
             .version(version)
@@ -56,6 +89,9 @@ public class RerankService extends ModelService {
             .authenticator(builder.authenticator())
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
+            .hedging(builder.hedging)
             .build();
     }
 
@@ -94,6 +130,153 @@ public class RerankService extends ModelService {
      * @return The {@link RerankResponse} containing the reranked results.
      */
     public RerankResponse rerank(RerankRequest request) {
+        var rerankPayload = buildRerankPayload(request);
+        var transactionId = transactionId(request);
+        boolean prefilter = isPrefiltered(rerankPayload);
+
+        if (!prefilter && rerankPayload.inputs().size() <= maxInputsPerRequest)
+            return client.rerank(transactionId, rerankPayload);
+
+        var candidates = prefilter ? prefilter(rerankPayload) : allInputs(rerankPayload);
+        return join(rerankShards(transactionId, rerankPayload, candidates));
+    }
+
+    /**
+     * Performs an asynchronous reranking operation using the specified query and input texts.
+     *
+     * @param query The query to rank the input texts against.
+     * @param inputs The list of input texts to be reranked.
+     * @return A {@link CompletableFuture} with the {@link RerankResponse} containing the reranked results.
+     */
+    public CompletableFuture<RerankResponse> rerankAsync(String query, List<String> inputs) {
+        return rerankAsync(query, inputs, null);
+    }
+
+    /**
+     * Performs an asynchronous reranking operation using the specified query and input texts.
+     *
+     * @param query The query to rank the input texts against.
+     * @param inputs The list of input texts to be reranked.
+     * @param parameters Set of parameters used to control the behavior of a rerank operation
+     * @return A {@link CompletableFuture} with the {@link RerankResponse} containing the reranked results.
+     */
+    public CompletableFuture<RerankResponse> rerankAsync(String query, List<String> inputs, RerankParameters parameters) {
+        return rerankAsync(
+            RerankRequest.builder()
+                .query(query)
+                .inputs(inputs)
+                .parameters(parameters)
+                .build());
+    }
+
+    /**
+     * Performs an asynchronous reranking operation using the specified request.
+     *
+     * @param request The rerank request.
+     * @return A {@link CompletableFuture} with the {@link RerankResponse} containing the reranked results.
+     */
+    public CompletableFuture<RerankResponse> rerankAsync(RerankRequest request) {
+        var rerankPayload = buildRerankPayload(request);
+        var transactionId = transactionId(request);
+        boolean prefilter = isPrefiltered(rerankPayload);
+
+        if (!prefilter && rerankPayload.inputs().size() <= maxInputsPerRequest)
+            return client.rerankAsync(transactionId, rerankPayload);
+
+        if (!prefilter)
+            return rerankShards(transactionId, rerankPayload, allInputs(rerankPayload));
+
+        return CompletableFuture.supplyAsync(() -> prefilter(rerankPayload), ExecutorProvider.ioExecutor())
+            .thenCompose(candidates -> rerankShards(transactionId, rerankPayload, candidates));
+    }
+
+    /**
+     * Reranks the candidates in shards of at most {@code maxInputsPerRequest} inputs.
+     *
+     * @param candidates the positions of the inputs to rerank, in ascending order
+     */
+    private CompletableFuture<RerankResponse> rerankShards(String transactionId, RerankPayload payload, int[] candidates) {
+        int shards = (candidates.length + maxInputsPerRequest - 1) / maxInputsPerRequest;
+        var positions = new int[shards][];
+        for (int shard = 0; shard < shards; shard++) {
+            int from = shard * maxInputsPerRequest;
+            positions[shard] = Arrays.copyOfRange(candidates, from, Math.min(from + maxInputsPerRequest, candidates.length));
+        }
+
+        var returnOptions = nonNull(payload.parameters()) ? payload.parameters().returnOptions() : null;
+        var topN = nonNull(returnOptions) ? returnOptions.topN() : null;
+
+        // Every shard keeps the topN option: the global topN results are always among the topN results of their shard.
+        return new RerankShards(positions, maxConcurrency, topN, shard -> {
+            var inputs = Arrays.stream(positions[shard]).mapToObj(payload.inputs()::get).toList();
+            var shardPayload = new RerankPayload(payload.modelId(), inputs, payload.query(), payload.spaceId(), payload.projectId(),
+                payload.parameters(), payload.crypto());
+            return client.rerankAsync(transactionId, shardPayload);
+        }).start();
+    }
+
+    private boolean isPrefiltered(RerankPayload payload) {
+        return nonNull(prefilterService) && payload.inputs().size() > maxCandidates;
+    }
+
+    /**
+     * Returns the positions of the {@code maxCandidates} inputs whose embedding is the most similar to the embedding of the query, in ascending
+     * order.
+     */
+    private int[] prefilter(RerankPayload payload) {
+        var texts = new ArrayList<String>(payload.inputs().size() + 1);
+        texts.add(payload.query());
+        payload.inputs().forEach(input -> texts.add(input.text()));
+
+        var embeddings = prefilterService.embed(texts).results();
+        var query = embeddings.get(0).embedding();
+        var similarities = new double[payload.inputs().size()];
+        for (int i = 0; i < similarities.length; i++)
+            similarities[i] = cosineSimilarity(query, embeddings.get(i + 1).embedding());
+
+        // Min-heap of the most similar inputs seen so far.
+        var heap = new PriorityQueue<Integer>(maxCandidates, Comparator.comparingDouble(i -> similarities[i]));
+        for (int i = 0; i < similarities.length; i++) {
+            if (heap.size() < maxCandidates)
+                heap.add(i);
+            else if (similarities[i] > similarities[heap.peek()]) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+
+        return heap.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    private static double cosineSimilarity(List<Float> a, List<Float> b) {
+        double dot = 0, normA = 0, normB = 0;
+        for (int i = 0; i < a.size(); i++) {
+            double x = a.get(i), y = b.get(i);
+            dot += x * y;
+            normA += x * x;
+            normB += y * y;
+        }
+        return normA == 0 || normB == 0 ? 0 : dot / Math.sqrt(normA * normB);
+    }
+
+    private static int[] allInputs(RerankPayload payload) {
+        return IntStream.range(0, payload.inputs().size()).toArray();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException ex)
+                throw ex;
+            throw e;
+        }
+    }
+
+    /**
+     * Builds the payload of the rerank request.
+     */
+    private RerankPayload buildRerankPayload(RerankRequest request) {
 
         requireNonNull(request, "Request cannot be null");
         requireNonNull(request.query(), "Query cannot be null");
@@ -104,18 +287,16 @@ public class RerankService extends ModelService {
         String projectId = projectSpace.projectId();
         String spaceId = projectSpace.spaceId();
         String modelId = this.modelId;
-        String transactionId = null;
         Crypto crypto = null;
         Parameters requestParameters = null;
 
         if (nonNull(parameters)) {
             modelId = requireNonNullElse(parameters.modelId(), this.modelId);
-            transactionId = parameters.transactionId();
             requestParameters = parameters.toRerankRequestParameters();
             crypto = nonNull(parameters.crypto()) ? new Crypto(parameters.crypto()) : null;
         }
 
-        var rerankRequest = new RerankPayload(
+        return new RerankPayload(
             modelId,
             request.inputs().stream().map(RerankInput::new).toList(),
             request.query(),
@@ -124,8 +305,15 @@ public class RerankService extends ModelService {
             requestParameters,
             crypto
         );
+    }
 
-        return client.rerank(transactionId, rerankRequest);
+    private static String transactionId(RerankRequest request) {
+        return nonNull(request.parameters()) ? request.parameters().transactionId() : null;
+    }
+
+    @Override
+    protected List<Type> jsonTypes() {
+        return List.of(RerankPayload.class, RerankResponse.class);
     }
 
     /**
@@ -160,9 +348,66 @@ public class RerankService extends ModelService {
      * Builder class for constructing {@link RerankService} instances with configurable parameters.
      */
     public final static class Builder extends ModelService.Builder<Builder> {
+        private Integer maxInputsPerRequest;
+        private Integer maxConcurrency;
+        private EmbeddingService prefilterService;
+        private int maxCandidates;
+        private HedgingPolicy hedging;
 
         private Builder() {}
 
+        /**
+         * Sets the maximum number of inputs sent in a single rerank request.
+         * <p>
+         * Larger requests are split into shards that are reranked in parallel. Defaults to {@code 1000}.
+         *
+         * @param maxInputsPerRequest the maximum number of inputs per request
+         */
+        public Builder maxInputsPerRequest(int maxInputsPerRequest) {
+            this.maxInputsPerRequest = maxInputsPerRequest;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of concurrent requests sent for the shards of a large request.
+         * <p>
+         * Defaults to {@code 8}.
+         *
+         * @param maxConcurrency the maximum number of concurrent requests
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Enables the early cutoff of large requests.
+         * <p>
+         * When a request has more than {@code maxCandidates} inputs, the query and the inputs are embedded with the given {@link EmbeddingService},
+         * and only the {@code maxCandidates} inputs with the highest cosine similarity to the query are reranked. The other inputs are not part of
+         * the response.
+         *
+         * @param embeddingService the {@link EmbeddingService} used to embed the query and the inputs
+         * @param maxCandidates the maximum number of inputs to rerank
+         */
+        public Builder prefilter(EmbeddingService embeddingService, int maxCandidates) {
+            this.prefilterService = requireNonNull(embeddingService, "embeddingService cannot be null");
+            this.maxCandidates = maxCandidates;
+            return this;
+        }
+
+        /**
+         * Sets the {@link HedgingPolicy} used to send a duplicate of the requests that are slower than usual.
+         * <p>
+         * When set, the synchronous methods also go through the asynchronous HTTP client so that their requests can be hedged.
+         *
+         * @param hedging the {@link HedgingPolicy} to use
+         */
+        public Builder hedging(HedgingPolicy hedging) {
+            this.hedging = hedging;
+            return this;
+        }
+
         /**
          * Builds a {@link RerankService} instance using the configured parameters.
          *
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.rerank;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import com.ibm.watsonx.ai.rerank.RerankResponse.RerankResult;
+
+/**
+ * Reranks a list of shards with a bounded number of concurrent requests and merges their results.
+ * <p>
+ * Each shard maps the indexes of its own results to the positions of the inputs in the original request. Once every shard has been reranked, the
+ * results are merged by descending score with a k-way heap, and only the first {@code topN} results are kept.
+ */
+final class RerankShards {
+
+    private static final Comparator<Double> SCORE_ORDER = Comparator.nullsLast(Comparator.<Double>reverseOrder());
+
+    private final int[][] positions;
+    private final int maxConcurrency;
+    private final Integer topN;
+    private final IntFunction<CompletableFuture<RerankResponse>> reranker;
+    private final RerankResponse[] responses;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger remaining;
+    private final CompletableFuture<RerankResponse> result = new CompletableFuture<>();
+
+    /**
+     * @param positions the positions in the original request of the inputs of each shard
+     * @param maxConcurrency the maximum number of requests in flight
+     * @param topN the number of results to keep, or {@code null} to keep all of them
+     * @param reranker sends the request of the shard with the given index
+     */
+    RerankShards(int[][] positions, int maxConcurrency, Integer topN, IntFunction<CompletableFuture<RerankResponse>> reranker) {
+        this.positions = positions;
+        this.maxConcurrency = maxConcurrency;
+        this.topN = topN;
+        this.reranker = reranker;
+        this.responses = new RerankResponse[positions.length];
+        this.remaining = new AtomicInteger(positions.length);
+    }
+
+    /**
+     * Starts the requests.
+     *
+     * @return a {@link CompletableFuture} completed with the merged response, or with the first error
+     */
+    CompletableFuture<RerankResponse> start() {
+        if (positions.length == 0) {
+            result.complete(new RerankResponse(null, List.of(), null, 0, null, null));
+            return result;
+        }
+
+        for (int i = 0; i < Math.min(maxConcurrency, positions.length); i++)
+            sendNext();
+
+        return result;
+    }
+
+    private void sendNext() {
+        int shard = next.getAndIncrement();
+        if (shard >= positions.length || result.isDone())
+            return;
+
+        CompletableFuture<RerankResponse> future;
+        try {
+            future = reranker.apply(shard);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((response, error) -> {
+            if (nonNull(error)) {
+                // The requests in flight are left to complete, no new request is sent.
+                result.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+                return;
+            }
+            responses[shard] = response;
+            if (remaining.decrementAndGet() == 0)
+                result.complete(merge());
+            else
+                sendNext();
+        });
+    }
+
+    private RerankResponse merge() {
+        var heap = new PriorityQueue<Cursor>((a, b) -> SCORE_ORDER.compare(a.score(), b.score()));
+        int inputTokenCount = 0;
+        int total = 0;
+
+        for (int shard = 0; shard < responses.length; shard++) {
+            var response = responses[shard];
+            inputTokenCount += response.inputTokenCount();
+            if (isNull(response.results()) || response.results().isEmpty())
+                continue;
+
+            // Each shard is usually already sorted, but the merge must not rely on it.
+            var results = new ArrayList<>(response.results());
+            results.sort(Comparator.comparing(RerankResult::score, SCORE_ORDER));
+            heap.add(new Cursor(shard, results));
+            total += results.size();
+        }
+
+        int limit = isNull(topN) ? total : Math.min(topN, total);
+        var merged = new ArrayList<RerankResult>(limit);
+        while (merged.size() < limit) {
+            var cursor = heap.poll();
+            var current = cursor.current();
+            merged.add(new RerankResult(positions[cursor.shard][current.index()], current.score(), current.input()));
+            if (cursor.advance())
+                heap.add(cursor);
+        }
+
+        var first = responses[0];
+        return new RerankResponse(first.modelId(), merged, first.createdAt(), inputTokenCount, first.modelVersion(), first.query());
+    }
+
+    /**
+     * Position in the sorted results of a shard.
+     */
+    private static final class Cursor {
+        private final int shard;
+        private final List<RerankResult> results;
+        private int position;
+
+        Cursor(int shard, List<RerankResult> results) {
+            this.shard = shard;
+            this.results = results;
+        }
+
+        RerankResult current() {
+            return results.get(position);
+        }
+
+        Double score() {
+            return current().score();
+        }
+
+        boolean advance() {
+            return ++position < results.size();
+        }
+    }
+}
@@ -18,6 +18,7 @@ import java.net.http.HttpResponse.BodyHandlers;
 import java.net.http.HttpResponse.BodySubscribers;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import com.ibm.watsonx.ai.core.Json;
 import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Subscription;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -27,6 +28,7 @@ import com.ibm.watsonx.ai.core.factory.HttpClientFactory;
 import com.ibm.watsonx.ai.core.http.AsyncHttpClient;
 import com.ibm.watsonx.ai.core.http.SyncHttpClient;
 import com.ibm.watsonx.ai.core.http.interceptors.LoggerInterceptor.LogMode;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 
 /**
  * Default implementation of the {@link TextGenerationRestClient} abstract class.
@@ -39,8 +41,8 @@ final class DefaultRestClient extends TextGenerationRestClient {
     DefaultRestClient(Builder builder) {
         super(builder);
         requireNonNull(authenticator, "authenticator is mandatory");
-        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses));
-        asyncHttpClient = HttpClientFactory.createAsync(authenticator, httpClient, LogMode.of(logRequests, logResponses));
+        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses), circuitBreaker);
+        asyncHttpClient = HttpClientFactory.createAsync(authenticator, httpClient, LogMode.of(logRequests, logResponses), null, circuitBreaker);
     }
 
     @Override
@@ -69,6 +71,26 @@ final class DefaultRestClient extends TextGenerationRestClient {
         }
     }
 
+    @Override
+    public CompletableFuture<TextGenerationResponse> generateAsync(String transactionId, TextRequest textRequest) {
+
+        var timeout = textRequest.parameters().timeLimit();
+
+        var httpRequest =
+            HttpRequest
+                .newBuilder(URI.create(baseUrl + "/ml/v1/text/generation?version=%s".formatted(version)))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .timeout(Duration.ofMillis(timeout))
+                .POST(BodyPublishers.ofString(toJson(textRequest)));
+
+        if (nonNull(transactionId))
+            httpRequest.header(TRANSACTION_ID_HEADER, transactionId);
+
+        return asyncHttpClient.send(httpRequest.build(), BodyHandlers.ofString())
+            .thenApplyAsync(r -> Json.fromJson(r.body(), TextGenerationResponse.class), ExecutorProvider.cpuExecutor());
+    }
+
     @Override
     public CompletableFuture<Void> generateStreaming(String transactionId, TextRequest textRequest, TextGenerationHandler handler) {
 
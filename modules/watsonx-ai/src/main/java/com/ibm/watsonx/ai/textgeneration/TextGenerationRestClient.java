@@ -8,6 +8,7 @@ import java.util.ServiceLoader;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import com.ibm.watsonx.ai.WatsonxRestClient;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 
 /**
  * Abstraction of a REST client for interacting with the IBM watsonx.ai Text Generation APIs.
@@ -27,6 +28,19 @@ public abstract class TextGenerationRestClient extends WatsonxRestClient {
      */
     public abstract TextGenerationResponse generate(String transactionId, TextRequest textRequest);
 
+    /**
+     * Generates text asynchronously based on the provided {@link TextRequest}.
+     * <p>
+     * The default implementation runs {@link #generate} on the I/O executor, implementations should override it to send the request asynchronously.
+     *
+     * @param transactionId an optional client-provided transaction identifier used for tracing.
+     * @param textRequest the {@link TextRequest} containing input, moderation, parameters.
+     * @return a {@link CompletableFuture} resolving to a {@link TextGenerationResponse} containing the generated text and associated metadata
+     */
+    public CompletableFuture<TextGenerationResponse> generateAsync(String transactionId, TextRequest textRequest) {
+        return CompletableFuture.supplyAsync(() -> generate(transactionId, textRequest), ExecutorProvider.ioExecutor());
+    }
+
     /**
      * Sends a streaming text generation request based on the provided {@link TextRequest}.
      * <p>
@@ -4,13 +4,17 @@
  */
 package com.ibm.watsonx.ai.textgeneration;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
 import static java.util.Optional.ofNullable;
+import java.lang.reflect.Type;
 import java.util.concurrent.CompletableFuture;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import com.ibm.watsonx.ai.ResponseCache;
 import com.ibm.watsonx.ai.WatsonxService.ModelService;
 import com.ibm.watsonx.ai.core.auth.Authenticator;
 
@@ -37,10 +41,12 @@ import com.ibm.watsonx.ai.core.auth.Authenticator;
 public class TextGenerationService extends ModelService implements TextGenerationProvider {
     private static final Logger logger = LoggerFactory.getLogger(TextGenerationService.class);
     private final TextGenerationRestClient client;
+    private final ResponseCache responseCache;
 
     private TextGenerationService(Builder builder) {
         super(builder);
         requireNonNull(builder.authenticator(), "authenticator cannot be null");
+        responseCache = builder.responseCache;
         client = TextGenerationRestClient.builder()
             .baseUrl(baseUrl)
             .version(version)
@@ -50,36 +56,33 @@ public class TextGenerationService extends ModelService implements TextGeneratio
             .authenticator(builder.authenticator())
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
             .build();
     }
 
     @Override
     public TextGenerationResponse generate(TextGenerationRequest textGenerationRequest) {
-        requireNonNull(textGenerationRequest, "textGenerationRequest cannot be null");
-
-        if (nonNull(textGenerationRequest.deploymentId()))
-            logger.info("The deploymentId parameter can not be used with the TextGenerationService. Use the DeploymentService instead");
-
-        var input = requireNonNull(textGenerationRequest.input(), "input cannot be null");
-        var moderation = textGenerationRequest.moderation();
-        var parameters = requireNonNullElse(textGenerationRequest.parameters(), TextGenerationParameters.builder().build());
-
-        if (nonNull(parameters.promptVariables())) {
-            parameters.setPromptVariables(null);
-            logger.warn("Prompt variables are not supported in Text Generation service");
-        }
-
-        var projectSpace = resolveProjectSpace(parameters);
-        var projectId = projectSpace.projectId();
-        var spaceId = projectSpace.spaceId();
-        var modelId = requireNonNullElse(parameters.modelId(), this.modelId);
-        var timeout = requireNonNullElse(parameters.timeLimit(), this.timeout.toMillis());
-        parameters.setTimeLimit(timeout);
-
-        var textGenRequest =
-            new TextRequest(modelId, spaceId, projectId, input, parameters.toSanitized(), moderation);
+        var textGenRequest = buildTextRequest(textGenerationRequest);
+        var transactionId = transactionId(textGenerationRequest);
+        return isCacheable(textGenRequest)
+            ? responseCache.get(ResponseCache.key("generation", baseUrl, textGenRequest), () -> client.generate(transactionId, textGenRequest))
+            : client.generate(transactionId, textGenRequest);
+    }
 
-        return client.generate(parameters.transactionId(), textGenRequest);
+    /**
+     * Generates text asynchronously using the provided {@link TextGenerationRequest}.
+     *
+     * @param textGenerationRequest the text generation request
+     * @return a {@link CompletableFuture} with the {@link TextGenerationResponse} containing the generated text and metadata
+     */
+    public CompletableFuture<TextGenerationResponse> generateAsync(TextGenerationRequest textGenerationRequest) {
+        var textGenRequest = buildTextRequest(textGenerationRequest);
+        var transactionId = transactionId(textGenerationRequest);
+        return isCacheable(textGenRequest)
+            ? responseCache.getAsync(ResponseCache.key("generation", baseUrl, textGenRequest),
+                () -> client.generateAsync(transactionId, textGenRequest))
+            : client.generateAsync(transactionId, textGenRequest);
     }
 
     @Override
@@ -150,6 +153,31 @@ public class TextGenerationService extends ModelService implements TextGeneratio
                 .build());
     }
 
+    /**
+     * Generates text asynchronously based on the given input string.
+     *
+     * @param input the input text to generate from
+     * @return a {@link CompletableFuture} with the {@link TextGenerationResponse} containing the generated text and metadata
+     */
+    public CompletableFuture<TextGenerationResponse> generateAsync(String input) {
+        return generateAsync(input, TextGenerationParameters.builder().build());
+    }
+
+    /**
+     * Generates text asynchronously based on the given input and parameters.
+     *
+     * @param input the input text to generate from
+     * @param parameters the parameters to configure text generation behavior
+     * @return a {@link CompletableFuture} with the {@link TextGenerationResponse} containing the generated text and metadata
+     */
+    public CompletableFuture<TextGenerationResponse> generateAsync(String input, TextGenerationParameters parameters) {
+        return generateAsync(
+            TextGenerationRequest.builder()
+                .input(input)
+                .parameters(parameters)
+                .build());
+    }
+
     /**
      * Sends a streaming text generation request using the provided messages
      * <p>
@@ -184,6 +212,56 @@ public class TextGenerationService extends ModelService implements TextGeneratio
             handler);
     }
 
+    /**
+     * Builds the text generation request payload.
+     */
+    private TextRequest buildTextRequest(TextGenerationRequest textGenerationRequest) {
+        requireNonNull(textGenerationRequest, "textGenerationRequest cannot be null");
+
+        if (nonNull(textGenerationRequest.deploymentId()))
+            logger.info("The deploymentId parameter can not be used with the TextGenerationService. Use the DeploymentService instead");
+
+        var input = requireNonNull(textGenerationRequest.input(), "input cannot be null");
+        var moderation = textGenerationRequest.moderation();
+        var parameters = requireNonNullElse(textGenerationRequest.parameters(), TextGenerationParameters.builder().build());
+
+        if (nonNull(parameters.promptVariables())) {
+            parameters.setPromptVariables(null);
+            logger.warn("Prompt variables are not supported in Text Generation service");
+        }
+
+        var projectSpace = resolveProjectSpace(parameters);
+        var projectId = projectSpace.projectId();
+        var spaceId = projectSpace.spaceId();
+        var modelId = requireNonNullElse(parameters.modelId(), this.modelId);
+        var timeout = requireNonNullElse(parameters.timeLimit(), this.timeout.toMillis());
+        parameters.setTimeLimit(timeout);
+
+        return new TextRequest(modelId, spaceId, projectId, input, parameters.toSanitized(), moderation);
+    }
+
+    /**
+     * Returns whether the response to the request can be served from the {@link ResponseCache}: the cache is enabled and the request uses greedy
+     * decoding or a random seed.
+     */
+    private boolean isCacheable(TextRequest textRequest) {
+        if (isNull(responseCache))
+            return false;
+
+        var parameters = textRequest.parameters();
+        return isNull(parameters) || isNull(parameters.decodingMethod()) || parameters.decodingMethod().equals("greedy")
+            || nonNull(parameters.randomSeed());
+    }
+
+    private static String transactionId(TextGenerationRequest textGenerationRequest) {
+        return nonNull(textGenerationRequest.parameters()) ? textGenerationRequest.parameters().transactionId() : null;
+    }
+
+    @Override
+    protected List<Type> jsonTypes() {
+        return List.of(TextRequest.class, TextGenerationResponse.class);
+    }
+
     /**
      * Returns a new {@link Builder} instance.
      * <p>
@@ -210,9 +288,22 @@ public class TextGenerationService extends ModelService implements TextGeneratio
      * Builder class for constructing {@link TextGenerationService} instances with configurable parameters.
      */
     public final static class Builder extends ModelService.Builder<Builder> {
+        private ResponseCache responseCache;
 
         private Builder() {}
 
+        /**
+         * Sets the {@link ResponseCache} serving the responses to identical requests using greedy decoding or a random seed.
+         * <p>
+         * The streaming requests are not cached.
+         *
+         * @param responseCache the {@link ResponseCache} to use, or {@code null} to disable caching
+         */
+        public Builder responseCache(ResponseCache responseCache) {
+            this.responseCache = responseCache;
+            return this;
+        }
+
         /**
          * Builds a {@link TextGenerationService} instance using the configured parameters.
          *
@@ -72,6 +72,8 @@ public class CreateSchemaService extends ProjectService {
             .cosAuthenticator(builder.cosAuthenticator)
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
             .build();
     }
 
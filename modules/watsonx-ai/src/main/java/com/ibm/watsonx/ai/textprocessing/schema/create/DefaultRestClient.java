@@ -37,7 +37,7 @@ final class DefaultRestClient extends CreateSchemaRestClient {
     DefaultRestClient(Builder builder) {
         super(builder);
         requireNonNull(authenticator, "authenticator is mandatory");
-        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses));
+        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses), circuitBreaker);
         syncCosHttpClient = HttpClientFactory.createSync(cosAuthenticator, httpClient, LogMode.of(logRequests, logResponses));
         asyncCosHttpClient = HttpClientFactory.createAsync(cosAuthenticator, httpClient, LogMode.of(logRequests, logResponses));
     }
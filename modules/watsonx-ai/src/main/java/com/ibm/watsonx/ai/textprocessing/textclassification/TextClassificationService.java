@@ -77,6 +77,8 @@ public class TextClassificationService extends ProjectService {
             .cosAuthenticator(builder.cosAuthenticator)
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
             .build();
     }
 
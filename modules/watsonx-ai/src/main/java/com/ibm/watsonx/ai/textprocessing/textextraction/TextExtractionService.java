@@ -84,6 +84,8 @@ public class TextExtractionService extends ProjectService {
             .cosAuthenticator(builder.cosAuthenticator)
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
             .build();
     }
 
@@ -0,0 +1,565 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.timeseries;
+
+import static java.util.Objects.isNull;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * A column of time series values backed by a primitive array.
+ * <p>
+ * A column is a read-only {@link List} view of its values, so that it can be used wherever the boxed representation is expected, but the values are
+ * only boxed when they are read through the {@link List} methods. The typed accessors of the subclasses read them without boxing.
+ */
+public abstract sealed class ForecastColumn extends AbstractList<Object> implements RandomAccess
+    permits ForecastColumn.Doubles, ForecastColumn.Longs, ForecastColumn.Strings, ForecastColumn.Timestamps {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    int size;
+
+    ForecastColumn() {}
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a boxed value, if it can be stored in this column without losing information.
+     *
+     * @return {@code false} if the value cannot be stored in this column
+     */
+    abstract boolean append(Object value);
+
+    /**
+     * Returns a new column with the values of the given rows.
+     */
+    abstract ForecastColumn select(int[] rows);
+
+    /**
+     * Appends the values of a column accepted by {@link #canAppendAll(ForecastColumn)}.
+     */
+    abstract void appendAll(ForecastColumn column);
+
+    /**
+     * Returns {@code true} if the values of the column can be appended without converting them.
+     */
+    boolean canAppendAll(ForecastColumn column) {
+        return column.getClass() == getClass();
+    }
+
+    /**
+     * Returns a column of numbers read without boxing them, for example from a JSON array.
+     *
+     * @param values the values, where {@link Double#NaN} stands for a missing value; the array is not copied
+     * @param size the number of values
+     * @param integral {@code true} if all the values are integers, returned as {@link Integer} or {@link Long} by the {@link List} methods
+     * @return a {@link Doubles} column
+     */
+    public static Doubles numbers(double[] values, int size, boolean integral) {
+        if (size < 0 || size > values.length)
+            throw new IndexOutOfBoundsException(size);
+        return new Doubles(values, size, integral);
+    }
+
+    static int grow(int capacity, int required) {
+        return Math.max(required, Math.max(INITIAL_CAPACITY, capacity + (capacity >> 1)));
+    }
+
+    /**
+     * A column of {@code double} values, where {@link Double#NaN} stands for a missing value.
+     * <p>
+     * When all the values are integers, for example when the column is read from a JSON array of integers, they are returned by the {@link List}
+     * methods as {@link Integer}, or as {@link Long} beyond the range of an {@code int}, like the numbers mapped by Jackson.
+     */
+    public static final class Doubles extends ForecastColumn {
+        private double[] values;
+        private boolean integral;
+
+        Doubles(double[] values, int size, boolean integral) {
+            this.values = values;
+            this.size = size;
+            this.integral = integral;
+        }
+
+        Doubles() {
+            this(new double[INITIAL_CAPACITY], 0, true);
+        }
+
+        /**
+         * Returns the value of a row.
+         *
+         * @param row the index of the row
+         * @return the value, or {@link Double#NaN} if the value is missing
+         */
+        public double getDouble(int row) {
+            checkIndex(row);
+            return values[row];
+        }
+
+        /**
+         * Returns a copy of the values.
+         *
+         * @return the values, where {@link Double#NaN} stands for a missing value
+         */
+        public double[] toDoubleArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        /**
+         * Returns {@code true} if all the values are integers.
+         *
+         * @return {@code true} if the values are returned as {@link Integer} or {@link Long} by the {@link List} methods
+         */
+        public boolean isIntegral() {
+            return integral;
+        }
+
+        @Override
+        public Object get(int index) {
+            double value = getDouble(index);
+            if (Double.isNaN(value))
+                return null;
+            if (!integral)
+                return value;
+            long integer = (long) value;
+            return integer == (int) integer ? (Object) (int) integer : (Object) integer;
+        }
+
+        /**
+         * Appends a value, the values of the column are no longer integral unless the value is missing.
+         */
+        void append(double value) {
+            if (!Double.isNaN(value))
+                integral = false;
+            store(value);
+        }
+
+        /**
+         * Appends an integer value.
+         *
+         * @return {@code false} if the value cannot be stored in a double without losing precision
+         */
+        boolean appendIntegral(long value) {
+            // Beyond 2^53, a long can no longer be stored in a double without losing precision.
+            if (value > 1L << 53 || value < -(1L << 53))
+                return false;
+            store(value);
+            return true;
+        }
+
+        private void store(double value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, grow(values.length, size + 1));
+            values[size++] = value;
+        }
+
+        void appendAll(double[] array) {
+            if (size + array.length > values.length)
+                values = Arrays.copyOf(values, grow(values.length, size + array.length));
+            System.arraycopy(array, 0, values, size, array.length);
+            size += array.length;
+            integral = false;
+        }
+
+        @Override
+        boolean append(Object value) {
+            if (isNull(value)) {
+                store(Double.NaN);
+                return true;
+            }
+            if (value instanceof Double || value instanceof Float) {
+                append(((Number) value).doubleValue());
+                return true;
+            }
+            if (integral && (value instanceof Integer || value instanceof Long || value instanceof Short))
+                return appendIntegral(((Number) value).longValue());
+            return false;
+        }
+
+        @Override
+        Doubles select(int[] rows) {
+            var selected = new double[rows.length];
+            for (int i = 0; i < rows.length; i++)
+                selected[i] = getDouble(rows[i]);
+            return new Doubles(selected, rows.length, integral);
+        }
+
+        @Override
+        void appendAll(ForecastColumn column) {
+            var other = (Doubles) column;
+            if (size + other.size > values.length)
+                values = Arrays.copyOf(values, grow(values.length, size + other.size));
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+            integral &= other.integral;
+        }
+
+    }
+
+    /**
+     * A column of {@code long} values.
+     */
+    public static final class Longs extends ForecastColumn {
+        private long[] values;
+
+        Longs(long[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        Longs() {
+            this(new long[INITIAL_CAPACITY], 0);
+        }
+
+        /**
+         * Returns the value of a row.
+         *
+         * @param row the index of the row
+         * @return the value
+         */
+        public long getLong(int row) {
+            checkIndex(row);
+            return values[row];
+        }
+
+        /**
+         * Returns a copy of the values.
+         *
+         * @return the values
+         */
+        public long[] toLongArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        @Override
+        public Object get(int index) {
+            return getLong(index);
+        }
+
+        void append(long value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, grow(values.length, size + 1));
+            values[size++] = value;
+        }
+
+        void appendAll(long[] array) {
+            if (size + array.length > values.length)
+                values = Arrays.copyOf(values, grow(values.length, size + array.length));
+            System.arraycopy(array, 0, values, size, array.length);
+            size += array.length;
+        }
+
+        @Override
+        boolean append(Object value) {
+            if (value instanceof Long || value instanceof Integer || value instanceof Short) {
+                append(((Number) value).longValue());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        Longs select(int[] rows) {
+            var selected = new long[rows.length];
+            for (int i = 0; i < rows.length; i++)
+                selected[i] = getLong(rows[i]);
+            return new Longs(selected, rows.length);
+        }
+
+        @Override
+        void appendAll(ForecastColumn column) {
+            var other = (Longs) column;
+            appendAll(Arrays.copyOf(other.values, other.size));
+        }
+
+    }
+
+    /**
+     * A column of strings, dictionary-encoded: each row stores the code of its value in the dictionary of the distinct values of the column.
+     * <p>
+     * Identifiers and timestamps usually repeat across the rows of a forecast, so that each distinct value is stored once.
+     */
+    public static final class Strings extends ForecastColumn {
+        private int[] codes;
+        private final List<String> dictionary;
+        private final Map<String, Integer> lookup;
+
+        Strings() {
+            codes = new int[INITIAL_CAPACITY];
+            dictionary = new ArrayList<>();
+            lookup = new HashMap<>();
+        }
+
+        /**
+         * Returns the value of a row.
+         *
+         * @param row the index of the row
+         * @return the value, or {@code null} if the value is missing
+         */
+        public String getString(int row) {
+            int code = code(row);
+            return code < 0 ? null : dictionary.get(code);
+        }
+
+        /**
+         * Returns the code of the value of a row in the {@link #dictionary()}.
+         *
+         * @param row the index of the row
+         * @return the code of the value, or {@code -1} if the value is missing
+         */
+        public int code(int row) {
+            checkIndex(row);
+            return codes[row];
+        }
+
+        /**
+         * Returns the distinct values of the column, in the order they first appear.
+         *
+         * @return a read-only list of the distinct values
+         */
+        public List<String> dictionary() {
+            return Collections.unmodifiableList(dictionary);
+        }
+
+        @Override
+        public Object get(int index) {
+            return getString(index);
+        }
+
+        /**
+         * Returns a copy of the codes of the values in the {@link #dictionary()}.
+         *
+         * @return the codes, where {@code -1} stands for a missing value
+         */
+        public int[] toCodeArray() {
+            return Arrays.copyOf(codes, size);
+        }
+
+        void append(String value) {
+            appendCode(isNull(value) ? -1 : encode(value));
+        }
+
+        /**
+         * Appends a value read from a character buffer.
+         * <p>
+         * The rows of a series are usually contiguous, so the value is first compared to the value of the previous row, and a {@link String} is only
+         * created for the other values.
+         */
+        void append(char[] chars, int offset, int length) {
+            if (size > 0 && codes[size - 1] >= 0 && contentEquals(dictionary.get(codes[size - 1]), chars, offset, length)) {
+                appendCode(codes[size - 1]);
+                return;
+            }
+            appendCode(encode(new String(chars, offset, length)));
+        }
+
+        private void appendCode(int code) {
+            if (size == codes.length)
+                codes = Arrays.copyOf(codes, grow(codes.length, size + 1));
+            codes[size++] = code;
+        }
+
+        private static boolean contentEquals(String value, char[] chars, int offset, int length) {
+            if (value.length() != length)
+                return false;
+            for (int i = 0; i < length; i++) {
+                if (value.charAt(i) != chars[offset + i])
+                    return false;
+            }
+            return true;
+        }
+
+        private int encode(String value) {
+            var code = lookup.get(value);
+            if (isNull(code)) {
+                code = dictionary.size();
+                dictionary.add(value);
+                lookup.put(value, code);
+            }
+            return code;
+        }
+
+        @Override
+        boolean append(Object value) {
+            if (isNull(value) || value instanceof String) {
+                append((String) value);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        Strings select(int[] rows) {
+            var selected = new Strings();
+            for (int row : rows)
+                selected.append(getString(row));
+            return selected;
+        }
+
+        @Override
+        void appendAll(ForecastColumn column) {
+            var other = (Strings) column;
+            // The dictionaries of the two columns differ, translate the codes of the other column once per distinct value.
+            var translated = new int[other.dictionary.size()];
+            for (int i = 0; i < translated.length; i++)
+                translated[i] = encode(other.dictionary.get(i));
+
+            if (size + other.size > codes.length)
+                codes = Arrays.copyOf(codes, grow(codes.length, size + other.size));
+            for (int i = 0; i < other.size; i++)
+                codes[size++] = other.codes[i] < 0 ? -1 : translated[other.codes[i]];
+        }
+
+    }
+
+    /**
+     * A column of ISO 8601 timestamps, stored as epoch milliseconds.
+     * <p>
+     * All the timestamps of the column share the same layout, for example {@code 2020-01-01T00:00:00} or {@code 2020-01-01T00:00:00.000Z}, so that
+     * they are returned by {@link #getString(int)} and the {@link List} methods exactly as they were received. Timestamps without an offset are read
+     * as UTC.
+     */
+    public static final class Timestamps extends ForecastColumn {
+        private static final long MISSING = Long.MIN_VALUE;
+
+        private final TimestampLayout layout;
+        private long[] values;
+
+        Timestamps(TimestampLayout layout) {
+            this.layout = layout;
+            this.values = new long[INITIAL_CAPACITY];
+        }
+
+        /**
+         * Returns the epoch milliseconds of a row.
+         *
+         * @param row the index of the row
+         * @return the epoch milliseconds, or {@link Long#MIN_VALUE} if the value is missing
+         */
+        public long getEpochMilli(int row) {
+            checkIndex(row);
+            return values[row];
+        }
+
+        /**
+         * Returns the timestamp of a row, as received.
+         *
+         * @param row the index of the row
+         * @return the timestamp, or {@code null} if the value is missing
+         */
+        public String getString(int row) {
+            long value = getEpochMilli(row);
+            return value == MISSING ? null : layout.format(value);
+        }
+
+        /**
+         * Returns a copy of the epoch milliseconds.
+         *
+         * @return the epoch milliseconds, where {@link Long#MIN_VALUE} stands for a missing value
+         */
+        public long[] toEpochMilliArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        @Override
+        public Object get(int index) {
+            return getString(index);
+        }
+
+        /**
+         * Writes the timestamp of a row, which must not be missing, into a buffer of at least {@link #length()} characters.
+         */
+        void format(int row, char[] target) {
+            layout.format(getEpochMilli(row), target);
+        }
+
+        /**
+         * Returns the length of the timestamps.
+         */
+        int length() {
+            return layout.length();
+        }
+
+        /**
+         * Appends a timestamp read from a character buffer.
+         *
+         * @return {@code false} if the timestamp does not have the layout of the column
+         */
+        boolean append(char[] chars, int offset, int length) {
+            long value = layout.parse(chars, offset, length);
+            if (value == MISSING)
+                return false;
+            store(value);
+            return true;
+        }
+
+        void appendMissing() {
+            store(MISSING);
+        }
+
+        private void store(long value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, grow(values.length, size + 1));
+            values[size++] = value;
+        }
+
+        @Override
+        boolean append(Object value) {
+            if (isNull(value)) {
+                appendMissing();
+                return true;
+            }
+            if (value instanceof String string)
+                return append(string.toCharArray(), 0, string.length());
+            return false;
+        }
+
+        /**
+         * Returns the values as a dictionary-encoded column, to store values that are not timestamps of the same layout.
+         */
+        Strings toStrings() {
+            var strings = new Strings();
+            for (int row = 0; row < size; row++)
+                strings.append(getString(row));
+            return strings;
+        }
+
+        @Override
+        Timestamps select(int[] rows) {
+            var selected = new Timestamps(layout);
+            for (int row : rows)
+                selected.store(getEpochMilli(row));
+            return selected;
+        }
+
+        @Override
+        boolean canAppendAll(ForecastColumn column) {
+            return column instanceof Timestamps other && layout.sameAs(other.layout);
+        }
+
+        @Override
+        void appendAll(ForecastColumn column) {
+            var other = (Timestamps) column;
+            if (size + other.size > values.length)
+                values = Arrays.copyOf(values, grow(values.length, size + other.size));
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+        }
+    }
+
+    void checkIndex(int row) {
+        if (row < 0 || row >= size)
+            throw new IndexOutOfBoundsException("Index " + row + " out of bounds for length " + size);
+    }
+}
@@ -16,6 +16,9 @@ import java.util.stream.IntStream;
 /**
  * A data structure for building and storing columnar forecast data, where each key corresponds to a column name and maps to a list of values.
  * <p>
+ * Numeric columns can also be added from primitive arrays with {@link #addAll(String, double[])} and {@link #addAll(String, long[])}; they are then
+ * stored as a {@link ForecastColumn} and their values are never boxed.
+ * <p>
  * <b>Example usage:</b>
  *
  * <pre>{@code
@@ -47,7 +50,13 @@ public final class ForecastData {
      * @return {@code ForecastData} instance for method chaining
      */
     public ForecastData add(String key, Object value) {
-        data.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+        var values = data.computeIfAbsent(key, k -> new ArrayList<>());
+        if (values instanceof ForecastColumn column) {
+            if (column.append(value))
+                return this;
+            values = toList(key);
+        }
+        values.add(value);
         return this;
     }
 
@@ -60,8 +69,7 @@ public final class ForecastData {
      * @return {@code ForecastData} instance for method chaining
      */
     public ForecastData add(String key, Object value, int times) {
-        List<Object> list = data.computeIfAbsent(key, k -> new ArrayList<>());
-        IntStream.range(0, times).forEach(i -> list.add(value));
+        IntStream.range(0, times).forEach(i -> add(key, value));
         return this;
     }
 
@@ -73,7 +81,10 @@ public final class ForecastData {
      * @return {@code ForecastData} instance for method chaining
      */
     public ForecastData addAll(String key, Collection<?> values) {
-        data.computeIfAbsent(key, k -> new ArrayList<>()).addAll(values);
+        if (data.get(key) instanceof ForecastColumn)
+            values.forEach(value -> add(key, value));
+        else
+            data.computeIfAbsent(key, k -> new ArrayList<>()).addAll(values);
         return this;
     }
 
@@ -88,6 +99,46 @@ public final class ForecastData {
         return addAll(key, new ArrayList<>(List.of(values)));
     }
 
+    /**
+     * Adds multiple numeric values to the specified column key, without boxing them.
+     * <p>
+     * {@link Double#NaN} stands for a missing value and is sent as {@code null}.
+     *
+     * @param key the column name
+     * @param values the values to add
+     * @return {@code ForecastData} instance for method chaining
+     */
+    public ForecastData addAll(String key, double[] values) {
+        var column = data.get(key);
+        if (isNull(column))
+            data.put(key, new ForecastColumn.Doubles(values.clone(), values.length, false));
+        else if (column instanceof ForecastColumn.Doubles doubles)
+            doubles.appendAll(values);
+        else
+            for (double value : values)
+                add(key, Double.isNaN(value) ? null : value);
+        return this;
+    }
+
+    /**
+     * Adds multiple integer values to the specified column key, without boxing them.
+     *
+     * @param key the column name
+     * @param values the values to add
+     * @return {@code ForecastData} instance for method chaining
+     */
+    public ForecastData addAll(String key, long[] values) {
+        var column = data.get(key);
+        if (isNull(column))
+            data.put(key, new ForecastColumn.Longs(values.clone(), values.length));
+        else if (column instanceof ForecastColumn.Longs longs)
+            longs.appendAll(values);
+        else
+            for (long value : values)
+                add(key, value);
+        return this;
+    }
+
     /**
      * Checks if the data contains the specified column key.
      *
@@ -101,12 +152,53 @@ public final class ForecastData {
     /**
      * Retrieves the list of values associated with the specified column key.
      *
+     * <p>
+     * The columns added from primitive arrays are returned as a {@link ForecastColumn}.
+     *
      * @param key the column name
      * @return the list of values, or null if the key is not present
      */
     public List<Object> get(String key) {
         var values = data.get(key);
-        return values == null ? null : Collections.unmodifiableList(values);
+        if (values == null || values instanceof ForecastColumn)
+            return values;
+        return Collections.unmodifiableList(values);
+    }
+
+    /**
+     * Returns the number of rows, that is the size of the largest column.
+     *
+     * @return the number of rows
+     */
+    public int rows() {
+        return data.values().stream().mapToInt(List::size).max().orElse(0);
+    }
+
+    /**
+     * Returns a new {@code ForecastData} with the values of the given rows, primitive columns staying primitive.
+     */
+    ForecastData select(int[] rows) {
+        var selected = new LinkedHashMap<String, List<Object>>();
+        data.forEach((key, values) -> {
+            if (values instanceof ForecastColumn column) {
+                selected.put(key, column.select(rows));
+                return;
+            }
+            var list = new ArrayList<Object>(rows.length);
+            for (int row : rows)
+                list.add(values.get(row));
+            selected.put(key, list);
+        });
+        return new ForecastData(selected);
+    }
+
+    /**
+     * Replaces a primitive column with a list of boxed values, to store a value of another type.
+     */
+    private List<Object> toList(String key) {
+        var list = new ArrayList<Object>(data.get(key));
+        data.put(key, list);
+        return list;
     }
 
     /**
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.timeseries;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
+
+/**
+ * Forecasts the partitions of a request with a bounded number of concurrent requests and merges their responses.
+ * <p>
+ * The handler, if any, receives the response of each partition as soon as it is received, one response at a time, on the callback executor. The
+ * merged response lists the results of the partitions in the order of the partitions, and is completed after the handler received all of them.
+ */
+final class ForecastPartitions {
+
+    private final int partitions;
+    private final int maxConcurrency;
+    private final IntFunction<CompletableFuture<ForecastResponse>> forecaster;
+    private final Consumer<ForecastResponse> handler;
+    private final ForecastResponse[] responses;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger remaining;
+    private final AtomicReference<CompletableFuture<Void>> callbackChain = new AtomicReference<>(CompletableFuture.completedFuture(null));
+    private final CompletableFuture<ForecastResponse> result = new CompletableFuture<>();
+
+    /**
+     * @param partitions the number of partitions
+     * @param maxConcurrency the maximum number of requests in flight
+     * @param forecaster sends the request of the partition with the given index
+     * @param handler receives the response of each partition, can be {@code null}
+     */
+    ForecastPartitions(int partitions, int maxConcurrency, IntFunction<CompletableFuture<ForecastResponse>> forecaster,
+        Consumer<ForecastResponse> handler) {
+        this.partitions = partitions;
+        this.maxConcurrency = maxConcurrency;
+        this.forecaster = forecaster;
+        this.handler = handler;
+        this.responses = new ForecastResponse[partitions];
+        this.remaining = new AtomicInteger(partitions);
+    }
+
+    /**
+     * Groups the rows of the data by series, as identified by the values of the id columns, and splits the series into partitions.
+     *
+     * @return the rows of each partition, in their original order, or {@code null} if the data has at most {@code maxSeriesPerRequest} series
+     */
+    static int[][] partition(ForecastData data, List<String> idColumns, int maxSeriesPerRequest) {
+        var ids = ids(data, idColumns);
+        if (isNull(ids))
+            return null;
+
+        int rows = ids.stream().mapToInt(List::size).max().orElse(0);
+        var seriesOfRow = new int[rows];
+        var series = new HashMap<Object, Integer>();
+        for (int row = 0; row < rows; row++)
+            seriesOfRow[row] = series.computeIfAbsent(seriesKey(ids, row), key -> series.size());
+
+        if (series.size() <= maxSeriesPerRequest)
+            return null;
+
+        var partitionOfRow = new int[rows];
+        for (int row = 0; row < rows; row++)
+            partitionOfRow[row] = seriesOfRow[row] / maxSeriesPerRequest;
+        return group(partitionOfRow, (series.size() + maxSeriesPerRequest - 1) / maxSeriesPerRequest);
+    }
+
+    /**
+     * Splits the rows of the future data like the rows of the data, so that each partition only holds the future values of its own series. The rows
+     * of a series missing from the data are not in any partition.
+     *
+     * @param partitions the rows of the data of each partition, as returned by {@link #partition(ForecastData, List, int)}
+     * @return the rows of the future data of each partition, in their original order, or {@code null} if the future data has no id columns
+     */
+    static int[][] partitionFuture(ForecastData futureData, ForecastData data, List<String> idColumns, int[][] partitions) {
+        var futureIds = ids(futureData, idColumns);
+        if (isNull(futureIds))
+            return null;
+
+        var ids = ids(data, idColumns);
+        var partitionOfSeries = new HashMap<Object, Integer>();
+        for (int partition = 0; partition < partitions.length; partition++)
+            for (int row : partitions[partition])
+                partitionOfSeries.put(seriesKey(ids, row), partition);
+
+        int rows = futureIds.stream().mapToInt(List::size).max().orElse(0);
+        var partitionOfRow = new int[rows];
+        for (int row = 0; row < rows; row++)
+            partitionOfRow[row] = partitionOfSeries.getOrDefault(seriesKey(futureIds, row), -1);
+        return group(partitionOfRow, partitions.length);
+    }
+
+    /**
+     * Returns the id columns of the data, or {@code null} if there are none or one of them is missing.
+     */
+    private static List<List<Object>> ids(ForecastData data, List<String> idColumns) {
+        if (isNull(data) || isNull(idColumns) || idColumns.isEmpty())
+            return null;
+
+        var ids = idColumns.stream().map(data::get).toList();
+        return ids.stream().anyMatch(column -> isNull(column)) ? null : ids;
+    }
+
+    /**
+     * Returns the rows of each partition, in their original order; the rows of partition {@code -1} are left out.
+     */
+    private static int[][] group(int[] partitionOfRow, int partitions) {
+        var sizes = new int[partitions];
+        for (int partition : partitionOfRow)
+            if (partition >= 0)
+                sizes[partition]++;
+
+        var result = new int[partitions][];
+        for (int partition = 0; partition < partitions; partition++)
+            result[partition] = new int[sizes[partition]];
+
+        Arrays.fill(sizes, 0);
+        for (int row = 0; row < partitionOfRow.length; row++) {
+            int partition = partitionOfRow[row];
+            if (partition >= 0)
+                result[partition][sizes[partition]++] = row;
+        }
+        return result;
+    }
+
+    private static Object seriesKey(List<List<Object>> ids, int row) {
+        if (ids.size() == 1)
+            return value(ids.get(0), row);
+
+        var key = new ArrayList<Object>(ids.size());
+        for (var column : ids)
+            key.add(value(column, row));
+        return key;
+    }
+
+    private static Object value(List<Object> column, int row) {
+        return row < column.size() ? column.get(row) : null;
+    }
+
+    /**
+     * Starts the requests.
+     *
+     * @return a {@link CompletableFuture} completed with the merged response, or with the first error
+     */
+    CompletableFuture<ForecastResponse> start() {
+        for (int i = 0; i < Math.min(maxConcurrency, partitions); i++)
+            sendNext();
+        return result;
+    }
+
+    private void sendNext() {
+        int partition = next.getAndIncrement();
+        if (partition >= partitions || result.isDone())
+            return;
+
+        CompletableFuture<ForecastResponse> future;
+        try {
+            future = forecaster.apply(partition);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((response, error) -> {
+            if (nonNull(error)) {
+                // The requests in flight are left to complete, no new request is sent.
+                result.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+                return;
+            }
+
+            responses[partition] = response;
+            CompletableFuture<Void> delivered;
+            synchronized (this) {
+                // Chained while holding the lock, so that the callbacks run in the order the responses are counted.
+                if (nonNull(handler))
+                    scheduleCallback(response);
+                delivered = remaining.decrementAndGet() == 0 ? callbackChain.get() : null;
+            }
+
+            if (nonNull(delivered))
+                delivered.whenComplete((v, e) -> result.complete(merge()));
+            else
+                sendNext();
+        });
+    }
+
+    private void scheduleCallback(ForecastResponse response) {
+        var delivered = new CompletableFuture<Void>();
+        var previous = callbackChain.getAndSet(delivered);
+
+        previous.thenRunAsync(() -> {
+            try {
+                if (!result.isDone())
+                    handler.accept(response);
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            } finally {
+                delivered.complete(null);
+            }
+        }, ExecutorProvider.callbackExecutor());
+    }
+
+    private ForecastResponse merge() {
+        if (responses.length == 1)
+            return responses[0];
+
+        var results = new ArrayList<Map<String, Object>>();
+        int inputDataPoints = 0;
+        int outputDataPoints = 0;
+        for (var response : responses) {
+            if (nonNull(response.results()))
+                results.addAll(response.results());
+            inputDataPoints += response.inputDataPoints();
+            outputDataPoints += response.outputDataPoints();
+        }
+
+        var first = responses[0];
+        return new ForecastResponse(first.modelId(), first.modelVersion(), first.createdAt(), results, inputDataPoints, outputDataPoints);
+    }
+}
@@ -14,7 +14,8 @@ import java.util.Map;
  * @param modelId the identifier of the model used to generate the forecast
  * @param modelVersion the version of the model used to generate the forecast
  * @param createdAt the ISO 8601 timestamp when the response was created
- * @param results a list of prediction result maps, each containing forecasted values
+ * @param results a list of prediction result maps, each containing forecasted values; the arrays of numbers parsed by the
+ *            {@code WatsonxJacksonModule} are {@link ForecastColumn.Doubles}, see {@link #toTable()}
  * @param inputDataPoints the total number of input data points (rows * input columns)
  * @param outputDataPoints the total number of forecasted data points
  */
@@ -29,4 +30,13 @@ public record ForecastResponse(
     public ForecastResponse {
         results = isNull(results) ? null : List.copyOf(results);
     }
+
+    /**
+     * Returns a columnar view of the results, where the results of every series are concatenated.
+     *
+     * @return a {@link ForecastTable} with the forecasted values
+     */
+    public ForecastTable toTable() {
+        return ForecastTable.of(results);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,712 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.timeseries;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * A columnar view of the results of a forecast.
+ * <p>
+ * The results of a {@link ForecastResponse} are returned by the API as one or more objects mapping each column to its values. The table concatenates
+ * them into a single column per name: numeric columns are stored in a {@code double[]}, ISO 8601 timestamps as epoch milliseconds in a
+ * {@code long[]}, the other string columns, such as the identifiers, are dictionary-encoded, and the remaining columns are kept as lists of values.
+ * <p>
+ * The numeric columns of the responses parsed by the {@code WatsonxJacksonModule} are read into {@link ForecastColumn.Doubles}, and are appended to
+ * the table without boxing their values.
+ * <p>
+ * <b>Example usage:</b>
+ *
+ * <pre>{@code
+ * ForecastTable table = response.toTable();
+ * for (ForecastTable.Series series : table.series("ID1")) {
+ *     double[] forecast = series.doubles("TARGET1");
+ *     long[] timestamps = series.epochMillis("date");
+ * }
+ *
+ * table.writeCsv(writer);
+ * }</pre>
+ */
+public final class ForecastTable {
+
+    private final Map<String, List<Object>> columns;
+    private final int rows;
+
+    private ForecastTable(Map<String, List<Object>> columns, int rows) {
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Returns the names of the columns, in the order they first appear in the results.
+     *
+     * @return a read-only list of the column names
+     */
+    public List<String> columnNames() {
+        return List.copyOf(columns.keySet());
+    }
+
+    /**
+     * Returns the values of a column.
+     * <p>
+     * Numeric, timestamp and string columns are returned as a {@link ForecastColumn}, whose typed accessors read the values without boxing.
+     *
+     * @param name the column name
+     * @return a read-only list of the values, or {@code null} if the column does not exist
+     */
+    public List<Object> column(String name) {
+        return columns.get(name);
+    }
+
+    /**
+     * Returns the numeric value of a cell.
+     *
+     * @param column the column name
+     * @param row the index of the row
+     * @return the value, or {@link Double#NaN} if the value is missing
+     * @throws IllegalArgumentException if the column does not exist or is not numeric
+     */
+    public double getDouble(String column, int row) {
+        var values = requireColumn(column);
+        if (values instanceof ForecastColumn.Doubles doubles)
+            return doubles.getDouble(row);
+        if (values instanceof ForecastColumn.Longs longs)
+            return longs.getLong(row);
+        throw new IllegalArgumentException("The column " + column + " is not numeric");
+    }
+
+    /**
+     * Returns the epoch milliseconds of a timestamp.
+     *
+     * @param column the column name
+     * @param row the index of the row
+     * @return the epoch milliseconds, or {@link Long#MIN_VALUE} if the value is missing
+     * @throws IllegalArgumentException if the column does not exist or does not contain timestamps
+     */
+    public long getEpochMilli(String column, int row) {
+        if (requireColumn(column) instanceof ForecastColumn.Timestamps timestamps)
+            return timestamps.getEpochMilli(row);
+        throw new IllegalArgumentException("The column " + column + " does not contain timestamps");
+    }
+
+    /**
+     * Returns the string value of a cell.
+     *
+     * @param column the column name
+     * @param row the index of the row
+     * @return the value, or {@code null} if the value is missing
+     * @throws IllegalArgumentException if the column does not exist or does not contain strings
+     */
+    public String getString(String column, int row) {
+        var values = requireColumn(column);
+        if (values instanceof ForecastColumn.Strings strings)
+            return strings.getString(row);
+        if (values instanceof ForecastColumn.Timestamps timestamps)
+            return timestamps.getString(row);
+        if (values.get(row) instanceof String value)
+            return value;
+        if (isNull(values.get(row)))
+            return null;
+        throw new IllegalArgumentException("The column " + column + " does not contain strings");
+    }
+
+    /**
+     * Returns the value of a cell, boxing it if needed.
+     *
+     * @param column the column name
+     * @param row the index of the row
+     * @return the value, or {@code null} if the value is missing
+     * @throws IllegalArgumentException if the column does not exist
+     */
+    public Object get(String column, int row) {
+        return requireColumn(column).get(row);
+    }
+
+    /**
+     * Groups the rows by series, as identified by the values of the id columns.
+     * <p>
+     * The series are returned in the order they first appear, and the rows of each series in their order in the table.
+     *
+     * @param idColumns the id columns, usually the id columns of the {@link InputSchema}
+     * @return the series of the table
+     * @throws IllegalArgumentException if an id column does not exist
+     */
+    public List<Series> series(String... idColumns) {
+        return series(List.of(idColumns));
+    }
+
+    /**
+     * Groups the rows by series, as identified by the values of the id columns.
+     * <p>
+     * The series are returned in the order they first appear, and the rows of each series in their order in the table.
+     *
+     * @param idColumns the id columns, usually the id columns of the {@link InputSchema}
+     * @return the series of the table
+     * @throws IllegalArgumentException if an id column does not exist
+     */
+    public List<Series> series(List<String> idColumns) {
+        requireNonNull(idColumns, "idColumns cannot be null");
+        var ids = idColumns.stream().map(this::requireColumn).toList();
+        if (ids.isEmpty())
+            return List.of(new Series(List.of(), IntStream.range(0, rows).toArray()));
+
+        var seriesOfRow = new int[rows];
+        var firstRows = new ArrayList<Integer>();
+        if (ids.size() == 1 && ids.get(0) instanceof ForecastColumn.Strings strings) {
+            // The codes of the dictionary identify the series, the missing value having the code -1.
+            var seriesOfCode = new int[strings.dictionary().size() + 1];
+            Arrays.fill(seriesOfCode, -1);
+            for (int row = 0; row < rows; row++) {
+                int code = strings.code(row) + 1;
+                if (seriesOfCode[code] < 0) {
+                    seriesOfCode[code] = firstRows.size();
+                    firstRows.add(row);
+                }
+                seriesOfRow[row] = seriesOfCode[code];
+            }
+        } else {
+            var seriesOfKey = new HashMap<List<Object>, Integer>();
+            for (int row = 0; row < rows; row++) {
+                int current = row;
+                seriesOfRow[row] = seriesOfKey.computeIfAbsent(ids.stream().map(column -> column.get(current)).toList(), key -> {
+                    firstRows.add(current);
+                    return seriesOfKey.size();
+                });
+            }
+        }
+
+        var sizes = new int[firstRows.size()];
+        for (int series : seriesOfRow)
+            sizes[series]++;
+
+        var rowsOfSeries = new int[sizes.length][];
+        for (int series = 0; series < sizes.length; series++)
+            rowsOfSeries[series] = new int[sizes[series]];
+
+        Arrays.fill(sizes, 0);
+        for (int row = 0; row < rows; row++) {
+            int series = seriesOfRow[row];
+            rowsOfSeries[series][sizes[series]++] = row;
+        }
+
+        var result = new ArrayList<Series>(rowsOfSeries.length);
+        for (int series = 0; series < rowsOfSeries.length; series++) {
+            int firstRow = firstRows.get(series);
+            var id = ids.stream().map(column -> column.get(firstRow)).toList();
+            result.add(new Series(id, rowsOfSeries[series]));
+        }
+        return result;
+    }
+
+    /**
+     * Writes the table in CSV format, with a header line.
+     * <p>
+     * The values are written directly from the columns: missing values are empty, timestamps are written as received, and the values containing a
+     * comma, a quote or a line break are quoted. The lines end with {@code \n}.
+     *
+     * @param out the destination of the CSV
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeCsv(Appendable out) throws IOException {
+        requireNonNull(out, "out cannot be null");
+        var names = new ArrayList<>(columns.keySet());
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0)
+                out.append(',');
+            out.append(escapeCsv(names.get(i)));
+        }
+        out.append('\n');
+
+        // The distinct values of the string columns are escaped once.
+        var escaped = new HashMap<String, List<String>>();
+        columns.forEach((name, column) -> {
+            if (column instanceof ForecastColumn.Strings strings)
+                escaped.put(name, strings.dictionary().stream().map(ForecastTable::escapeCsv).toList());
+        });
+
+        var values = names.stream().map(columns::get).toList();
+        var dictionaries = names.stream().map(escaped::get).toList();
+        var number = new StringBuilder();
+        var timestamp = new char[64];
+        var timestampView = CharBuffer.wrap(timestamp);
+
+        for (int row = 0; row < rows; row++) {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0)
+                    out.append(',');
+
+                var column = values.get(i);
+                if (column instanceof ForecastColumn.Doubles doubles) {
+                    double value = doubles.getDouble(row);
+                    if (Double.isNaN(value))
+                        continue;
+                    number.setLength(0);
+                    if (doubles.isIntegral())
+                        number.append((long) value);
+                    else
+                        number.append(value);
+                    out.append(number);
+                } else if (column instanceof ForecastColumn.Longs longs) {
+                    number.setLength(0);
+                    out.append(number.append(longs.getLong(row)));
+                } else if (column instanceof ForecastColumn.Timestamps timestamps) {
+                    if (timestamps.getEpochMilli(row) == Long.MIN_VALUE)
+                        continue;
+                    timestamps.format(row, timestamp);
+                    out.append(timestampView, 0, timestamps.length());
+                } else if (column instanceof ForecastColumn.Strings strings) {
+                    int code = strings.code(row);
+                    if (code >= 0)
+                        out.append(dictionaries.get(i).get(code));
+                } else {
+                    var value = column.get(row);
+                    if (nonNull(value))
+                        out.append(escapeCsv(String.valueOf(value)));
+                }
+            }
+            out.append('\n');
+        }
+    }
+
+    /**
+     * Returns a read-only view of the columns, in the format of the results of a {@link ForecastResponse}.
+     *
+     * @return a map from the column names to their values
+     */
+    public Map<String, Object> asMap() {
+        return new ResultView(this);
+    }
+
+    private List<Object> requireColumn(String column) {
+        var values = columns.get(column);
+        if (isNull(values))
+            throw new IllegalArgumentException("The column " + column + " does not exist");
+        return values;
+    }
+
+    private static String escapeCsv(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r')
+                return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    /**
+     * Builds a table from the results of a {@link ForecastResponse}.
+     * <p>
+     * A single result read by the {@code WatsonxJacksonModule} is already a table and is returned as is.
+     */
+    static ForecastTable of(List<Map<String, Object>> results) {
+        if (nonNull(results) && results.size() == 1 && results.get(0) instanceof ResultView view)
+            return view.table;
+
+        var builder = new Builder();
+        if (nonNull(results))
+            results.forEach(builder::append);
+        return builder.build();
+    }
+
+    /**
+     * Returns a new {@link Builder} instance.
+     *
+     * @return {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The rows of a series of a {@link ForecastTable}.
+     */
+    public final class Series {
+        private final List<Object> id;
+        private final int[] rows;
+
+        private Series(List<Object> id, int[] rows) {
+            this.id = id;
+            this.rows = rows;
+        }
+
+        /**
+         * Returns the values of the id columns that identify the series.
+         *
+         * @return the values of the id columns
+         */
+        public List<Object> id() {
+            return id;
+        }
+
+        /**
+         * Returns the number of rows of the series.
+         *
+         * @return the number of rows
+         */
+        public int size() {
+            return rows.length;
+        }
+
+        /**
+         * Returns the index in the table of a row of the series.
+         *
+         * @param index the index of the row in the series
+         * @return the index of the row in the table
+         */
+        public int row(int index) {
+            return rows[index];
+        }
+
+        /**
+         * Returns the numeric value of a row of the series.
+         *
+         * @param column the column name
+         * @param index the index of the row in the series
+         * @return the value, or {@link Double#NaN} if the value is missing
+         */
+        public double getDouble(String column, int index) {
+            return ForecastTable.this.getDouble(column, rows[index]);
+        }
+
+        /**
+         * Returns the epoch milliseconds of a timestamp of the series.
+         *
+         * @param column the column name
+         * @param index the index of the row in the series
+         * @return the epoch milliseconds, or {@link Long#MIN_VALUE} if the value is missing
+         */
+        public long getEpochMilli(String column, int index) {
+            return ForecastTable.this.getEpochMilli(column, rows[index]);
+        }
+
+        /**
+         * Returns the string value of a row of the series.
+         *
+         * @param column the column name
+         * @param index the index of the row in the series
+         * @return the value, or {@code null} if the value is missing
+         */
+        public String getString(String column, int index) {
+            return ForecastTable.this.getString(column, rows[index]);
+        }
+
+        /**
+         * Returns the numeric values of the series.
+         *
+         * @param column the column name
+         * @return the values, where {@link Double#NaN} stands for a missing value
+         * @throws IllegalArgumentException if the column does not exist or is not numeric
+         */
+        public double[] doubles(String column) {
+            var values = requireColumn(column);
+            var result = new double[rows.length];
+            if (values instanceof ForecastColumn.Doubles doubles) {
+                for (int i = 0; i < rows.length; i++)
+                    result[i] = doubles.getDouble(rows[i]);
+            } else {
+                for (int i = 0; i < rows.length; i++)
+                    result[i] = ForecastTable.this.getDouble(column, rows[i]);
+            }
+            return result;
+        }
+
+        /**
+         * Returns the epoch milliseconds of the timestamps of the series.
+         *
+         * @param column the column name
+         * @return the epoch milliseconds, where {@link Long#MIN_VALUE} stands for a missing value
+         * @throws IllegalArgumentException if the column does not exist or does not contain timestamps
+         */
+        public long[] epochMillis(String column) {
+            if (!(requireColumn(column) instanceof ForecastColumn.Timestamps timestamps))
+                throw new IllegalArgumentException("The column " + column + " does not contain timestamps");
+
+            var result = new long[rows.length];
+            for (int i = 0; i < rows.length; i++)
+                result[i] = timestamps.getEpochMilli(rows[i]);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "Series [id=" + id + ", size=" + rows.length + "]";
+        }
+    }
+
+    /**
+     * Builder class for constructing {@link ForecastTable} instances column by column.
+     * <p>
+     * The type of each column is chosen from its first value that is not missing, and a column falls back to a list of boxed values when a value does
+     * not fit its type. The columns shorter than the longest one are padded with missing values.
+     */
+    public static final class Builder {
+        private final Map<String, ColumnBuilder> columns = new LinkedHashMap<>();
+        private int rows;
+
+        private Builder() {}
+
+        /**
+         * Returns the builder of a column, creating it if needed.
+         *
+         * @param name the column name
+         * @return the {@link ColumnBuilder} of the column
+         */
+        public ColumnBuilder column(String name) {
+            return columns.computeIfAbsent(name, key -> new ColumnBuilder(rows));
+        }
+
+        /**
+         * Appends the columns of a result of a {@link ForecastResponse} as new rows.
+         */
+        void append(Map<String, Object> result) {
+            if (isNull(result))
+                return;
+
+            if (result instanceof ResultView view) {
+                view.table.columns.forEach((name, values) -> column(name).addAll(values));
+            } else {
+                result.forEach((name, value) -> {
+                    var column = column(name);
+                    if (value instanceof ForecastColumn values)
+                        column.addAll(values);
+                    else if (value instanceof List<?> values)
+                        values.forEach(column::add);
+                    else
+                        column.add(value);
+                });
+            }
+            endRows();
+        }
+
+        /**
+         * Pads the columns to the size of the longest one.
+         */
+        private void endRows() {
+            for (var column : columns.values())
+                rows = Math.max(rows, column.size());
+            for (var column : columns.values()) {
+                while (column.size() < rows)
+                    column.addNull();
+            }
+        }
+
+        /**
+         * Builds a {@link ForecastTable} instance using the configured columns.
+         *
+         * @return a new instance of {@link ForecastTable}
+         */
+        public ForecastTable build() {
+            endRows();
+            var built = new LinkedHashMap<String, List<Object>>();
+            columns.forEach((name, column) -> built.put(name, column.build()));
+            return new ForecastTable(Collections.unmodifiableMap(built), rows);
+        }
+    }
+
+    /**
+     * Builder of a column of a {@link ForecastTable}, appending the values one at a time.
+     */
+    public static final class ColumnBuilder {
+        private List<Object> column;
+        private int missing;
+
+        private ColumnBuilder(int missing) {
+            this.missing = missing;
+        }
+
+        int size() {
+            return isNull(column) ? missing : column.size();
+        }
+
+        /**
+         * Appends a missing value.
+         *
+         * @return {@code ColumnBuilder} instance for method chaining
+         */
+        public ColumnBuilder addNull() {
+            if (isNull(column)) {
+                missing++;
+                return this;
+            }
+            return addBoxed(null);
+        }
+
+        /**
+         * Appends an integer value.
+         *
+         * @param value the value
+         * @return {@code ColumnBuilder} instance for method chaining
+         */
+        public ColumnBuilder addNumber(long value) {
+            if (isNull(column))
+                start(new ForecastColumn.Doubles());
+            if (column instanceof ForecastColumn.Doubles doubles && doubles.appendIntegral(value))
+                return this;
+            if (column instanceof ForecastColumn.Longs longs) {
+                longs.append(value);
+                return this;
+            }
+            return addBoxed(value);
+        }
+
+        /**
+         * Appends a decimal value.
+         *
+         * @param value the value
+         * @return {@code ColumnBuilder} instance for method chaining
+         */
+        public ColumnBuilder addNumber(double value) {
+            if (isNull(column))
+                start(new ForecastColumn.Doubles());
+            if (column instanceof ForecastColumn.Doubles doubles) {
+                doubles.append(value);
+                return this;
+            }
+            return addBoxed(value);
+        }
+
+        /**
+         * Appends a string value read from a character buffer.
+         * <p>
+         * ISO 8601 timestamps are stored as epoch milliseconds, and the other strings are dictionary-encoded.
+         *
+         * @param chars the buffer containing the value
+         * @param offset the offset of the value in the buffer
+         * @param length the length of the value
+         * @return {@code ColumnBuilder} instance for method chaining
+         */
+        public ColumnBuilder addString(char[] chars, int offset, int length) {
+            if (isNull(column)) {
+                var layout = TimestampLayout.detect(chars, offset, length);
+                start(nonNull(layout) ? new ForecastColumn.Timestamps(layout) : new ForecastColumn.Strings());
+            }
+            if (column instanceof ForecastColumn.Timestamps timestamps) {
+                if (timestamps.append(chars, offset, length))
+                    return this;
+                // Not a timestamp of the layout of the column, which is dictionary-encoded instead.
+                column = timestamps.toStrings();
+            }
+            if (column instanceof ForecastColumn.Strings strings) {
+                strings.append(chars, offset, length);
+                return this;
+            }
+            return addBoxed(new String(chars, offset, length));
+        }
+
+        /**
+         * Appends a boxed value.
+         *
+         * @param value the value
+         * @return {@code ColumnBuilder} instance for method chaining
+         */
+        public ColumnBuilder add(Object value) {
+            if (isNull(value))
+                return addNull();
+            if (value instanceof Integer || value instanceof Long || value instanceof Short)
+                return addNumber(((Number) value).longValue());
+            if (value instanceof Double || value instanceof Float)
+                return addNumber(((Number) value).doubleValue());
+            if (value instanceof String string) {
+                if (column instanceof ForecastColumn.Strings strings) {
+                    strings.append(string);
+                    return this;
+                }
+                return addString(string.toCharArray(), 0, string.length());
+            }
+            if (isNull(column))
+                start(new ArrayList<>());
+            return addBoxed(value);
+        }
+
+        /**
+         * Appends all the values of a column, without converting them when the types of the columns match.
+         */
+        void addAll(List<Object> values) {
+            if (values instanceof ForecastColumn other) {
+                if (isNull(column) && missing == 0) {
+                    column = other.select(IntStream.range(0, other.size()).toArray());
+                    return;
+                }
+                if (column instanceof ForecastColumn typed && typed.canAppendAll(other)) {
+                    typed.appendAll(other);
+                    return;
+                }
+            }
+            values.forEach(this::add);
+        }
+
+        private void start(List<Object> column) {
+            this.column = column;
+            for (int i = 0; i < missing; i++)
+                addNull();
+            missing = 0;
+        }
+
+        private ColumnBuilder addBoxed(Object value) {
+            if (column instanceof ForecastColumn typed) {
+                if (typed.append(value))
+                    return this;
+                // The value does not fit the type of the column, which falls back to a list of boxed values.
+                column = new ArrayList<>(typed);
+            }
+            column.add(value);
+            return this;
+        }
+
+        private List<Object> build() {
+            if (isNull(column))
+                start(new ForecastColumn.Strings());
+            return column instanceof ForecastColumn ? column : Collections.unmodifiableList(column);
+        }
+    }
+
+    /**
+     * A read-only map view of the columns of a table.
+     */
+    private static final class ResultView extends AbstractMap<String, Object> {
+        private final ForecastTable table;
+
+        private ResultView(ForecastTable table) {
+            this.table = table;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return Collections.<String, Object>unmodifiableMap(table.columns).entrySet();
+        }
+
+        @Override
+        public Object get(Object key) {
+            return table.columns.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return table.columns.containsKey(key);
+        }
+    }
+}
@@ -5,8 +5,10 @@
 package com.ibm.watsonx.ai.timeseries;
 
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import com.ibm.watsonx.ai.WatsonxRestClient;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 
 /**
  * Abstraction of a REST client for interacting with the IBM watsonx.ai Time series forecast APIs.
@@ -26,6 +28,19 @@ public abstract class TimeSeriesRestClient extends WatsonxRestClient {
      */
     public abstract ForecastResponse forecast(String transactionId, ForecastRequest request);
 
+    /**
+     * Executes an asynchronous forecast request against the watsonx.ai Time Series API.
+     * <p>
+     * The default implementation runs {@link #forecast} on the I/O executor, implementations should override it to send the request asynchronously.
+     *
+     * @param transactionId an optional client-provided transaction identifier used for tracing
+     * @param request the forecast request payload
+     * @return A {@link CompletableFuture} resolving to a {@link ForecastResponse} containing the forecasted values.
+     */
+    public CompletableFuture<ForecastResponse> forecastAsync(String transactionId, ForecastRequest request) {
+        return CompletableFuture.supplyAsync(() -> forecast(transactionId, request), ExecutorProvider.ioExecutor());
+    }
+
     /**
      * Creates a new {@link Builder} using the first available {@link TimeSeriesRestClientBuilderFactory} discovered via {@link ServiceLoader}.
      * <p>
@@ -4,9 +4,16 @@
  */
 package com.ibm.watsonx.ai.timeseries;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.ibm.watsonx.ai.WatsonxService.ModelService;
@@ -47,16 +54,31 @@ import com.ibm.watsonx.ai.timeseries.ForecastRequest.Parameters;
  * }</pre>
  *
  * To use a custom authentication mechanism, configure it explicitly with {@code authenticator(Authenticator)}.
+ * <p>
+ * When the data contains more than {@code maxSeriesPerRequest} series, as identified by the id columns of the {@link InputSchema}, the series are
+ * split into partitions forecasted in parallel, with at most {@code maxConcurrency} requests in flight, and the results of the partitions are merged
+ * into a single {@link ForecastResponse}.
  *
  * @see Authenticator
  */
 public class TimeSeriesService extends ModelService implements TimeSeriesProvider {
     private static final Logger logger = LoggerFactory.getLogger(TimeSeriesService.class);
+    private static final int DEFAULT_MAX_SERIES_PER_REQUEST = 100;
+    private static final int DEFAULT_MAX_CONCURRENCY = 8;
+
     private final TimeSeriesRestClient client;
+    private final int maxSeriesPerRequest;
+    private final int maxConcurrency;
 
     private TimeSeriesService(Builder builder) {
         super(builder);
         requireNonNull(builder.authenticator(), "authenticator cannot be null");
+        maxSeriesPerRequest = requireNonNullElse(builder.maxSeriesPerRequest, DEFAULT_MAX_SERIES_PER_REQUEST);
+        if (maxSeriesPerRequest <= 0)
+            throw new IllegalArgumentException("maxSeriesPerRequest must be greater than 0");
+        maxConcurrency = requireNonNullElse(builder.maxConcurrency, DEFAULT_MAX_CONCURRENCY);
+        if (maxConcurrency <= 0)
+            throw new IllegalArgumentException("maxConcurrency must be greater than 0");
         client = TimeSeriesRestClient.builder()
             .baseUrl(baseUrl)
             .version(version)
@@ -66,34 +88,19 @@ public class TimeSeriesService extends ModelService implements TimeSeriesProvide
             .authenticator(builder.authenticator())
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
             .build();
     }
 
     @Override
     public ForecastResponse forecast(TimeSeriesRequest request) {
+        var forecastRequest = buildForecastRequest(request);
+        var partitions = partition(request);
+        if (isNull(partitions))
+            return client.forecast(transactionId(request), forecastRequest);
 
-        if (nonNull(request.deploymentId()))
-            logger.info("The deploymentId parameter can not be used with the TimeSeriesService. Use the DeploymentService instead");
-
-        var inputSchema = request.inputSchema();
-        var data = request.data();
-        var parameters = request.parameters();
-
-        ProjectSpace projectSpace = resolveProjectSpace(parameters);
-        String projectId = projectSpace.projectId();
-        String spaceId = projectSpace.spaceId();
-        String modelId = this.modelId;
-        String transactionId = null;
-        Parameters requestParameters = null;
-
-        if (nonNull(parameters)) {
-            modelId = requireNonNullElse(parameters.modelId(), this.modelId);
-            transactionId = parameters.transactionId();
-            requestParameters = parameters.toParameters();
-        }
-
-        var forecastRequest = new ForecastRequest(modelId, spaceId, projectId, data.asMap(), inputSchema, null, requestParameters);
-        return client.forecast(transactionId, forecastRequest);
+        return join(forecastPartitions(request, forecastRequest, partitions, null));
     }
 
     /**
@@ -125,6 +132,142 @@ public class TimeSeriesService extends ModelService implements TimeSeriesProvide
                 .build());
     }
 
+    /**
+     * Generates a forecast asynchronously using the provided {@link TimeSeriesRequest}.
+     *
+     * @param request a {@link TimeSeriesRequest} containing the input schema, data, and parameters
+     * @return a {@link CompletableFuture} with the {@link ForecastResponse} containing the forecasted time series values
+     */
+    public CompletableFuture<ForecastResponse> forecastAsync(TimeSeriesRequest request) {
+        var forecastRequest = buildForecastRequest(request);
+        var partitions = partition(request);
+        if (isNull(partitions))
+            return client.forecastAsync(transactionId(request), forecastRequest);
+
+        return forecastPartitions(request, forecastRequest, partitions, null);
+    }
+
+    /**
+     * Generates a forecast asynchronously, passing the response of each partition to the handler as soon as it is received.
+     * <p>
+     * The handler is called on the callback executor, one response at a time, in the order the responses are received. When the data is not
+     * partitioned, it receives the whole response.
+     *
+     * @param request a {@link TimeSeriesRequest} containing the input schema, data, and parameters
+     * @param handler the handler receiving the response of each partition
+     * @return a {@link CompletableFuture} with the merged {@link ForecastResponse}, completed after the handler received all the partitions
+     */
+    public CompletableFuture<ForecastResponse> forecastAsync(TimeSeriesRequest request, Consumer<ForecastResponse> handler) {
+        requireNonNull(handler, "handler cannot be null");
+        var forecastRequest = buildForecastRequest(request);
+        var partitions = requireNonNullElse(partition(request), new int[][] { null });
+        return forecastPartitions(request, forecastRequest, partitions, handler);
+    }
+
+    /**
+     * Splits the rows of the data into partitions of at most {@code maxSeriesPerRequest} series.
+     *
+     * @return the rows of each partition, or {@code null} if the request is not partitioned
+     */
+    private int[][] partition(TimeSeriesRequest request) {
+        return ForecastPartitions.partition(request.data(), request.inputSchema().idColumns(), maxSeriesPerRequest);
+    }
+
+    private CompletableFuture<ForecastResponse> forecastPartitions(TimeSeriesRequest request, ForecastRequest forecastRequest, int[][] partitions,
+        Consumer<ForecastResponse> handler) {
+        var transactionId = transactionId(request);
+        var futureData = nonNull(request.parameters()) ? request.parameters().futureData() : null;
+        var futurePartitions = isNull(futureData) || isNull(partitions[0]) ? null
+            : ForecastPartitions.partitionFuture(futureData, request.data(), request.inputSchema().idColumns(), partitions);
+
+        return new ForecastPartitions(partitions.length, maxConcurrency, partition -> {
+            // A null partition stands for all the rows.
+            if (isNull(partitions[partition]))
+                return client.forecastAsync(transactionId, forecastRequest);
+
+            // Without id columns, the future data cannot be split and is sent with each partition.
+            var data = request.data().select(partitions[partition]);
+            var future = isNull(futurePartitions) ? forecastRequest.futureData() : futureData.select(futurePartitions[partition]).asMap();
+            return client.forecastAsync(transactionId, new ForecastRequest(forecastRequest.modelId(), forecastRequest.spaceId(),
+                forecastRequest.projectId(), data.asMap(), forecastRequest.schema(), future, forecastRequest.parameters()));
+        }, handler).start();
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException ex)
+                throw ex;
+            throw e;
+        }
+    }
+
+    /**
+     * Generates a forecast asynchronously using the provided schema and data.
+     *
+     * @param inputSchema the schema describing the time series
+     * @param data the historical data payload to use for prediction
+     * @return a {@link CompletableFuture} with the {@link ForecastResponse} containing the forecasted time series values
+     */
+    public CompletableFuture<ForecastResponse> forecastAsync(InputSchema inputSchema, ForecastData data) {
+        return forecastAsync(inputSchema, data, null);
+    }
+
+    /**
+     * Generates a forecast asynchronously using the provided schema and data.
+     *
+     * @param inputSchema the schema describing the time series
+     * @param data the historical data payload to use for prediction
+     * @param parameters the parameters to configure time series behavior
+     * @return a {@link CompletableFuture} with the {@link ForecastResponse} containing the forecasted time series values
+     */
+    public CompletableFuture<ForecastResponse> forecastAsync(InputSchema inputSchema, ForecastData data, TimeSeriesParameters parameters) {
+        return forecastAsync(
+            TimeSeriesRequest.builder()
+                .inputSchema(inputSchema)
+                .data(data)
+                .parameters(parameters)
+                .build());
+    }
+
+    /**
+     * Builds the forecast request payload.
+     */
+    private ForecastRequest buildForecastRequest(TimeSeriesRequest request) {
+
+        if (nonNull(request.deploymentId()))
+            logger.info("The deploymentId parameter can not be used with the TimeSeriesService. Use the DeploymentService instead");
+
+        var inputSchema = request.inputSchema();
+        var data = request.data();
+        var parameters = request.parameters();
+
+        ProjectSpace projectSpace = resolveProjectSpace(parameters);
+        String projectId = projectSpace.projectId();
+        String spaceId = projectSpace.spaceId();
+        String modelId = this.modelId;
+        Parameters requestParameters = null;
+        Map<String, List<Object>> futureData = null;
+
+        if (nonNull(parameters)) {
+            modelId = requireNonNullElse(parameters.modelId(), this.modelId);
+            requestParameters = parameters.toParameters();
+            futureData = nonNull(parameters.futureData()) ? parameters.futureData().asMap() : null;
+        }
+
+        return new ForecastRequest(modelId, spaceId, projectId, data.asMap(), inputSchema, futureData, requestParameters);
+    }
+
+    private static String transactionId(TimeSeriesRequest request) {
+        return nonNull(request.parameters()) ? request.parameters().transactionId() : null;
+    }
+
+    @Override
+    protected List<Type> jsonTypes() {
+        return List.of(ForecastRequest.class, ForecastResponse.class);
+    }
+
     /**
      * Returns a new {@link Builder} instance.
      * <p>
@@ -168,9 +311,36 @@ public class TimeSeriesService extends ModelService implements TimeSeriesProvide
      * Builder class for constructing {@link TimeSeriesService} instances with configurable parameters.
      */
     public final static class Builder extends ModelService.Builder<Builder> {
+        private Integer maxSeriesPerRequest;
+        private Integer maxConcurrency;
 
         private Builder() {}
 
+        /**
+         * Sets the maximum number of series sent in a single forecast request.
+         * <p>
+         * The series are identified by the id columns of the {@link InputSchema}; data with more series is split into partitions forecasted in
+         * parallel. Defaults to {@code 100}.
+         *
+         * @param maxSeriesPerRequest the maximum number of series per request
+         */
+        public Builder maxSeriesPerRequest(int maxSeriesPerRequest) {
+            this.maxSeriesPerRequest = maxSeriesPerRequest;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of concurrent requests sent for the partitions of a forecast.
+         * <p>
+         * Defaults to {@code 8}.
+         *
+         * @param maxConcurrency the maximum number of concurrent requests
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
         /**
          * Builds a {@link TimeSeriesService} instance using the configured parameters.
          *
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.timeseries;
+
+import static java.util.Objects.nonNull;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * The layout of the ISO 8601 timestamps of a column, used to convert them to epoch milliseconds and back without losing information.
+ * <p>
+ * A layout is detected from the first timestamp of a column: {@code yyyy-MM-dd}, or {@code yyyy-MM-dd'T'HH:mm:ss} (or with a space instead of the
+ * {@code T}) followed by an optional fraction of a second and an optional {@code Z} or {@code ±HH:mm} offset. All the timestamps of the column must
+ * have the same layout and the same offset, and a fraction of a second must not be more precise than a millisecond, so that formatting the epoch
+ * milliseconds gives back the original text.
+ */
+final class TimestampLayout {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final int length;
+    private final char separator;
+    private final int fractionDigits;
+    private final String suffix;
+    private final long offsetMillis;
+
+    private TimestampLayout(int length, char separator, int fractionDigits, String suffix, long offsetMillis) {
+        this.length = length;
+        this.separator = separator;
+        this.fractionDigits = fractionDigits;
+        this.suffix = suffix;
+        this.offsetMillis = offsetMillis;
+    }
+
+    /**
+     * Returns the layout of a timestamp.
+     *
+     * @return the layout, or {@code null} if the text is not a supported timestamp
+     */
+    static TimestampLayout detect(char[] chars, int offset, int length) {
+        if (length == 10)
+            return valid(new TimestampLayout(10, (char) 0, 0, "", 0), chars, offset, length);
+
+        if (length < 19 || (chars[offset + 10] != 'T' && chars[offset + 10] != ' '))
+            return null;
+
+        int position = 19;
+        int fractionDigits = 0;
+        if (position < length && chars[offset + position] == '.') {
+            while (position + 1 < length && isDigit(chars[offset + position + 1])) {
+                position++;
+                fractionDigits++;
+            }
+            if (fractionDigits == 0)
+                return null;
+            position++;
+        }
+
+        var suffix = new String(chars, offset + position, length - position);
+        long offsetMillis;
+        if (suffix.isEmpty() || suffix.equals("Z"))
+            offsetMillis = 0;
+        else if (suffix.length() == 6 && (suffix.charAt(0) == '+' || suffix.charAt(0) == '-') && suffix.charAt(3) == ':'
+            && isDigit(suffix.charAt(1)) && isDigit(suffix.charAt(2)) && isDigit(suffix.charAt(4)) && isDigit(suffix.charAt(5))) {
+            int hours = (suffix.charAt(1) - '0') * 10 + suffix.charAt(2) - '0';
+            int minutes = (suffix.charAt(4) - '0') * 10 + suffix.charAt(5) - '0';
+            if (hours > 18 || minutes > 59)
+                return null;
+            offsetMillis = (suffix.charAt(0) == '-' ? -1 : 1) * (hours * 3_600_000L + minutes * 60_000L);
+        } else
+            return null;
+
+        return valid(new TimestampLayout(length, chars[offset + 10], fractionDigits, suffix, offsetMillis), chars, offset, length);
+    }
+
+    private static TimestampLayout valid(TimestampLayout layout, char[] chars, int offset, int length) {
+        return layout.parse(chars, offset, length) == Long.MIN_VALUE ? null : layout;
+    }
+
+    /**
+     * Returns the length of the timestamps.
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * Parses a timestamp with this layout.
+     *
+     * @return the epoch milliseconds, or {@link Long#MIN_VALUE} if the text does not match this layout
+     */
+    long parse(char[] chars, int offset, int length) {
+        if (length != this.length)
+            return Long.MIN_VALUE;
+
+        int year = digits(chars, offset, 4);
+        int month = digits(chars, offset + 5, 2);
+        int day = digits(chars, offset + 8, 2);
+        if (year < 0 || month < 0 || day < 0 || chars[offset + 4] != '-' || chars[offset + 7] != '-')
+            return Long.MIN_VALUE;
+
+        long epochDay;
+        try {
+            epochDay = LocalDate.of(year, month, day).toEpochDay();
+        } catch (DateTimeException e) {
+            return Long.MIN_VALUE;
+        }
+
+        if (separator == 0)
+            return epochDay * MILLIS_PER_DAY;
+
+        int hour = digits(chars, offset + 11, 2);
+        int minute = digits(chars, offset + 14, 2);
+        int second = digits(chars, offset + 17, 2);
+        if (chars[offset + 10] != separator || chars[offset + 13] != ':' || chars[offset + 16] != ':' || hour < 0 || hour > 23 || minute < 0
+            || minute > 59 || second < 0 || second > 59)
+            return Long.MIN_VALUE;
+
+        int millis = 0;
+        if (fractionDigits > 0) {
+            if (chars[offset + 19] != '.')
+                return Long.MIN_VALUE;
+            for (int i = 0; i < fractionDigits; i++) {
+                char c = chars[offset + 20 + i];
+                if (!isDigit(c))
+                    return Long.MIN_VALUE;
+                if (i < 3)
+                    millis = millis * 10 + c - '0';
+                else if (c != '0')
+                    // More precise than a millisecond.
+                    return Long.MIN_VALUE;
+            }
+            for (int i = fractionDigits; i < 3; i++)
+                millis *= 10;
+        }
+
+        int suffixStart = fractionDigits > 0 ? 20 + fractionDigits : 19;
+        for (int i = 0; i < suffix.length(); i++) {
+            if (chars[offset + suffixStart + i] != suffix.charAt(i))
+                return Long.MIN_VALUE;
+        }
+
+        return epochDay * MILLIS_PER_DAY + hour * 3_600_000L + minute * 60_000L + second * 1_000L + millis - offsetMillis;
+    }
+
+    /**
+     * Formats epoch milliseconds with this layout.
+     *
+     * @param target the array receiving the {@link #length()} characters of the timestamp
+     */
+    void format(long epochMilli, char[] target) {
+        long local = epochMilli + offsetMillis;
+        var date = LocalDate.ofEpochDay(Math.floorDiv(local, MILLIS_PER_DAY));
+        long millisOfDay = Math.floorMod(local, MILLIS_PER_DAY);
+
+        write(target, 0, date.getYear(), 4);
+        target[4] = '-';
+        write(target, 5, date.getMonthValue(), 2);
+        target[7] = '-';
+        write(target, 8, date.getDayOfMonth(), 2);
+        if (separator == 0)
+            return;
+
+        target[10] = separator;
+        write(target, 11, (int) (millisOfDay / 3_600_000L), 2);
+        target[13] = ':';
+        write(target, 14, (int) (millisOfDay / 60_000L % 60), 2);
+        target[16] = ':';
+        write(target, 17, (int) (millisOfDay / 1_000L % 60), 2);
+
+        int position = 19;
+        if (fractionDigits > 0) {
+            target[position++] = '.';
+            int millis = (int) (millisOfDay % 1_000L);
+            for (int i = 0; i < fractionDigits; i++) {
+                target[position++] = i < 3 ? (char) ('0' + millis / 100) : '0';
+                millis = millis % 100 * 10;
+            }
+        }
+        suffix.getChars(0, suffix.length(), target, position);
+    }
+
+    /**
+     * Formats epoch milliseconds with this layout.
+     */
+    String format(long epochMilli) {
+        var chars = new char[length];
+        format(epochMilli, chars);
+        return new String(chars);
+    }
+
+    boolean sameAs(TimestampLayout other) {
+        return nonNull(other) && length == other.length && separator == other.separator && fractionDigits == other.fractionDigits
+            && suffix.equals(other.suffix);
+    }
+
+    private static int digits(char[] chars, int offset, int count) {
+        int value = 0;
+        for (int i = 0; i < count; i++) {
+            char c = chars[offset + i];
+            if (!isDigit(c))
+                return -1;
+            value = value * 10 + c - '0';
+        }
+        return value;
+    }
+
+    private static void write(char[] target, int offset, int value, int count) {
+        for (int i = offset + count - 1; i >= offset; i--) {
+            target[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -6,6 +6,7 @@ package com.ibm.watsonx.ai.tokenization;
 
 import static com.ibm.watsonx.ai.core.Json.fromJson;
 import static com.ibm.watsonx.ai.core.Json.toJson;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import java.io.IOException;
@@ -30,8 +31,8 @@ final class DefaultRestClient extends TokenizationRestClient {
     DefaultRestClient(Builder builder) {
         super(builder);
         requireNonNull(authenticator, "authenticator is mandatory");
-        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses));
-        asyncHttpClient = HttpClientFactory.createAsync(authenticator, httpClient, LogMode.of(logRequests, logResponses));
+        syncHttpClient = HttpClientFactory.createSync(authenticator, httpClient, LogMode.of(logRequests, logResponses), circuitBreaker);
+        asyncHttpClient = HttpClientFactory.createAsync(authenticator, httpClient, LogMode.of(logRequests, logResponses), hedging, circuitBreaker);
     }
 
     @Override
@@ -49,7 +50,10 @@ final class DefaultRestClient extends TokenizationRestClient {
 
         try {
 
-            var httpResponse = syncHttpClient.send(httpRequest.build(), BodyHandlers.ofString());
+            // Hedging is done by the asynchronous client.
+            var httpResponse = isNull(hedging)
+                ? syncHttpClient.send(httpRequest.build(), BodyHandlers.ofString())
+                : asyncHttpClient.sendAndWait(httpRequest.build(), BodyHandlers.ofString());
             return fromJson(httpResponse.body(), TokenizationResponse.class);
 
         } catch (IOException | InterruptedException e) {
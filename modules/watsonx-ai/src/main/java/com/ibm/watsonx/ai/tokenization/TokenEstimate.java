@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.tokenization;
+
+/**
+ * Number of tokens of a text, as returned by the {@link TokenEstimator}.
+ * <p>
+ * When the count is estimated locally, the actual number of tokens is expected to be between {@code lowerBound} and {@code upperBound}. When the
+ * count is returned by the tokenization API, the three values are equal and {@code exact} is {@code true}.
+ *
+ * @param tokenCount the estimated number of tokens
+ * @param lowerBound the lower bound of the estimate
+ * @param upperBound the upper bound of the estimate
+ * @param exact {@code true} if the count was returned by the tokenization API
+ */
+public record TokenEstimate(int tokenCount, int lowerBound, int upperBound, boolean exact) {
+
+    public TokenEstimate {
+        if (lowerBound > tokenCount || upperBound < tokenCount)
+            throw new IllegalArgumentException("tokenCount must be between lowerBound and upperBound");
+    }
+
+    /**
+     * Creates an exact {@link TokenEstimate}.
+     *
+     * @param tokenCount the number of tokens
+     * @return the {@link TokenEstimate}
+     */
+    public static TokenEstimate exact(int tokenCount) {
+        return new TokenEstimate(tokenCount, tokenCount, tokenCount, true);
+    }
+
+    /**
+     * Returns whether the text certainly fits within the given number of tokens.
+     *
+     * @param maxTokens the maximum number of tokens
+     * @return {@code true} if the upper bound does not exceed {@code maxTokens}
+     */
+    public boolean fitsWithin(int maxTokens) {
+        return upperBound <= maxTokens;
+    }
+}
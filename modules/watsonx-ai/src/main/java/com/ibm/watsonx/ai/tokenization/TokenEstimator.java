@@ -0,0 +1,435 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.tokenization;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import static java.util.Objects.requireNonNullElse;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Estimates the number of tokens of a text locally, without calling the tokenization API for every request.
+ * <p>
+ * The first time a model is used, the estimator tokenizes a few calibration texts with the {@link TokenizationService} to learn the average number of
+ * characters per token of the model, and how much real texts deviate from it. Later estimates are computed locally and returned with an upper and a
+ * lower bound. When the vocabulary of the model is supplied, the texts are split with a greedy longest-match on the vocabulary instead, and no
+ * calibration call is made.
+ * <p>
+ * {@link #count(String, String, int)} is meant to check a prompt against a token budget: the tokenization API is called only when the bounds of the
+ * estimate are on both sides of the budget. The exact counts are memoized in a bounded cache keyed by a hash of the text and are used to refine the
+ * calibration of the model.
+ * <p>
+ * Example usage:
+ *
+ * <pre>{@code
+ * TokenEstimator estimator = TokenEstimator.builder()
+ *     .tokenizationService(tokenizationService)
+ *     .build();
+ *
+ * TokenEstimate estimate = estimator.count("ibm/granite-4-h-small", prompt, 8192);
+ * if (!estimate.fitsWithin(8192)) {
+ *     // shorten the prompt
+ * }
+ * }</pre>
+ *
+ * This class is thread-safe, a single instance should be shared across requests.
+ */
+public final class TokenEstimator {
+
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+    private static final double MIN_RELATIVE_ERROR = 0.05;
+    private static final double VOCABULARY_RELATIVE_ERROR = 0.10;
+    private static final int ABSOLUTE_ERROR = 2;
+
+    private static final List<String> DEFAULT_CALIBRATION_TEXTS = List.of(
+        "The quick brown fox jumps over the lazy dog. Large language models split the text they receive into tokens, which are usually words, "
+            + "parts of words or punctuation marks.",
+        "Please summarize the following meeting notes in three bullet points and list the action items with their owners and due dates.",
+        "{\"id\": 12345, \"name\": \"watsonx.ai\", \"tags\": [\"llm\", \"embedding\", \"rerank\"], \"created_at\": \"2025-01-31T10:15:30Z\"}",
+        "public static int fibonacci(int n) {\n    return n <= 1 ? n : fibonacci(n - 1) + fibonacci(n - 2);\n}",
+        "Il modello restituisce la risposta nella lingua della domanda. Der Text wird in Tokens zerlegt, bevor er verarbeitet wird.");
+
+    private final TokenizationService tokenizationService;
+    private final List<String> calibrationTexts;
+    private final Map<String, Vocabulary> vocabularies;
+    private final Map<String, CompletableFuture<Calibration>> calibrations = new ConcurrentHashMap<>();
+    private final Map<Key, CachedCount> cache;
+    private final LongAdder estimates = new LongAdder();
+    private final LongAdder remoteCalls = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+
+    private TokenEstimator(Builder builder) {
+        tokenizationService = requireNonNull(builder.tokenizationService, "tokenizationService can't be null");
+        calibrationTexts = List.copyOf(requireNonNullElse(builder.calibrationTexts, DEFAULT_CALIBRATION_TEXTS));
+        vocabularies = Map.copyOf(builder.vocabularies);
+        int cacheSize = requireNonNullElse(builder.cacheSize, DEFAULT_CACHE_SIZE);
+
+        if (calibrationTexts.isEmpty())
+            throw new IllegalArgumentException("calibrationTexts can't be empty");
+
+        if (cacheSize <= 0)
+            throw new IllegalArgumentException("cacheSize must be greater than 0");
+
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedCount> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Estimates the number of tokens of the text for the given model.
+     * <p>
+     * The first call for a model waits for its calibration. If the exact count of the text is in the cache, it is returned instead of the estimate.
+     *
+     * @param modelId the model identifier
+     * @param text the text to estimate
+     * @return the {@link TokenEstimate}
+     */
+    public TokenEstimate estimate(String modelId, String text) {
+        requireNonNull(modelId, "modelId can't be null");
+        requireNonNull(text, "text can't be null");
+        return join(calibration(modelId).thenApply(calibration -> estimate(calibration, modelId, text)));
+    }
+
+    /**
+     * Returns the number of tokens of the text for the given model, calling the tokenization API only when the estimate is not enough to tell whether
+     * the text fits within {@code maxTokens}.
+     *
+     * @param modelId the model identifier
+     * @param text the text to count
+     * @param maxTokens the token budget
+     * @return the {@link TokenEstimate}, exact when the tokenization API was called
+     */
+    public TokenEstimate count(String modelId, String text, int maxTokens) {
+        return join(countAsync(modelId, text, maxTokens));
+    }
+
+    /**
+     * Returns the number of tokens of the text for the given model, calling the tokenization API only when the estimate is not enough to tell whether
+     * the text fits within {@code maxTokens}.
+     *
+     * @param modelId the model identifier
+     * @param text the text to count
+     * @param maxTokens the token budget
+     * @return a {@link CompletableFuture} with the {@link TokenEstimate}, exact when the tokenization API was called
+     */
+    public CompletableFuture<TokenEstimate> countAsync(String modelId, String text, int maxTokens) {
+        requireNonNull(modelId, "modelId can't be null");
+        requireNonNull(text, "text can't be null");
+
+        return calibration(modelId).thenCompose(calibration -> {
+            var estimate = estimate(calibration, modelId, text);
+            if (estimate.exact() || estimate.upperBound() <= maxTokens || estimate.lowerBound() > maxTokens)
+                return CompletableFuture.completedFuture(estimate);
+
+            remoteCalls.increment();
+            return tokenize(modelId, text).thenApply(tokenCount -> {
+                calibration.observe(rawCount(calibration, modelId, text), tokenCount);
+                synchronized (cache) {
+                    cache.put(Key.of(modelId, text), new CachedCount(tokenCount, true));
+                }
+                return TokenEstimate.exact(tokenCount);
+            });
+        });
+    }
+
+    /**
+     * Returns a snapshot of the estimator statistics.
+     *
+     * @return the current {@link Stats}
+     */
+    public Stats stats() {
+        return new Stats(estimates.sum(), remoteCalls.sum(), cacheHits.sum());
+    }
+
+    /**
+     * Returns a new {@link Builder} instance.
+     *
+     * @return {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private TokenEstimate estimate(Calibration calibration, String modelId, String text) {
+        if (text.isEmpty())
+            return TokenEstimate.exact(0);
+
+        CachedCount cached;
+        synchronized (cache) {
+            cached = cache.get(Key.of(modelId, text));
+        }
+
+        if (nonNull(cached) && cached.exact()) {
+            cacheHits.increment();
+            return TokenEstimate.exact(cached.count());
+        }
+
+        estimates.increment();
+        return calibration.estimate(nonNull(cached) ? cached.count() : rawCount(calibration, modelId, text));
+    }
+
+    /**
+     * Returns the value the calibration factor is applied to: the number of characters of the text, or the number of vocabulary tokens when the
+     * vocabulary of the model is known.
+     */
+    private int rawCount(Calibration calibration, String modelId, String text) {
+        if (isNull(calibration.vocabulary()))
+            return text.length();
+
+        var key = Key.of(modelId, text);
+        synchronized (cache) {
+            var cached = cache.get(key);
+            if (nonNull(cached) && !cached.exact())
+                return cached.count();
+        }
+
+        int count = calibration.vocabulary().count(text);
+        synchronized (cache) {
+            cache.putIfAbsent(key, new CachedCount(count, false));
+        }
+        return count;
+    }
+
+    private CompletableFuture<Calibration> calibration(String modelId) {
+        var calibration = calibrations.computeIfAbsent(modelId, this::calibrate);
+        if (calibration.isCompletedExceptionally())
+            calibrations.remove(modelId, calibration);
+        return calibration;
+    }
+
+    /**
+     * Tokenizes the calibration texts concurrently and computes the characters per token ratio of the model.
+     */
+    private CompletableFuture<Calibration> calibrate(String modelId) {
+        var vocabulary = vocabularies.get(modelId);
+        if (nonNull(vocabulary))
+            return CompletableFuture.completedFuture(new Calibration(vocabulary, 1.0, VOCABULARY_RELATIVE_ERROR));
+
+        remoteCalls.add(calibrationTexts.size());
+        var counts = calibrationTexts.stream().map(text -> tokenize(modelId, text)).toList();
+        return CompletableFuture.allOf(counts.toArray(CompletableFuture[]::new)).thenApply(v -> {
+            long chars = 0, tokens = 0;
+            for (int i = 0; i < calibrationTexts.size(); i++) {
+                chars += calibrationTexts.get(i).length();
+                tokens += counts.get(i).join();
+            }
+
+            if (tokens == 0)
+                throw new IllegalStateException("The calibration texts of the model " + modelId + " have no tokens");
+
+            double factor = (double) tokens / chars;
+            double relativeError = MIN_RELATIVE_ERROR;
+            for (int i = 0; i < calibrationTexts.size(); i++) {
+                int actual = counts.get(i).join();
+                if (actual > 0)
+                    relativeError = Math.max(relativeError, Math.abs(calibrationTexts.get(i).length() * factor - actual) / actual);
+            }
+            return new Calibration(null, factor, relativeError);
+        });
+    }
+
+    private CompletableFuture<Integer> tokenize(String modelId, String text) {
+        var parameters = TokenizationParameters.builder().modelId(modelId).build();
+        return tokenizationService.tokenizeAsync(text, parameters).thenApply(response -> response.result().tokenCount());
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException ex)
+                throw ex;
+            throw e;
+        }
+    }
+
+    /**
+     * Snapshot of the {@link TokenEstimator} statistics.
+     *
+     * @param estimateCount the number of token counts estimated locally
+     * @param remoteCallCount the number of calls to the tokenization API, calibration included
+     * @param cacheHitCount the number of exact counts served from the cache
+     */
+    public record Stats(long estimateCount, long remoteCallCount, long cacheHitCount) {}
+
+    /**
+     * Learned relation between the raw count of a text (characters or vocabulary tokens) and its number of tokens.
+     */
+    private static final class Calibration {
+        private final Vocabulary vocabulary;
+        private double factor;
+        private double relativeError;
+        private double rawSum;
+        private double tokenSum;
+
+        Calibration(Vocabulary vocabulary, double factor, double relativeError) {
+            this.vocabulary = vocabulary;
+            this.factor = factor;
+            this.relativeError = relativeError;
+        }
+
+        Vocabulary vocabulary() {
+            return vocabulary;
+        }
+
+        synchronized TokenEstimate estimate(int rawCount) {
+            double expected = rawCount * factor;
+            int tokenCount = Math.max(1, (int) Math.round(expected));
+            int lowerBound = Math.max(1, (int) Math.floor(expected * (1 - relativeError)) - ABSOLUTE_ERROR);
+            int upperBound = (int) Math.ceil(expected * (1 + relativeError)) + ABSOLUTE_ERROR;
+            return new TokenEstimate(tokenCount, Math.min(lowerBound, tokenCount), Math.max(upperBound, tokenCount), false);
+        }
+
+        /**
+         * Widens the error bound if the exact count falls outside the estimate.
+         */
+        synchronized void observe(int rawCount, int tokenCount) {
+            if (tokenCount <= 0 || rawCount <= 0)
+                return;
+
+            relativeError = Math.max(relativeError, Math.abs(rawCount * factor - tokenCount) / tokenCount);
+            if (nonNull(vocabulary)) {
+                // The greedy match is biased, the exact counts are used to correct it.
+                rawSum += rawCount;
+                tokenSum += tokenCount;
+                factor = tokenSum / rawSum;
+            }
+        }
+    }
+
+    /**
+     * Splits a text with a greedy longest-match on the tokens of a vocabulary.
+     */
+    private static final class Vocabulary {
+        private final Set<String> tokens;
+        private final int maxTokenLength;
+
+        Vocabulary(Collection<String> tokens) {
+            this.tokens = new HashSet<>();
+            int maxLength = 1;
+            for (var token : tokens) {
+                // SentencePiece and byte-level BPE vocabularies encode the leading space of a word.
+                var normalized = token.replace('▁', ' ').replace('Ġ', ' ');
+                if (normalized.isEmpty())
+                    continue;
+                this.tokens.add(normalized);
+                maxLength = Math.max(maxLength, normalized.length());
+            }
+            maxTokenLength = maxLength;
+        }
+
+        int count(String text) {
+            int count = 0;
+            for (int start = 0; start < text.length(); count++) {
+                int end = Math.min(text.length(), start + maxTokenLength);
+                while (end > start + 1 && !tokens.contains(text.substring(start, end)))
+                    end--;
+                start = end;
+            }
+            return count;
+        }
+    }
+
+    private record CachedCount(int count, boolean exact) {}
+
+    /**
+     * Cache key: the text is identified by its length and a 64-bit FNV-1a hash, so the cache does not retain the texts.
+     */
+    private record Key(String modelId, int length, long hash) {
+
+        static Key of(String modelId, String text) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < text.length(); i++) {
+                hash ^= text.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return new Key(modelId, text.length(), hash);
+        }
+    }
+
+    /**
+     * Builder class for constructing {@link TokenEstimator} instances.
+     */
+    public final static class Builder {
+        private TokenizationService tokenizationService;
+        private List<String> calibrationTexts;
+        private final Map<String, Vocabulary> vocabularies = new HashMap<>();
+        private Integer cacheSize;
+
+        private Builder() {}
+
+        /**
+         * Sets the {@link TokenizationService} used to calibrate the models and to count the tokens exactly.
+         *
+         * @param tokenizationService the tokenization service
+         */
+        public Builder tokenizationService(TokenizationService tokenizationService) {
+            this.tokenizationService = tokenizationService;
+            return this;
+        }
+
+        /**
+         * Sets the texts tokenized to calibrate a model.
+         * <p>
+         * Texts similar to the prompts of the application give tighter bounds. Defaults to a few short samples of prose, JSON and code.
+         *
+         * @param calibrationTexts the calibration texts
+         */
+        public Builder calibrationTexts(List<String> calibrationTexts) {
+            this.calibrationTexts = calibrationTexts;
+            return this;
+        }
+
+        /**
+         * Sets the vocabulary of a model.
+         * <p>
+         * The texts are split with a greedy longest-match on the vocabulary tokens, and the model is not calibrated with the tokenization API.
+         *
+         * @param modelId the model identifier
+         * @param tokens the tokens of the model vocabulary
+         */
+        public Builder vocabulary(String modelId, Collection<String> tokens) {
+            requireNonNull(modelId, "modelId can't be null");
+            requireNonNull(tokens, "tokens can't be null");
+            vocabularies.put(modelId, new Vocabulary(tokens));
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of texts whose token count is kept in the cache.
+         * <p>
+         * Defaults to {@code 10000}.
+         *
+         * @param cacheSize the maximum number of cached counts
+         */
+        public Builder cacheSize(int cacheSize) {
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        /**
+         * Builds a {@link TokenEstimator} instance using the configured parameters.
+         *
+         * @return a new instance of {@link TokenEstimator}
+         */
+        public TokenEstimator build() {
+            return new TokenEstimator(this);
+        }
+    }
+}
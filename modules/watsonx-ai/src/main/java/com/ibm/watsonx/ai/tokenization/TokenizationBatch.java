@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.tokenization;
+
+import static java.util.Objects.nonNull;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import com.ibm.watsonx.ai.core.exception.WatsonxException;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
+
+/**
+ * Tokenizes a list of inputs with a bounded number of concurrent requests.
+ * <p>
+ * Identical inputs are tokenized once. The number of requests in flight grows by one every time a full window of requests succeeds, up to
+ * {@code maxConcurrency}, and is halved when a request is still rejected with {@code 429} once the {@code RetryInterceptor} has given up; the
+ * rejected input is then sent again after a backoff delay.
+ */
+final class TokenizationBatch {
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final int MAX_THROTTLED_ATTEMPTS = 5;
+
+    private final Function<String, CompletableFuture<TokenizationResponse>> tokenizer;
+    private final int maxConcurrency;
+    private final Map<String, List<Integer>> indexes = new LinkedHashMap<>();
+    private final Deque<String> pending = new ArrayDeque<>();
+    private final Map<String, Integer> throttledAttempts = new LinkedHashMap<>();
+    private final TokenizationResponse[] responses;
+    private final BiConsumer<Integer, TokenizationResponse> handler;
+    private final AtomicReference<CompletableFuture<Void>> callbackChain = new AtomicReference<>(CompletableFuture.completedFuture(null));
+    private final CompletableFuture<List<TokenizationResponse>> result = new CompletableFuture<>();
+
+    private int limit;
+    private int inFlight;
+    private int successes;
+    private int remaining;
+    private boolean paused;
+
+    TokenizationBatch(List<String> inputs, int maxConcurrency, Function<String, CompletableFuture<TokenizationResponse>> tokenizer,
+        BiConsumer<Integer, TokenizationResponse> handler) {
+        this.tokenizer = tokenizer;
+        this.maxConcurrency = maxConcurrency;
+        this.handler = handler;
+        this.responses = new TokenizationResponse[inputs.size()];
+        this.limit = maxConcurrency;
+
+        for (int i = 0; i < inputs.size(); i++)
+            indexes.computeIfAbsent(inputs.get(i), k -> new ArrayList<>()).add(i);
+
+        pending.addAll(indexes.keySet());
+        remaining = pending.size();
+    }
+
+    /**
+     * Starts the batch.
+     *
+     * @return a {@link CompletableFuture} completed with the responses in the order of the inputs, after the handler, if any, received all of them
+     */
+    CompletableFuture<List<TokenizationResponse>> start() {
+        if (remaining == 0)
+            result.complete(List.of());
+        else
+            pump();
+        return result;
+    }
+
+    private void pump() {
+        List<String> toSend = new ArrayList<>();
+        synchronized (this) {
+            while (!result.isDone() && !paused && inFlight < limit && !pending.isEmpty()) {
+                toSend.add(pending.poll());
+                inFlight++;
+            }
+        }
+
+        for (var input : toSend) {
+            CompletableFuture<TokenizationResponse> future;
+            try {
+                future = tokenizer.apply(input);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((response, error) -> {
+                if (nonNull(error))
+                    onError(input, error instanceof CompletionException ? error.getCause() : error);
+                else
+                    onSuccess(input, response);
+            });
+        }
+    }
+
+    private void onSuccess(String input, TokenizationResponse response) {
+        CompletableFuture<Void> delivered = null;
+        synchronized (this) {
+            inFlight--;
+            remaining--;
+            if (++successes >= limit) {
+                successes = 0;
+                limit = Math.min(maxConcurrency, limit + 1);
+            }
+            for (int index : indexes.get(input)) {
+                responses[index] = response;
+                if (nonNull(handler))
+                    scheduleCallback(() -> handler.accept(index, response));
+            }
+            if (remaining == 0)
+                delivered = callbackChain.get();
+        }
+
+        if (nonNull(delivered))
+            delivered.whenComplete((v, e) -> result.complete(List.of(responses)));
+        else
+            pump();
+    }
+
+    private void onError(String input, Throwable error) {
+        Duration backoff = null;
+        boolean retried = false;
+        synchronized (this) {
+            inFlight--;
+            if (error instanceof WatsonxException e && e.statusCode() == 429) {
+                int attempts = throttledAttempts.merge(input, 1, Integer::sum);
+                if (attempts <= MAX_THROTTLED_ATTEMPTS) {
+                    retried = true;
+                    limit = Math.max(1, limit / 2);
+                    successes = 0;
+                    pending.addFirst(input);
+                    if (!paused) {
+                        paused = true;
+                        backoff = INITIAL_BACKOFF.multipliedBy(1L << (attempts - 1));
+                    }
+                }
+            }
+        }
+
+        if (nonNull(backoff)) {
+            CompletableFuture.delayedExecutor(backoff.toMillis(), TimeUnit.MILLISECONDS, ExecutorProvider.ioExecutor())
+                .execute(() -> {
+                    synchronized (this) {
+                        paused = false;
+                    }
+                    pump();
+                });
+        }
+
+        // Not retryable: fail the whole batch, the requests in flight are left to complete.
+        if (!retried)
+            result.completeExceptionally(error);
+    }
+
+    /**
+     * Runs the handler callbacks one at a time, in the order the responses are received.
+     * <p>
+     * Called while holding the lock, so that the callbacks are chained in the same order as the responses are counted; the callbacks themselves run
+     * on the callback executor.
+     */
+    private void scheduleCallback(Runnable callback) {
+        var delivered = new CompletableFuture<Void>();
+        var previous = callbackChain.getAndSet(delivered);
+
+        previous.thenRunAsync(() -> {
+            try {
+                if (!result.isDone())
+                    callback.run();
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            } finally {
+                delivered.complete(null);
+            }
+        }, ExecutorProvider.callbackExecutor());
+    }
+}
@@ -7,10 +7,14 @@ package com.ibm.watsonx.ai.tokenization;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static java.util.Objects.requireNonNullElse;
+import java.lang.reflect.Type;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 import com.ibm.watsonx.ai.Crypto;
 import com.ibm.watsonx.ai.WatsonxService.ModelService;
 import com.ibm.watsonx.ai.core.auth.Authenticator;
+import com.ibm.watsonx.ai.core.http.HedgingPolicy;
 import com.ibm.watsonx.ai.tokenization.TokenizationRequest.Parameters;
 
 /**
@@ -34,11 +38,17 @@ import com.ibm.watsonx.ai.tokenization.TokenizationRequest.Parameters;
  * @see Authenticator
  */
 public class TokenizationService extends ModelService {
+    private static final int DEFAULT_MAX_CONCURRENCY = 8;
     private final TokenizationRestClient client;
+    private final int maxConcurrency;
 
     private TokenizationService(Builder builder) {
         super(builder);
         requireNonNull(builder.authenticator(), "authenticator cannot be null");
+        maxConcurrency = requireNonNullElse(builder.maxConcurrency, DEFAULT_MAX_CONCURRENCY);
+        if (maxConcurrency <= 0)
+            throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+
         client = TokenizationRestClient.builder()
             .baseUrl(baseUrl)
             .version(version)
@@ -48,6 +58,9 @@ public class TokenizationService extends ModelService {
             .authenticator(builder.authenticator())
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
+            .hedging(builder.hedging)
             .build();
     }
 
@@ -97,6 +110,52 @@ public class TokenizationService extends ModelService {
         return client.tokenizeAsync(transactionId, tokenizationRequest);
     }
 
+    /**
+     * Tokenizes all the inputs concurrently.
+     *
+     * @param inputs The input strings to tokenize.
+     * @return A {@link CompletableFuture} with the tokenization responses, in the same order as the inputs.
+     * @see #tokenizeAll(List, TokenizationParameters, BiConsumer)
+     */
+    public CompletableFuture<List<TokenizationResponse>> tokenizeAll(List<String> inputs) {
+        return tokenizeAll(inputs, null);
+    }
+
+    /**
+     * Tokenizes all the inputs concurrently using parameters.
+     *
+     * @param inputs The input strings to tokenize.
+     * @param parameters Tokenization parameters.
+     * @return A {@link CompletableFuture} with the tokenization responses, in the same order as the inputs.
+     * @see #tokenizeAll(List, TokenizationParameters, BiConsumer)
+     */
+    public CompletableFuture<List<TokenizationResponse>> tokenizeAll(List<String> inputs, TokenizationParameters parameters) {
+        return tokenizeAll(inputs, parameters, null);
+    }
+
+    /**
+     * Tokenizes all the inputs concurrently, passing each response to the handler as soon as it is received.
+     * <p>
+     * At most {@code maxConcurrency} requests are in flight at the same time, and identical inputs are tokenized only once. If a request is still
+     * rejected with status code {@code 429} after the automatic retries, the number of concurrent requests is halved and the input is sent again
+     * after a backoff delay. Any other error fails the returned future.
+     * <p>
+     * The handler receives the index of the input and its response. It is called on the callback executor, one response at a time, in the order the
+     * responses are received.
+     *
+     * @param inputs The input strings to tokenize.
+     * @param parameters Tokenization parameters.
+     * @param handler The handler receiving the responses, can be {@code null}.
+     * @return A {@link CompletableFuture} with the tokenization responses, in the same order as the inputs, completed after the handler received all
+     *         of them.
+     */
+    public CompletableFuture<List<TokenizationResponse>> tokenizeAll(List<String> inputs, TokenizationParameters parameters,
+        BiConsumer<Integer, TokenizationResponse> handler) {
+        requireNonNull(inputs, "Inputs cannot be null");
+        inputs.forEach(input -> requireNonNull(input, "Input cannot be null"));
+        return new TokenizationBatch(inputs, maxConcurrency, input -> tokenizeAsync(input, parameters), handler).start();
+    }
+
     /**
      * Builds the TokenizationRequest.
      *
@@ -123,6 +182,11 @@ public class TokenizationService extends ModelService {
         return new TokenizationRequest(modelId, input, projectId, spaceId, requestParameters, crypto);
     }
 
+    @Override
+    protected List<Type> jsonTypes() {
+        return List.of(TokenizationRequest.class, TokenizationResponse.class);
+    }
+
     /**
      * Returns a new {@link Builder} instance.
      * <p>
@@ -149,9 +213,35 @@ public class TokenizationService extends ModelService {
      * Builder class for constructing {@link TokenizationService} instances with configurable parameters.
      */
     public final static class Builder extends ModelService.Builder<Builder> {
+        private Integer maxConcurrency;
+        private HedgingPolicy hedging;
 
         private Builder() {}
 
+        /**
+         * Sets the maximum number of concurrent requests sent by {@code tokenizeAll}.
+         * <p>
+         * Defaults to {@code 8}.
+         *
+         * @param maxConcurrency the maximum number of concurrent requests
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the {@link HedgingPolicy} used to send a duplicate of the requests that are slower than usual.
+         * <p>
+         * When set, the synchronous methods also go through the asynchronous HTTP client so that their requests can be hedged.
+         *
+         * @param hedging the {@link HedgingPolicy} to use
+         */
+        public Builder hedging(HedgingPolicy hedging) {
+            this.hedging = hedging;
+            return this;
+        }
+
         /**
          * Builds a {@link TokenizationService} instance using the configured parameters.
          *
@@ -5,8 +5,10 @@
 package com.ibm.watsonx.ai.tool;
 
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import com.ibm.watsonx.ai.WatsonxRestClient;
+import com.ibm.watsonx.ai.core.provider.ExecutorProvider;
 import com.ibm.watsonx.ai.tool.ToolService.Resources;
 
 /**
@@ -44,6 +46,19 @@ public abstract class ToolRestClient extends WatsonxRestClient {
      */
     public abstract String run(String transactionId, ToolRequest request);
 
+    /**
+     * Asynchronously executes the specified utility tool with the provided input and configuration.
+     * <p>
+     * The default implementation runs {@link #run} on the I/O executor, implementations should override it to send the request asynchronously.
+     *
+     * @param transactionId an optional client-provided transaction identifier used for tracing
+     * @param request A {@link ToolRequest} request.
+     * @return A {@link CompletableFuture} resolving to the output string produced by the tool.
+     */
+    public CompletableFuture<String> runAsync(String transactionId, ToolRequest request) {
+        return CompletableFuture.supplyAsync(() -> run(transactionId, request), ExecutorProvider.ioExecutor());
+    }
+
     /**
      * Creates a new {@link Builder} using the first available {@link ToolRestClientBuilderFactory} discovered via {@link ServiceLoader}.
      * <p>
@@ -8,6 +8,7 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import com.ibm.watsonx.ai.CloudRegion;
 import com.ibm.watsonx.ai.WatsonxService;
 import com.ibm.watsonx.ai.core.Experimental;
@@ -74,6 +75,8 @@ public class ToolService extends WatsonxService {
             .authenticator(builder.authenticator())
             .httpClient(httpClient)
             .verifySsl(verifySsl)
+            .transport(transport)
+            .circuitBreaker(circuitBreaker)
             .build();
     }
 
@@ -141,11 +144,38 @@ public class ToolService extends WatsonxService {
      * @return the output string produced by the tool.
      */
     public String run(ToolRequest toolRequest, ToolParameters parameters) {
+        validate(toolRequest);
+        var transactionId = nonNull(parameters) ? parameters.transactionId() : null;
+        return client.run(transactionId, toolRequest);
+    }
+
+    /**
+     * Asynchronously executes the specified utility tool by sending a request with the given input and configuration.
+     *
+     * @param toolRequest the {@link ToolRequest} object containing the tool name, input, and config.
+     * @return a {@link CompletableFuture} with the output string produced by the tool.
+     */
+    public CompletableFuture<String> runAsync(ToolRequest toolRequest) {
+        return runAsync(toolRequest, ToolParameters.builder().build());
+    }
+
+    /**
+     * Asynchronously executes the specified utility tool by sending a request with the given input and configuration.
+     *
+     * @param toolRequest the {@link ToolRequest} object containing the tool name, input, and config.
+     * @param parameters Parameters to customize the request
+     * @return a {@link CompletableFuture} with the output string produced by the tool.
+     */
+    public CompletableFuture<String> runAsync(ToolRequest toolRequest, ToolParameters parameters) {
+        validate(toolRequest);
+        var transactionId = nonNull(parameters) ? parameters.transactionId() : null;
+        return client.runAsync(transactionId, toolRequest);
+    }
+
+    private static void validate(ToolRequest toolRequest) {
         requireNonNull(toolRequest, "The tool run request must be provided");
         requireNonNull(toolRequest.toolName(), "The name of the tool must be provided");
         requireNonNull(toolRequest.input(), "The input of the tool must be provided");
-        var transactionId = nonNull(parameters) ? parameters.transactionId() : null;
-        return client.run(transactionId, toolRequest);
     }
 
     /**
@@ -0,0 +1,420 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.vectorstore;
+
+import static java.util.Objects.requireNonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Hierarchical navigable small world (HNSW) graph for approximate nearest neighbor search.
+ * <p>
+ * The index only holds the links between the nodes, identified by an {@code int} between 0 and {@code capacity - 1}. The vectors are held by the
+ * caller and compared through {@link Vectors}, so that they can be stored on or off the heap, quantized or not. A node can be removed and its
+ * identifier reused for another vector.
+ * <p>
+ * The searches can run concurrently with each other, but the callers must not run an addition or a removal concurrently with any other operation.
+ */
+public final class HnswIndex {
+    private static final int MAX_LEVEL = 16;
+    private static final Comparator<Neighbor> BY_SIMILARITY = Comparator.comparingDouble(Neighbor::similarity);
+
+    /**
+     * Similarity between two nodes of the index, the higher the closer.
+     */
+    @FunctionalInterface
+    public interface Vectors {
+
+        /**
+         * Returns the similarity between two nodes.
+         *
+         * @param a the first node
+         * @param b the second node
+         * @return the similarity, the higher the closer
+         */
+        float similarity(int a, int b);
+    }
+
+    /**
+     * Similarity between a query and the nodes of the index, the higher the closer.
+     */
+    @FunctionalInterface
+    public interface Query {
+
+        /**
+         * Returns the similarity between the query and a node.
+         *
+         * @param node the node
+         * @return the similarity, the higher the closer
+         */
+        float similarity(int node);
+    }
+
+    /**
+     * Node found by a search.
+     *
+     * @param node the node
+     * @param similarity the similarity between the query and the node
+     */
+    public record Neighbor(int node, float similarity) {}
+
+    private final Vectors vectors;
+    private final int capacity;
+    private final int maxConnections;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+    // Level of each node, -1 if the node is not in the index.
+    private final int[] levels;
+    // Links of each node per level: the first element is the number of links.
+    private final int[][][] links;
+    // Number of nodes per level, to find the highest level left when the entry point is removed.
+    private final int[] levelSizes = new int[MAX_LEVEL + 1];
+    // Visited nodes of the additions, which never run concurrently, and of the searches, reused from one search to another.
+    private final VisitedNodes visited;
+    private final Queue<VisitedNodes> searchVisited = new ConcurrentLinkedQueue<>();
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int size;
+
+    /**
+     * Creates an empty index.
+     *
+     * @param capacity the maximum number of nodes
+     * @param maxConnections the maximum number of links of a node per level, twice as many on the bottom level; typically 16
+     * @param efConstruction the number of candidates considered when linking a new node; typically 100
+     * @param vectors the similarity between two nodes
+     */
+    public HnswIndex(int capacity, int maxConnections, int efConstruction, Vectors vectors) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity must be greater than 0");
+
+        if (maxConnections < 2)
+            throw new IllegalArgumentException("maxConnections must be at least 2");
+
+        if (efConstruction <= 0)
+            throw new IllegalArgumentException("efConstruction must be greater than 0");
+
+        this.vectors = requireNonNull(vectors, "vectors cannot be null");
+        this.capacity = capacity;
+        this.maxConnections = maxConnections;
+        this.efConstruction = efConstruction;
+        levelMultiplier = 1 / Math.log(maxConnections);
+        random = new SplittableRandom(42);
+        levels = new int[capacity];
+        Arrays.fill(levels, -1);
+        links = new int[capacity][][];
+        visited = new VisitedNodes(capacity);
+    }
+
+    /**
+     * Returns the maximum number of nodes.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of nodes in the index.
+     *
+     * @return the number of nodes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether a node is in the index.
+     *
+     * @param node the node
+     * @return {@code true} if the node is in the index
+     */
+    public boolean contains(int node) {
+        return node >= 0 && node < capacity && levels[node] >= 0;
+    }
+
+    /**
+     * Adds a node to the index; its vector must be readable through {@link Vectors}.
+     *
+     * @param node the node, between 0 and {@code capacity - 1}
+     */
+    public void add(int node) {
+        if (node < 0 || node >= capacity)
+            throw new IndexOutOfBoundsException(node);
+
+        if (levels[node] >= 0)
+            throw new IllegalArgumentException("Node %d is already in the index".formatted(node));
+
+        int level = Math.min(MAX_LEVEL, (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier));
+        levels[node] = level;
+        links[node] = new int[level + 1][];
+        for (int l = 0; l <= level; l++)
+            links[node][l] = new int[maxConnections(l) + 1];
+        levelSizes[level]++;
+        size++;
+
+        if (entryPoint < 0) {
+            entryPoint = node;
+            maxLevel = level;
+            return;
+        }
+
+        Query query = other -> vectors.similarity(node, other);
+        int ep = entryPoint;
+        for (int l = maxLevel; l > level; l--)
+            ep = greedySearch(query, ep, l);
+
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            visited.clear();
+            var candidates = searchLayer(query, ep, efConstruction, l, visited);
+            // A reused node can be reached through the links to the node it replaces.
+            candidates.removeIf(candidate -> candidate.node() == node);
+            for (int i = 0; i < Math.min(candidates.size(), maxConnections(l)); i++) {
+                link(node, candidates.get(i).node(), l);
+                link(candidates.get(i).node(), node, l);
+            }
+            if (!candidates.isEmpty())
+                ep = candidates.get(0).node();
+        }
+
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = node;
+        }
+    }
+
+    /**
+     * Removes a node from the index and links its neighbors to each other, so that the graph stays navigable.
+     *
+     * @param node the node
+     */
+    public void remove(int node) {
+        if (!contains(node))
+            return;
+
+        int level = levels[node];
+        levels[node] = -1;
+        levelSizes[level]--;
+        size--;
+
+        for (int l = 0; l <= level; l++) {
+            var own = links[node][l];
+            for (int i = 1; i <= own[0]; i++) {
+                int neighbor = own[i];
+                if (levels[neighbor] < l)
+                    continue;
+                unlink(neighbor, node, l);
+                for (int j = 1; j <= own[0]; j++) {
+                    int candidate = own[j];
+                    if (candidate != neighbor && levels[candidate] >= l && !isLinked(neighbor, candidate, l))
+                        link(neighbor, candidate, l);
+                }
+            }
+        }
+        if (entryPoint == node)
+            replaceEntryPoint(links[node]);
+        links[node] = null;
+    }
+
+    /**
+     * Returns the nodes most similar to the query.
+     *
+     * @param query the similarity between the query and the nodes
+     * @param k the number of nodes to return
+     * @param ef the number of candidates considered, the higher the more accurate; at least {@code k}
+     * @return the nodes, from the most to the least similar
+     */
+    public List<Neighbor> search(Query query, int k, int ef) {
+        requireNonNull(query, "query cannot be null");
+        if (entryPoint < 0 || k <= 0)
+            return List.of();
+
+        int ep = entryPoint;
+        for (int l = maxLevel; l > 0; l--)
+            ep = greedySearch(query, ep, l);
+
+        // Each concurrent search takes its own visited nodes from the pool, and gives them back once done.
+        var visited = searchVisited.poll();
+        if (visited == null)
+            visited = new VisitedNodes(capacity);
+
+        try {
+            visited.clear();
+            var results = searchLayer(query, ep, Math.max(ef, k), 0, visited);
+            return results.size() > k ? List.copyOf(results.subList(0, k)) : results;
+        } finally {
+            searchVisited.offer(visited);
+        }
+    }
+
+    private int maxConnections(int level) {
+        return level == 0 ? 2 * maxConnections : maxConnections;
+    }
+
+    private int greedySearch(Query query, int ep, int level) {
+        float best = query.similarity(ep);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            var current = links[ep][level];
+            for (int i = 1; i <= current[0]; i++) {
+                int neighbor = current[i];
+                if (levels[neighbor] < level)
+                    continue;
+                float similarity = query.similarity(neighbor);
+                if (similarity > best) {
+                    best = similarity;
+                    ep = neighbor;
+                    changed = true;
+                }
+            }
+        }
+        return ep;
+    }
+
+    /**
+     * Elects a new entry point on the highest level left, among the links of the removed one on that level; all the nodes are scanned only if none of
+     * them is on that level.
+     */
+    private void replaceEntryPoint(int[][] removedLinks) {
+        entryPoint = -1;
+        maxLevel = MAX_LEVEL;
+        while (maxLevel >= 0 && levelSizes[maxLevel] == 0)
+            maxLevel--;
+        if (maxLevel < 0)
+            return;
+
+        // The removed entry point was on the highest level, so it has links on the level left.
+        var candidates = removedLinks[maxLevel];
+        for (int i = 1; i <= candidates[0]; i++) {
+            if (levels[candidates[i]] == maxLevel) {
+                entryPoint = candidates[i];
+                return;
+            }
+        }
+        for (int n = 0; n < capacity; n++) {
+            if (levels[n] == maxLevel) {
+                entryPoint = n;
+                return;
+            }
+        }
+    }
+
+    private List<Neighbor> searchLayer(Query query, int ep, int ef, int level, VisitedNodes visited) {
+        var candidates = new PriorityQueue<>(BY_SIMILARITY.reversed());
+        var results = new PriorityQueue<>(BY_SIMILARITY);
+        var start = new Neighbor(ep, query.similarity(ep));
+        visited.visit(ep);
+        candidates.add(start);
+        results.add(start);
+
+        while (!candidates.isEmpty()) {
+            var candidate = candidates.poll();
+            if (results.size() >= ef && candidate.similarity() < results.peek().similarity())
+                break;
+
+            var current = links[candidate.node()][level];
+            for (int i = 1; i <= current[0]; i++) {
+                int neighbor = current[i];
+                if (!visited.visit(neighbor))
+                    continue;
+                // Links to removed nodes, or to a reused node at a lower level, are skipped.
+                if (levels[neighbor] < level)
+                    continue;
+
+                float similarity = query.similarity(neighbor);
+                if (results.size() < ef || similarity > results.peek().similarity()) {
+                    var found = new Neighbor(neighbor, similarity);
+                    candidates.add(found);
+                    results.add(found);
+                    if (results.size() > ef)
+                        results.poll();
+                }
+            }
+        }
+
+        var sorted = new ArrayList<>(results);
+        sorted.sort(BY_SIMILARITY.reversed());
+        return sorted;
+    }
+
+    /**
+     * Adds a link from a node to another one; if the node has too many links, only the most similar ones are kept.
+     */
+    private void link(int from, int to, int level) {
+        var current = links[from][level];
+        int count = current[0];
+        if (count < current.length - 1) {
+            current[++count] = to;
+            current[0] = count;
+            return;
+        }
+
+        var neighbors = new ArrayList<Neighbor>(count + 1);
+        for (int i = 1; i <= count; i++)
+            neighbors.add(new Neighbor(current[i], vectors.similarity(from, current[i])));
+        neighbors.add(new Neighbor(to, vectors.similarity(from, to)));
+        neighbors.sort(BY_SIMILARITY.reversed());
+        for (int i = 0; i < count; i++)
+            current[i + 1] = neighbors.get(i).node();
+    }
+
+    private void unlink(int from, int to, int level) {
+        var current = links[from][level];
+        for (int i = 1; i <= current[0]; i++) {
+            if (current[i] == to) {
+                current[i] = current[current[0]];
+                current[0]--;
+                return;
+            }
+        }
+    }
+
+    private boolean isLinked(int from, int to, int level) {
+        var current = links[from][level];
+        for (int i = 1; i <= current[0]; i++) {
+            if (current[i] == to)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Nodes visited by a search; the nodes visited are marked with the stamp of the search, so that clearing them only changes the stamp.
+     */
+    private static final class VisitedNodes {
+        private final int[] stamps;
+        private int stamp;
+
+        VisitedNodes(int capacity) {
+            stamps = new int[capacity];
+        }
+
+        void clear() {
+            if (++stamp == Integer.MAX_VALUE) {
+                Arrays.fill(stamps, 0);
+                stamp = 1;
+            }
+        }
+
+        /**
+         * Marks a node as visited, returning {@code false} if it already was.
+         */
+        boolean visit(int node) {
+            if (stamps[node] == stamp)
+                return false;
+            stamps[node] = stamp;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.vectorstore;
+
+/**
+ * Represents the encoding of the vectors stored by a {@link VectorStore}.
+ */
+public enum Quantization {
+
+    /**
+     * Each component is stored as a 32-bit float.
+     */
+    FLOAT32,
+
+    /**
+     * Each component is stored as a signed byte scaled per vector, dividing the memory by four at the cost of a small loss of recall.
+     */
+    INT8
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.vectorstore;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Contiguous off-heap storage of normalized vectors, addressed by slot.
+ * <p>
+ * With {@link Quantization#INT8}, each component is stored as a byte scaled by the largest absolute component of the vector, and the scale is stored
+ * as a float after the components. The similarity is the dot product, i.e. the cosine similarity of the original vectors.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class VectorStorage {
+    private static final int INITIAL_SLOTS = 1024;
+
+    // Fixed rather than native, since the bytes of the slots are copied as-is to the files saved by the VectorStore.
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private final int dimensions;
+    private final Quantization quantization;
+    private final int bytesPerVector;
+    private ByteBuffer buffer;
+
+    VectorStorage(int dimensions, Quantization quantization) {
+        this.dimensions = dimensions;
+        this.quantization = quantization;
+        bytesPerVector = quantization == Quantization.INT8 ? dimensions + Float.BYTES : dimensions * Float.BYTES;
+        buffer = ByteBuffer.allocateDirect(INITIAL_SLOTS * bytesPerVector).order(BYTE_ORDER);
+    }
+
+    int dimensions() {
+        return dimensions;
+    }
+
+    int bytesPerVector() {
+        return bytesPerVector;
+    }
+
+    /**
+     * Stores a normalized vector in a slot, growing the storage if needed.
+     */
+    void set(int slot, float[] vector) {
+        ensureCapacity(slot);
+        int offset = slot * bytesPerVector;
+        if (quantization == Quantization.FLOAT32) {
+            for (int i = 0; i < dimensions; i++)
+                buffer.putFloat(offset + i * Float.BYTES, vector[i]);
+            return;
+        }
+
+        float max = 0;
+        for (float value : vector)
+            max = Math.max(max, Math.abs(value));
+        float scale = max == 0 ? 1 : max / 127;
+        for (int i = 0; i < dimensions; i++)
+            buffer.put(offset + i, (byte) Math.round(vector[i] / scale));
+        buffer.putFloat(offset + dimensions, scale);
+    }
+
+    /**
+     * Copies the stored bytes of a slot, as written by {@link #set(int, float[])}.
+     */
+    void read(int slot, ByteBuffer target) {
+        target.put(buffer.slice(slot * bytesPerVector, bytesPerVector));
+    }
+
+    /**
+     * Stores the bytes of a slot, as read by {@link #read(int, ByteBuffer)}.
+     */
+    void write(int slot, ByteBuffer source) {
+        ensureCapacity(slot);
+        buffer.put(slot * bytesPerVector, source, source.position(), bytesPerVector);
+        source.position(source.position() + bytesPerVector);
+    }
+
+    /**
+     * Returns the dot product of a query and a stored vector.
+     */
+    float similarity(float[] query, int slot) {
+        int offset = slot * bytesPerVector;
+        if (quantization == Quantization.FLOAT32) {
+            // Four accumulators, so that the JIT can pipeline the multiplications.
+            float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+            int i = 0;
+            for (; i + 3 < dimensions; i += 4) {
+                int position = offset + i * Float.BYTES;
+                s0 += query[i] * buffer.getFloat(position);
+                s1 += query[i + 1] * buffer.getFloat(position + 4);
+                s2 += query[i + 2] * buffer.getFloat(position + 8);
+                s3 += query[i + 3] * buffer.getFloat(position + 12);
+            }
+            for (; i < dimensions; i++)
+                s0 += query[i] * buffer.getFloat(offset + i * Float.BYTES);
+            return s0 + s1 + s2 + s3;
+        }
+
+        float sum = 0;
+        for (int i = 0; i < dimensions; i++)
+            sum += query[i] * buffer.get(offset + i);
+        return sum * buffer.getFloat(offset + dimensions);
+    }
+
+    /**
+     * Returns the dot product of two stored vectors.
+     */
+    float similarity(int a, int b) {
+        int offsetA = a * bytesPerVector;
+        int offsetB = b * bytesPerVector;
+        if (quantization == Quantization.FLOAT32) {
+            float sum = 0;
+            for (int i = 0; i < dimensions; i++)
+                sum += buffer.getFloat(offsetA + i * Float.BYTES) * buffer.getFloat(offsetB + i * Float.BYTES);
+            return sum;
+        }
+
+        int sum = 0;
+        for (int i = 0; i < dimensions; i++)
+            sum += buffer.get(offsetA + i) * buffer.get(offsetB + i);
+        return sum * buffer.getFloat(offsetA + dimensions) * buffer.getFloat(offsetB + dimensions);
+    }
+
+    private void ensureCapacity(int slot) {
+        long required = (long) (slot + 1) * bytesPerVector;
+        if (required <= buffer.capacity())
+            return;
+
+        long capacity = buffer.capacity();
+        while (capacity < required)
+            capacity *= 2;
+
+        var grown = ByteBuffer.allocateDirect(Math.toIntExact(capacity)).order(BYTE_ORDER);
+        grown.put(0, buffer, 0, buffer.capacity());
+        buffer = grown;
+    }
+}
@@ -0,0 +1,655 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.vectorstore;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import com.ibm.watsonx.ai.embedding.EmbeddingService;
+import com.ibm.watsonx.ai.rerank.RerankParameters;
+import com.ibm.watsonx.ai.rerank.RerankService;
+
+/**
+ * In-process vector store for retrieval-augmented generation over small and medium corpora.
+ * <p>
+ * The documents are embedded with the configured {@link EmbeddingService}, and their normalized vectors are stored contiguously off the heap,
+ * optionally quantized to bytes. The documents most similar to a query, by cosine similarity, are found with an exact scan ({@link IndexType#FLAT})
+ * or an approximate {@link HnswIndex} ({@link IndexType#HNSW}). {@link #retrieve(String, int)} reranks the candidates found with the
+ * {@link RerankService}, if configured.
+ * <p>
+ * The store is saved to a memory-mapped file with {@link #save()} or {@link #close()}, and loaded from it when it is built.
+ * <p>
+ * The searches run concurrently with each other; the additions and removals are exclusive.
+ * <p>
+ * <b>Example usage:</b>
+ *
+ * <pre>{@code
+ * VectorStore store = VectorStore.builder()
+ *     .embeddingService(embeddingService)
+ *     .rerankService(rerankService)
+ *     .quantization(Quantization.INT8)
+ *     .persistTo(Path.of("corpus.bin"))
+ *     .build();
+ *
+ * store.add(List.of(
+ *     new VectorStore.Document("doc-1", "Watsonx.ai is a studio for foundation models."),
+ *     new VectorStore.Document("doc-2", "Granite models are trained by IBM.")));
+ *
+ * List<VectorStore.Match> matches = store.retrieve("Who trains Granite?", 3);
+ * }</pre>
+ */
+public final class VectorStore implements AutoCloseable {
+    private static final int FILE_MAGIC = 0x57585653;
+    private static final int FILE_VERSION = 1;
+    // Below this size, an exact scan is faster on a single thread than split across the fork-join pool.
+    private static final int PARALLEL_SCAN_THRESHOLD = 16_384;
+    private static final int SCAN_CHUNK = 4096;
+    private static final Comparator<Match> BY_SCORE = Comparator.comparingDouble(Match::score);
+
+    /**
+     * Represents the search structure of a {@link VectorStore}.
+     */
+    public enum IndexType {
+
+        /**
+         * Exact scan of all the vectors, split across the fork-join pool for large stores.
+         */
+        FLAT,
+
+        /**
+         * Approximate search in a hierarchical navigable small world graph.
+         */
+        HNSW
+    }
+
+    /**
+     * Document stored in a {@link VectorStore}.
+     *
+     * @param id the unique identifier of the document
+     * @param text the text embedded and returned by the searches
+     */
+    public record Document(String id, String text) {
+        public Document {
+            requireNonNull(id, "id cannot be null");
+            requireNonNull(text, "text cannot be null");
+        }
+    }
+
+    /**
+     * Document found by a search.
+     *
+     * @param document the document
+     * @param score the cosine similarity between the query and the document, or the rerank score if the documents were reranked
+     */
+    public record Match(Document document, double score) {}
+
+    private final EmbeddingService embeddingService;
+    private final RerankService rerankService;
+    private final IndexType indexType;
+    private final Quantization quantization;
+    private final int capacity;
+    private final int candidates;
+    private final int maxConnections;
+    private final int efConstruction;
+    private final int efSearch;
+    private final Path file;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private final Document[] documents;
+    private VectorStorage storage;
+    private HnswIndex index;
+    private int nextSlot;
+
+    private VectorStore(Builder builder) {
+        embeddingService = requireNonNull(builder.embeddingService, "embeddingService must be provided");
+        rerankService = builder.rerankService;
+        indexType = requireNonNull(builder.indexType, "indexType cannot be null");
+        quantization = requireNonNull(builder.quantization, "quantization cannot be null");
+        capacity = builder.capacity;
+        candidates = builder.candidates;
+        maxConnections = builder.maxConnections;
+        efConstruction = builder.efConstruction;
+        efSearch = builder.efSearch;
+        file = builder.file;
+
+        if (capacity <= 0)
+            throw new IllegalArgumentException("capacity must be greater than 0");
+
+        if (candidates <= 0)
+            throw new IllegalArgumentException("candidates must be greater than 0");
+
+        if (efSearch <= 0)
+            throw new IllegalArgumentException("efSearch must be greater than 0");
+
+        documents = new Document[capacity];
+        if (nonNull(file))
+            load();
+    }
+
+    /**
+     * Embeds and stores documents, replacing the stored documents with the same id.
+     *
+     * @param documents the documents to store
+     */
+    public void add(List<Document> documents) {
+        requireNonNull(documents, "documents cannot be null");
+        if (documents.isEmpty())
+            return;
+
+        var results = embeddingService.embed(documents.stream().map(Document::text).toList()).results();
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < documents.size(); i++)
+                put(documents.get(i), toVector(results.get(i).embedding()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Embeds and stores documents, replacing the stored documents with the same id.
+     *
+     * @param documents the documents to store
+     */
+    public void add(Document... documents) {
+        add(Arrays.asList(documents));
+    }
+
+    /**
+     * Stores a document already embedded, e.g. by an {@link com.ibm.watsonx.ai.ingestion.IngestionPipeline}, replacing the stored document with the
+     * same id.
+     *
+     * @param document the document to store
+     * @param embedding the embedding of the text of the document, by the same model as the queries
+     */
+    public void add(Document document, float[] embedding) {
+        requireNonNull(document, "document cannot be null");
+        requireNonNull(embedding, "embedding cannot be null");
+
+        var vector = normalize(embedding.clone());
+        lock.writeLock().lock();
+        try {
+            put(document, vector);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a document.
+     *
+     * @param id the id of the document
+     * @return {@code true} if the document was stored
+     */
+    public boolean remove(String id) {
+        requireNonNull(id, "id cannot be null");
+        lock.writeLock().lock();
+        try {
+            var slot = slots.remove(id);
+            if (isNull(slot))
+                return false;
+
+            documents[slot] = null;
+            if (nonNull(index))
+                index.remove(slot);
+            freeSlots.push(slot);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of stored documents.
+     *
+     * @return the number of documents
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the documents most similar to a query.
+     *
+     * @param query the query
+     * @param k the maximum number of documents to return
+     * @return the documents, from the most to the least similar
+     */
+    public List<Match> search(String query, int k) {
+        requireNonNull(query, "query cannot be null");
+        return search(embed(List.of(query)).get(0), k);
+    }
+
+    /**
+     * Returns the documents most similar to each query.
+     * <p>
+     * The queries are embedded with a single request and searched in parallel on the fork-join pool.
+     *
+     * @param queries the queries
+     * @param k the maximum number of documents to return per query
+     * @return the documents of each query, in the order of the queries
+     */
+    public List<List<Match>> search(List<String> queries, int k) {
+        requireNonNull(queries, "queries cannot be null");
+        if (queries.isEmpty())
+            return List.of();
+
+        var vectors = embed(queries);
+        return vectors.parallelStream().map(vector -> search(vector, k)).toList();
+    }
+
+    /**
+     * Returns the documents most similar to an embedding.
+     *
+     * @param embedding the embedding of the query, by the same model as the documents
+     * @param k the maximum number of documents to return
+     * @return the documents, from the most to the least similar
+     */
+    public List<Match> search(float[] embedding, int k) {
+        requireNonNull(embedding, "embedding cannot be null");
+        if (k <= 0)
+            throw new IllegalArgumentException("k must be greater than 0");
+
+        var query = normalize(embedding.clone());
+        lock.readLock().lock();
+        try {
+            if (isNull(storage))
+                return List.of();
+
+            if (query.length != storage.dimensions())
+                throw new IllegalArgumentException(
+                    "The embedding has %d dimensions instead of %d".formatted(query.length, storage.dimensions()));
+
+            if (indexType == IndexType.HNSW) {
+                return index.search(node -> storage.similarity(query, node), k, Math.max(efSearch, k)).stream()
+                    .map(neighbor -> new Match(documents[neighbor.node()], neighbor.similarity()))
+                    .toList();
+            }
+
+            if (nextSlot < PARALLEL_SCAN_THRESHOLD)
+                return sorted(scan(query, k, 0, nextSlot));
+
+            // Each chunk keeps its own top k, merged once all the chunks are scanned.
+            int chunks = (nextSlot + SCAN_CHUNK - 1) / SCAN_CHUNK;
+            var top = new PriorityQueue<>(BY_SCORE);
+            IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> scan(query, k, chunk * SCAN_CHUNK, Math.min(nextSlot, (chunk + 1) * SCAN_CHUNK)))
+                .toList()
+                .forEach(chunk -> chunk.forEach(match -> offer(top, match, k)));
+            return sorted(top);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the documents most relevant to a query.
+     * <p>
+     * The query is embedded, the {@code candidates} most similar documents are searched and, if a {@link RerankService} is configured, reranked by
+     * relevance to the query. Otherwise, the {@code k} most similar documents are returned.
+     *
+     * @param query the query
+     * @param k the maximum number of documents to return
+     * @return the documents, from the most to the least relevant
+     */
+    public List<Match> retrieve(String query, int k) {
+        requireNonNull(query, "query cannot be null");
+
+        var found = search(query, isNull(rerankService) ? k : Math.max(candidates, k));
+        if (isNull(rerankService) || found.isEmpty())
+            return found;
+
+        var inputs = found.stream().map(match -> match.document().text()).toList();
+        var parameters = RerankParameters.builder().topN(Math.min(k, found.size())).build();
+        return rerankService.rerank(query, inputs, parameters).results().stream()
+            .map(result -> new Match(found.get(result.index()).document(), result.score()))
+            .sorted(BY_SCORE.reversed())
+            .limit(k)
+            .toList();
+    }
+
+    /**
+     * Saves the documents and their vectors to the file configured with {@link Builder#persistTo(Path)}.
+     * <p>
+     * The file is written through a memory mapping to a temporary file, then moved over the previous one, in little-endian byte order whatever the
+     * platform. The {@link HnswIndex} is not saved: it is rebuilt when the file is loaded.
+     */
+    public void save() {
+        if (isNull(file))
+            return;
+
+        lock.readLock().lock();
+        try {
+            int dimensions = isNull(storage) ? 0 : storage.dimensions();
+            int bytesPerVector = isNull(storage) ? 0 : storage.bytesPerVector();
+            var entries = new ArrayList<byte[][]>(slots.size());
+            var entrySlots = new ArrayList<Integer>(slots.size());
+            long size = 5 * Integer.BYTES;
+            for (int slot = 0; slot < nextSlot; slot++) {
+                var document = documents[slot];
+                if (isNull(document))
+                    continue;
+                var entry = new byte[][] { document.id().getBytes(StandardCharsets.UTF_8), document.text().getBytes(StandardCharsets.UTF_8) };
+                entries.add(entry);
+                entrySlots.add(slot);
+                size += 2 * Integer.BYTES + entry[0].length + entry[1].length + bytesPerVector;
+            }
+
+            var temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            try (var channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+
+                var buffer = channel.map(MapMode.READ_WRITE, 0, size);
+                buffer.order(VectorStorage.BYTE_ORDER);
+                buffer.putInt(FILE_MAGIC).putInt(FILE_VERSION).putInt(quantization.ordinal()).putInt(dimensions).putInt(entries.size());
+                for (int i = 0; i < entries.size(); i++) {
+                    buffer.putInt(entries.get(i)[0].length).put(entries.get(i)[0]);
+                    buffer.putInt(entries.get(i)[1].length).put(entries.get(i)[1]);
+                    storage.read(entrySlots.get(i), buffer);
+                }
+                buffer.force();
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Saves the documents, see {@link #save()}.
+     */
+    @Override
+    public void close() {
+        save();
+    }
+
+    private void load() {
+        if (!Files.exists(file))
+            return;
+
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var buffer = channel.map(MapMode.READ_ONLY, 0, channel.size()).order(VectorStorage.BYTE_ORDER);
+            if (buffer.getInt() != FILE_MAGIC || buffer.getInt() != FILE_VERSION)
+                throw new IllegalArgumentException("%s is not a vector store file".formatted(file));
+
+            var saved = Quantization.values()[buffer.getInt()];
+            if (saved != quantization)
+                throw new IllegalArgumentException("%s was saved with the %s quantization instead of %s".formatted(file, saved, quantization));
+
+            int dimensions = buffer.getInt();
+            int count = buffer.getInt();
+            if (count > capacity)
+                throw new IllegalArgumentException("%s holds %d documents, more than the capacity of %d".formatted(file, count, capacity));
+
+            for (int i = 0; i < count; i++) {
+                var document = new Document(readString(buffer), readString(buffer));
+                if (isNull(storage))
+                    createIndex(dimensions);
+                int slot = nextSlot++;
+                storage.write(slot, buffer);
+                documents[slot] = document;
+                slots.put(document.id(), slot);
+                if (nonNull(index))
+                    index.add(slot);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void put(Document document, float[] vector) {
+        if (isNull(storage))
+            createIndex(vector.length);
+        else if (vector.length != storage.dimensions())
+            throw new IllegalArgumentException("The embedding has %d dimensions instead of %d".formatted(vector.length, storage.dimensions()));
+
+        var previous = slots.remove(document.id());
+        if (nonNull(previous)) {
+            if (nonNull(index))
+                index.remove(previous);
+            freeSlots.push(previous);
+        }
+
+        int slot;
+        if (!freeSlots.isEmpty())
+            slot = freeSlots.pop();
+        else if (nextSlot < capacity)
+            slot = nextSlot++;
+        else
+            throw new IllegalStateException("The vector store is full, its capacity is %d documents".formatted(capacity));
+
+        storage.set(slot, vector);
+        documents[slot] = document;
+        slots.put(document.id(), slot);
+        if (nonNull(index))
+            index.add(slot);
+    }
+
+    private void createIndex(int dimensions) {
+        storage = new VectorStorage(dimensions, quantization);
+        if (indexType == IndexType.HNSW)
+            index = new HnswIndex(capacity, maxConnections, efConstruction, storage::similarity);
+    }
+
+    private List<float[]> embed(List<String> inputs) {
+        return embeddingService.embed(inputs).results().stream().map(result -> toVector(result.embedding())).toList();
+    }
+
+    private List<Match> scan(float[] query, int k, int fromSlot, int toSlot) {
+        var top = new PriorityQueue<>(BY_SCORE);
+        for (int slot = fromSlot; slot < toSlot; slot++) {
+            if (nonNull(documents[slot]))
+                offer(top, new Match(documents[slot], storage.similarity(query, slot)), k);
+        }
+        return new ArrayList<>(top);
+    }
+
+    private static void offer(PriorityQueue<Match> top, Match match, int k) {
+        if (top.size() < k) {
+            top.add(match);
+        } else if (match.score() > top.peek().score()) {
+            top.poll();
+            top.add(match);
+        }
+    }
+
+    private static List<Match> sorted(Collection<Match> matches) {
+        var sorted = new ArrayList<>(matches);
+        sorted.sort(BY_SCORE.reversed());
+        return sorted;
+    }
+
+    private static float[] toVector(List<Float> embedding) {
+        var vector = new float[embedding.size()];
+        for (int i = 0; i < vector.length; i++)
+            vector[i] = embedding.get(i);
+        return normalize(vector);
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector)
+            norm += value * value;
+        norm = Math.sqrt(norm);
+        if (norm > 0) {
+            for (int i = 0; i < vector.length; i++)
+                vector[i] /= norm;
+        }
+        return vector;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        var bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a new {@link Builder} instance.
+     *
+     * @return {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder class for constructing {@link VectorStore} instances.
+     */
+    public static final class Builder {
+        private EmbeddingService embeddingService;
+        private RerankService rerankService;
+        private IndexType indexType = IndexType.HNSW;
+        private Quantization quantization = Quantization.FLOAT32;
+        private int capacity = 100_000;
+        private int candidates = 50;
+        private int maxConnections = 16;
+        private int efConstruction = 100;
+        private int efSearch = 64;
+        private Path file;
+
+        private Builder() {}
+
+        /**
+         * Sets the {@link EmbeddingService} used to embed the documents and the queries.
+         *
+         * @param embeddingService the embedding service
+         */
+        public Builder embeddingService(EmbeddingService embeddingService) {
+            this.embeddingService = embeddingService;
+            return this;
+        }
+
+        /**
+         * Sets the {@link RerankService} used by {@link VectorStore#retrieve(String, int)} to rerank the candidates.
+         *
+         * @param rerankService the rerank service, or {@code null} to return the most similar documents
+         */
+        public Builder rerankService(RerankService rerankService) {
+            this.rerankService = rerankService;
+            return this;
+        }
+
+        /**
+         * Sets the search structure.
+         *
+         * @param indexType the {@link IndexType}, defaults to {@link IndexType#HNSW}
+         */
+        public Builder indexType(IndexType indexType) {
+            this.indexType = indexType;
+            return this;
+        }
+
+        /**
+         * Sets the encoding of the stored vectors.
+         *
+         * @param quantization the {@link Quantization}, defaults to {@link Quantization#FLOAT32}
+         */
+        public Builder quantization(Quantization quantization) {
+            this.quantization = quantization;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of documents.
+         * <p>
+         * The vectors are allocated as the documents are added; the capacity sizes the {@link HnswIndex}.
+         *
+         * @param capacity the maximum number of documents, defaults to 100000
+         */
+        public Builder capacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets the number of documents searched by {@link VectorStore#retrieve(String, int)} before reranking.
+         *
+         * @param candidates the number of candidates, defaults to 50
+         */
+        public Builder candidates(int candidates) {
+            this.candidates = candidates;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of links of a node of the {@link HnswIndex} per level.
+         *
+         * @param maxConnections the maximum number of links, defaults to 16
+         */
+        public Builder maxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        /**
+         * Sets the number of candidates considered when a document is added to the {@link HnswIndex}.
+         *
+         * @param efConstruction the number of candidates, defaults to 100
+         */
+        public Builder efConstruction(int efConstruction) {
+            this.efConstruction = efConstruction;
+            return this;
+        }
+
+        /**
+         * Sets the number of candidates considered by a search in the {@link HnswIndex}; the higher, the better the recall and the slower the search.
+         *
+         * @param efSearch the number of candidates, defaults to 64
+         */
+        public Builder efSearch(int efSearch) {
+            this.efSearch = efSearch;
+            return this;
+        }
+
+        /**
+         * Sets the file the store is loaded from when it is built, and saved to by {@link VectorStore#save()}.
+         *
+         * @param file the file, or {@code null} to keep the documents in memory only
+         */
+        public Builder persistTo(Path file) {
+            this.file = file;
+            return this;
+        }
+
+        /**
+         * Builds a {@link VectorStore} instance using the configured parameters.
+         *
+         * @return a new instance of {@link VectorStore}
+         */
+        public VectorStore build() {
+            return new VectorStore(this);
+        }
+    }
+}
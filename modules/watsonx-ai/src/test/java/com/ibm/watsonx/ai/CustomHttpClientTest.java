@@ -7,6 +7,8 @@ package com.ibm.watsonx.ai;
 import static com.ibm.watsonx.ai.utils.Utils.getFieldValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
 import java.net.http.HttpClient;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Isolated;
 import com.ibm.watsonx.ai.batch.BatchService;
 import com.ibm.watsonx.ai.chat.ChatService;
+import com.ibm.watsonx.ai.core.http.TransportConfig;
 import com.ibm.watsonx.ai.core.provider.HttpClientProvider;
 import com.ibm.watsonx.ai.deployment.DeploymentService;
 import com.ibm.watsonx.ai.detection.DetectionService;
@@ -100,6 +103,37 @@ public class CustomHttpClientTest {
         });
     }
 
+    @Test
+    void should_use_transport_config_for_chat_service() throws Exception {
+
+        var transport = TransportConfig.builder().maxConnectionsPerHost(2).build();
+        ChatService chatService = ChatService.builder()
+            .baseUrl("https://localhost")
+            .modelId("modelId")
+            .transport(transport)
+            .apiKey("apiKey")
+            .projectId("projectId")
+            .build();
+
+        TokenizationService tokenizationService = TokenizationService.builder()
+            .baseUrl("https://localhost")
+            .modelId("modelId")
+            .transport(transport)
+            .apiKey("apiKey")
+            .projectId("projectId")
+            .build();
+
+        Object httpClient = getFieldValue(getFieldValue(chatService, "client"), "httpClient");
+        assertNotEquals(HttpClientProvider.httpClient(true), httpClient);
+        assertEquals(HttpClientProvider.httpClient("https://localhost", true, transport), httpClient);
+        assertSame(httpClient, getFieldValue(getFieldValue(tokenizationService, "client"), "httpClient"));
+
+        Object authenticator = getFieldValue(getFieldValue(chatService, "client"), "authenticator");
+        Object iamHttpClient = getFieldValue(getFieldValue(authenticator, "client"), "httpClient");
+        assertNotSame(httpClient, iamHttpClient);
+        assertEquals(HttpClientProvider.httpClient("https://iam.cloud.ibm.com", true, transport), iamHttpClient);
+    }
+
     @Test
     void should_use_custom_http_client_for_model_gateway_service() throws Exception {
 
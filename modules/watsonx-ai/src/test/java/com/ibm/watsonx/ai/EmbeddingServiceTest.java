@@ -7,10 +7,12 @@ package com.ibm.watsonx.ai;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.containing;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 import java.io.IOException;
 import java.net.http.HttpHeaders;
@@ -76,7 +78,7 @@ public class EmbeddingServiceTest extends AbstractWatsonxTest {
             }""".formatted(MODEL_ID);
 
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
         when(mockSecureHttpClient.send(mockHttpRequest.capture(), any(BodyHandler.class)))
             .thenReturn(mockHttpResponse);
 
@@ -155,7 +157,7 @@ public class EmbeddingServiceTest extends AbstractWatsonxTest {
             }""";
 
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
         when(mockSecureHttpClient.send(mockHttpRequest.capture(), any(BodyHandler.class)))
             .thenReturn(mockHttpResponse);
 
@@ -202,7 +204,7 @@ public class EmbeddingServiceTest extends AbstractWatsonxTest {
         var json = Json.toJson(error);
 
         when(mockHttpResponse.statusCode()).thenReturn(400);
-        when(mockHttpResponse.body()).thenReturn(json);
+        doReturn(json.getBytes(UTF_8)).when(mockHttpResponse).body();
         when(mockHttpResponse.headers()).thenReturn(HttpHeaders.of(Map.of("Content-Type", List.of("application/json")), (t, u) -> true));
         when(mockSecureHttpClient.send(mockHttpRequest.capture(), any(BodyHandler.class)))
             .thenReturn(mockHttpResponse);
@@ -268,7 +270,7 @@ public class EmbeddingServiceTest extends AbstractWatsonxTest {
             }""";
 
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
         when(mockSecureHttpClient.send(mockHttpRequest.capture(), any(BodyHandler.class)))
             .thenReturn(mockHttpResponse);
 
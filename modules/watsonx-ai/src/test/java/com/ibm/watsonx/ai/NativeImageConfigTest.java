@@ -0,0 +1,260 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai;
+
+import static java.util.Comparator.comparing;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Executable;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.ibm.watsonx.ai.batch.BatchResult;
+import com.ibm.watsonx.ai.chat.model.PartialChatResponse;
+import com.ibm.watsonx.ai.core.Json;
+import com.ibm.watsonx.ai.core.spi.json.TypeToken;
+import com.ibm.watsonx.ai.tool.builtin.GoogleSearchTool.GoogleSearchResult;
+import com.ibm.watsonx.ai.tool.builtin.TavilySearchTool.TavilySearchResult;
+
+/**
+ * Checks that the GraalVM reflection metadata of the module registers exactly the types that Jackson introspects.
+ * <p>
+ * The types are collected from the signatures of the {@code *RestClient} SPIs, the mix-ins of {@link WatsonxJacksonModule} and the few types parsed
+ * outside of a REST client, following record components, fields, builders and sub types. Serializers and deserializers referenced by an annotation
+ * are only instantiated, so only their no-arg constructor is registered.
+ */
+public class NativeImageConfigTest {
+
+    private static final String REFLECT_CONFIG = "META-INF/native-image/com.ibm.watsonx/watsonx-ai/reflect-config.json";
+
+    // Types parsed outside of the REST clients (streamed chunks, tool results and batch outputs).
+    private static final List<Class<?>> EXTRA_ROOTS = List.of(
+        PartialChatResponse.class,
+        BatchResult.class,
+        GoogleSearchResult.class,
+        TavilySearchResult.class);
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new WatsonxJacksonModule());
+    private final Set<Class<?>> introspected = new TreeSet<>(comparing(Class::getName));
+    private final Set<Class<?>> instantiated = new TreeSet<>(comparing(Class::getName));
+
+    @Test
+    void should_register_the_types_introspected_by_jackson() throws Exception {
+
+        for (var clazz : moduleClasses()) {
+            if (clazz.getSimpleName().endsWith("RestClient") && Modifier.isAbstract(clazz.getModifiers())) {
+                for (var method : clazz.getDeclaredMethods()) {
+                    if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers()))
+                        continue;
+
+                    visit(method.getGenericReturnType());
+                    for (var parameter : method.getGenericParameterTypes())
+                        visit(parameter);
+                }
+            } else if (nonNull(mapper.findMixInClassFor(clazz))) {
+                visit(clazz);
+            }
+        }
+        EXTRA_ROOTS.forEach(this::visit);
+
+        var expected = new ArrayList<Map<String, Object>>();
+        for (var clazz : introspected) {
+            var entry = new LinkedHashMap<String, Object>();
+            entry.put("name", clazz.getName());
+            entry.put("allDeclaredConstructors", true);
+            entry.put("allDeclaredMethods", true);
+            entry.put("allDeclaredFields", true);
+            expected.add(entry);
+        }
+        for (var clazz : instantiated) {
+            if (introspected.contains(clazz))
+                continue;
+
+            var entry = new LinkedHashMap<String, Object>();
+            entry.put("name", clazz.getName());
+            entry.put("methods", List.of(Map.of("name", "<init>", "parameterTypes", List.of())));
+            expected.add(entry);
+        }
+        expected.sort(comparing(entry -> (String) entry.get("name")));
+
+        try (var is = ClassLoader.getSystemResourceAsStream(REFLECT_CONFIG)) {
+            var registered = Json.fromJson(new String(is.readAllBytes()), new TypeToken<List<Map<String, Object>>>() {});
+            assertEquals(names(expected), names(registered));
+            assertEquals(expected, registered);
+        }
+    }
+
+    private void visit(Type type) {
+        if (type instanceof ParameterizedType parameterized) {
+            visit(parameterized.getRawType());
+            for (var argument : parameterized.getActualTypeArguments())
+                visit(argument);
+        } else if (type instanceof GenericArrayType array) {
+            visit(array.getGenericComponentType());
+        } else if (type instanceof WildcardType wildcard) {
+            for (var bound : wildcard.getUpperBounds())
+                visit(bound);
+        } else if (type instanceof TypeVariable<?> variable) {
+            for (var bound : variable.getBounds())
+                visit(bound);
+        } else if (type instanceof Class<?> clazz) {
+            if (clazz.isArray()) {
+                visit(clazz.getComponentType());
+                return;
+            }
+
+            var mixin = mapper.findMixInClassFor(clazz);
+            if (!isModuleType(clazz) || !isMapped(clazz, mixin) || !introspected.add(clazz))
+                return;
+
+            visitAnnotations(clazz);
+
+            if (clazz.isRecord()) {
+                for (var component : clazz.getRecordComponents())
+                    visit(component.getGenericType());
+            } else if (isNull(mixin) && !clazz.isEnum()) {
+                visitMembers(clazz);
+            }
+
+            if (nonNull(mixin)) {
+                // The mix-in declares the properties of the class.
+                introspected.add(mixin);
+                visitAnnotations(mixin);
+                visitMembers(mixin);
+            }
+
+            if (clazz.isSealed())
+                for (var subclass : clazz.getPermittedSubclasses())
+                    visit(subclass);
+        }
+    }
+
+    /**
+     * Returns {@code true} if Jackson maps the class: records, enums, sealed hierarchies, classes with a mix-in and classes exposing Jackson
+     * annotated members or bean getters. Handlers, interceptors and the request descriptors only used to build URLs are not mapped.
+     */
+    private static boolean isMapped(Class<?> clazz, Class<?> mixin) {
+        if (nonNull(mixin) || clazz.isRecord() || clazz.isEnum() || clazz.isSealed())
+            return true;
+
+        if (clazz.isInterface())
+            return false;
+
+        return Stream.of(clazz.getDeclaredMethods()).anyMatch(NativeImageConfigTest::isGetter)
+            || Stream.of(clazz.getDeclaredMethods()).anyMatch(NativeImageConfigTest::isJacksonAnnotated)
+            || Stream.of(clazz.getDeclaredFields()).anyMatch(NativeImageConfigTest::isJacksonAnnotated);
+    }
+
+    private void visitMembers(Class<?> clazz) {
+        for (var method : clazz.getDeclaredMethods()) {
+            if (isGetter(method) || isJacksonAnnotated(method))
+                visit(method.getGenericReturnType());
+            if (isJacksonAnnotated(method)
+                || Stream.of(method.getParameterAnnotations()).flatMap(Stream::of).anyMatch(NativeImageConfigTest::isJackson))
+                Stream.of(method.getGenericParameterTypes()).forEach(this::visit);
+        }
+        for (var constructor : clazz.getDeclaredConstructors())
+            if (isJacksonAnnotated(constructor))
+                Stream.of(constructor.getGenericParameterTypes()).forEach(this::visit);
+        for (var field : clazz.getDeclaredFields())
+            if (!Modifier.isStatic(field.getModifiers()) && (Modifier.isPublic(field.getModifiers()) || isJacksonAnnotated(field)))
+                visit(field.getGenericType());
+    }
+
+    private static boolean isGetter(Method method) {
+        var name = method.getName();
+        return Modifier.isPublic(method.getModifiers()) && !Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 0
+            && (name.matches("get[A-Z].*")
+                || (name.matches("is[A-Z].*") && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)));
+    }
+
+    private static boolean isJacksonAnnotated(AnnotatedElement element) {
+        return Stream.of(element.getAnnotations()).anyMatch(NativeImageConfigTest::isJackson);
+    }
+
+    private static boolean isJackson(Annotation annotation) {
+        return annotation.annotationType().getName().startsWith("com.fasterxml.jackson.");
+    }
+
+    private void visitAnnotations(Class<?> clazz) {
+        var elements = new ArrayList<AnnotatedElement>();
+        elements.add(clazz);
+        elements.addAll(List.of(clazz.getDeclaredFields()));
+        elements.addAll(List.of(clazz.getDeclaredMethods()));
+        elements.addAll(List.of(clazz.getDeclaredConstructors()));
+
+        for (var element : elements) {
+            visitAnnotations(element.getAnnotations());
+            if (element instanceof Executable executable)
+                for (var annotations : executable.getParameterAnnotations())
+                    visitAnnotations(annotations);
+        }
+    }
+
+    private void visitAnnotations(Annotation[] annotations) {
+        for (var annotation : annotations) {
+            if (annotation instanceof JsonDeserialize deserialize) {
+                visit(deserialize.builder());
+                instantiate(deserialize.using(), deserialize.contentUsing(), deserialize.keyUsing());
+            } else if (annotation instanceof JsonSerialize serialize) {
+                instantiate(serialize.using(), serialize.contentUsing(), serialize.keyUsing(), serialize.nullsUsing());
+            } else if (annotation instanceof JsonSubTypes subTypes) {
+                for (var subType : subTypes.value())
+                    visit(subType.value());
+            }
+        }
+    }
+
+    private void instantiate(Class<?>... classes) {
+        for (var clazz : classes)
+            if (clazz != JsonSerializer.None.class && clazz != JsonDeserializer.None.class && clazz != KeyDeserializer.None.class)
+                instantiated.add(clazz);
+    }
+
+    private static boolean isModuleType(Class<?> clazz) {
+        return clazz.getName().startsWith("com.ibm.watsonx.ai.") && !clazz.getName().startsWith("com.ibm.watsonx.ai.core.");
+    }
+
+    private static List<Class<?>> moduleClasses() throws Exception {
+        var root = Path.of(WatsonxJacksonModule.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        try (var files = Files.walk(root)) {
+            var classes = new ArrayList<Class<?>>();
+            for (var file : files.filter(path -> path.toString().endsWith(".class")).toList()) {
+                var name = root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), ".").replaceAll("\\.class$", "");
+                if (!name.endsWith("module-info") && !name.endsWith("package-info"))
+                    classes.add(Class.forName(name, false, NativeImageConfigTest.class.getClassLoader()));
+            }
+            return classes;
+        }
+    }
+
+    private static List<Object> names(List<Map<String, Object>> entries) {
+        return entries.stream().map(entry -> entry.get("name")).toList();
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.ibm.watsonx.ai.core.exception.WatsonxException;
+import com.ibm.watsonx.ai.embedding.EmbeddingResponse;
+import com.ibm.watsonx.ai.embedding.EmbeddingService;
+
+public class RegionRouterTest extends AbstractWatsonxTest {
+
+    private static final String RESPONSE = """
+        {
+          "model_id": "ibm/slate-125m-english-rtrvr",
+          "results": [{ "embedding": [0.1, 0.2] }],
+          "created_at": "2024-02-21T17:32:28Z",
+          "input_token_count": 1
+        }""";
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @BeforeEach
+    void setUpAuthenticator() {
+        when(mockAuthenticator.token()).thenReturn("token");
+        when(mockAuthenticator.tokenAsync()).thenReturn(CompletableFuture.completedFuture("token"));
+    }
+
+    private EmbeddingService service(String region) {
+        return EmbeddingService.builder()
+            .baseUrl("http://localhost:%s/%s".formatted(wireMock.getPort(), region))
+            .authenticator(mockAuthenticator)
+            .modelId("ibm/slate-125m-english-rtrvr")
+            .projectId(region + "-project")
+            .build();
+    }
+
+    private void stub(String region, int status) {
+        wireMock.stubFor(post(urlPathEqualTo("/%s/ml/v1/text/embeddings".formatted(region)))
+            .willReturn(aResponse()
+                .withStatus(status)
+                .withHeader("Content-Type", "application/json")
+                .withBody(status == 200 ? RESPONSE : """
+                    {
+                      "errors": [{ "code": "internal_error", "message": "Internal error" }],
+                      "trace": "trace",
+                      "status_code": %d
+                    }""".formatted(status))));
+    }
+
+    private int requests(String region) {
+        return wireMock.findAll(postRequestedFor(urlPathEqualTo("/%s/ml/v1/text/embeddings".formatted(region)))).size();
+    }
+
+    private RegionRouter.Builder<EmbeddingService> router() {
+        return RegionRouter.<EmbeddingService>builder()
+            .region(CloudRegion.FRANKFURT, service("eu-de"))
+            .region(CloudRegion.LONDON, service("eu-gb"))
+            .region(CloudRegion.DALLAS, service("us-south"))
+            .nanoTime(nanoTime::get);
+    }
+
+    @Test
+    void should_fail_over_and_eject_the_failing_region() {
+
+        stub("eu-de", 500);
+        stub("eu-gb", 200);
+        stub("us-south", 200);
+
+        var router = router()
+            .allowedRegions(CloudRegion.FRANKFURT, CloudRegion.LONDON)
+            .failureThreshold(2)
+            .ejectDuration(Duration.ofSeconds(30))
+            .build();
+
+        assertEquals(List.of("FRANKFURT", "LONDON"), List.copyOf(router.services().keySet()));
+
+        for (int i = 0; i < 4; i++)
+            assertEquals(1, router.execute(service -> service.embed("Hello")).results().size());
+
+        // The first two calls fail over from FRANKFURT, which is then ejected.
+        assertEquals(2, requests("eu-de"));
+        assertEquals(4, requests("eu-gb"));
+        assertEquals(0, requests("us-south"));
+
+        var stats = router.stats();
+        assertEquals("FRANKFURT", stats.get(0).id());
+        assertEquals(2, stats.get(0).failures());
+        assertTrue(stats.get(0).ejected());
+        assertTrue(stats.get(0).errorRate() > 0);
+        assertEquals(4, stats.get(1).calls());
+        assertFalse(stats.get(1).ejected());
+
+        // Once the ejection has elapsed, a probe call is sent to FRANKFURT and it is used again if it succeeds.
+        stub("eu-de", 200);
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+        router.execute(service -> service.embed("Hello"));
+        assertEquals(3, requests("eu-de"));
+        assertFalse(router.stats().get(0).ejected());
+    }
+
+    @Test
+    void should_fail_back_to_the_primary_region_once_it_has_recovered() {
+
+        stub("eu-de", 500);
+        stub("eu-gb", 200);
+
+        var frankfurt = service("eu-de");
+        var london = service("eu-gb");
+        var router = RegionRouter.<EmbeddingService>builder()
+            .region(CloudRegion.FRANKFURT, frankfurt)
+            .region(CloudRegion.LONDON, london)
+            .failureThreshold(10)
+            .nanoTime(nanoTime::get)
+            .build();
+
+        // FRANKFURT answers in 100 ms and LONDON in 200 ms.
+        Function<EmbeddingService, EmbeddingResponse> call = service -> {
+            nanoTime.addAndGet(Duration.ofMillis(service == frankfurt ? 100 : 200).toNanos());
+            return service.embed("Hello");
+        };
+
+        // The failure penalizes FRANKFURT, which is no longer preferred even though it has recovered.
+        router.execute(call);
+        stub("eu-de", 200);
+        for (int i = 0; i < 10; i++) {
+            nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+            router.execute(call);
+        }
+        assertEquals(1, requests("eu-de"));
+        assertEquals(11, requests("eu-gb"));
+
+        // Its statistics fade, so it gets calls again and takes back the traffic.
+        for (int i = 0; i < 120; i++) {
+            nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+            router.execute(call);
+        }
+        assertTrue(requests("eu-de") > 1);
+
+        int londonRequests = requests("eu-gb");
+        for (int i = 0; i < 10; i++) {
+            nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+            router.execute(call);
+        }
+        assertEquals(londonRequests, requests("eu-gb"));
+        assertEquals(0, router.stats().get(0).errorRate(), 0.01);
+    }
+
+    @Test
+    void should_reserve_the_probe_only_for_the_called_region() {
+
+        stub("eu-de", 500);
+        stub("eu-gb", 200);
+
+        var frankfurt = service("eu-de");
+        var router = RegionRouter.<EmbeddingService>builder()
+            .region(CloudRegion.FRANKFURT, frankfurt)
+            .region(CloudRegion.LONDON, service("eu-gb"))
+            .failureThreshold(1)
+            .ejectDuration(Duration.ofSeconds(30))
+            .nanoTime(nanoTime::get)
+            .build();
+
+        // FRANKFURT answers in 300 ms and LONDON in 100 ms.
+        Function<EmbeddingService, EmbeddingResponse> call = service -> {
+            nanoTime.addAndGet(Duration.ofMillis(service == frankfurt ? 300 : 100).toNanos());
+            return service.embed("Hello");
+        };
+
+        router.execute(call);
+        assertTrue(router.stats().get(0).ejected());
+
+        // LONDON is preferred, so the call does not take the probe of FRANKFURT, which can still be probed.
+        stub("eu-de", 200);
+        nanoTime.addAndGet(Duration.ofSeconds(30).toNanos());
+        router.execute(call);
+        assertEquals(1, requests("eu-de"));
+        assertFalse(router.stats().get(0).ejected());
+
+        stub("eu-gb", 500);
+        router.execute(call);
+        assertEquals(2, requests("eu-de"));
+        assertFalse(router.stats().get(0).ejected());
+    }
+
+    @Test
+    void should_not_fail_over_on_client_errors_or_non_idempotent_calls() {
+
+        stub("eu-de", 400);
+        stub("eu-gb", 200);
+
+        var router = router().allowedRegions(CloudRegion.FRANKFURT, CloudRegion.LONDON).build();
+
+        var ex = assertThrows(WatsonxException.class, () -> router.execute(service -> service.embed("Hello")));
+        assertEquals(400, ex.statusCode());
+        assertEquals(0, requests("eu-gb"));
+        assertEquals(0, router.stats().get(0).failures());
+
+        stub("eu-de", 500);
+        ex = assertThrows(WatsonxException.class, () -> router.executeOnce(service -> service.embed("Hello")));
+        assertEquals(500, ex.statusCode());
+        assertEquals(0, requests("eu-gb"));
+        assertEquals(1, router.stats().get(0).failures());
+    }
+
+    @Test
+    void should_fail_over_streaming_calls_only_before_they_start() throws Exception {
+
+        stub("eu-de", 500);
+        stub("eu-gb", 200);
+
+        var router = router().allowedRegions(CloudRegion.FRANKFURT, CloudRegion.LONDON).failureThreshold(10).build();
+
+        var response = router.executeAsync(service -> CompletableFuture.supplyAsync(() -> service.embed("Hello"))).get(10, TimeUnit.SECONDS);
+        assertEquals(1, response.results().size());
+        assertEquals(1, requests("eu-gb"));
+
+        var ex = assertThrows(CompletionException.class,
+            () -> router.executeAsync(service -> CompletableFuture.supplyAsync(() -> service.embed("Hello")), () -> true).join());
+        assertEquals(500, ((WatsonxException) ex.getCause()).statusCode());
+        assertEquals(1, requests("eu-gb"));
+    }
+
+    @Test
+    void should_route_to_the_fastest_region() {
+
+        wireMock.stubFor(post(urlPathEqualTo("/eu-de/ml/v1/text/embeddings"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withFixedDelay(300)
+                .withHeader("Content-Type", "application/json")
+                .withBody(RESPONSE)));
+        stub("eu-gb", 200);
+
+        var router = RegionRouter.<EmbeddingService>builder()
+            .region(CloudRegion.FRANKFURT, service("eu-de"))
+            .region(CloudRegion.LONDON, service("eu-gb"))
+            .build();
+
+        for (int i = 0; i < 4; i++)
+            router.execute(service -> service.embed("Hello"));
+
+        assertEquals(1, requests("eu-de"));
+        assertEquals(3, requests("eu-gb"));
+        assertTrue(router.stats().get(0).latency().compareTo(router.stats().get(1).latency()) > 0);
+    }
+
+    @Test
+    void should_validate_the_configuration() {
+
+        var ex = assertThrows(IllegalArgumentException.class, () -> router().allowedRegions(CloudRegion.TOKYO).build());
+        assertEquals("At least one allowed endpoint must be provided", ex.getMessage());
+
+        ex = assertThrows(IllegalArgumentException.class, () -> router().region(CloudRegion.DALLAS, service("us-south")));
+        assertEquals("Duplicate endpoint: DALLAS", ex.getMessage());
+
+        ex = assertThrows(IllegalArgumentException.class, () -> router().failureThreshold(0).build());
+        assertEquals("failureThreshold must be greater than 0", ex.getMessage());
+    }
+}
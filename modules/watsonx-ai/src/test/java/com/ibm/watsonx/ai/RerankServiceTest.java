@@ -4,20 +4,44 @@
  */
 package com.ibm.watsonx.ai;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandler;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 import org.skyscreamer.jsonassert.JSONAssert;
 import com.ibm.watsonx.ai.core.Json;
+import com.ibm.watsonx.ai.core.http.HedgingPolicy;
+import com.ibm.watsonx.ai.embedding.EmbeddingResponse;
+import com.ibm.watsonx.ai.embedding.EmbeddingService;
 import com.ibm.watsonx.ai.rerank.RerankParameters;
+import com.ibm.watsonx.ai.rerank.RerankResponse;
+import com.ibm.watsonx.ai.rerank.RerankResponse.RerankResult;
 import com.ibm.watsonx.ai.rerank.RerankService;
 import com.ibm.watsonx.ai.utils.HttpUtils;
 
@@ -67,7 +91,7 @@ public class RerankServiceTest extends AbstractWatsonxTest {
             }""";
 
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
         when(mockSecureHttpClient.send(mockHttpRequest.capture(), any(BodyHandler.class))).thenReturn(mockHttpResponse);
 
         withWatsonxServiceMock(() -> {
@@ -91,6 +115,55 @@ public class RerankServiceTest extends AbstractWatsonxTest {
         });
     }
 
+    @Test
+    @MockitoSettings(strictness = Strictness.LENIENT)
+    void should_rerank_texts_asynchronously() throws Exception {
+
+        final String RESPONSE = """
+            {
+              "model_id": "cross-encoder/ms-marco-minilm-l-12-v2",
+              "results": [
+                {
+                  "index": 1,
+                  "score": 0.7461
+                },
+                {
+                  "index": 0,
+                  "score": 0.8274
+                }
+              ],
+              "created_at": "2024-02-21T17:32:28Z",
+              "input_token_count": 20
+            }""";
+
+        when(mockAuthenticator.tokenAsync()).thenReturn(completedFuture("my-super-token"));
+        when(mockHttpResponse.statusCode()).thenReturn(200);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
+        when(mockSecureHttpClient.sendAsync(mockHttpRequest.capture(), any(BodyHandler.class))).thenReturn(completedFuture(mockHttpResponse));
+
+        withWatsonxServiceMock(() -> {
+            var rerankService = RerankService.builder()
+                .baseUrl(CloudRegion.LONDON)
+                .authenticator(mockAuthenticator)
+                .projectId("12ac4cf1-252f-424b-b52d-5cdd9814987f")
+                .modelId("cross-encoder/ms-marco-minilm-l-12-v2")
+                .build();
+
+            var parameters = RerankParameters.builder().transactionId("my-transaction-id").build();
+            var response = assertDoesNotThrow(() -> rerankService.rerankAsync("query", List.of("first", "second"), parameters).get());
+
+            JSONAssert.assertEquals("""
+                {
+                  "model_id": "cross-encoder/ms-marco-minilm-l-12-v2",
+                  "project_id": "12ac4cf1-252f-424b-b52d-5cdd9814987f",
+                  "inputs": [{ "text": "first" }, { "text": "second" }],
+                  "query": "query"
+                }""", HttpUtils.bodyPublisherToString(mockHttpRequest), true);
+            JSONAssert.assertEquals(RESPONSE, Json.toJson(response), true);
+            assertEquals("my-transaction-id", mockHttpRequest.getValue().headers().firstValue(TRANSACTION_ID_HEADER).orElse(null));
+        });
+    }
+
     @Test
     void should_rerank_texts_with_parameters() throws Exception {
 
@@ -145,7 +218,7 @@ public class RerankServiceTest extends AbstractWatsonxTest {
                 }""";
 
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
         when(mockSecureHttpClient.send(mockHttpRequest.capture(), any(BodyHandler.class))).thenReturn(mockHttpResponse);
 
         withWatsonxServiceMock(() -> {
@@ -238,7 +311,7 @@ public class RerankServiceTest extends AbstractWatsonxTest {
                 }""";
 
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
         when(mockSecureHttpClient.send(mockHttpRequest.capture(), any(BodyHandler.class))).thenReturn(mockHttpResponse);
 
         withWatsonxServiceMock(() -> {
@@ -328,7 +401,7 @@ public class RerankServiceTest extends AbstractWatsonxTest {
             }""";
 
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
         when(mockSecureHttpClient.send(mockHttpRequest.capture(), any(BodyHandler.class))).thenReturn(mockHttpResponse);
 
         withWatsonxServiceMock(() -> {
@@ -353,4 +426,179 @@ public class RerankServiceTest extends AbstractWatsonxTest {
             JSONAssert.assertEquals(RESPONSE, Json.toJson(response), true);
         });
     }
+
+    @Test
+    @MockitoSettings(strictness = Strictness.LENIENT)
+    void should_send_synchronous_requests_through_the_hedging_client() throws Exception {
+
+        when(mockAuthenticator.tokenAsync()).thenReturn(completedFuture("my-super-token"));
+        when(mockHttpResponse.statusCode()).thenReturn(200);
+        doReturn("""
+            {
+              "model_id": "cross-encoder/ms-marco-minilm-l-12-v2",
+              "results": [{ "index": 0, "score": 0.8274 }],
+              "created_at": "2024-02-21T17:32:28Z",
+              "input_token_count": 20
+            }""".getBytes(UTF_8)).when(mockHttpResponse).body();
+        when(mockSecureHttpClient.sendAsync(mockHttpRequest.capture(), any(BodyHandler.class))).thenReturn(completedFuture(mockHttpResponse));
+
+        var hedging = HedgingPolicy.builder().build();
+
+        withWatsonxServiceMock(() -> {
+            var rerankService = RerankService.builder()
+                .baseUrl(CloudRegion.LONDON)
+                .authenticator(mockAuthenticator)
+                .projectId("12ac4cf1-252f-424b-b52d-5cdd9814987f")
+                .modelId("cross-encoder/ms-marco-minilm-l-12-v2")
+                .hedging(hedging)
+                .build();
+
+            var response = rerankService.rerank("query", List.of("first"));
+            assertEquals(0.8274, response.results().get(0).score());
+            assertEquals(1, hedging.stats().requests());
+        });
+    }
+
+    @Test
+    @MockitoSettings(strictness = Strictness.LENIENT)
+    void should_shard_large_requests_and_merge_the_results() throws Exception {
+
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var shardSizes = new CopyOnWriteArrayList<Integer>();
+
+        when(mockAuthenticator.tokenAsync()).thenReturn(completedFuture("my-super-token"));
+        when(mockSecureHttpClient.sendAsync(any(), any(BodyHandler.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            var response = rerankResponse(invocation.getArgument(0), shardSizes);
+            return CompletableFuture.supplyAsync(() -> {
+                sleep(50);
+                inFlight.decrementAndGet();
+                return response;
+            });
+        });
+
+        withWatsonxServiceMock(() -> {
+            var rerankService = RerankService.builder()
+                .baseUrl(CloudRegion.LONDON)
+                .authenticator(mockAuthenticator)
+                .projectId("project-id")
+                .modelId("model-id")
+                .maxInputsPerRequest(10)
+                .maxConcurrency(2)
+                .build();
+
+            var inputs = IntStream.range(0, 25).mapToObj(i -> "doc-" + i).toList();
+            var parameters = RerankParameters.builder().topN(5).build();
+
+            var response = rerankService.rerank("query", inputs, parameters);
+            assertEquals(List.of(10, 10, 5), shardSizes.stream().sorted(Comparator.reverseOrder()).toList());
+            assertEquals(2, maxInFlight.get());
+            assertEquals(List.of(7, 14, 21, 3, 10), response.results().stream().map(RerankResult::index).toList());
+            assertEquals(List.of(24.0, 23.0, 22.0, 21.0, 20.0), response.results().stream().map(RerankResult::score).toList());
+            assertEquals(25, response.inputTokenCount());
+            assertEquals("model-id", response.modelId());
+
+            shardSizes.clear();
+            var all = assertDoesNotThrow(() -> rerankService.rerankAsync("query", inputs).get(3, TimeUnit.SECONDS));
+            assertEquals(3, shardSizes.size());
+            assertEquals(25, all.results().size());
+            assertEquals(IntStream.range(0, 25).boxed().collect(Collectors.toSet()),
+                all.results().stream().map(RerankResult::index).collect(Collectors.toSet()));
+            for (int i = 1; i < all.results().size(); i++)
+                assertTrue(all.results().get(i - 1).score() >= all.results().get(i).score());
+        });
+    }
+
+    @Test
+    @MockitoSettings(strictness = Strictness.LENIENT)
+    void should_prefilter_the_inputs_with_embeddings() throws Exception {
+
+        var shardSizes = new CopyOnWriteArrayList<Integer>();
+        var embeddingService = mock(EmbeddingService.class);
+
+        // The query is embedded as [1, 0], and "doc-i" as [cos(i), sin(i)] with i in tenths of a radian: the lowest indexes are the most similar.
+        when(embeddingService.embed(anyList())).thenAnswer(invocation -> {
+            List<String> texts = invocation.getArgument(0);
+            var results = texts.stream().map(text -> {
+                double angle = text.equals("query") ? 0 : Integer.parseInt(text.substring(4)) / 10.0;
+                return new EmbeddingResponse.Result(List.of((float) Math.cos(angle), (float) Math.sin(angle)), text);
+            }).toList();
+            return new EmbeddingResponse("embedding-model", null, results, texts.size());
+        });
+        when(mockAuthenticator.tokenAsync()).thenReturn(completedFuture("my-super-token"));
+        when(mockSecureHttpClient.sendAsync(any(), any(BodyHandler.class)))
+            .thenAnswer(invocation -> completedFuture(rerankResponse(invocation.getArgument(0), shardSizes)));
+
+        withWatsonxServiceMock(() -> {
+            var rerankService = RerankService.builder()
+                .baseUrl(CloudRegion.LONDON)
+                .authenticator(mockAuthenticator)
+                .projectId("project-id")
+                .modelId("model-id")
+                .prefilter(embeddingService, 4)
+                .build();
+
+            var inputs = List.of("doc-9", "doc-2", "doc-7", "doc-0", "doc-5", "doc-1", "doc-8", "doc-3");
+            var response = rerankService.rerank("query", inputs);
+
+            assertEquals(List.of(4), shardSizes);
+            // doc-0, doc-1, doc-2 and doc-3 are kept, then ranked by the score (7 * i) % 25 of the mocked reranker.
+            assertEquals(List.of(7, 1, 5, 3), response.results().stream().map(RerankResult::index).toList());
+
+            shardSizes.clear();
+            var small = assertDoesNotThrow(() -> rerankService.rerankAsync("query", List.of("doc-9", "doc-2")).get(3, TimeUnit.SECONDS));
+            assertEquals(List.of(2), shardSizes);
+            assertEquals(2, small.results().size());
+        });
+    }
+
+    @Test
+    void should_reject_invalid_sharding_options() {
+        assertThrows(IllegalArgumentException.class, () -> RerankService.builder()
+            .baseUrl(CloudRegion.LONDON)
+            .authenticator(mockAuthenticator)
+            .projectId("project-id")
+            .modelId("model-id")
+            .maxInputsPerRequest(0)
+            .build());
+
+        assertThrows(IllegalArgumentException.class, () -> RerankService.builder()
+            .baseUrl(CloudRegion.LONDON)
+            .authenticator(mockAuthenticator)
+            .projectId("project-id")
+            .modelId("model-id")
+            .prefilter(mock(EmbeddingService.class), 0)
+            .build());
+    }
+
+    /**
+     * Reranks the inputs of a request, the score of "doc-i" being (7 * i) % 25 so that every score is different.
+     */
+    private static HttpResponse<byte[]> rerankResponse(HttpRequest request, List<Integer> shardSizes) {
+        Map<String, Object> body = Json.fromJson(HttpUtils.bodyPublisherToString(request), Map.class);
+        List<Map<String, String>> inputs = (List<Map<String, String>>) body.get("inputs");
+        shardSizes.add(inputs.size());
+
+        var parameters = (Map<String, Map<String, Integer>>) body.get("parameters");
+        int topN = parameters == null ? inputs.size() : parameters.get("return_options").get("top_n");
+        var results = IntStream.range(0, inputs.size())
+            .mapToObj(i -> new RerankResult(i, (double) (7 * Integer.parseInt(inputs.get(i).get("text").substring(4)) % 25), null))
+            .sorted(Comparator.comparing(RerankResult::score).reversed())
+            .limit(topN)
+            .toList();
+
+        HttpResponse<byte[]> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        when(response.body()).thenReturn(Json.toJson(new RerankResponse("model-id", results, null, inputs.size(), null, null)).getBytes(UTF_8));
+        return response;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
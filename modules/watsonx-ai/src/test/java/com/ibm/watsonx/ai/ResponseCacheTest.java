@@ -0,0 +1,263 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.ibm.watsonx.ai.chat.ChatHandler;
+import com.ibm.watsonx.ai.chat.ChatResponse;
+import com.ibm.watsonx.ai.chat.ChatService;
+import com.ibm.watsonx.ai.chat.model.ChatParameters;
+import com.ibm.watsonx.ai.chat.model.PartialChatResponse;
+import com.ibm.watsonx.ai.chat.model.UserMessage;
+import com.ibm.watsonx.ai.textgeneration.TextGenerationParameters;
+import com.ibm.watsonx.ai.textgeneration.TextGenerationService;
+
+public class ResponseCacheTest extends AbstractWatsonxTest {
+
+    private static final String CHAT_RESPONSE = """
+        {
+          "id": "chatcmpl-1",
+          "object": "chat.completion",
+          "model_id": "ibm/granite-4-h-small",
+          "model": "ibm/granite-4-h-small",
+          "choices": [{ "index": 0, "message": { "role": "assistant", "content": "Positive" }, "finish_reason": "stop" }],
+          "created": 1749736055,
+          "usage": { "completion_tokens": 1, "prompt_tokens": 10, "total_tokens": 11 }
+        }""";
+
+    private static final String CHAT_STREAM =
+        """
+            id: 1
+            event: message
+            data: {"id":"chatcmpl-2","object":"chat.completion.chunk","model_id":"ibm/granite-4-h-small","model":"ibm/granite-4-h-small","choices":[{"index":0,"finish_reason":null,"delta":{"role":"assistant","content":""}}],"created":1749736055}
+
+            id: 2
+            event: message
+            data: {"id":"chatcmpl-2","object":"chat.completion.chunk","model_id":"ibm/granite-4-h-small","model":"ibm/granite-4-h-small","choices":[{"index":0,"finish_reason":null,"delta":{"content":"Posi"}}],"created":1749736055}
+
+            id: 3
+            event: message
+            data: {"id":"chatcmpl-2","object":"chat.completion.chunk","model_id":"ibm/granite-4-h-small","model":"ibm/granite-4-h-small","choices":[{"index":0,"finish_reason":"stop","delta":{"content":"tive"}}],"created":1749736055}
+
+            id: 4
+            event: message
+            data: {"id":"chatcmpl-2","object":"chat.completion.chunk","model_id":"ibm/granite-4-h-small","model":"ibm/granite-4-h-small","choices":[],"created":1749736055,"usage":{"completion_tokens":2,"prompt_tokens":10,"total_tokens":12}}
+            """;
+
+    @BeforeEach
+    void setUpAuthenticator() {
+        when(mockAuthenticator.token()).thenReturn("token");
+        when(mockAuthenticator.tokenAsync()).thenReturn(CompletableFuture.completedFuture("token"));
+    }
+
+    private ChatService chatService(ResponseCache cache) {
+        return ChatService.builder()
+            .baseUrl(URI.create("http://localhost:%s".formatted(wireMock.getPort())))
+            .authenticator(mockAuthenticator)
+            .modelId("ibm/granite-4-h-small")
+            .projectId("project-id")
+            .responseCache(cache)
+            .build();
+    }
+
+    private int requests(String path) {
+        return wireMock.findAll(postRequestedFor(urlPathEqualTo(path))).size();
+    }
+
+    @Test
+    void should_serve_identical_deterministic_chat_requests_from_the_cache() throws Exception {
+
+        wireMock.stubFor(post(urlPathEqualTo("/ml/v1/text/chat"))
+            .willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody(CHAT_RESPONSE)));
+
+        var cache = ResponseCache.builder().build();
+        var chatService = chatService(cache);
+        var deterministic = ChatParameters.builder().temperature(0.0).transactionId("first").build();
+
+        assertEquals("Positive", chatService.chat(List.of(UserMessage.text("Classify: great")), deterministic).toAssistantMessage().content());
+
+        // Only the transaction id differs.
+        var other = ChatParameters.builder().temperature(0.0).transactionId("second").build();
+        assertEquals("Positive", chatService.chat(List.of(UserMessage.text("Classify: great")), other).toAssistantMessage().content());
+        assertEquals("Positive", chatService.chatAsync(List.of(UserMessage.text("Classify: great")), other).get(5, TimeUnit.SECONDS)
+            .toAssistantMessage().content());
+        assertEquals(1, requests("/ml/v1/text/chat"));
+
+        // Another prompt, or a request that is not deterministic, is sent.
+        chatService.chat(List.of(UserMessage.text("Classify: bad")), deterministic);
+        chatService.chat(List.of(UserMessage.text("Classify: great")), ChatParameters.builder().temperature(0.7).build());
+        chatService.chat(List.of(UserMessage.text("Classify: great")), ChatParameters.builder().temperature(0.7).build());
+        assertEquals(4, requests("/ml/v1/text/chat"));
+
+        var stats = cache.stats();
+        assertEquals(2, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(2, stats.size());
+        assertEquals(0.5, stats.hitRate());
+        assertTrue(stats.latencySaved().compareTo(Duration.ZERO) > 0);
+    }
+
+    @Test
+    void should_deduplicate_concurrent_identical_requests() throws Exception {
+
+        wireMock.stubFor(post(urlPathEqualTo("/ml/v1/text/chat"))
+            .willReturn(aResponse().withStatus(200).withFixedDelay(300).withHeader("Content-Type", "application/json").withBody(CHAT_RESPONSE)));
+
+        var cache = ResponseCache.builder().build();
+        var chatService = chatService(cache);
+        var parameters = ChatParameters.builder().seed(42).build();
+
+        var futures = List.of(
+            chatService.chatAsync(List.of(UserMessage.text("Classify: great")), parameters),
+            chatService.chatAsync(List.of(UserMessage.text("Classify: great")), parameters),
+            chatService.chatAsync(List.of(UserMessage.text("Classify: great")), parameters));
+
+        for (var future : futures)
+            assertEquals("Positive", future.get(5, TimeUnit.SECONDS).toAssistantMessage().content());
+
+        assertEquals(1, requests("/ml/v1/text/chat"));
+        assertEquals(2, cache.stats().deduplicated());
+    }
+
+    @Test
+    void should_replay_cached_streaming_responses() throws Exception {
+
+        wireMock.stubFor(post(urlPathEqualTo("/ml/v1/text/chat_stream"))
+            .willReturn(aResponse().withStatus(200).withHeader("Content-Type", "text/event-stream").withBody(CHAT_STREAM)));
+
+        var chatService = chatService(ResponseCache.builder().build());
+        var parameters = ChatParameters.builder().temperature(0.0).build();
+
+        List<String> partials = new CopyOnWriteArrayList<>();
+        List<Boolean> cached = new CopyOnWriteArrayList<>();
+        var completed = new AtomicInteger();
+        ChatHandler handler = new ChatHandler() {
+            @Override
+            public void onPartialResponse(String partialResponse, PartialChatResponse partialChatResponse) {
+                partials.add(partialResponse);
+                cached.add(Boolean.TRUE.equals(partialChatResponse.cached()));
+            }
+
+            @Override
+            public void onCompleteResponse(ChatResponse completeResponse) {
+                completed.incrementAndGet();
+            }
+        };
+
+        var first = chatService.chatStreaming(List.of(UserMessage.text("Classify: great")), parameters, handler).get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("Posi", "tive"), partials);
+
+        partials.clear();
+        cached.clear();
+        var second = chatService.chatStreaming(List.of(UserMessage.text("Classify: great")), parameters, handler).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, requests("/ml/v1/text/chat_stream"));
+        assertEquals(List.of("Positive"), partials);
+        assertEquals(List.of(true), cached);
+        assertEquals(2, completed.get());
+        assertEquals(first.toAssistantMessage().content(), second.toAssistantMessage().content());
+        assertEquals(12, second.usage().totalTokens());
+    }
+
+    @Test
+    void should_cache_greedy_text_generation_requests() {
+
+        wireMock.stubFor(post(urlPathEqualTo("/ml/v1/text/generation"))
+            .willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody("""
+                {
+                  "model_id": "ibm/granite-13b-instruct-v2",
+                  "created_at": "2024-05-02T16:27:51.063Z",
+                  "results": [{ "generated_text": "Positive", "generated_token_count": 1, "input_token_count": 10, "stop_reason": "eos_token" }]
+                }""")));
+
+        var textGenerationService = TextGenerationService.builder()
+            .baseUrl(URI.create("http://localhost:%s".formatted(wireMock.getPort())))
+            .authenticator(mockAuthenticator)
+            .modelId("ibm/granite-13b-instruct-v2")
+            .projectId("project-id")
+            .responseCache(ResponseCache.builder().build())
+            .build();
+
+        textGenerationService.generate("Classify: great");
+        textGenerationService.generate("Classify: great");
+        assertEquals(1, requests("/ml/v1/text/generation"));
+
+        var sampling = TextGenerationParameters.builder().decodingMethod("sample").build();
+        textGenerationService.generate("Classify: great", sampling);
+        textGenerationService.generate("Classify: great", TextGenerationParameters.builder().decodingMethod("sample").build());
+        assertEquals(3, requests("/ml/v1/text/generation"));
+    }
+
+    @Test
+    void should_expire_and_evict_responses() throws Exception {
+
+        var cache = ResponseCache.builder().ttl(Duration.ofMillis(100)).maxSize(2).build();
+        var loads = new AtomicInteger();
+
+        assertEquals("a", cache.get("a", () -> {
+            loads.incrementAndGet();
+            return "a";
+        }));
+        assertEquals("a", cache.get("a", () -> "a" + loads.getAndIncrement()));
+        assertEquals(1, loads.get());
+
+        Thread.sleep(150);
+        assertEquals("a1", cache.get("a", () -> "a" + loads.getAndIncrement()));
+
+        cache.get("b", () -> "b");
+        cache.get("a", () -> "unused");
+        cache.get("c", () -> "c");
+
+        // "b" is the least recently used response.
+        assertEquals(1, cache.stats().evictions());
+        assertEquals("b2", cache.get("b", () -> "b" + loads.getAndIncrement()));
+        assertEquals(2, cache.size());
+
+        // Failed loads are not cached.
+        assertThrows(IllegalStateException.class, () -> cache.get("d", () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals("d", cache.get("d", () -> "d"));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void should_compute_the_same_key_for_the_same_content() {
+
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("model_id", "ibm/granite-4-h-small");
+        first.put("parameters", Map.of("temperature", 0, "seed", 42));
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("parameters", new LinkedHashMap<>(Map.of("seed", 42, "temperature", 0)));
+        second.put("model_id", "ibm/granite-4-h-small");
+
+        var key = ResponseCache.key("chat", "https://us-south.ml.cloud.ibm.com", first);
+        assertEquals(key, ResponseCache.key("chat", "https://us-south.ml.cloud.ibm.com", second));
+        assertTrue(key.startsWith("chat:"));
+        assertNotEquals(key, ResponseCache.key("chat", "https://eu-de.ml.cloud.ibm.com", first));
+        assertNotEquals(key, ResponseCache.key("chat_stream", "https://us-south.ml.cloud.ibm.com", first));
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.ibm.watsonx.ai.chat.ChatService;
+import com.ibm.watsonx.ai.chat.model.SystemMessage;
+import com.ibm.watsonx.ai.chat.model.UserMessage;
+import com.ibm.watsonx.ai.embedding.EmbeddingService;
+
+public class SemanticCacheTest extends AbstractWatsonxTest {
+
+    private static final String CHAT_RESPONSE = """
+        {
+          "id": "chatcmpl-1",
+          "object": "chat.completion",
+          "model_id": "ibm/granite-4-h-small",
+          "model": "ibm/granite-4-h-small",
+          "choices": [{ "index": 0, "message": { "role": "assistant", "content": "Sunny" }, "finish_reason": "stop" }],
+          "created": 1749736055,
+          "usage": { "completion_tokens": 1, "prompt_tokens": 10, "total_tokens": 11 }
+        }""";
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        when(mockAuthenticator.token()).thenReturn("token");
+        when(mockAuthenticator.tokenAsync()).thenReturn(CompletableFuture.completedFuture("token"));
+
+        wireMock.stubFor(post(urlPathEqualTo("/ml/v1/text/chat"))
+            .willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody(CHAT_RESPONSE)));
+
+        stubEmbedding("What is the weather in Rome?", "[1.0, 0.0, 0.0]");
+        stubEmbedding("How is the weather in Rome?", "[0.99, 0.1, 0.0]");
+        stubEmbedding("Tell me a joke", "[0.0, 1.0, 0.0]");
+        stubEmbedding("Tell me a story", "[0.0, 0.9, 0.3]");
+    }
+
+    private void stubEmbedding(String input, String embedding) {
+        wireMock.stubFor(post(urlPathEqualTo("/ml/v1/text/embeddings"))
+            .withRequestBody(containing(input))
+            .willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json").withBody("""
+                {
+                  "model_id": "ibm/slate-125m-english-rtrvr",
+                  "results": [{ "embedding": %s }],
+                  "created_at": "2024-05-02T16:27:51.063Z",
+                  "input_token_count": 8
+                }""".formatted(embedding))));
+    }
+
+    private SemanticCache.Builder cache() {
+        var embeddingService = EmbeddingService.builder()
+            .baseUrl(URI.create("http://localhost:%s".formatted(wireMock.getPort())))
+            .authenticator(mockAuthenticator)
+            .modelId("ibm/slate-125m-english-rtrvr")
+            .projectId("project-id")
+            .build();
+
+        return SemanticCache.builder().embeddingService(embeddingService);
+    }
+
+    private ChatService chatService(SemanticCache cache) {
+        return ChatService.builder()
+            .baseUrl(URI.create("http://localhost:%s".formatted(wireMock.getPort())))
+            .authenticator(mockAuthenticator)
+            .modelId("ibm/granite-4-h-small")
+            .projectId("project-id")
+            .semanticCache(cache)
+            .build();
+    }
+
+    private int requests(String path) {
+        return wireMock.findAll(postRequestedFor(urlPathEqualTo(path))).size();
+    }
+
+    @Test
+    void should_serve_similar_messages_from_the_cache() throws Exception {
+
+        var cache = cache().build();
+        var chatService = chatService(cache);
+
+        assertEquals("Sunny", chatService.chat("What is the weather in Rome?").toAssistantMessage().content());
+        assertEquals("Sunny", chatService.chat("How is the weather in Rome?").toAssistantMessage().content());
+        assertEquals("Sunny", chatService.chatAsync("How is the weather in Rome?").get(5, TimeUnit.SECONDS).toAssistantMessage().content());
+        assertEquals(1, requests("/ml/v1/text/chat"));
+        assertEquals(3, requests("/ml/v1/text/embeddings"));
+
+        // Another topic, or the same message in another conversation, is sent.
+        chatService.chat("Tell me a joke");
+        chatService.chat("Tell me a story");
+        chatService.chat(List.of(SystemMessage.of("Answer in French"), UserMessage.text("How is the weather in Rome?")));
+        assertEquals(4, requests("/ml/v1/text/chat"));
+
+        var stats = cache.stats();
+        assertEquals(2, stats.hits());
+        assertEquals(4, stats.misses());
+        assertEquals(4, stats.size());
+        assertEquals(1.0 / 3, stats.hitRate(), 1e-9);
+    }
+
+    @Test
+    void should_isolate_namespaces_and_evict_the_least_recently_used_responses() {
+
+        var cache = cache().maxEntries(2).build();
+        var tenantA = chatService(cache.namespace("tenant-a"));
+        var tenantB = chatService(cache.namespace("tenant-b"));
+
+        tenantA.chat("What is the weather in Rome?");
+        tenantB.chat("How is the weather in Rome?");
+        assertEquals(2, requests("/ml/v1/text/chat"));
+
+        tenantA.chat("Tell me a joke");
+        tenantA.chat("How is the weather in Rome?");
+        tenantA.chat("Tell me a story");
+        assertEquals(4, requests("/ml/v1/text/chat"));
+
+        // The joke was the least recently used response.
+        assertEquals(1, cache.namespace("tenant-a").stats().evictions());
+        assertEquals(2, cache.namespace("tenant-a").stats().size());
+        tenantA.chat("What is the weather in Rome?");
+        assertEquals(4, requests("/ml/v1/text/chat"));
+        tenantA.chat("Tell me a joke");
+        assertEquals(5, requests("/ml/v1/text/chat"));
+
+        cache.namespace("tenant-b").invalidateAll();
+        assertEquals(0, cache.namespace("tenant-b").stats().size());
+        assertEquals(2, cache.namespace("tenant-a").stats().size());
+    }
+
+    @Test
+    void should_load_the_responses_saved_to_the_file() throws Exception {
+
+        var file = tempDir.resolve("semantic-cache.bin");
+        try (var cache = cache().persistTo(file).build()) {
+            chatService(cache).chat("What is the weather in Rome?");
+            chatService(cache.namespace("tenant-a")).chat("Tell me a joke");
+        }
+        assertTrue(Files.size(file) > 0);
+
+        var cache = cache().persistTo(file).build();
+        assertEquals("Sunny", chatService(cache).chat("How is the weather in Rome?").toAssistantMessage().content());
+        chatService(cache.namespace("tenant-a")).chat("Tell me a joke");
+        chatService(cache.namespace("tenant-a")).chat("What is the weather in Rome?");
+        assertEquals(3, requests("/ml/v1/text/chat"));
+
+        // A file that is not a semantic cache is ignored.
+        Files.writeString(file, "not a cache");
+        assertEquals(0, cache().persistTo(file).build().stats().size());
+    }
+
+    @Test
+    void should_validate_the_configuration() {
+        assertThrows(NullPointerException.class, () -> SemanticCache.builder().build());
+        assertThrows(IllegalArgumentException.class, () -> cache().similarityThreshold(0).build());
+        assertThrows(IllegalArgumentException.class, () -> cache().maxEntries(0).build());
+    }
+}
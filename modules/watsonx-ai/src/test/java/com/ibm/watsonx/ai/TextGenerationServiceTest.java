@@ -366,6 +366,52 @@ public class TextGenerationServiceTest extends AbstractWatsonxTest {
         });
     }
 
+    @Test
+    void should_generate_text_asynchronously() throws Exception {
+
+        when(mockAuthenticator.tokenAsync()).thenReturn(completedFuture("my-super-token"));
+        when(mockHttpResponse.statusCode()).thenReturn(200);
+        when(mockHttpResponse.body()).thenReturn("""
+            {
+              "model_id": "model",
+              "created_at": "2025-06-24T15:30:00Z",
+              "results": [
+                {
+                  "generated_text": "Hello!",
+                  "stop_reason": "eos_token",
+                  "generated_token_count": 2,
+                  "input_token_count": 2
+                }
+              ]
+            }""");
+        when(mockSecureHttpClient.sendAsync(mockHttpRequest.capture(), any(BodyHandler.class)))
+            .thenReturn(completedFuture(mockHttpResponse));
+
+        withWatsonxServiceMock(() -> {
+
+            var textGenerationService = TextGenerationService.builder()
+                .authenticator(mockAuthenticator)
+                .modelId("model")
+                .projectId("project-id")
+                .timeout(Duration.ofSeconds(1))
+                .baseUrl(CloudRegion.DALLAS)
+                .build();
+
+            var response = assertDoesNotThrow(() -> textGenerationService.generateAsync("Hello!", TextGenerationParameters.builder()
+                .transactionId("my-transaction-id")
+                .build()).get());
+
+            assertEquals("Hello!", response.toText());
+
+            var expected = new TextRequest("model", null, "project-id", "Hello!",
+                TextGenerationParameters.builder().timeLimit(Duration.ofSeconds(1)).build(), null);
+
+            JSONAssert.assertEquals(Json.toJson(expected), HttpUtils.bodyPublisherToString(mockHttpRequest), true);
+            assertEquals(Duration.ofSeconds(1), mockHttpRequest.getValue().timeout().orElseThrow());
+            assertEquals("my-transaction-id", mockHttpRequest.getValue().headers().firstValue(TRANSACTION_ID_HEADER).orElse(null));
+        });
+    }
+
     @Test
     void should_send_moderation_request_correctly() throws Exception {
 
@@ -9,11 +9,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandler;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -333,4 +341,45 @@ public class TokenizationServiceTest extends AbstractWatsonxTest {
             });
         }
     }
+
+    @Test
+    void should_tokenize_all_inputs_in_order() throws Exception {
+
+        withWatsonxServiceMock(() -> {
+
+            when(mockSecureHttpClient.sendAsync(any(), any(BodyHandler.class))).thenAnswer(invocation -> {
+                var input =
+                    Json.fromJson(HttpUtils.bodyPublisherToString((HttpRequest) invocation.getArgument(0)), Map.class).get("input").toString();
+                HttpResponse<String> response = mock(HttpResponse.class);
+                when(response.statusCode()).thenReturn(200);
+                when(response.body()).thenReturn("""
+                    { "model_id": "model-id", "result": { "token_count": %d } }""".formatted(input.length()));
+                return completedFuture(response);
+            });
+
+            var tokenizationService = TokenizationService.builder()
+                .baseUrl(CloudRegion.LONDON)
+                .authenticator(mockAuthenticator)
+                .projectId("project-id")
+                .modelId("model-id")
+                .maxConcurrency(2)
+                .build();
+
+            var inputs = List.of("a", "bb", "ccc", "bb", "dddd", "a");
+            var received = new ConcurrentHashMap<Integer, Integer>();
+
+            try {
+                var responses =
+                    tokenizationService.tokenizeAll(inputs, null, (index, response) -> received.put(index, response.result().tokenCount()))
+                        .get(3, TimeUnit.SECONDS);
+
+                assertEquals(List.of(1, 2, 3, 2, 4, 1), responses.stream().map(response -> response.result().tokenCount()).toList());
+                assertEquals(Map.of(0, 1, 1, 2, 2, 3, 3, 2, 4, 4, 5, 1), received);
+                verify(mockSecureHttpClient, times(4)).sendAsync(any(), any(BodyHandler.class));
+                assertEquals(List.of(), tokenizationService.tokenizeAll(List.of()).get());
+            } catch (Exception e) {
+                fail(e);
+            }
+        });
+    }
 }
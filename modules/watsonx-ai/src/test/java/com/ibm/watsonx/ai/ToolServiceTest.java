@@ -7,6 +7,8 @@ package com.ibm.watsonx.ai;
 import static com.ibm.watsonx.ai.core.Json.fromJson;
 import static com.ibm.watsonx.ai.core.Json.toJson;
 import static com.ibm.watsonx.ai.utils.HttpUtils.bodyPublisherToString;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -199,6 +201,38 @@ public class ToolServiceTest extends AbstractWatsonxTest {
         });
     }
 
+    @Test
+    @MockitoSettings(strictness = Strictness.LENIENT)
+    void should_run_tool_asynchronously() throws Exception {
+
+        when(mockAuthenticator.tokenAsync()).thenReturn(completedFuture("token"));
+        when(mockHttpResponse.statusCode()).thenReturn(200);
+        when(mockHttpResponse.body()).thenReturn("""
+            {
+              "output": "Rome"
+            }""");
+        when(mockSecureHttpClient.sendAsync(mockHttpRequest.capture(), any(BodyHandler.class))).thenReturn(completedFuture(mockHttpResponse));
+
+        withWatsonxServiceMock(() -> {
+            var toolService = ToolService.builder()
+                .baseUrl(CloudRegion.DALLAS)
+                .authenticator(mockAuthenticator)
+                .build();
+
+            var body = ToolRequest.unstructuredInput("GoogleSearch", "capital of Italy");
+            var parameters = ToolParameters.builder().transactionId("my-transaction-id").build();
+            var result = assertDoesNotThrow(() -> toolService.runAsync(body, parameters).get());
+
+            assertEquals("Rome", result);
+            assertEquals(
+                URI.create(CloudRegion.DALLAS.wxEndpoint().concat("/v1-beta/utility_agent_tools/run")),
+                mockHttpRequest.getValue().uri()
+            );
+            JSONAssert.assertEquals(toJson(body), bodyPublisherToString(mockHttpRequest), true);
+            assertEquals("my-transaction-id", mockHttpRequest.getValue().headers().firstValue(TRANSACTION_ID_HEADER).orElse(null));
+        });
+    }
+
     @Test
     void should_throw_runtime_exception_on_http_errors() throws Exception {
 
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import com.ibm.watsonx.ai.chat.ChatService;
+import com.ibm.watsonx.ai.core.auth.Authenticator;
+import com.ibm.watsonx.ai.embedding.EmbeddingService;
+import com.ibm.watsonx.ai.foundationmodel.FoundationModelService;
+
+@SuppressWarnings("unchecked")
+public class WarmUpTest {
+
+    private Authenticator authenticator;
+    private HttpClient httpClient;
+
+    @BeforeEach
+    void setUp() {
+        authenticator = mock(Authenticator.class);
+        httpClient = mock(HttpClient.class);
+        when(httpClient.sendAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(mock(HttpResponse.class)));
+    }
+
+    @Test
+    void should_fetch_the_token_and_open_the_connection() {
+
+        when(authenticator.tokenAsync()).thenReturn(CompletableFuture.completedFuture("my-token"));
+
+        var report = chatService("https://us-south.ml.cloud.ibm.com/ml").warmUp();
+
+        verify(authenticator).tokenAsync();
+        var captor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient).sendAsync(captor.capture(), any());
+        assertEquals("HEAD", captor.getValue().method());
+        assertEquals(URI.create("https://us-south.ml.cloud.ibm.com/"), captor.getValue().uri());
+
+        assertNotNull(report.token());
+        assertNotNull(report.connection());
+        assertNotNull(report.json());
+        assertTrue(report.total().compareTo(report.token()) >= 0);
+        assertTrue(report.total().compareTo(report.json()) >= 0);
+    }
+
+    @Test
+    void should_throw_when_the_token_cannot_be_fetched() {
+
+        when(authenticator.tokenAsync()).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Invalid API key")));
+
+        var service = chatService("https://localhost");
+        var ex = assertThrows(RuntimeException.class, service::warmUp);
+        assertEquals("Invalid API key", ex.getMessage());
+    }
+
+    @Test
+    void should_ignore_connection_failures() {
+
+        when(authenticator.tokenAsync()).thenReturn(CompletableFuture.completedFuture("my-token"));
+        when(httpClient.sendAsync(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Connection refused")));
+
+        var report = chatService("https://localhost").warmUp();
+        assertNotNull(report.connection());
+    }
+
+    @Test
+    void should_skip_the_token_phase_without_authenticator() {
+
+        var service = FoundationModelService.builder()
+            .baseUrl("https://localhost")
+            .httpClient(httpClient)
+            .build();
+
+        var report = service.warmUp();
+        assertEquals(Duration.ZERO, report.token());
+        verify(httpClient).sendAsync(any(), any());
+        verifyNoInteractions(authenticator);
+    }
+
+    @Test
+    void should_warm_up_several_services_fetching_the_token_once() {
+
+        var token = new CompletableFuture<String>();
+        when(authenticator.tokenAsync()).thenReturn(token);
+
+        var embeddingService = EmbeddingService.builder()
+            .baseUrl("https://localhost")
+            .modelId("model-id")
+            .projectId("project-id")
+            .authenticator(authenticator)
+            .httpClient(httpClient)
+            .build();
+
+        var reports = Watsonx.warmUpAsync(chatService("https://localhost"), embeddingService);
+        token.complete("my-token");
+
+        assertEquals(2, reports.join().size());
+        assertEquals(Duration.ZERO, reports.join().get(1).token());
+        verify(authenticator, times(1)).tokenAsync();
+        verify(httpClient, times(2)).sendAsync(any(), any());
+    }
+
+    private ChatService chatService(String baseUrl) {
+        return ChatService.builder()
+            .baseUrl(baseUrl)
+            .modelId("model-id")
+            .projectId("project-id")
+            .authenticator(authenticator)
+            .httpClient(httpClient)
+            .build();
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import com.ibm.watsonx.ai.chat.ChatModeration;
+import com.ibm.watsonx.ai.chat.model.AssistantMessage;
+import com.ibm.watsonx.ai.chat.model.BaseChatParameters.JsonSchemaObject;
+import com.ibm.watsonx.ai.chat.model.BaseChatParameters.ResponseFormat;
+import com.ibm.watsonx.ai.chat.model.ChatMessageCache;
+import com.ibm.watsonx.ai.chat.model.PartialChatResponse;
+import com.ibm.watsonx.ai.chat.model.SystemMessage;
+import com.ibm.watsonx.ai.chat.model.TextChatRequest;
+import com.ibm.watsonx.ai.chat.model.Tool;
+import com.ibm.watsonx.ai.chat.model.UserMessage;
+import com.ibm.watsonx.ai.chat.model.schema.JsonSchema;
+import com.ibm.watsonx.ai.core.Json;
+import com.ibm.watsonx.ai.core.exception.JsonException;
+import com.ibm.watsonx.ai.core.provider.JacksonProvider;
+import com.ibm.watsonx.ai.core.spi.json.TypeToken;
+import com.ibm.watsonx.ai.embedding.EmbeddingPayload;
+import com.ibm.watsonx.ai.embedding.EmbeddingRequestParameters;
+import com.ibm.watsonx.ai.embedding.EmbeddingRequestParameters.ReturnOptions;
+import com.ibm.watsonx.ai.embedding.EmbeddingResponse;
+import com.ibm.watsonx.ai.rerank.RerankPayload;
+import com.ibm.watsonx.ai.rerank.RerankPayload.RerankInput;
+import com.ibm.watsonx.ai.rerank.RerankResponse;
+
+public class WatsonxJsonProviderTest {
+
+    // Reflective mapping through the mix-ins, used as the reference for the hand-written (de)serializers.
+    private final JacksonProvider reflective = new JacksonProvider(new WatsonxJacksonModule());
+
+    private final WatsonxJsonProvider provider = new WatsonxJsonProvider();
+
+    @Test
+    void should_serialize_embedding_payload_like_the_reflective_serializer() {
+
+        var payload = new EmbeddingPayload("slate", null, "project-id", List.of("first", "second"),
+            new EmbeddingRequestParameters(512, new ReturnOptions(true)), new Crypto("key-ref"));
+
+        assertEquals(reflective.toJson(payload), provider.toJson(payload));
+        assertEquals(reflective.toJson(payload), Json.toJson(payload));
+
+        var minimal = new EmbeddingPayload("slate", "space-id", null, List.of(), null, null);
+        assertEquals(reflective.toJson(minimal), provider.toJson(minimal));
+    }
+
+    @Test
+    void should_deserialize_embedding_response_like_the_reflective_deserializer() {
+
+        var json = """
+            {
+              "model_id": "slate",
+              "results": [
+                { "embedding": [-0.006929283, 1, 2.5E-3], "input": "first", "unknown": { "nested": [1, 2] } },
+                { "embedding": null, "input": null },
+                {}
+              ],
+              "created_at": "2024-02-21T17:32:28Z",
+              "input_token_count": 10,
+              "system": { "warnings": [{ "message": "deprecated" }] }
+            }""";
+
+        var expected = reflective.fromJson(json, EmbeddingResponse.class);
+        assertEquals(expected, provider.fromJson(json, EmbeddingResponse.class));
+        assertEquals(expected, Json.fromJson(json, EmbeddingResponse.class));
+        assertEquals(List.of(-0.006929283f, 1f, 0.0025f), expected.results().get(0).embedding());
+
+        assertEquals(reflective.fromJson("{}", EmbeddingResponse.class), provider.fromJson("{}", EmbeddingResponse.class));
+        assertNull(provider.fromJson("null", EmbeddingResponse.class));
+    }
+
+    @Test
+    void should_deserialize_partial_chat_response_like_the_reflective_deserializer() {
+
+        var json = """
+            {
+              "id": "chat-123",
+              "object": "chat.completion.chunk",
+              "model_id": "ibm/granite-3-8b-instruct",
+              "model": "ibm/granite-3-8b-instruct",
+              "choices": [
+                {
+                  "index": 0,
+                  "finish_reason": null,
+                  "delta": {
+                    "role": "assistant",
+                    "content": "Hello",
+                    "tool_calls": [{ "index": 0, "id": "call-1", "type": "function", "function": { "name": "sum", "arguments": "{\\"a\\":" } }]
+                  }
+                }
+              ],
+              "created": 1749764735,
+              "model_version": "3.1.0",
+              "created_at": "2025-06-12T21:45:35.371Z",
+              "usage": { "completion_tokens": 5, "prompt_tokens": 10, "total_tokens": 15 },
+              "service_tier": "default",
+              "cached": false,
+              "unknown": [{ "a": 1 }]
+            }""";
+
+        var expected = reflective.fromJson(json, PartialChatResponse.class);
+        assertEquals(expected, provider.fromJson(json, PartialChatResponse.class));
+        assertEquals(expected, Json.fromJson(json, PartialChatResponse.class));
+        assertEquals("Hello", expected.choices().get(0).delta().content());
+
+        var last = """
+            { "id": "chat-123", "choices": [], "usage": { "total_tokens": 15 } }""";
+        assertEquals(reflective.fromJson(last, PartialChatResponse.class), provider.fromJson(last, PartialChatResponse.class));
+    }
+
+    @Test
+    void should_serialize_chat_request_like_the_reflective_serializer() {
+
+        var request = TextChatRequest.builder()
+            .modelId("ibm/granite-4-h-small")
+            .projectId("project-id")
+            .messages(List.of(SystemMessage.of("You are a helpful assistant"), UserMessage.text("Hello"), AssistantMessage.text("Hi")))
+            .tools(List
+                .of(Tool.of("sum", "Sum two numbers", JsonSchema.object().property("a", JsonSchema.integer()).property("b", JsonSchema.integer()))))
+            .toolChoice(Map.of("type", "function", "function", Map.of("name", "sum")))
+            .logitBias(Map.of("1003", -100))
+            .maxCompletionTokens(1024)
+            .temperature(0.7)
+            .topP(0.9)
+            .timeLimit(1000L)
+            .stop(List.of("stop"))
+            .seed(42)
+            .includeReasoning(true)
+            .build();
+
+        assertEquals(reflective.toJson(request), provider.toJson(request));
+        assertEquals(reflective.toJson(request), Json.toJson(request));
+
+        var minimal = TextChatRequest.builder().spaceId("space-id").messages(List.of(UserMessage.text("Hello"))).build();
+        assertEquals(reflective.toJson(minimal), provider.toJson(minimal));
+    }
+
+    @Test
+    void should_serialize_every_chat_request_property_like_the_reflective_serializer() throws Exception {
+
+        var request = TextChatRequest.builder()
+            .modelId("ibm/granite-4-h-small")
+            .spaceId("space-id")
+            .projectId("project-id")
+            .messages(List.of(SystemMessage.of("You are a helpful assistant"), UserMessage.text("Hello")))
+            .tools(List.of(Tool.of("sum", "Sum two numbers", JsonSchema.object().property("a", JsonSchema.integer()))))
+            .toolChoiceOption("auto")
+            .toolChoice(Map.of("type", "function", "function", Map.of("name", "sum")))
+            .frequencyPenalty(0.5)
+            .logitBias(Map.of("1003", -100))
+            .logprobs(true)
+            .topLogprobs(3)
+            .maxCompletionTokens(1024)
+            .n(2)
+            .presencePenalty(0.1)
+            .seed(42)
+            .stop(List.of("stop"))
+            .temperature(0.7)
+            .topP(0.9)
+            .timeLimit(1000L)
+            .responseFormat(ResponseFormat.JSON_SCHEMA.value())
+            .jsonSchema(new JsonSchemaObject("answer", Map.of("type", "object"), true))
+            .chatTemplateKwargs(Map.of("thinking", true))
+            .includeReasoning(true)
+            .reasoningEffort("low")
+            .guidedChoice(Set.of("yes", "no"))
+            .guidedRegex("[a-z]+")
+            .guidedGrammar("root ::= \"yes\"")
+            .repetitionPenalty(1.1)
+            .lengthPenalty(0.8)
+            .context("context")
+            .moderations(ChatModeration.builder().hap(hap -> hap.input(0.5f)).build())
+            .crypto("key-ref")
+            .messageCache(new ChatMessageCache())
+            .build();
+
+        // Every property must be set, so that a property missing from the hand-written serializer is detected.
+        for (var method : TextChatRequest.class.getDeclaredMethods()) {
+            if (Modifier.isPublic(method.getModifiers()) && !Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 0
+                && !Set.of("hashCode", "toString", "toBuilder").contains(method.getName()))
+                assertNotNull(method.invoke(request), method.getName());
+        }
+
+        var json = reflective.toJson(request);
+        assertEquals(json, provider.toJson(request));
+        // The messages are now written from the cache of the conversation.
+        assertEquals(json, provider.toJson(request));
+        assertEquals(json, reflective.toJson(request));
+    }
+
+    @Test
+    void should_convert_rerank_types_like_the_reflective_mapping() {
+
+        var payload = new RerankPayload("cross-encoder", List.of(new RerankInput("first"), new RerankInput(null)), "query", null, "project-id",
+            new RerankPayload.Parameters(512, new RerankPayload.ReturnOptions(2, true, false)), new Crypto("key-ref"));
+        assertEquals(reflective.toJson(payload), provider.toJson(payload));
+
+        var json = """
+            {
+              "model_id": "cross-encoder",
+              "results": [
+                { "index": 1, "score": 0.9, "input": { "text": "first", "other": 1 } },
+                { "index": 0, "score": -1, "input": null },
+                { "score": null }
+              ],
+              "created_at": "2024-02-21T17:32:28Z",
+              "input_token_count": 318,
+              "model_version": "2.0.0",
+              "query": "query"
+            }""";
+        assertEquals(reflective.fromJson(json, RerankResponse.class), provider.fromJson(json, RerankResponse.class));
+        assertEquals(reflective.fromJson(json, RerankResponse.class), provider.fromJson(json.getBytes(UTF_8), RerankResponse.class));
+        assertEquals(reflective.fromJson("{}", RerankResponse.class), provider.fromJson("{}", RerankResponse.class));
+    }
+
+    @Test
+    void should_throw_json_exception_on_unexpected_tokens() {
+        assertThrows(JsonException.class, () -> provider.fromJson("{\"results\": 1}", EmbeddingResponse.class));
+        assertThrows(JsonException.class, () -> provider.fromJson("[]", EmbeddingResponse.class));
+        assertThrows(JsonException.class, () -> provider.fromJson("{\"choices\": {}}", PartialChatResponse.class));
+        assertThrows(JsonException.class, () -> provider.fromJson("{\"results\": [", EmbeddingResponse.class));
+    }
+
+    @Test
+    void should_list_existing_classes_in_the_native_image_metadata() throws Exception {
+
+        try (InputStream is = getClass().getResourceAsStream("/META-INF/native-image/com.ibm.watsonx/watsonx-ai/reflect-config.json")) {
+            List<Map<String, Object>> entries = Json.fromJson(new String(is.readAllBytes()), new TypeToken<List<Map<String, Object>>>() {});
+            var names = entries.stream().map(entry -> (String) entry.get("name")).toList();
+
+            for (var name : names)
+                assertDoesNotThrow(() -> Class.forName(name, false, getClass().getClassLoader()), name);
+
+            assertTrue(names.contains(EmbeddingPayload.class.getName()));
+            assertTrue(names.contains(PartialChatResponse.ResultChoice.class.getName()));
+            assertTrue(names.contains(WatsonxJacksonModule.TextChatRequestMixin.class.getName()));
+        }
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.chat;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.net.URI;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import com.ibm.watsonx.ai.AbstractWatsonxTest;
+import com.ibm.watsonx.ai.chat.model.AssistantMessage;
+import com.ibm.watsonx.ai.chat.model.ChatMessageCache;
+import com.ibm.watsonx.ai.chat.model.ImageContent;
+import com.ibm.watsonx.ai.chat.model.SystemMessage;
+import com.ibm.watsonx.ai.chat.model.TextContent;
+import com.ibm.watsonx.ai.chat.model.Tool;
+import com.ibm.watsonx.ai.chat.model.ToolArguments;
+import com.ibm.watsonx.ai.chat.model.ToolMessage;
+import com.ibm.watsonx.ai.chat.model.UserMessage;
+import com.ibm.watsonx.ai.chat.model.TextChatRequest;
+import com.ibm.watsonx.ai.chat.model.schema.JsonSchema;
+import com.ibm.watsonx.ai.core.Json;
+import com.ibm.watsonx.ai.tokenization.TokenizationResponse;
+import com.ibm.watsonx.ai.tokenization.TokenizationResponse.Result;
+import com.ibm.watsonx.ai.tokenization.TokenizationService;
+
+public class AgentTest extends AbstractWatsonxTest {
+
+    private static final String CHAT_URL = "/ml/v1/text/chat?version=%s".formatted(API_VERSION);
+
+    private static final String TOOL_CALLS_RESPONSE = """
+        {
+          "id": "chatcmpl-1",
+          "model_id": "ibm/granite-4-h-small",
+          "created": 1689958352,
+          "choices": [
+            {
+              "index": 0,
+              "message": {
+                "role": "assistant",
+                "tool_calls": [
+                  {
+                    "id": "call-1",
+                    "type": "function",
+                    "function": { "name": "get_current_time", "arguments": "{\\"country\\": \\"Italy\\"}" }
+                  },
+                  {
+                    "id": "call-2",
+                    "type": "function",
+                    "function": { "name": "get_current_time", "arguments": "{\\"country\\": \\"Germany\\"}" }
+                  }
+                ]
+              },
+              "finish_reason": "tool_calls"
+            }
+          ],
+          "usage": { "completion_tokens": 20, "prompt_tokens": 50, "total_tokens": 70 }
+        }""";
+
+    private static final String ANSWER_RESPONSE = """
+        {
+          "id": "chatcmpl-2",
+          "model_id": "ibm/granite-4-h-small",
+          "created": 1689958353,
+          "choices": [
+            {
+              "index": 0,
+              "message": { "role": "assistant", "content": "It is 12:00 in Italy and in Germany" },
+              "finish_reason": "stop"
+            }
+          ],
+          "usage": { "completion_tokens": 10, "prompt_tokens": 90, "total_tokens": 100 }
+        }""";
+
+    private ChatService chatService;
+    private ToolRegistry toolRegistry;
+
+    @BeforeEach
+    void init() {
+        when(mockAuthenticator.token()).thenReturn("token");
+        when(mockAuthenticator.tokenAsync()).thenReturn(completedFuture("token"));
+
+        chatService = ChatService.builder()
+            .baseUrl(URI.create("http://localhost:%s".formatted(wireMock.getPort())))
+            .modelId("ibm/granite-4-h-small")
+            .projectId("project-id")
+            .authenticator(mockAuthenticator)
+            .build();
+
+        toolRegistry = ToolRegistry.builder()
+            .register(new ExecutableTool() {
+
+                @Override
+                public String name() {
+                    return "get_current_time";
+                }
+
+                @Override
+                public Tool schema() {
+                    return Tool.of("get_current_time", JsonSchema.object().property("country", JsonSchema.string()));
+                }
+
+                @Override
+                public String execute(ToolArguments args) {
+                    return "12:00 in " + args.get("country");
+                }
+            })
+            .build();
+    }
+
+    @Test
+    void should_run_the_tool_loop_until_the_final_answer() {
+
+        stubResponses(TOOL_CALLS_RESPONSE, ANSWER_RESPONSE);
+
+        var agent = Agent.builder()
+            .chatService(chatService)
+            .toolRegistry(toolRegistry)
+            .build();
+
+        var result = agent.run(SystemMessage.of("You are a helpful assistant"), UserMessage.text("What time is it?"));
+
+        assertTrue(result.completed());
+        assertEquals("It is 12:00 in Italy and in Germany", result.answer().content());
+        assertEquals(6, result.messages().size());
+        assertEquals(2, result.steps().size());
+        assertEquals(List.of(ToolMessage.of("12:00 in Italy", "call-1"), ToolMessage.of("12:00 in Germany", "call-2")),
+            result.steps().get(0).toolMessages());
+        assertEquals(2, result.steps().get(0).inputMessages());
+        assertEquals(5, result.steps().get(1).inputMessages());
+        assertTrue(result.steps().get(1).toolMessages().isEmpty());
+        assertEquals(30, result.usage().completionTokens());
+        assertEquals(140, result.usage().promptTokens());
+        assertEquals(170, result.usage().totalTokens());
+        assertEquals(result.steps().get(0).latency().plus(result.steps().get(1).latency()), result.latency());
+
+        wireMock.verify(postRequestedFor(urlEqualTo(CHAT_URL))
+            .withRequestBody(equalToJson(
+                """
+                    {
+                      "messages": [
+                        { "role": "system", "content": "You are a helpful assistant" },
+                        { "role": "user", "content": [{ "type": "text", "text": "What time is it?" }] },
+                        {
+                          "role": "assistant",
+                          "tool_calls": [
+                            { "id": "call-1", "type": "function", "function": { "name": "get_current_time", "arguments": "{\\"country\\": \\"Italy\\"}" } },
+                            { "id": "call-2", "type": "function", "function": { "name": "get_current_time", "arguments": "{\\"country\\": \\"Germany\\"}" } }
+                          ]
+                        },
+                        { "role": "tool", "content": "12:00 in Italy", "tool_call_id": "call-1" },
+                        { "role": "tool", "content": "12:00 in Germany", "tool_call_id": "call-2" }
+                      ]
+                    }""",
+                true, true)));
+    }
+
+    @Test
+    void should_stop_after_the_maximum_number_of_steps() {
+
+        stubResponses(TOOL_CALLS_RESPONSE, TOOL_CALLS_RESPONSE);
+
+        var agent = Agent.builder()
+            .chatService(chatService)
+            .toolRegistry(toolRegistry)
+            .maxSteps(2)
+            .build();
+
+        var result = agent.run(List.of(UserMessage.text("What time is it?")));
+
+        assertFalse(result.completed());
+        assertEquals(2, result.steps().size());
+        assertTrue(result.answer().hasToolCalls());
+        assertEquals(7, result.messages().size());
+    }
+
+    @Test
+    void should_stream_the_steps() {
+
+        wireMock.stubFor(post("/ml/v1/text/chat_stream?version=%s".formatted(API_VERSION))
+            .withHeader("Authorization", equalTo("Bearer token"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withBody(
+                    """
+                        id: 1
+                        event: message
+                        data: {"id":"chatcmpl-1","object":"chat.completion.chunk","model_id":"ibm/granite-4-h-small","choices":[{"index":0,"finish_reason":null,"delta":{"content":"It is 12:00"}}],"created":1765110996}
+
+                        id: 2
+                        event: message
+                        data: {"id":"chatcmpl-1","object":"chat.completion.chunk","model_id":"ibm/granite-4-h-small","choices":[{"index":0,"finish_reason":"stop","delta":{"content":""}}],"created":1765110996,"usage":{"completion_tokens":5,"prompt_tokens":10,"total_tokens":15}}
+                        """)));
+
+        var partialResponses = new StringBuilder();
+        var agent = Agent.builder()
+            .chatService(chatService)
+            .toolRegistry(toolRegistry)
+            .handler((partialResponse, partialChatResponse) -> partialResponses.append(partialResponse))
+            .build();
+
+        var result = agent.run(UserMessage.text("What time is it?"));
+
+        assertTrue(result.completed());
+        assertEquals("It is 12:00", result.answer().content());
+        assertEquals("It is 12:00", partialResponses.toString());
+        assertEquals(15, result.usage().totalTokens());
+    }
+
+    @Test
+    void should_compact_the_oldest_turns() {
+
+        stubResponses(ANSWER_RESPONSE);
+
+        var tokenizationService = mock(TokenizationService.class);
+        when(tokenizationService.tokenizeAsync(anyString()))
+            .thenReturn(completedFuture(new TokenizationResponse("ibm/granite-4-h-small", new Result(10, null))));
+
+        var agent = Agent.builder()
+            .chatService(chatService)
+            .toolRegistry(toolRegistry)
+            .compaction(tokenizationService, 25)
+            .build();
+
+        var result = agent.run(
+            SystemMessage.of("You are a helpful assistant"),
+            UserMessage.text("Hello"),
+            AssistantMessage.text("Hello! How can I help you?"),
+            UserMessage.text("What time is it?"));
+
+        assertTrue(result.completed());
+        assertEquals(5, result.messages().size());
+        assertEquals(2, result.steps().get(0).inputMessages());
+        verify(tokenizationService, times(4)).tokenizeAsync(anyString());
+
+        wireMock.verify(postRequestedFor(urlEqualTo(CHAT_URL))
+            .withRequestBody(matchingJsonPath("$.messages[0].role", equalTo("system")))
+            .withRequestBody(matchingJsonPath("$.messages[1].content[0].text", equalTo("What time is it?"))));
+    }
+
+    @Test
+    void should_compact_several_turns_with_different_sizes() {
+
+        stubResponses(ANSWER_RESPONSE);
+
+        // The first user message counts for 100 tokens, every other message for 10.
+        var tokenizationService = mock(TokenizationService.class);
+        when(tokenizationService.tokenizeAsync(anyString())).thenAnswer(invocation -> {
+            String json = invocation.getArgument(0);
+            return completedFuture(new TokenizationResponse("ibm/granite-4-h-small", new Result(json.contains("long") ? 100 : 10, null)));
+        });
+
+        var agent = Agent.builder()
+            .chatService(chatService)
+            .toolRegistry(toolRegistry)
+            .compaction(tokenizationService, 25)
+            .build();
+
+        var result = agent.run(
+            SystemMessage.of("You are a helpful assistant"),
+            UserMessage.text("A long question"),
+            AssistantMessage.text("A first answer"),
+            UserMessage.text("Another question"),
+            AssistantMessage.text("A second answer"),
+            UserMessage.text("A third question"),
+            AssistantMessage.text("A third answer"),
+            UserMessage.text("What time is it?"));
+
+        // The three oldest turns are removed: 170 tokens, then 60, 40 and 20.
+        assertTrue(result.completed());
+        assertEquals(2, result.steps().get(0).inputMessages());
+
+        wireMock.verify(postRequestedFor(urlEqualTo(CHAT_URL))
+            .withRequestBody(matchingJsonPath("$.messages[0].role", equalTo("system")))
+            .withRequestBody(matchingJsonPath("$.messages[1].content[0].text", equalTo("What time is it?"))));
+    }
+
+    @Test
+    void should_estimate_the_tokens_of_the_attachments() {
+
+        stubResponses(ANSWER_RESPONSE);
+
+        var tokenizationService = mock(TokenizationService.class);
+        when(tokenizationService.tokenizeAsync(anyString()))
+            .thenReturn(completedFuture(new TokenizationResponse("ibm/granite-4-h-small", new Result(10, null))));
+
+        var agent = Agent.builder()
+            .chatService(chatService)
+            .toolRegistry(toolRegistry)
+            .compaction(tokenizationService, 500)
+            .build();
+
+        var result = agent.run(
+            SystemMessage.of("You are a helpful assistant"),
+            UserMessage.of(TextContent.of("Describe this image"), ImageContent.of("image/png", "aW1hZ2UtZGF0YQ==")),
+            AssistantMessage.text("A cat"),
+            UserMessage.text("What time is it?"));
+
+        // The image is not sent to the tokenizer, it counts for 1000 tokens and its turn is removed.
+        assertEquals(2, result.steps().get(0).inputMessages());
+        verify(tokenizationService, never()).tokenizeAsync(contains("aW1hZ2UtZGF0YQ=="));
+        verify(tokenizationService).tokenizeAsync(contains("Describe this image"));
+    }
+
+    @Test
+    void should_throw_exception_on_invalid_parameters() {
+        assertThrows(NullPointerException.class, () -> Agent.builder().toolRegistry(toolRegistry).build());
+        assertThrows(NullPointerException.class, () -> Agent.builder().chatService(chatService).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> Agent.builder().chatService(chatService).toolRegistry(toolRegistry).maxSteps(0).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> Agent.builder().chatService(chatService).toolRegistry(toolRegistry).compaction(null, 100).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> Agent.builder().chatService(chatService).toolRegistry(toolRegistry).compaction(mock(TokenizationService.class), 0).build());
+
+        var agent = Agent.builder().chatService(chatService).toolRegistry(toolRegistry).build();
+        assertThrows(IllegalArgumentException.class, () -> agent.run(List.of()));
+    }
+
+    @Test
+    void should_reuse_the_json_of_the_messages_of_a_conversation() {
+        var system = SystemMessage.of("You are a helpful assistant");
+        var user = UserMessage.text("What time is it in Rome?");
+        var cache = new ChatMessageCache();
+
+        var request = TextChatRequest.builder().modelId("model").messages(List.of(system, user)).messageCache(cache).build();
+        var json = Json.toJson(request);
+        assertEquals("{\"role\":\"system\",\"content\":\"You are a helpful assistant\"}", cache.get(system));
+        assertEquals(json, Json.toJson(request));
+
+        // Entries are keyed by message instance, not by value.
+        assertNull(cache.get(SystemMessage.of("You are a helpful assistant")));
+    }
+
+    private void stubResponses(String... responses) {
+        var state = Scenario.STARTED;
+        for (int i = 0; i < responses.length; i++) {
+            var nextState = "step-" + (i + 1);
+            wireMock.stubFor(post(urlEqualTo(CHAT_URL))
+                .inScenario("agent")
+                .whenScenarioStateIs(state)
+                .willReturn(aResponse()
+                    .withStatus(200)
+                    .withHeader("Content-Type", "application/json")
+                    .withBody(responses[i]))
+                .willSetStateTo(nextState));
+            state = nextState;
+        }
+    }
+}
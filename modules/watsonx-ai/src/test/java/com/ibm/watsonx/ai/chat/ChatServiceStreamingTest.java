@@ -4094,6 +4094,89 @@ public class ChatServiceStreamingTest extends AbstractWatsonxTest {
         assertEquals(99, chatResponse.usage().totalTokens());
     }
 
+    @Test
+    void should_execute_tool_calls_while_streaming() throws Exception {
+
+        when(mockAuthenticator.tokenAsync()).thenReturn(completedFuture("token"));
+        wireMock.stubFor(post("/ml/v1/text/chat_stream?version=%s".formatted(API_VERSION))
+            .withHeader("Authorization", equalTo("Bearer token"))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withChunkedDribbleDelay(3, 10)
+                .withBody(
+                    """
+                        id: 1
+                        event: message
+                        data: {"id":"36e24c3f72494eac9a4f3b3930aeb757","object":"chat.completion.chunk","model_id":"mistral-large-2512","model":"mistral-large-2512","choices":[{"index":0,"finish_reason":null,"delta":{"role":"assistant","content":""}}],"created":1765110996,"model_version":"1.0.0","created_at":"2025-12-07T12:36:36.262Z"}
+
+                        id: 2
+                        event: message
+                        data: {"id":"36e24c3f72494eac9a4f3b3930aeb757","object":"chat.completion.chunk","model_id":"mistral-large-2512","model":"mistral-large-2512","choices":[{"index":0,"finish_reason":null,"delta":{"tool_calls":[{"index":0,"id":"oDvEIPEBZ","function":{"name":"get_current_time","arguments":"{\\"country\\": \\"Italy\\"}"}}]}}],"created":1765110996,"model_version":"1.0.0","created_at":"2025-12-07T12:36:36.303Z"}
+
+                        id: 3
+                        event: message
+                        data: {"id":"36e24c3f72494eac9a4f3b3930aeb757","object":"chat.completion.chunk","model_id":"mistral-large-2512","model":"mistral-large-2512","choices":[{"index":0,"finish_reason":"tool_calls","delta":{"tool_calls":[{"index":1,"id":"ADvEIPEBZ","function":{"name":"get_current_time","arguments":"{\\"country\\": \\"Germany\\"}"}}]}}],"created":1765110996,"model_version":"1.0.0","created_at":"2025-12-07T12:36:36.303Z","usage":{"completion_tokens":23,"prompt_tokens":76,"total_tokens":99}}
+                        """)));
+
+        var firstToolExecuted = new CountDownLatch(1);
+        var toolRegistry = ToolRegistry.builder()
+            .register(new ExecutableTool() {
+
+                @Override
+                public String name() {
+                    return "get_current_time";
+                }
+
+                @Override
+                public Tool schema() {
+                    return Tool.of("get_current_time", JsonSchema.object().property("country", JsonSchema.string()));
+                }
+
+                @Override
+                public String execute(ToolArguments args) {
+                    String country = args.get("country");
+                    if (country.equals("Italy"))
+                        firstToolExecuted.countDown();
+                    return "The time in " + country + " is 12:00";
+                }
+            })
+            .build();
+
+        var chatService = ChatService.builder()
+            .baseUrl(URI.create("http://localhost:%s".formatted(wireMock.getPort())))
+            .modelId("mistral-large-2512")
+            .projectId("project-id")
+            .authenticator(mockAuthenticator)
+            .tools(toolRegistry.tools())
+            .build();
+
+        var toolCallIds = new ArrayList<String>();
+        var executedBeforeSecondToolCall = new AtomicBoolean();
+        var result = chatService.chatStreaming(List.of(UserMessage.text("Message")), toolRegistry, new ChatHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse, PartialChatResponse partialChatResponse) {}
+
+            @Override
+            public void onCompleteToolCall(CompletedToolCall completeToolCall) {
+                toolCallIds.add(completeToolCall.toolCall().id());
+                if (toolCallIds.size() == 2)
+                    executedBeforeSecondToolCall.set(assertDoesNotThrow(() -> firstToolExecuted.await(5, TimeUnit.SECONDS)));
+            }
+        }).get(10, TimeUnit.SECONDS);
+
+        assertTrue(executedBeforeSecondToolCall.get());
+        assertEquals(List.of("oDvEIPEBZ", "ADvEIPEBZ"), toolCallIds);
+        assertTrue(result.hasToolCalls());
+        assertEquals(List.of(
+            ToolMessage.of("The time in Italy is 12:00", "oDvEIPEBZ"),
+            ToolMessage.of("The time in Germany is 12:00", "ADvEIPEBZ")
+        ), result.toolMessages());
+        assertEquals(3, result.messages().size());
+        assertEquals(2, result.toAssistantMessage().toolCalls().size());
+        assertEquals("tool_calls", result.chatResponse().finishReason().value());
+    }
+
     @Test
     void should_complete_the_stream_when_the_model_declares_tool_calls_without_emitting_any() throws Exception {
 
@@ -9,6 +9,8 @@ import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
 import static com.ibm.watsonx.ai.utils.HttpUtils.bodyPublisherToString;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -18,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
@@ -149,7 +152,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
                     "Content-Type", List.of("application/json"),
                     "Accept", List.of("application/json")),
                 (k, v) -> true));
-            when(mockHttpResponse.body()).thenReturn(
+            doReturn(
                 """
                     {
                         "id": "chatcmpl-43962cc06e5346ccbd653a04a48e4b5b",
@@ -172,7 +175,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
                         "prompt_tokens" : 66,
                         "total_tokens" : 103
                         }
-                    }""");
+                    }""".getBytes(UTF_8)).when(mockHttpResponse).body();
 
             mockHttpClientSend(mockHttpRequest.capture(), any(BodyHandler.class));
 
@@ -308,7 +311,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
             when(mockAuthenticator.token()).thenReturn("my-super-token");
             when(mockHttpResponse.statusCode()).thenReturn(200);
-            when(mockHttpResponse.body()).thenReturn(
+            doReturn(
                 """
                     {
                         "id": "chatcmpl-43962cc06e5346ccbd653a04a48e4b5b",
@@ -331,7 +334,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
                         "prompt_tokens" : 66,
                         "total_tokens" : 103
                         }
-                    }""");
+                    }""".getBytes(UTF_8)).when(mockHttpResponse).body();
 
             mockHttpClientSend(mockHttpRequest.capture(), any(BodyHandler.class));
 
@@ -425,7 +428,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
             when(mockAuthenticator.token()).thenReturn("my-super-token");
             when(mockHttpResponse.statusCode()).thenReturn(200);
-            when(mockHttpResponse.body()).thenReturn(
+            doReturn(
                 """
                     {
                         "id": "chatcmpl-43962cc06e5346ccbd653a04a48e4b5b",
@@ -448,7 +451,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
                         "prompt_tokens" : 66,
                         "total_tokens" : 103
                         }
-                    }""");
+                    }""".getBytes(UTF_8)).when(mockHttpResponse).body();
 
             mockHttpClientSend(mockHttpRequest.capture(), any(BodyHandler.class));
 
@@ -586,7 +589,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
         mockHttpClientSend(mockHttpRequest.capture(), any(BodyHandler.class));
 
         withWatsonxServiceMock(() -> {
@@ -701,7 +704,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
@@ -786,7 +789,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
@@ -860,7 +863,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
@@ -982,7 +985,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
 
@@ -1118,7 +1121,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
@@ -1215,7 +1218,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
@@ -1290,7 +1293,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
@@ -1370,7 +1373,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
@@ -1451,7 +1454,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
@@ -1530,7 +1533,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
@@ -1625,7 +1628,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
@@ -1874,7 +1877,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
@@ -1933,7 +1936,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
@@ -2003,7 +2006,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
@@ -2030,7 +2033,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
@@ -2059,7 +2062,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
@@ -2082,6 +2085,34 @@ public class ChatServiceTest extends AbstractWatsonxTest {
         });
     }
 
+    @Test
+    void should_apply_message_interceptor_asynchronously() throws Exception {
+
+        var RESPONSE = new String(ClassLoader.getSystemResourceAsStream("chat_response_multiple_choices.json").readAllBytes());
+
+        when(mockAuthenticator.tokenAsync()).thenReturn(completedFuture("my-super-token"));
+        when(mockHttpResponse.statusCode()).thenReturn(200);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
+        when(mockSecureHttpClient.sendAsync(mockHttpRequest.capture(), any(BodyHandler.class))).thenReturn(completedFuture(mockHttpResponse));
+
+        withWatsonxServiceMock(() -> {
+            var chatService = ChatService.builder()
+                .authenticator(mockAuthenticator)
+                .modelId("ibm/granite-4-h-small")
+                .projectId("project-id")
+                .baseUrl("http://localhost")
+                .messageInterceptor((ctx, message) -> message.replace("Rome", "rome"))
+                .build();
+
+            var chatResponse = assertDoesNotThrow(() -> chatService.chatAsync("What is the capital of Italy?").get());
+            var assistantMessages = chatResponse.toAssistantMessages();
+            assertEquals("The capital of Italy is rome. It is also the country's largest city and a significant center of history, art, and culture.",
+                assistantMessages.get(0).content());
+            assertEquals("The capital of Italy is rome.", assistantMessages.get(1).content());
+            assertEquals(URI.create("http://localhost/ml/v1/text/chat?version=%s".formatted(API_VERSION)), mockHttpRequest.getValue().uri());
+        });
+    }
+
     @Test
     void should_handle_multiple_choices_with_different_finish_reasons() throws Exception {
 
@@ -2090,7 +2121,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
@@ -2129,7 +2160,7 @@ public class ChatServiceTest extends AbstractWatsonxTest {
 
         when(mockAuthenticator.token()).thenReturn("my-super-token");
         when(mockHttpResponse.statusCode()).thenReturn(200);
-        when(mockHttpResponse.body()).thenReturn(RESPONSE);
+        doReturn(RESPONSE.getBytes(UTF_8)).when(mockHttpResponse).body();
 
         withWatsonxServiceMock(() -> {
             var chatService = ChatService.builder()
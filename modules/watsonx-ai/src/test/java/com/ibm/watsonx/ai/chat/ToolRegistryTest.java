@@ -6,7 +6,9 @@ package com.ibm.watsonx.ai.chat;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -15,14 +17,26 @@ import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import com.ibm.watsonx.ai.chat.model.Tool;
 import com.ibm.watsonx.ai.chat.model.ToolArguments;
+import com.ibm.watsonx.ai.chat.model.ToolCall;
+import com.ibm.watsonx.ai.chat.model.ToolMessage;
 import com.ibm.watsonx.ai.core.Json;
 import com.ibm.watsonx.ai.core.spi.json.TypeToken;
 import com.ibm.watsonx.ai.tool.ToolRequest;
@@ -244,4 +258,150 @@ public class ToolRegistryTest {
         assertEquals("ex", ex.getMessage());
         assertEquals(1, counter.get());
     }
+
+    @Test
+    void should_execute_tool_calls_concurrently_and_preserve_order() throws Exception {
+
+        var latch = new CountDownLatch(3);
+        Function<String, ExecutableTool> toolFactory = name -> new TestTool(name, args -> {
+            latch.countDown();
+            await(latch);
+            return name + ":" + args.get("value");
+        });
+
+        var events = new ConcurrentLinkedQueue<String>();
+        var toolRegistry = ToolRegistry.builder()
+            .register(toolFactory.apply("a"), toolFactory.apply("b"), toolFactory.apply("c"))
+            .beforeExecution((toolName, toolArgs) -> events.add("before:" + toolName))
+            .afterExecution((toolName, toolArgs, result) -> events.add("after:" + result))
+            .build();
+
+        var results = toolRegistry.executeAll(List.of(
+            ToolCall.of("1", "c", "{\"value\": 1}"),
+            ToolCall.of("2", "a", "{\"value\": 2}"),
+            ToolCall.of("3", "b", "{\"value\": 3}")
+        ));
+
+        assertEquals(List.of(ToolMessage.of("c:1", "1"), ToolMessage.of("a:2", "2"), ToolMessage.of("b:3", "3")), results);
+        assertEquals(6, events.size());
+        assertTrue(events.containsAll(List.of("before:a", "before:b", "before:c", "after:c:1", "after:a:2", "after:b:3")));
+    }
+
+    @Test
+    void should_respect_the_concurrency_limits() {
+
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var tool = new TestTool("tool", args -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(20);
+            running.decrementAndGet();
+            return "ok";
+        });
+
+        var toolRegistry = ToolRegistry.builder()
+            .register(tool)
+            .maxConcurrency("tool", 2)
+            .executor(Executors.newCachedThreadPool())
+            .build();
+
+        var toolCalls = IntStream.range(0, 8).mapToObj(i -> ToolCall.of(String.valueOf(i), "tool", "{}")).toList();
+        assertEquals(8, toolRegistry.executeAll(toolCalls).size());
+        assertEquals(2, maxRunning.get());
+
+        running.set(0);
+        maxRunning.set(0);
+        var globalRegistry = ToolRegistry.builder()
+            .register(tool)
+            .maxConcurrency(3)
+            .build();
+
+        assertEquals(8, globalRegistry.executeAll(toolCalls).size());
+        assertEquals(3, maxRunning.get());
+    }
+
+    @Test
+    void should_fail_with_the_first_error_in_call_order() {
+
+        var errors = new ConcurrentLinkedQueue<String>();
+        var toolRegistry = ToolRegistry.builder()
+            .register(
+                new TestTool("slow", args -> {
+                    sleep(50);
+                    throw new IllegalStateException("slow failed");
+                }),
+                new TestTool("fast", args -> {
+                    throw new IllegalStateException("fast failed");
+                }),
+                new TestTool("ok", args -> "ok"))
+            .onError((toolName, toolArgs, error) -> errors.add(toolName))
+            .build();
+
+        var ex = assertThrows(IllegalStateException.class, () -> toolRegistry.executeAll(List.of(
+            ToolCall.of("1", "ok", "{}"),
+            ToolCall.of("2", "slow", "{}"),
+            ToolCall.of("3", "fast", "{}")
+        )));
+
+        assertEquals("slow failed", ex.getMessage());
+        assertEquals(Set.of("slow", "fast"), Set.copyOf(errors));
+
+        var unknown = assertThrows(IllegalArgumentException.class, () -> toolRegistry.executeAll(List.of(ToolCall.of("1", "unknown", "{}"))));
+        assertEquals("Unknown tool: unknown", unknown.getMessage());
+    }
+
+    @Test
+    void should_time_out_slow_tools() throws Exception {
+
+        var errors = new ConcurrentLinkedQueue<Exception>();
+        var toolRegistry = ToolRegistry.builder()
+            .register(
+                new TestTool("slow", args -> {
+                    sleep(2000);
+                    return "slow";
+                }),
+                new TestTool("fast", args -> "fast"))
+            .timeout(Duration.ofSeconds(10))
+            .timeout("slow", Duration.ofMillis(50))
+            .onError((toolName, toolArgs, error) -> errors.add(error))
+            .build();
+
+        assertEquals(ToolMessage.of("fast", "1"), toolRegistry.executeAsync(ToolCall.of("1", "fast", "{}")).get(1, TimeUnit.SECONDS));
+
+        var future = toolRegistry.executeAsync(List.of(ToolCall.of("1", "fast", "{}"), ToolCall.of("2", "slow", "{}")));
+        var ex = assertThrows(CompletionException.class, () -> future.join());
+        assertInstanceOf(TimeoutException.class, ex.getCause());
+        assertEquals(1, errors.size());
+        assertInstanceOf(TimeoutException.class, errors.peek());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS))
+                throw new IllegalStateException("The tools were not executed concurrently");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record TestTool(String name, Function<ToolArguments, String> function) implements ExecutableTool {
+
+        @Override
+        public Tool schema() {
+            return Tool.of(name, "test tool");
+        }
+
+        @Override
+        public String execute(ToolArguments args) {
+            return function.apply(args);
+        }
+    }
 }
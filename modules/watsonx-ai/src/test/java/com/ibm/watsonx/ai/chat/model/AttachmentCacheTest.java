@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.chat.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibm.watsonx.ai.WatsonxJacksonModule;
+import com.ibm.watsonx.ai.core.Json;
+
+public class AttachmentCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_encode_the_file_only_once() throws Exception {
+        var file = new File(ClassLoader.getSystemResource("alien.jpg").toURI());
+        var cache = AttachmentCache.builder().build();
+
+        var first = cache.get(file);
+        var second = cache.get(file);
+
+        assertSame(first, second);
+        assertEquals(Json.toJson(ImageContent.from(file)), Json.toJson(ImageContent.of(first)));
+        assertEquals(Json.toJson(ImageContent.from(file)), Json.toJson(ImageContent.of(second)));
+
+        var stats = cache.stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(first.base64Length(), stats.bytesSaved());
+        assertEquals(first.base64Length(), stats.size());
+        assertEquals(1, stats.entryCount());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    void should_serialize_audio_and_video_from_the_cache() throws Exception {
+        var audio = new File(ClassLoader.getSystemResource("audio.wav").toURI());
+        var video = new File(ClassLoader.getSystemResource("video.mp4").toURI());
+        var cache = AttachmentCache.builder().build();
+
+        assertEquals(Json.toJson(AudioContent.from(audio)), Json.toJson(AudioContent.of(cache.get(audio))));
+        assertEquals(Json.toJson(VideoContent.from(video)), Json.toJson(VideoContent.of(cache.get(video))));
+        assertEquals(AudioContent.from(audio).inputAudio().data(), AudioContent.of(cache.get(audio)).inputAudio().data());
+    }
+
+    @Test
+    void should_share_entries_between_files_with_the_same_content() throws Exception {
+        var bytes = "same-content".getBytes();
+        var a = Files.write(tempDir.resolve("a.png"), bytes);
+        var b = Files.write(tempDir.resolve("b.png"), bytes);
+        var cache = AttachmentCache.builder().build();
+
+        var first = cache.get(a, "image/png");
+        var second = cache.get(b, "image/jpeg");
+
+        assertEquals(Base64.getEncoder().encodeToString(bytes), second.base64());
+        assertEquals("image/jpeg", second.mimeType());
+        assertEquals(first.size(), second.size());
+        assertEquals(1, cache.stats().entryCount());
+        assertEquals(2, cache.stats().missCount());
+
+        cache.get(b, "image/jpeg");
+        assertEquals(1, cache.stats().hitCount());
+    }
+
+    @Test
+    void should_write_the_cached_payload_as_is() throws Exception {
+        var file = Files.write(tempDir.resolve("a.png"), "cached-content".getBytes());
+        var cache = AttachmentCache.builder().build();
+        var mapper = new ObjectMapper().registerModule(new WatsonxJacksonModule());
+
+        // The second MIME type shares the entry of the first one with another data URI.
+        var contents = new ArrayList<Map.Entry<Object, Object>>();
+        for (var mimeType : List.of("image/png", "image/jpeg"))
+            contents.add(Map.entry(ImageContent.of(Attachment.of(file, mimeType)), ImageContent.of(cache.get(file, mimeType))));
+        contents.add(Map.entry(AudioContent.of(Attachment.of(file, "audio/wav")), AudioContent.of(cache.get(file, "audio/wav"))));
+
+        // The bytes are written as-is by a byte generator, and read as chars by a writer generator.
+        for (var content : contents) {
+            var expected = mapper.writeValueAsString(content.getKey());
+            assertEquals(expected, mapper.writeValueAsString(content.getValue()));
+            assertEquals(expected, new String(mapper.writeValueAsBytes(content.getValue()), StandardCharsets.UTF_8));
+        }
+        assertEquals(1, cache.stats().entryCount());
+    }
+
+    @Test
+    void should_reload_the_file_when_it_is_modified() throws Exception {
+        var file = Files.write(tempDir.resolve("file.png"), "v1".getBytes());
+        var cache = AttachmentCache.builder().build();
+
+        assertEquals(Base64.getEncoder().encodeToString("v1".getBytes()), cache.get(file, "image/png").base64());
+
+        Files.write(file, "version-2".getBytes());
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(10)));
+
+        assertEquals(Base64.getEncoder().encodeToString("version-2".getBytes()), cache.get(file, "image/png").base64());
+        assertEquals(0, cache.stats().hitCount());
+        assertEquals(2, cache.stats().missCount());
+    }
+
+    @Test
+    void should_evict_the_least_recently_used_entries() throws Exception {
+        var a = Files.write(tempDir.resolve("a.bin"), new byte[30]);
+        var b = Files.write(tempDir.resolve("b.bin"), new byte[31]);
+        var c = Files.write(tempDir.resolve("c.bin"), new byte[32]);
+        var cache = AttachmentCache.builder().maxSize(100).build();
+
+        cache.get(a, "image/png");
+        cache.get(b, "image/png");
+        cache.get(a, "image/png");
+        cache.get(c, "image/png");
+
+        var stats = cache.stats();
+        assertEquals(1, stats.evictionCount());
+        assertEquals(2, stats.entryCount());
+        assertEquals(40 + 44, stats.size());
+
+        cache.get(a, "image/png");
+        assertEquals(2, cache.stats().hitCount());
+
+        cache.get(b, "image/png");
+        assertEquals(4, cache.stats().missCount());
+    }
+
+    @Test
+    void should_not_cache_files_larger_than_the_cache() throws Exception {
+        var file = Files.write(tempDir.resolve("big.bin"), new byte[300]);
+        var cache = AttachmentCache.builder().maxSize(100).build();
+
+        var attachment = cache.get(file, "image/png");
+        assertInstanceOf(FileAttachment.class, attachment);
+        assertEquals(0, cache.stats().entryCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    void should_clear_the_cache() throws Exception {
+        var file = Files.write(tempDir.resolve("file.bin"), new byte[10]);
+        var cache = AttachmentCache.builder().build();
+
+        cache.get(file, "image/png");
+        cache.clear();
+        assertEquals(0, cache.stats().entryCount());
+        assertEquals(0, cache.stats().size());
+
+        cache.get(file, "image/png");
+        assertEquals(2, cache.stats().missCount());
+    }
+
+    @Test
+    void should_throw_exception_on_invalid_arguments() {
+        var cache = AttachmentCache.builder().build();
+        assertThrows(NoSuchFileException.class, () -> cache.get(tempDir.resolve("non-existent-file.png"), "image/png"));
+        assertThrows(IllegalArgumentException.class, () -> AttachmentCache.builder().maxSize(0).build());
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.chat.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.ibm.watsonx.ai.chat.model.Image.Detail;
+import com.ibm.watsonx.ai.core.Json;
+
+public class AttachmentTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_encode_file_spanning_multiple_chunks() throws Exception {
+        for (int size : new int[] { 0, 1, 2, 3, 49151, 49152, 49153, 200_000 }) {
+            var bytes = new byte[size];
+            new Random(size).nextBytes(bytes);
+            var file = Files.write(tempDir.resolve("file-" + size + ".bin"), bytes);
+
+            var attachment = Attachment.of(file, "application/octet-stream");
+            var expected = Base64.getEncoder().encodeToString(bytes);
+
+            assertEquals(size, attachment.size());
+            assertEquals(expected.length(), attachment.base64Length());
+            assertEquals(expected, attachment.base64());
+            assertEquals("data:application/octet-stream;base64," + expected, attachment.dataUri());
+            assertEquals(attachment.dataUri().length(), attachment.dataUriLength());
+
+            try (var reader = attachment.openDataUriReader()) {
+                var sb = new StringBuilder();
+                var buffer = new char[1000];
+                int n;
+                while ((n = reader.read(buffer)) != -1)
+                    sb.append(buffer, 0, n);
+                assertEquals(attachment.dataUri(), sb.toString());
+            }
+
+            var out = new ByteArrayOutputStream();
+            attachment.writeBase64(out);
+            assertEquals(expected, out.toString());
+        }
+    }
+
+    @Test
+    void should_serialize_image_attachment_like_the_eager_content() throws Exception {
+        var file = new File(ClassLoader.getSystemResource("alien.jpg").toURI());
+        var eager = eager(file, ImageContent::from);
+        var lazy = ImageContent.of(Attachment.of(file));
+        assertEquals(Json.toJson(eager), Json.toJson(lazy));
+        assertEquals(eager.imageUrl().url(), lazy.imageUrl().url());
+        assertEquals(eager, lazy);
+
+        var image = ImageContent.of(Attachment.of(file), Detail.HIGH);
+        assertEquals(Json.toJson(ImageContent.of("image/jpeg", Attachment.of(file).base64(), Detail.HIGH)), Json.toJson(image));
+    }
+
+    @Test
+    void should_serialize_audio_attachment_like_the_eager_content() throws Exception {
+        var file = new File(ClassLoader.getSystemResource("audio.wav").toURI());
+        var eager = eager(file, AudioContent::from);
+        var lazy = AudioContent.of(Attachment.of(file));
+        assertEquals(Json.toJson(eager), Json.toJson(lazy));
+        assertEquals(eager.inputAudio().data(), lazy.inputAudio().data());
+        assertEquals(eager, lazy);
+    }
+
+    @Test
+    void should_serialize_video_attachment_like_the_eager_content() throws Exception {
+        var file = new File(ClassLoader.getSystemResource("video.mp4").toURI());
+        var eager = eager(file, VideoContent::from);
+        var lazy = VideoContent.of(Attachment.of(file));
+        assertEquals(Json.toJson(eager), Json.toJson(lazy));
+        assertEquals(eager.videoUrl().url(), lazy.videoUrl().url());
+        assertEquals(eager, lazy);
+    }
+
+    @Test
+    void should_create_attachment_backed_content_from_files() throws Exception {
+        var image = new File(ClassLoader.getSystemResource("alien.jpg").toURI());
+        var audio = new File(ClassLoader.getSystemResource("audio.wav").toURI());
+        var video = new File(ClassLoader.getSystemResource("video.mp4").toURI());
+
+        assertEquals(ImageContent.of(Attachment.of(image)), ImageContent.from(image));
+        assertEquals(AudioContent.of(Attachment.of(audio)), AudioContent.from(audio.toPath()));
+        assertEquals(VideoContent.of(Attachment.of(video)), VideoContent.from(video));
+
+        // The accessors encode the file, and the content is equal to the content read eagerly.
+        assertEquals(eager(image, ImageContent::from).imageUrl().url(), ImageContent.from(image).imageUrl().url());
+        assertEquals(eager(audio, AudioContent::from).inputAudio().data(), AudioContent.from(audio).inputAudio().data());
+        assertEquals(eager(video, VideoContent::from), VideoContent.from(video));
+        assertEquals(eager(image, ImageContent::from).hashCode(), ImageContent.from(image).hashCode());
+        assertNotEquals(ImageContent.of("image/jpeg", "AQID"), ImageContent.from(image));
+    }
+
+    @Test
+    void should_serialize_the_current_content_of_the_file() throws Exception {
+        var file = Files.write(tempDir.resolve("file.png"), new byte[] { 1, 2, 3 });
+        var content = ImageContent.of(Attachment.of(file, "image/png"));
+
+        Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6, 7 });
+        assertEquals(Json.toJson(ImageContent.of("image/png", "AQIDBAUGBw==")), Json.toJson(content));
+
+        Files.write(file, new byte[] { 1 });
+        assertEquals(Json.toJson(ImageContent.of("image/png", "AQ==")), Json.toJson(content));
+    }
+
+    @Test
+    void should_serialize_user_message_with_attachment() throws Exception {
+        var file = new File(ClassLoader.getSystemResource("alien.jpg").toURI());
+        var eager = UserMessage.of(TextContent.of("Describe this image"), eager(file, ImageContent::from));
+        var lazy = UserMessage.of(TextContent.of("Describe this image"), ImageContent.from(file));
+        assertEquals(Json.toJson(eager), Json.toJson(lazy));
+    }
+
+    @Test
+    void should_throw_exception_when_file_does_not_exist() {
+        assertThrows(NoSuchFileException.class, () -> Attachment.of(tempDir.resolve("non-existent-file.jpg"), "image/jpeg"));
+        assertThrows(NullPointerException.class, () -> Attachment.of(tempDir, null));
+    }
+
+    @Test
+    void should_be_equal_when_referencing_the_same_file() throws Exception {
+        var file = Files.write(tempDir.resolve("file.bin"), new byte[] { 1, 2, 3 });
+        assertEquals(Attachment.of(file, "image/png"), Attachment.of(file, "image/png"));
+        assertEquals(ImageContent.of(Attachment.of(file, "image/png")), ImageContent.of(Attachment.of(file, "image/png")));
+    }
+
+    private static <T> T eager(File file, EagerFactory<T> factory) throws IOException {
+        try (var is = new FileInputStream(file)) {
+            return factory.from(is, Files.probeContentType(file.toPath()));
+        }
+    }
+
+    private interface EagerFactory<T> {
+        T from(InputStream is, String mimeType) throws IOException;
+    }
+}
@@ -4,6 +4,7 @@
  */
 package com.ibm.watsonx.ai.foundationmodel;
 
+import static com.ibm.watsonx.ai.core.Json.fromJson;
 import static com.ibm.watsonx.ai.foundationmodel.filter.Filter.Expression.function;
 import static com.ibm.watsonx.ai.foundationmodel.filter.Filter.Expression.inputTier;
 import static com.ibm.watsonx.ai.foundationmodel.filter.Filter.Expression.lifecycle;
@@ -14,7 +15,9 @@ import static com.ibm.watsonx.ai.foundationmodel.filter.Filter.Expression.source
 import static com.ibm.watsonx.ai.foundationmodel.filter.Filter.Expression.task;
 import static com.ibm.watsonx.ai.foundationmodel.filter.Filter.Expression.tier;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 import com.ibm.watsonx.ai.foundationmodel.filter.Filter;
 import com.ibm.watsonx.ai.foundationmodel.filter.Filter.Expression;
@@ -67,5 +70,36 @@ public class FilterTest {
         assertEquals("lifecycle_test", Filter.of(lifecycle("test")).toString());
         assertEquals("function_test", Filter.of(function("test")).toString());
     }
-}
 
+    @Test
+    void should_evaluate_the_filter_against_a_model() {
+
+        var model = fromJson("""
+            {
+                "model_id": "ibm/granite-3-3-8b-instruct",
+                "provider": "IBM",
+                "source": "IBM",
+                "input_tier": "class_12",
+                "output_tier": "class_12",
+                "functions": [{ "id": "text_chat" }, { "id": "text_generation" }],
+                "task_ids": ["summarization"],
+                "tasks": [{ "id": "summarization" }, { "id": "function_calling" }],
+                "lifecycle": [
+                    { "id": "available", "start_date": "2025-04-16" },
+                    { "id": "deprecated", "start_date": "2999-01-01" }
+                ]
+            }""", FoundationModel.class);
+
+        assertTrue(Filter.of(modelId("ibm/granite-3-3-8b-instruct")).matches(model));
+        assertTrue(Filter.of(provider("ibm"), source("IBM"), inputTier("class_12"), tier("CLASS_12")).matches(model));
+        assertTrue(Filter.and(task("summarization"), task("function_calling"), function("text_chat")).matches(model));
+        assertTrue(Filter.of(lifecycle("available")).matches(model));
+        assertFalse(Filter.of(lifecycle("deprecated")).matches(model));
+        assertFalse(Filter.and(function("text_chat"), function("embedding")).matches(model));
+        assertTrue(Filter.or(function("embedding"), function("text_chat")).matches(model));
+        assertFalse(Filter.or(function("embedding"), provider("Meta")).matches(model));
+        assertTrue(Filter.and(function("text_chat"), not(function("embedding"))).matches(model));
+        assertTrue(Filter.of(not(not(modelId("ibm/granite-3-3-8b-instruct")))).matches(model));
+        assertThrows(UnsupportedOperationException.class, () -> Filter.of(() -> "unknown_value").matches(model));
+    }
+}
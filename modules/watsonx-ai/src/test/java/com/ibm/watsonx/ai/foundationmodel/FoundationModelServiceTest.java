@@ -4,11 +4,19 @@
  */
 package com.ibm.watsonx.ai.foundationmodel;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.jsonResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.ibm.watsonx.ai.core.Json.fromJson;
 import static com.ibm.watsonx.ai.core.Json.toJson;
+import static com.ibm.watsonx.ai.foundationmodel.filter.Filter.Expression.function;
 import static com.ibm.watsonx.ai.foundationmodel.filter.Filter.Expression.modelId;
+import static com.ibm.watsonx.ai.foundationmodel.filter.Filter.Expression.not;
+import static com.ibm.watsonx.ai.foundationmodel.filter.Filter.Expression.provider;
+import static com.ibm.watsonx.ai.foundationmodel.filter.Filter.Expression.task;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -20,6 +28,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpResponse.BodyHandler;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 import com.ibm.watsonx.ai.AbstractWatsonxTest;
@@ -287,4 +296,66 @@ public class FoundationModelServiceTest extends AbstractWatsonxTest {
             }
         });
     }
+
+    @Test
+    void should_serve_lookups_from_the_catalog() throws Exception {
+
+        String MODELS =
+            new String(ClassLoader.getSystemResourceAsStream("foundation_model_response.json").readAllBytes()).replace("${VERSION}", API_VERSION);
+        String TASKS = new String(ClassLoader.getSystemResourceAsStream("foundation_model_tasks_response.json").readAllBytes());
+
+        wireMock.stubFor(get("%s/foundation_model_specs?version=%s&limit=200".formatted(ML_API_PATH, API_VERSION))
+            .willReturn(jsonResponse("""
+                {
+                    "limit": 200,
+                    "total_count": 36,
+                    "next": { "href": "https://us-south.ml.cloud.ibm.com/ml/v1/foundation_model_specs?version=%s&start=35&limit=200" },
+                    "resources": %s
+                }""".formatted(API_VERSION, toJson(fromJson(MODELS, FoundationModelResponse.class).resources())), 200))
+        );
+
+        wireMock.stubFor(get("%s/foundation_model_specs?version=%s&start=35&limit=200".formatted(ML_API_PATH, API_VERSION))
+            .willReturn(jsonResponse("""
+                {
+                    "limit": 200,
+                    "total_count": 36,
+                    "resources": [{ "model_id": "test/paginated-model", "provider": "Test", "functions": [{ "id": "text_chat" }] }]
+                }""", 200))
+        );
+
+        wireMock.stubFor(get("%s/foundation_model_tasks?version=%s&limit=200".formatted(ML_API_PATH, API_VERSION))
+            .willReturn(jsonResponse(TASKS, 200))
+        );
+
+        var service = FoundationModelService.builder()
+            .baseUrl("http://localhost:%d".formatted(wireMock.getPort()))
+            .catalogTtl(Duration.ofHours(1))
+            .build();
+
+        var model = service.getModel("ibm/granite-3-3-8b-instruct");
+        assertTrue(model.isPresent());
+        assertEquals("IBM", model.get().provider());
+        assertTrue(service.getModel("test/paginated-model").isPresent());
+        assertFalse(service.getModel("unknown").isPresent());
+
+        var rerankers = service.getModels(Filter.and(function("rerank"), not(provider("IBM"))));
+        assertEquals(4, rerankers.totalCount());
+        assertTrue(rerankers.resources().stream().noneMatch(m -> m.provider().equals("IBM")));
+
+        var catalog = service.catalog();
+        assertEquals(36, catalog.models().size());
+        assertEquals(3, catalog.modelsByFunction("time_series_forecast").size());
+        assertEquals(16, catalog.modelsByProvider("IBM").size());
+        assertEquals(catalog.models(Filter.of(provider("ibm"))), catalog.modelsByProvider("IBM"));
+        assertEquals(catalog.models(Filter.of(task("translation"))), catalog.modelsByTask("translation"));
+        assertEquals(12, service.getTasks().resources().size());
+        assertTrue(catalog.lastRefresh().isPresent());
+
+        wireMock.verify(1, getRequestedFor(urlPathEqualTo("%s/foundation_model_specs".formatted(ML_API_PATH)))
+            .withQueryParam("start", absent()));
+        wireMock.verify(1, getRequestedFor(urlPathEqualTo("%s/foundation_model_tasks".formatted(ML_API_PATH))));
+
+        catalog.refresh().get(10, TimeUnit.SECONDS);
+        wireMock.verify(2, getRequestedFor(urlPathEqualTo("%s/foundation_model_tasks".formatted(ML_API_PATH))));
+    }
 }
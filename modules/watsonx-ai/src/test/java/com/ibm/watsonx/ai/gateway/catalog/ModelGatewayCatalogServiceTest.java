@@ -7,6 +7,8 @@ package com.ibm.watsonx.ai.gateway.catalog;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -15,6 +17,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import com.ibm.watsonx.ai.AbstractWatsonxTest;
 
@@ -269,6 +273,48 @@ public class ModelGatewayCatalogServiceTest extends AbstractWatsonxTest {
         });
     }
 
+    // -------------------------------------------------------------------------
+    // catalogTtl
+    // -------------------------------------------------------------------------
+
+    @Test
+    void should_serve_models_from_the_cached_catalog() throws Exception {
+
+        wireMock.stubFor(get("/ml/gateway/v1/models?version=%s".formatted(API_VERSION))
+            .willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    {
+                        "object": "list",
+                        "data": [
+                            { "uuid": "123e4567-e89b-12d3-a456-426614174000", "id": "gpt-4o", "alias": "gpt-4o-alias", "owned_by": "openai" },
+                            { "uuid": "223e4567-e89b-12d3-a456-426614174000", "id": "granite", "owned_by": "ibm" }
+                        ]
+                    }""")));
+
+        when(mockAuthenticator.token()).thenReturn("my-super-token");
+
+        var service = ModelGatewayCatalogService.builder()
+            .authenticator(mockAuthenticator)
+            .baseUrl(URI.create("http://localhost:%s".formatted(wireMock.getPort())))
+            .version(API_VERSION)
+            .catalogTtl(Duration.ofHours(1))
+            .build();
+
+        assertEquals(2, service.listModels().size());
+        assertEquals("gpt-4o", service.getModel("gpt-4o-alias").id());
+        assertEquals("gpt-4o", service.getModel("123e4567-e89b-12d3-a456-426614174000").id());
+        assertEquals("ibm", service.getModel("granite").ownedBy());
+        wireMock.verify(1, getRequestedFor(urlPathEqualTo("/ml/gateway/v1/models")));
+
+        service.refreshCatalog().get(10, TimeUnit.SECONDS);
+        wireMock.verify(2, getRequestedFor(urlPathEqualTo("/ml/gateway/v1/models")));
+
+        var ex = assertThrows(IllegalStateException.class, () -> buildService().refreshCatalog());
+        assertEquals("The catalog cache is not enabled, set a catalogTtl on the builder", ex.getMessage());
+    }
+
     // -------------------------------------------------------------------------
     // Builder validation
     // -------------------------------------------------------------------------
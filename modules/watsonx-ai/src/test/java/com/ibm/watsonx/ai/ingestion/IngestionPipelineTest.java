@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.ingestion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.ibm.watsonx.ai.embedding.EmbeddingResponse;
+import com.ibm.watsonx.ai.embedding.EmbeddingService;
+import com.ibm.watsonx.ai.ingestion.Ingestion.Stage;
+import com.ibm.watsonx.ai.ingestion.IngestionPipeline.EmbeddedChunk;
+import com.ibm.watsonx.ai.ingestion.IngestionPipeline.Source;
+import com.ibm.watsonx.ai.vectorstore.VectorStore;
+
+public class IngestionPipelineTest {
+
+    private EmbeddingService embeddingService;
+    private List<Integer> batchSizes;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        batchSizes = new CopyOnWriteArrayList<>();
+        embeddingService = mock(EmbeddingService.class);
+        when(embeddingService.embed(anyList(), any())).thenAnswer(invocation -> {
+            var inputs = (List<String>) invocation.getArgument(0);
+            batchSizes.add(inputs.size());
+            if (inputs.stream().anyMatch(input -> input.contains("poison")))
+                throw new RuntimeException("The embedding failed");
+            var results = inputs.stream().map(input -> new EmbeddingResponse.Result(List.of((float) input.length(), 1.0f), input)).toList();
+            return new EmbeddingResponse("model", null, results, 0);
+        });
+    }
+
+    private static String words(int count) {
+        return String.join(" ", IntStream.range(0, count).mapToObj(i -> "w" + i).toList());
+    }
+
+    @Test
+    void should_split_the_text_in_overlapping_chunks_of_bounded_size() {
+
+        // One token per word.
+        var splitter = TextSplitter.recursive(10, 3, text -> text.isBlank() ? 0 : text.strip().split("\\s+").length);
+        var text = words(25) + ".\n\n" + words(4) + ". " + words(3);
+        var chunks = splitter.split(text);
+
+        for (var chunk : chunks)
+            assertTrue(chunk.split("\\s+").length <= 10, chunk);
+        assertEquals("w0 w1 w2 w3 w4 w5 w6 w7 w8 w9", chunks.get(0));
+        // The next chunk starts with the last 3 words of the previous one.
+        assertTrue(chunks.get(1).startsWith("w7 w8 w9"), chunks.get(1));
+        assertEquals("w0 w1 w2 w3. w0 w1 w2", chunks.get(chunks.size() - 1));
+
+        // A word longer than a chunk is cut.
+        var cut = TextSplitter.recursive(2, 0, word -> (word.length() + 3) / 4).split("x".repeat(20));
+        assertEquals("xxxxxxxx", cut.get(0));
+        assertEquals(3, cut.size());
+
+        assertThrows(IllegalArgumentException.class, () -> TextSplitter.recursive(10, 10, String::length));
+    }
+
+    @Test
+    void should_embed_the_chunks_in_batches_and_write_them_to_the_sink() {
+
+        var written = new CopyOnWriteArrayList<EmbeddedChunk>();
+        var store = VectorStore.builder().embeddingService(embeddingService).indexType(VectorStore.IndexType.FLAT).build();
+        var pipeline = IngestionPipeline.builder()
+            .embeddingService(embeddingService)
+            .chunkSize(8)
+            .chunkOverlap(0)
+            .batchSize(7)
+            .queueCapacity(5)
+            .sink(batch -> {
+                written.addAll(batch);
+                batch.forEach(chunk -> store.add(chunk.toDocument(), chunk.embedding()));
+            })
+            .build();
+
+        // 30 documents of 20 words, i.e. about 3 chunks each.
+        var sources = IntStream.range(0, 30).mapToObj(i -> Source.text("doc-" + i, words(20))).toList();
+        var metrics = pipeline.ingest(sources);
+
+        assertEquals(30, metrics.extraction().processed());
+        assertEquals(metrics.chunking().processed(), metrics.embedding().processed());
+        assertEquals(metrics.embedding().processed(), metrics.sink().processed());
+        assertEquals(written.size(), metrics.sink().processed());
+        assertTrue(written.size() >= 60);
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 7));
+        assertTrue(batchSizes.stream().anyMatch(size -> size == 7));
+        assertEquals(written.size(), new HashSet<>(written.stream().map(chunk -> chunk.chunk().id()).toList()).size());
+        assertEquals(written.size(), store.size());
+        assertTrue(metrics.sink().throughput() > 0);
+    }
+
+    @Test
+    void should_report_the_failures_and_continue() {
+
+        var written = new CopyOnWriteArrayList<EmbeddedChunk>();
+        var pipeline = IngestionPipeline.builder()
+            .embeddingService(embeddingService)
+            .batchSize(1)
+            .sink(written::addAll)
+            .build();
+
+        var ingestion = pipeline.start(List.of(
+            Source.text("ok-1", "first document"),
+            Source.file(new File("report.pdf")),
+            Source.text("poisoned", "poison"),
+            Source.text("ok-2", "second document")));
+        var metrics = ingestion.join();
+
+        assertEquals(2, written.size());
+        assertEquals(3, metrics.extraction().processed());
+        assertEquals(1, metrics.extraction().failed());
+        assertEquals(1, metrics.embedding().failed());
+
+        var failures = ingestion.failures();
+        assertEquals(2, failures.size());
+        var extraction = failures.stream().filter(failure -> failure.stage() == Stage.EXTRACTION).findFirst().orElseThrow();
+        assertEquals("report.pdf", extraction.sourceId());
+        assertInstanceOf(IllegalStateException.class, extraction.error());
+        assertTrue(failures.stream().anyMatch(failure -> failure.stage() == Stage.EMBEDDING && failure.sourceId().equals("poisoned")));
+    }
+
+    @Test
+    void should_apply_backpressure_and_stop_when_cancelled() throws Exception {
+
+        // An endless source, and a sink slower than the other stages.
+        var read = new AtomicInteger();
+        Iterable<Source> sources = () -> new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Source next() {
+                int i = read.getAndIncrement();
+                return Source.text("doc-" + i, "document " + i);
+            }
+        };
+
+        var written = Collections.synchronizedList(new ArrayList<EmbeddedChunk>());
+        var pipeline = IngestionPipeline.builder()
+            .embeddingService(embeddingService)
+            .batchSize(10)
+            .queueCapacity(20)
+            .sink(batch -> {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.addAll(batch);
+            })
+            .build();
+
+        var ingestion = pipeline.start(sources);
+        Thread.sleep(500);
+
+        // The documents read but not written fit in the queues and in the items held by the workers: 20 texts, 1 per extractor, 1 being chunked,
+        // 20 chunks, 10 per embedder, 2 batches of 10 queued for the sink and 10 being written.
+        int inFlight = read.get() - written.size();
+        assertTrue(inFlight <= 20 + 4 + 1 + 20 + 2 * 10 + 2 * 10 + 10, "in flight: " + inFlight);
+        assertTrue(ingestion.metrics().sink().processed() > 0);
+
+        ingestion.cancel();
+        assertThrows(CancellationException.class, ingestion::join);
+        assertTrue(ingestion.completion().isCompletedExceptionally());
+    }
+
+    @Test
+    void should_run_the_workers_on_the_executor_of_the_pipeline_and_release_it_on_close() throws Exception {
+
+        var threads = Collections.synchronizedSet(new HashSet<String>());
+        var pipeline = IngestionPipeline.builder()
+            .embeddingService(embeddingService)
+            .sink(batch -> threads.add(Thread.currentThread().getName()))
+            .build();
+
+        pipeline.ingest(List.of(Source.text("doc", "document")));
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("ingestion-worker-")), threads.toString());
+
+        // Closing the pipeline cancels the running ingestions.
+        Iterable<Source> endless = () -> IntStream.iterate(0, i -> i + 1).mapToObj(i -> Source.text("doc-" + i, "document " + i)).iterator();
+        var ingestion = pipeline.start(endless);
+        pipeline.close();
+        assertThrows(CancellationException.class, ingestion::join);
+        assertThrows(IllegalStateException.class, () -> pipeline.start(List.of()));
+
+        // A provided executor is used and is not shut down.
+        var executor = Executors.newFixedThreadPool(8);
+        try (var custom = IngestionPipeline.builder().embeddingService(embeddingService).executor(executor).sink(batch -> {}).build()) {
+            assertEquals(1, custom.ingest(List.of(Source.text("doc", "document"))).sink().processed());
+        }
+        assertFalse(executor.isShutdown());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+}
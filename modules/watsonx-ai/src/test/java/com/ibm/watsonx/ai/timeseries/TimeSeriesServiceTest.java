@@ -10,25 +10,38 @@ import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.ibm.watsonx.ai.core.Json.fromJson;
 import static com.ibm.watsonx.ai.core.Json.toJson;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import java.io.IOException;
 import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandler;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.skyscreamer.jsonassert.JSONAssert;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ibm.watsonx.ai.AbstractWatsonxTest;
 import com.ibm.watsonx.ai.core.spi.json.TypeToken;
+import com.ibm.watsonx.ai.utils.HttpUtils;
 
 @ExtendWith(MockitoExtension.class)
 public class TimeSeriesServiceTest extends AbstractWatsonxTest {
@@ -332,4 +345,313 @@ public class TimeSeriesServiceTest extends AbstractWatsonxTest {
             }
         });
     }
+
+    @Test
+    void should_serialize_primitive_columns() {
+
+        var data = ForecastData.create()
+            .addAll("date", new long[] { 1577836800000L, 1577840400000L, 1578186000000L })
+            .addAll("ID1", "D1", "D1", "D1")
+            .addAll("TARGET1", new double[] { 1.46, 2.34, Double.NaN });
+
+        assertTrue(data.get("TARGET1") instanceof ForecastColumn.Doubles);
+        assertEquals(3, data.rows());
+        JSONAssert.assertEquals("""
+            {
+                "date": [ 1577836800000, 1577840400000, 1578186000000 ],
+                "ID1": [ "D1", "D1", "D1" ],
+                "TARGET1": [ 1.46, 2.34, null ]
+            }""", toJson(data.asMap()), true);
+
+        data.addAll("TARGET1", new double[] { 4.55 }).add("TARGET1", 6.78);
+        assertEquals(Arrays.asList(1.46, 2.34, null, 4.55, 6.78), data.get("TARGET1"));
+
+        // A value of another type turns the column into a list of boxed values.
+        data.add("TARGET1", "unknown");
+        assertEquals(Arrays.asList(1.46, 2.34, null, 4.55, 6.78, "unknown"), data.get("TARGET1"));
+        assertEquals(List.of(1577836800000L, 1577840400000L, 1578186000000L), data.get("date"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_partition_the_series_and_merge_the_results() throws Exception {
+
+        var requests = new CopyOnWriteArrayList<Map<String, List<Object>>>();
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+
+        when(mockAuthenticator.tokenAsync()).thenReturn(completedFuture("my-super-token"));
+        when(mockSecureHttpClient.sendAsync(any(), any(BodyHandler.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            var body = fromJson(HttpUtils.bodyPublisherToString((HttpRequest) invocation.getArgument(0)), Map.class);
+            var data = (Map<String, List<Object>>) body.get("data");
+            requests.add(data);
+
+            // Forecasts the next value of each series, as twice its last value.
+            var ids = new ArrayList<>(new LinkedHashSet<>(data.get("ID1")));
+            var targets = ids.stream().map(id -> 2 * ((Number) data.get("TARGET1").get(data.get("ID1").lastIndexOf(id))).doubleValue()).toList();
+            HttpResponse<String> response = mock(HttpResponse.class);
+            when(response.statusCode()).thenReturn(200);
+            when(response.body()).thenReturn(toJson(Map.of(
+                "model_id", "model-id",
+                "results", List.of(Map.of("ID1", ids, "TARGET1", targets)),
+                "input_data_points", data.get("ID1").size() * 2,
+                "output_data_points", ids.size())));
+
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                return response;
+            });
+        });
+
+        withWatsonxServiceMock(() -> {
+            TimeSeriesService tsService = TimeSeriesService.builder()
+                .baseUrl(URI.create("http://localhost:%s".formatted(wireMock.getPort())))
+                .authenticator(mockAuthenticator)
+                .projectId("project-id")
+                .modelId("ibm/granite-ttm-1536-96-r2")
+                .maxSeriesPerRequest(2)
+                .maxConcurrency(2)
+                .build();
+
+            InputSchema inputSchema = InputSchema.builder()
+                .timestampColumn("date")
+                .addIdColumn("ID1")
+                .build();
+
+            // Five series of two rows, interleaved.
+            var data = ForecastData.create();
+            for (int row = 0; row < 10; row++) {
+                data.add("date", "2020-01-0%dT00:00:00".formatted(row / 5 + 1));
+                data.add("ID1", "D" + row % 5);
+            }
+            data.addAll("TARGET1", new double[] { 0, 1, 2, 3, 4, 10, 11, 12, 13, 14 });
+
+            var response = tsService.forecast(inputSchema, data);
+
+            assertEquals(3, requests.size());
+            assertEquals(2, maxInFlight.get());
+            var sent = requests.stream().map(request -> request.get("ID1")).sorted((a, b) -> a.get(0).toString().compareTo(b.get(0).toString()))
+                .toList();
+            assertEquals(List.of("D0", "D1", "D0", "D1"), sent.get(0));
+            assertEquals(List.of("D2", "D3", "D2", "D3"), sent.get(1));
+            assertEquals(List.of("D4", "D4"), sent.get(2));
+
+            assertEquals("model-id", response.modelId());
+            assertEquals(3, response.results().size());
+            assertEquals(20, response.inputDataPoints());
+            assertEquals(5, response.outputDataPoints());
+
+            var table = response.toTable();
+            assertEquals(5, table.rows());
+            assertEquals(List.of("ID1", "TARGET1"), table.columnNames().stream().sorted().toList());
+            for (int row = 0; row < table.rows(); row++) {
+                assertEquals("D" + row, table.getString("ID1", row));
+                assertEquals(2 * (10 + row), table.getDouble("TARGET1", row));
+            }
+            var ids = (ForecastColumn.Strings) table.column("ID1");
+            assertEquals(List.of("D0", "D1", "D2", "D3", "D4"), ids.dictionary());
+
+            requests.clear();
+            var received = new CopyOnWriteArrayList<ForecastResponse>();
+            var request = TimeSeriesRequest.builder().inputSchema(inputSchema).data(data).build();
+            var streamed = assertDoesNotThrow(() -> tsService.forecastAsync(request, received::add).get(3, TimeUnit.SECONDS));
+            assertEquals(3, received.size());
+            assertEquals(5, streamed.toTable().rows());
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_split_the_future_data_with_the_partitions() throws Exception {
+
+        var requests = new CopyOnWriteArrayList<Map<String, Object>>();
+
+        when(mockAuthenticator.tokenAsync()).thenReturn(completedFuture("my-super-token"));
+        when(mockSecureHttpClient.sendAsync(any(), any(BodyHandler.class))).thenAnswer(invocation -> {
+            var body = fromJson(HttpUtils.bodyPublisherToString((HttpRequest) invocation.getArgument(0)), Map.class);
+            requests.add(body);
+
+            var ids = new ArrayList<>(new LinkedHashSet<>(((Map<String, List<Object>>) body.get("data")).get("ID1")));
+            HttpResponse<String> response = mock(HttpResponse.class);
+            when(response.statusCode()).thenReturn(200);
+            when(response.body()).thenReturn(toJson(Map.of(
+                "model_id", "model-id",
+                "results", List.of(Map.of("ID1", ids)),
+                "input_data_points", ids.size(),
+                "output_data_points", ids.size())));
+            return completedFuture(response);
+        });
+
+        withWatsonxServiceMock(() -> {
+            TimeSeriesService tsService = TimeSeriesService.builder()
+                .baseUrl(URI.create("http://localhost:%s".formatted(wireMock.getPort())))
+                .authenticator(mockAuthenticator)
+                .projectId("project-id")
+                .modelId("ibm/granite-ttm-1536-96-r2")
+                .maxSeriesPerRequest(2)
+                .build();
+
+            InputSchema inputSchema = InputSchema.builder()
+                .timestampColumn("date")
+                .addIdColumn("ID1")
+                .build();
+
+            var data = ForecastData.create()
+                .addAll("date", "2020-01-01T00:00:00", "2020-01-01T00:00:00", "2020-01-01T00:00:00")
+                .addAll("ID1", "D0", "D1", "D2")
+                .addAll("TARGET1", new double[] { 1, 2, 3 });
+
+            // Two future rows per series, interleaved, and a row of a series that is not forecasted.
+            var futureData = ForecastData.create()
+                .addAll("date", "2020-01-02T00:00:00", "2020-01-02T00:00:00", "2020-01-02T00:00:00", "2020-01-02T00:00:00",
+                    "2020-01-03T00:00:00", "2020-01-03T00:00:00", "2020-01-03T00:00:00")
+                .addAll("ID1", "D0", "D1", "D2", "D9", "D0", "D1", "D2")
+                .addAll("PROMO", new double[] { 0, 1, 2, 9, 10, 11, 12 });
+
+            var parameters = TimeSeriesParameters.builder().futureData(futureData).build();
+            var response = tsService.forecast(inputSchema, data, parameters);
+            assertEquals(3, response.outputDataPoints());
+
+            assertEquals(2, requests.size());
+            var sent = requests.stream()
+                .map(request -> (Map<String, List<Object>>) request.get("future_data"))
+                .sorted((a, b) -> a.get("ID1").get(0).toString().compareTo(b.get("ID1").get(0).toString()))
+                .toList();
+            assertEquals(List.of("D0", "D1", "D0", "D1"), sent.get(0).get("ID1"));
+            assertEquals(List.of(0.0, 1.0, 10.0, 11.0), sent.get(0).get("PROMO"));
+            assertEquals(List.of("D2", "D2"), sent.get(1).get("ID1"));
+            assertEquals(List.of(2.0, 12.0), sent.get(1).get("PROMO"));
+            assertEquals(List.of("2020-01-02T00:00:00", "2020-01-03T00:00:00"), sent.get(1).get("date"));
+        });
+    }
+
+    @Test
+    void should_parse_the_results_into_primitive_columns() throws Exception {
+
+        var json = """
+            {
+                "model_id": "ibm/granite-ttm-1536-96-r2",
+                "created_at": "2020-05-02T16:19:25.000Z",
+                "results": [
+                    {
+                        "date": [ "2020-01-05T02:00:00.500Z", "2020-01-05T03:00:00.000Z", "2020-01-05T02:00:00.500Z" ],
+                        "ID1": [ "D1", "D1", "D2, north" ],
+                        "TARGET1": [ 1.46, null, 2.34 ],
+                        "COUNT": [ 1, 2, 3 ]
+                    },
+                    {
+                        "date": [ "2020-01-05T03:00:00.000Z" ],
+                        "ID1": [ "D2, north" ],
+                        "TARGET1": [ 4.55 ],
+                        "COUNT": [ 4 ]
+                    }
+                ],
+                "input_data_points": 512,
+                "output_data_points": 4
+            }""";
+
+        var response = fromJson(json, ForecastResponse.class);
+        JSONAssert.assertEquals(json, toJson(response), true);
+
+        assertEquals(3, ForecastTable.of(List.of(response.results().get(0))).rows());
+        var table = response.toTable();
+        assertEquals(4, table.rows());
+        assertEquals(List.of("date", "ID1", "TARGET1", "COUNT"), table.columnNames());
+
+        var dates = (ForecastColumn.Timestamps) table.column("date");
+        assertEquals(1578189600500L, dates.getEpochMilli(0));
+        assertEquals("2020-01-05T03:00:00.000Z", dates.getString(3));
+        assertEquals(List.of("D1", "D2, north"), ((ForecastColumn.Strings) table.column("ID1")).dictionary());
+        assertTrue(Double.isNaN(table.getDouble("TARGET1", 1)));
+        assertTrue(((ForecastColumn.Doubles) table.column("COUNT")).isIntegral());
+
+        var series = table.series("ID1");
+        assertEquals(2, series.size());
+        assertEquals(List.of("D2, north"), series.get(1).id());
+        assertEquals(2, series.get(1).size());
+        assertEquals(3, series.get(1).row(1));
+        assertEquals(2.34, series.get(1).getDouble("TARGET1", 0));
+        assertTrue(Arrays.equals(new double[] { 2.34, 4.55 }, series.get(1).doubles("TARGET1")));
+        assertTrue(Arrays.equals(new long[] { 1578189600500L, 1578193200000L }, series.get(1).epochMillis("date")));
+        assertThrows(IllegalArgumentException.class, () -> series.get(0).epochMillis("TARGET1"));
+
+        var csv = new StringBuilder();
+        table.writeCsv(csv);
+        assertEquals("""
+            date,ID1,TARGET1,COUNT
+            2020-01-05T02:00:00.500Z,D1,1.46,1
+            2020-01-05T03:00:00.000Z,D1,,2
+            2020-01-05T02:00:00.500Z,"D2, north",2.34,3
+            2020-01-05T03:00:00.000Z,"D2, north",4.55,4
+            """, csv.toString());
+
+        // A value that is not a timestamp of the same layout turns the column into a dictionary-encoded column.
+        var mixed = fromJson("""
+            { "results": [ { "date": [ "2020-01-05", "unknown", null ] } ] }""", ForecastResponse.class).toTable();
+        assertTrue(mixed.column("date") instanceof ForecastColumn.Strings);
+        assertEquals(Arrays.asList("2020-01-05", "unknown", null), mixed.column("date"));
+    }
+
+    @Test
+    void should_map_the_results_like_jackson() throws Exception {
+
+        var json = """
+            {
+                "results": [
+                    {
+                        "date": [ "2020-01-05T02:00:00.500Z", "2020-01-05T03:00:00.000Z" ],
+                        "COUNT": [ 1, null, 3000000000 ],
+                        "TARGET1": [ null, 1.5, 2.0 ],
+                        "MIXED": [ 1, 2.5, "x", { "a": 1 } ],
+                        "HUGE": [ 1, 36028797018963968, 123456789012345678901234567890 ],
+                        "EMPTY": [],
+                        "scalar": "x",
+                        "number": 7,
+                        "missing": null
+                    }
+                ]
+            }""";
+
+        var response = fromJson(json, ForecastResponse.class);
+        @SuppressWarnings("unchecked")
+        var expected = (List<Map<String, Object>>) new ObjectMapper().readValue(json, Map.class).get("results");
+        assertEquals(expected, response.results());
+
+        // The values have the types of the default Jackson mapping.
+        var result = response.results().get(0);
+        for (var column : expected.get(0).keySet()) {
+            if (!(expected.get(0).get(column) instanceof List<?> values))
+                continue;
+            var actual = (List<?>) result.get(column);
+            for (int i = 0; i < values.size(); i++) {
+                var value = values.get(i);
+                assertEquals(value == null ? null : value.getClass(), actual.get(i) == null ? null : actual.get(i).getClass(),
+                    column + "[" + i + "]");
+            }
+        }
+        assertEquals(List.of(1, 2), fromJson("{ \"results\": [ { \"a\": [ 1, 2 ] } ] }", ForecastResponse.class).results().get(0).get("a"));
+        assertEquals("x", result.get("scalar"));
+        assertEquals(7, result.get("number"));
+        assertTrue(result.containsKey("missing"));
+
+        // Only the arrays of numbers of the same kind are read into columns.
+        assertTrue(result.get("COUNT") instanceof ForecastColumn.Doubles);
+        assertTrue(result.get("TARGET1") instanceof ForecastColumn.Doubles);
+        assertTrue(result.get("EMPTY") instanceof ForecastColumn.Doubles);
+        assertTrue(result.get("date") instanceof ArrayList);
+        assertTrue(result.get("MIXED") instanceof ArrayList);
+        assertTrue(result.get("HUGE") instanceof ArrayList);
+        JSONAssert.assertEquals(toJson(new ForecastResponse(null, null, null, expected, 0, 0)), toJson(response), true);
+
+        var table = response.toTable();
+        assertEquals(3000000000L, table.get("COUNT", 2));
+        assertEquals(1.5, table.getDouble("TARGET1", 1));
+        assertEquals("x", table.get("scalar", 0));
+    }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.tokenization;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import com.ibm.watsonx.ai.tokenization.TokenizationResponse.Result;
+
+public class TokenEstimatorTest {
+
+    private static final String MODEL_ID = "ibm/granite-4-h-small";
+
+    private TokenizationService tokenizationService;
+
+    @BeforeEach
+    void setUp() {
+        // One token every four characters.
+        tokenizationService = mock(TokenizationService.class);
+        when(tokenizationService.tokenizeAsync(anyString(), any(TokenizationParameters.class))).thenAnswer(invocation -> {
+            String input = invocation.getArgument(0);
+            return completedFuture(new TokenizationResponse(MODEL_ID, new Result((input.length() + 3) / 4, null)));
+        });
+    }
+
+    @Test
+    void should_calibrate_the_model_once() {
+
+        var estimator = TokenEstimator.builder()
+            .tokenizationService(tokenizationService)
+            .calibrationTexts(List.of("a".repeat(400), "b".repeat(800)))
+            .build();
+
+        var estimate = estimator.estimate(MODEL_ID, "c".repeat(4000));
+        assertFalse(estimate.exact());
+        assertEquals(1000, estimate.tokenCount());
+        assertTrue(estimate.lowerBound() < 1000 && estimate.lowerBound() >= 900);
+        assertTrue(estimate.upperBound() > 1000 && estimate.upperBound() <= 1100);
+
+        assertEquals(25, estimator.estimate(MODEL_ID, "d".repeat(100)).tokenCount());
+        assertEquals(TokenEstimate.exact(0), estimator.estimate(MODEL_ID, ""));
+
+        var parameters = ArgumentCaptor.forClass(TokenizationParameters.class);
+        verify(tokenizationService, times(2)).tokenizeAsync(anyString(), parameters.capture());
+        assertEquals(MODEL_ID, parameters.getValue().modelId());
+        assertEquals(new TokenEstimator.Stats(2, 2, 0), estimator.stats());
+    }
+
+    @Test
+    void should_call_the_tokenization_api_only_near_the_budget() {
+
+        var estimator = TokenEstimator.builder()
+            .tokenizationService(tokenizationService)
+            .calibrationTexts(List.of("a".repeat(400)))
+            .build();
+
+        var text = "c".repeat(4000);
+
+        var estimate = estimator.count(MODEL_ID, text, 2000);
+        assertFalse(estimate.exact());
+        assertTrue(estimate.fitsWithin(2000));
+
+        estimate = estimator.count(MODEL_ID, text, 500);
+        assertFalse(estimate.exact());
+        assertFalse(estimate.fitsWithin(500));
+
+        verify(tokenizationService, never()).tokenizeAsync(eq(text), any(TokenizationParameters.class));
+
+        estimate = estimator.count(MODEL_ID, text, 1000);
+        assertEquals(TokenEstimate.exact(1000), estimate);
+        verify(tokenizationService, times(1)).tokenizeAsync(eq(text), any(TokenizationParameters.class));
+
+        // The exact count is cached.
+        assertEquals(TokenEstimate.exact(1000), estimator.count(MODEL_ID, text, 1000));
+        assertEquals(TokenEstimate.exact(1000), estimator.estimate(MODEL_ID, text));
+        verify(tokenizationService, times(1)).tokenizeAsync(eq(text), any(TokenizationParameters.class));
+        assertEquals(2, estimator.stats().cacheHitCount());
+    }
+
+    @Test
+    void should_evict_the_least_recently_used_counts() {
+
+        var estimator = TokenEstimator.builder()
+            .tokenizationService(tokenizationService)
+            .calibrationTexts(List.of("a".repeat(400)))
+            .cacheSize(1)
+            .build();
+
+        estimator.count(MODEL_ID, "b".repeat(400), 100);
+        estimator.count(MODEL_ID, "c".repeat(400), 100);
+        assertFalse(estimator.estimate(MODEL_ID, "b".repeat(400)).exact());
+        assertTrue(estimator.estimate(MODEL_ID, "c".repeat(400)).exact());
+    }
+
+    @Test
+    void should_use_the_vocabulary_without_calibration() {
+
+        var estimator = TokenEstimator.builder()
+            .tokenizationService(tokenizationService)
+            .vocabulary(MODEL_ID, List.of("Hello", "▁world", "!", "Ġhow", "▁are", "▁you"))
+            .build();
+
+        var estimate = estimator.estimate(MODEL_ID, "Hello world! how are you?");
+        assertEquals(7, estimate.tokenCount());
+        assertTrue(estimate.lowerBound() <= 7 && estimate.upperBound() >= 7);
+        verify(tokenizationService, never()).tokenizeAsync(anyString(), any(TokenizationParameters.class));
+    }
+
+    @Test
+    void should_retry_a_failed_calibration() {
+
+        var failing = mock(TokenizationService.class);
+        when(failing.tokenizeAsync(anyString(), any(TokenizationParameters.class)))
+            .thenReturn(completedFuture(null).thenApply(v -> {
+                throw new IllegalStateException("unavailable");
+            }))
+            .thenReturn(completedFuture(new TokenizationResponse(MODEL_ID, new Result(100, null))));
+
+        var estimator = TokenEstimator.builder()
+            .tokenizationService(failing)
+            .calibrationTexts(List.of("a".repeat(400)))
+            .build();
+
+        assertThrows(IllegalStateException.class, () -> estimator.estimate(MODEL_ID, "text"));
+        assertEquals(100, estimator.estimate(MODEL_ID, "a".repeat(400)).tokenCount());
+    }
+
+    @Test
+    void should_throw_exception_on_invalid_parameters() {
+        assertThrows(NullPointerException.class, () -> TokenEstimator.builder().build());
+        assertThrows(IllegalArgumentException.class,
+            () -> TokenEstimator.builder().tokenizationService(tokenizationService).calibrationTexts(List.of()).build());
+        assertThrows(IllegalArgumentException.class,
+            () -> TokenEstimator.builder().tokenizationService(tokenizationService).cacheSize(0).build());
+    }
+}
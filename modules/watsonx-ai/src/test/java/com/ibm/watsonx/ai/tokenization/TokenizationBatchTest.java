@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.tokenization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import com.ibm.watsonx.ai.core.exception.WatsonxException;
+import com.ibm.watsonx.ai.tokenization.TokenizationResponse.Result;
+
+public class TokenizationBatchTest {
+
+    @Test
+    void should_limit_the_requests_in_flight() throws Exception {
+
+        var pending = new ArrayList<CompletableFuture<TokenizationResponse>>();
+        var batch = new TokenizationBatch(List.of("a", "b", "c", "d", "e"), 2, input -> {
+            var future = new CompletableFuture<TokenizationResponse>();
+            synchronized (pending) {
+                pending.add(future);
+            }
+            return future;
+        }, null);
+
+        var result = batch.start();
+        assertEquals(2, pending.size());
+
+        pending.get(0).complete(response(1));
+        assertEquals(3, pending.size());
+
+        for (int i = 1; i < 5; i++)
+            pending.get(i).complete(response(1));
+
+        assertEquals(5, result.get(3, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    void should_send_again_the_throttled_inputs() throws Exception {
+
+        var calls = new AtomicInteger();
+        var batch = new TokenizationBatch(List.of("a", "bb", "ccc"), 4, input -> {
+            if (input.equals("bb") && calls.getAndIncrement() == 0)
+                return CompletableFuture.failedFuture(new WatsonxException("Too Many Requests", 429, null));
+            return CompletableFuture.completedFuture(response(input.length()));
+        }, null);
+
+        var responses = batch.start().get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(1, 2, 3), responses.stream().map(response -> response.result().tokenCount()).toList());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void should_fail_on_other_errors() {
+
+        var batch = new TokenizationBatch(List.of("a", "b"), 1, input -> {
+            if (input.equals("a"))
+                return CompletableFuture.failedFuture(new WatsonxException("Bad Request", 400, null));
+            return CompletableFuture.completedFuture(response(1));
+        }, null);
+
+        var ex = assertThrows(ExecutionException.class, () -> batch.start().get(3, TimeUnit.SECONDS));
+        assertInstanceOf(WatsonxException.class, ex.getCause());
+    }
+
+    @Test
+    void should_stop_when_the_handler_fails() {
+
+        var batch = new TokenizationBatch(List.of("a", "b"), 1, input -> CompletableFuture.completedFuture(response(1)), (index, response) -> {
+            throw new IllegalStateException("handler error");
+        });
+
+        var ex = assertThrows(ExecutionException.class, () -> batch.start().get(3, TimeUnit.SECONDS));
+        assertTrue(ex.getCause() instanceof IllegalStateException);
+    }
+
+    private static TokenizationResponse response(int tokenCount) {
+        return new TokenizationResponse("model-id", new Result(tokenCount, null));
+    }
+}
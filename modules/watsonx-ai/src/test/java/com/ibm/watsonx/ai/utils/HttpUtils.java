@@ -14,7 +14,11 @@ import org.mockito.ArgumentCaptor;
 public final class HttpUtils {
 
     public static String bodyPublisherToString(ArgumentCaptor<HttpRequest> request) {
-        HttpRequest.BodyPublisher bodyPublisher = request.getValue().bodyPublisher().orElseThrow();
+        return bodyPublisherToString(request.getValue());
+    }
+
+    public static String bodyPublisherToString(HttpRequest request) {
+        HttpRequest.BodyPublisher bodyPublisher = request.bodyPublisher().orElseThrow();
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         bodyPublisher.subscribe(new Flow.Subscriber<ByteBuffer>() {
             @Override
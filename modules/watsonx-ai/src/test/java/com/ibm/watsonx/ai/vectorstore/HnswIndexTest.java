@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.vectorstore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+public class HnswIndexTest {
+
+    private static final int DIMENSIONS = 16;
+
+    private static float[][] randomVectors(int count, long seed) {
+        var random = new Random(seed);
+        var vectors = new float[count][DIMENSIONS];
+        for (var vector : vectors) {
+            double norm = 0;
+            for (int i = 0; i < DIMENSIONS; i++) {
+                vector[i] = (float) random.nextGaussian();
+                norm += vector[i] * vector[i];
+            }
+            for (int i = 0; i < DIMENSIONS; i++)
+                vector[i] /= Math.sqrt(norm);
+        }
+        return vectors;
+    }
+
+    private static float dot(float[] a, float[] b) {
+        float sum = 0;
+        for (int i = 0; i < a.length; i++)
+            sum += a[i] * b[i];
+        return sum;
+    }
+
+    private static double recall(HnswIndex index, float[][] vectors, float[][] queries, int k) {
+        int found = 0;
+        for (var query : queries) {
+            var expected = IntStream.range(0, vectors.length)
+                .filter(index::contains)
+                .boxed()
+                .sorted(Comparator.comparingDouble(node -> -dot(query, vectors[node])))
+                .limit(k)
+                .toList();
+
+            var actual = index.search(node -> dot(query, vectors[node]), k, 64);
+            assertEquals(k, actual.size());
+            for (int i = 1; i < actual.size(); i++)
+                assertTrue(actual.get(i - 1).similarity() >= actual.get(i).similarity());
+            for (var neighbor : actual) {
+                assertTrue(index.contains(neighbor.node()));
+                if (expected.contains(neighbor.node()))
+                    found++;
+            }
+        }
+        return (double) found / (queries.length * k);
+    }
+
+    @Test
+    void should_find_the_nearest_neighbors() {
+
+        var vectors = randomVectors(2000, 1);
+        var index = new HnswIndex(vectors.length, 16, 100, (a, b) -> dot(vectors[a], vectors[b]));
+        for (int node = 0; node < vectors.length; node++)
+            index.add(node);
+
+        assertEquals(2000, index.size());
+        assertTrue(recall(index, vectors, randomVectors(50, 2), 10) > 0.9);
+
+        // A vector of the index is its own nearest neighbor.
+        assertEquals(42, index.search(node -> dot(vectors[42], vectors[node]), 1, 16).get(0).node());
+    }
+
+    @Test
+    void should_stay_navigable_when_nodes_are_removed_and_reused() {
+
+        var vectors = randomVectors(1000, 3);
+        var index = new HnswIndex(vectors.length, 8, 64, (a, b) -> dot(vectors[a], vectors[b]));
+        for (int node = 0; node < vectors.length; node++)
+            index.add(node);
+
+        var removed = new HashSet<Integer>();
+        for (int node = 0; node < vectors.length; node += 2) {
+            index.remove(node);
+            removed.add(node);
+        }
+        assertEquals(500, index.size());
+        assertFalse(index.contains(0));
+        assertTrue(recall(index, vectors, randomVectors(50, 4), 10) > 0.9);
+
+        // The removed nodes are replaced by other vectors.
+        var replacements = randomVectors(vectors.length, 5);
+        for (int node : removed) {
+            vectors[node] = replacements[node];
+            index.add(node);
+        }
+        assertEquals(1000, index.size());
+        assertTrue(recall(index, vectors, randomVectors(50, 6), 10) > 0.9);
+    }
+
+    @Test
+    void should_elect_a_new_entry_point_when_it_is_removed() {
+
+        var vectors = randomVectors(500, 7);
+        var index = new HnswIndex(vectors.length, 4, 32, (a, b) -> dot(vectors[a], vectors[b]));
+        for (int node = 0; node < vectors.length; node++)
+            index.add(node);
+
+        // Every node is removed in turn, the entry point included, and the index is searchable until it is empty.
+        for (int node = vectors.length - 1; node >= 0; node--) {
+            index.remove(node);
+            var query = vectors[node];
+            var actual = index.search(other -> dot(query, vectors[other]), 1, 16);
+            assertEquals(node == 0 ? 0 : 1, actual.size());
+            actual.forEach(neighbor -> assertTrue(index.contains(neighbor.node())));
+        }
+        assertEquals(0, index.size());
+
+        index.add(3);
+        assertEquals(3, index.search(node -> dot(vectors[3], vectors[node]), 1, 16).get(0).node());
+    }
+
+    @Test
+    void should_run_searches_concurrently() {
+
+        var vectors = randomVectors(2000, 8);
+        var index = new HnswIndex(vectors.length, 16, 100, (a, b) -> dot(vectors[a], vectors[b]));
+        for (int node = 0; node < vectors.length; node++)
+            index.add(node);
+
+        var queries = randomVectors(200, 9);
+        var expected = Stream.of(queries).map(query -> index.search(node -> dot(query, vectors[node]), 10, 64)).toList();
+        var actual = Stream.of(queries).parallel().map(query -> index.search(node -> dot(query, vectors[node]), 10, 64)).toList();
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void should_validate_the_arguments() {
+
+        var index = new HnswIndex(2, 16, 100, (a, b) -> 0);
+        assertTrue(index.search(node -> 0, 5, 10).isEmpty());
+        index.add(0);
+        assertThrows(IllegalArgumentException.class, () -> index.add(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.add(2));
+        assertThrows(IllegalArgumentException.class, () -> new HnswIndex(0, 16, 100, (a, b) -> 0));
+        assertThrows(IllegalArgumentException.class, () -> new HnswIndex(10, 1, 100, (a, b) -> 0));
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2025 IBM Corporation
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package com.ibm.watsonx.ai.vectorstore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import com.ibm.watsonx.ai.embedding.EmbeddingResponse;
+import com.ibm.watsonx.ai.embedding.EmbeddingService;
+import com.ibm.watsonx.ai.rerank.RerankParameters;
+import com.ibm.watsonx.ai.rerank.RerankResponse;
+import com.ibm.watsonx.ai.rerank.RerankResponse.RerankResult;
+import com.ibm.watsonx.ai.rerank.RerankService;
+import com.ibm.watsonx.ai.vectorstore.VectorStore.Document;
+import com.ibm.watsonx.ai.vectorstore.VectorStore.IndexType;
+
+public class VectorStoreTest {
+
+    private static final int DIMENSIONS = 32;
+
+    @TempDir
+    Path tempDir;
+
+    private EmbeddingService embeddingService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // Each text is embedded as a random vector seeded by its hash, so that equal texts have equal embeddings.
+        embeddingService = mock(EmbeddingService.class);
+        when(embeddingService.embed(anyList())).thenAnswer(invocation -> {
+            var inputs = (List<String>) invocation.getArgument(0);
+            return new EmbeddingResponse("model", null, inputs.stream().map(input -> new EmbeddingResponse.Result(embedding(input), input)).toList(),
+                0);
+        });
+    }
+
+    private static List<Float> embedding(String text) {
+        var random = new Random(text.hashCode());
+        var embedding = new ArrayList<Float>(DIMENSIONS);
+        for (int i = 0; i < DIMENSIONS; i++)
+            embedding.add((float) random.nextGaussian());
+        return embedding;
+    }
+
+    private static List<Document> documents(int count) {
+        return IntStream.range(0, count).mapToObj(i -> new Document("doc-" + i, "text " + i)).toList();
+    }
+
+    private VectorStore.Builder store() {
+        return VectorStore.builder().embeddingService(embeddingService);
+    }
+
+    @Test
+    void should_find_the_stored_documents() {
+
+        for (var indexType : IndexType.values()) {
+            for (var quantization : Quantization.values()) {
+                var store = store().indexType(indexType).quantization(quantization).build();
+                store.add(documents(500));
+                assertEquals(500, store.size());
+
+                var matches = store.search("text 42", 5);
+                assertEquals(5, matches.size());
+                assertEquals("doc-42", matches.get(0).document().id());
+                assertEquals(1.0, matches.get(0).score(), 0.01);
+                for (int i = 1; i < matches.size(); i++)
+                    assertTrue(matches.get(i - 1).score() >= matches.get(i).score());
+
+                var batch = store.search(List.of("text 1", "text 2", "text 3"), 1);
+                assertEquals(List.of("doc-1", "doc-2", "doc-3"), batch.stream().map(m -> m.get(0).document().id()).toList());
+            }
+        }
+    }
+
+    @Test
+    void should_approximate_the_exact_search() {
+
+        var flat = store().indexType(IndexType.FLAT).capacity(20_000).build();
+        var hnsw = store().indexType(IndexType.HNSW).quantization(Quantization.INT8).capacity(20_000).build();
+        var documents = documents(20_000);
+        flat.add(documents);
+        hnsw.add(documents.subList(0, 2000));
+
+        // The flat store is large enough to be scanned in parallel.
+        assertEquals("doc-19999", flat.search("text 19999", 1).get(0).document().id());
+
+        var exact = store().indexType(IndexType.FLAT).build();
+        exact.add(documents.subList(0, 2000));
+
+        var random = new Random(7);
+        int found = 0;
+        for (int q = 0; q < 50; q++) {
+            var query = new float[DIMENSIONS];
+            for (int i = 0; i < DIMENSIONS; i++)
+                query[i] = (float) random.nextGaussian();
+
+            var expected = exact.search(query, 10).stream().map(match -> match.document().id()).toList();
+            found += (int) hnsw.search(query, 10).stream().filter(match -> expected.contains(match.document().id())).count();
+        }
+        assertTrue(found / 500.0 > 0.85, "recall: " + found / 500.0);
+    }
+
+    @Test
+    void should_replace_and_remove_documents() {
+
+        var store = store().capacity(3).build();
+        store.add(documents(3));
+        assertThrows(IllegalStateException.class, () -> store.add(new Document("doc-3", "text 3")));
+
+        store.add(new Document("doc-0", "text 100"));
+        assertEquals(3, store.size());
+        assertEquals("doc-0", store.search("text 100", 1).get(0).document().id());
+        assertEquals("text 100", store.search("text 100", 1).get(0).document().text());
+
+        assertTrue(store.remove("doc-1"));
+        assertFalse(store.remove("doc-1"));
+        store.add(new Document("doc-3", "text 3"));
+        assertEquals(List.of("doc-0", "doc-2", "doc-3"),
+            store.search("text 3", 3).stream().map(match -> match.document().id()).sorted().toList());
+
+        assertThrows(IllegalArgumentException.class, () -> store.search(new float[DIMENSIONS + 1], 1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_rerank_the_candidates() {
+
+        var rerankService = mock(RerankService.class);
+        var inputs = ArgumentCaptor.forClass(List.class);
+        var parameters = ArgumentCaptor.forClass(RerankParameters.class);
+        // The reranker prefers the last candidates.
+        when(rerankService.rerank(eq("text 7"), inputs.capture(), parameters.capture())).thenAnswer(invocation -> {
+            int size = ((List<String>) invocation.getArgument(1)).size();
+            var results = List.of(new RerankResult(size - 1, 0.9, null), new RerankResult(size - 2, 0.8, null));
+            return new RerankResponse("model", results, null, 0, null, null);
+        });
+
+        var store = store().rerankService(rerankService).candidates(10).build();
+        store.add(documents(100));
+
+        var similar = store.search("text 7", 10);
+        var retrieved = store.retrieve("text 7", 2);
+        assertEquals(10, inputs.getValue().size());
+        assertEquals(2, parameters.getValue().topN());
+        assertEquals(List.of(similar.get(9).document(), similar.get(8).document()), retrieved.stream().map(match -> match.document()).toList());
+        assertEquals(0.9, retrieved.get(0).score());
+
+        var withoutReranking = store().build();
+        withoutReranking.add(documents(100));
+        assertEquals("doc-7", withoutReranking.retrieve("text 7", 2).get(0).document().id());
+        assertEquals(2, withoutReranking.retrieve("text 7", 2).size());
+    }
+
+    @Test
+    void should_load_the_saved_documents() {
+
+        var file = tempDir.resolve("store.bin");
+        try (var store = store().quantization(Quantization.INT8).persistTo(file).build()) {
+            store.add(documents(200));
+            store.remove("doc-5");
+        }
+
+        var store = store().quantization(Quantization.INT8).persistTo(file).build();
+        assertEquals(199, store.size());
+        assertEquals("doc-42", store.search("text 42", 1).get(0).document().id());
+        assertTrue(store.search("text 5", 10).stream().noneMatch(match -> match.document().id().equals("doc-5")));
+
+        assertThrows(IllegalArgumentException.class, () -> store().persistTo(file).build());
+        assertThrows(IllegalArgumentException.class, () -> store().quantization(Quantization.INT8).persistTo(file).capacity(10).build());
+
+        // The documents are embedded when added, not when loaded.
+        verify(embeddingService, times(3)).embed(anyList());
+    }
+
+    @Test
+    void should_save_in_little_endian_byte_order() throws Exception {
+
+        var file = tempDir.resolve("store.bin");
+        try (var store = store().persistTo(file).build()) {
+            store.add(new Document("id", "text"), new float[] { 3, 4 });
+        }
+
+        var buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(0x57585653, buffer.getInt());
+        assertEquals(1, buffer.getInt());
+        assertEquals(Quantization.FLOAT32.ordinal(), buffer.getInt());
+        assertEquals(2, buffer.getInt());
+        assertEquals(1, buffer.getInt());
+        assertEquals(0.6f, buffer.getFloat(buffer.limit() - 2 * Float.BYTES), 1e-6f);
+        assertEquals(0.8f, buffer.getFloat(buffer.limit() - Float.BYTES), 1e-6f);
+    }
+}